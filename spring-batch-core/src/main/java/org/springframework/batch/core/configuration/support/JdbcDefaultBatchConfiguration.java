@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.core.configuration.support;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.batch.core.configuration.BatchConfigurationException;
 import org.springframework.batch.core.converter.DateToStringConverter;
 import org.springframework.batch.core.converter.LocalDateTimeToStringConverter;
@@ -101,6 +103,11 @@ public class JdbcDefaultBatchConfiguration extends DefaultBatchConfiguration {
 			jobRepositoryFactoryBean.setTransactionManager(getTransactionManager());
 			jobRepositoryFactoryBean.setDatabaseType(getDatabaseType());
 			jobRepositoryFactoryBean.setIncrementerFactory(getIncrementerFactory());
+			jobRepositoryFactoryBean.setIncrementerBlockSize(getIncrementerBlockSize());
+			String archiveTablePrefix = getArchiveTablePrefix();
+			if (archiveTablePrefix != null) {
+				jobRepositoryFactoryBean.setArchiveTablePrefix(archiveTablePrefix);
+			}
 			jobRepositoryFactoryBean.setJobKeyGenerator(getJobKeyGenerator());
 			jobRepositoryFactoryBean.setClobType(getClobType());
 			jobRepositoryFactoryBean.setTablePrefix(getTablePrefix());
@@ -319,4 +326,25 @@ public class JdbcDefaultBatchConfiguration extends DefaultBatchConfiguration {
 		return new DefaultJobKeyGenerator();
 	}
 
+	/**
+	 * Return the number of ids reserved by each call to the incrementers of the job
+	 * repository. Values greater than 1 enable block allocation of ids. Defaults to 1.
+	 * @return the number of ids reserved at a time
+	 * @since 6.0.3
+	 */
+	protected int getIncrementerBlockSize() {
+		return 1;
+	}
+
+	/**
+	 * Return the prefix of the archive tables to which purged job instances are copied
+	 * before being deleted. Defaults to {@code null}, meaning that purged job instances
+	 * are not archived.
+	 * @return the prefix of the archive tables
+	 * @since 6.0.3
+	 */
+	protected @Nullable String getArchiveTablePrefix() {
+		return null;
+	}
+
 }
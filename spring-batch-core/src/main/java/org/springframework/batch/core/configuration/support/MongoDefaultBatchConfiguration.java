@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,6 +79,7 @@ public class MongoDefaultBatchConfiguration extends DefaultBatchConfiguration {
 			jobRepositoryFactoryBean.setJobInstanceIncrementer(getJobInstanceIncrementer());
 			jobRepositoryFactoryBean.setJobExecutionIncrementer(getJobExecutionIncrementer());
 			jobRepositoryFactoryBean.setStepExecutionIncrementer(getStepExecutionIncrementer());
+			jobRepositoryFactoryBean.setIncrementerBlockSize(getIncrementerBlockSize());
 			jobRepositoryFactoryBean.afterPropertiesSet();
 			return jobRepositoryFactoryBean.getObject();
 		}
@@ -180,4 +181,14 @@ public class MongoDefaultBatchConfiguration extends DefaultBatchConfiguration {
 		return new MongoSequenceIncrementer(getMongoOperations(), "BATCH_STEP_EXECUTION_SEQ");
 	}
 
+	/**
+	 * Return the number of ids reserved by each call to the incrementers of the job
+	 * repository. Values greater than 1 enable block allocation of ids. Defaults to 1.
+	 * @return the number of ids reserved at a time
+	 * @since 6.0.3
+	 */
+	protected int getIncrementerBlockSize() {
+		return 1;
+	}
+
 }
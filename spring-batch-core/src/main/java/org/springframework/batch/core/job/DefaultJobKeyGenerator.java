@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,11 @@
 package org.springframework.batch.core.job;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.core.job.parameters.JobParameter;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -29,6 +32,12 @@ import org.springframework.util.DigestUtils;
  * provides a single hash value based on the {@link JobParameters} object passed in. Only
  * identifying parameters (as per {@link JobParameter#identifying()}) are used in the
  * calculation of the key.
+ * <p>
+ * The key is the MD5 hash of the canonical form of the identifying parameters, which is
+ * the concatenation of their {@link JobParameter#toString() string representations}
+ * sorted by name. Since {@link JobParameters} are immutable, the key of the last
+ * {@link JobParameters} instance is cached, so that the key is only computed once when
+ * the same instance is used for the lookup and the creation of a job instance.
  *
  * @author Michael Minella
  * @author Mahmoud Ben Hassine
@@ -36,24 +45,58 @@ import org.springframework.util.DigestUtils;
  */
 public class DefaultJobKeyGenerator implements JobKeyGenerator {
 
+	private static final Comparator<JobParameter<?>> BY_NAME = Comparator.comparing(JobParameter::name);
+
+	private volatile @Nullable CachedKey lastKey;
+
 	/**
 	 * Generates the job key to be used based on the {@link JobParameters} instance
 	 * provided.
 	 */
+	// identity comparison on purpose: the cache only saves recomputing the key of the
+	// same immutable instance, comparing the parameters would cost as much as the key
+	@SuppressWarnings("ReferenceEquality")
 	@Override
 	public String generateKey(JobParameters source) {
 
 		Assert.notNull(source, "source must not be null");
-		Set<JobParameter<?>> parameters = source.parameters();
-		StringBuilder stringBuffer = new StringBuilder();
-		List<String> keys = parameters.stream().map(JobParameter::name).sorted().toList();
-		for (String key : keys) {
-			JobParameter<?> jobParameter = source.getParameter(key);
-			if (jobParameter != null && jobParameter.identifying()) {
-				stringBuffer.append(jobParameter);
+		CachedKey cachedKey = this.lastKey;
+		if (cachedKey != null && cachedKey.source() == source) {
+			return cachedKey.key();
+		}
+		String key = hash(getCanonicalForm(source).getBytes(StandardCharsets.UTF_8));
+		this.lastKey = new CachedKey(source, key);
+		return key;
+	}
+
+	/**
+	 * Hash the canonical form of the identifying parameters. Overriding this method
+	 * changes the keys of all job instances, so it should only be done for a new job
+	 * repository.
+	 * @param canonicalForm the UTF-8 encoded canonical form of the identifying parameters
+	 * @return the job key
+	 * @since 6.0.3
+	 */
+	protected String hash(byte[] canonicalForm) {
+		return DigestUtils.md5DigestAsHex(canonicalForm);
+	}
+
+	private static String getCanonicalForm(JobParameters source) {
+		List<JobParameter<?>> identifyingParameters = new ArrayList<>(source.parameters().size());
+		for (JobParameter<?> jobParameter : source) {
+			if (jobParameter.identifying()) {
+				identifyingParameters.add(jobParameter);
 			}
 		}
-		return DigestUtils.md5DigestAsHex(stringBuffer.toString().getBytes(StandardCharsets.UTF_8));
+		identifyingParameters.sort(BY_NAME);
+		StringBuilder canonicalForm = new StringBuilder(identifyingParameters.size() * 96);
+		for (JobParameter<?> jobParameter : identifyingParameters) {
+			canonicalForm.append(jobParameter);
+		}
+		return canonicalForm.toString();
+	}
+
+	private record CachedKey(JobParameters source, String key) {
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.core.job;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
@@ -67,6 +70,8 @@ public class JobExecution extends Entity {
 
 	private ExecutionContext executionContext = new ExecutionContext();
 
+	private transient volatile @Nullable Supplier<ExecutionContext> executionContextLoader;
+
 	private final List<Throwable> failureExceptions = new CopyOnWriteArrayList<>();
 
 	/**
@@ -225,8 +230,31 @@ public class JobExecution extends Entity {
 	 * Sets the {@link ExecutionContext} for this execution.
 	 * @param executionContext The context.
 	 */
-	public void setExecutionContext(ExecutionContext executionContext) {
+	public synchronized void setExecutionContext(ExecutionContext executionContext) {
 		this.executionContext = executionContext;
+		this.executionContextLoader = null;
+	}
+
+	/**
+	 * Sets a loader for the {@link ExecutionContext} of this execution. The loader is
+	 * called on the first access to the context, so that executions retrieved from the
+	 * job repository do not have to carry their context until it is actually needed.
+	 * Setting the context directly discards the loader.
+	 * @param executionContextLoader the loader of the execution context
+	 * @since 6.0.3
+	 */
+	public void setExecutionContextLoader(Supplier<ExecutionContext> executionContextLoader) {
+		this.executionContextLoader = executionContextLoader;
+	}
+
+	/**
+	 * Returns whether the {@link ExecutionContext} of this execution is available, that
+	 * is if it was set directly or if its loader has already been called.
+	 * @return {@code false} if the execution context is still to be loaded
+	 * @since 6.0.3
+	 */
+	public boolean isExecutionContextLoaded() {
+		return this.executionContextLoader == null;
 	}
 
 	/**
@@ -235,7 +263,18 @@ public class JobExecution extends Entity {
 	 * @return The {@link ExecutionContext}.
 	 */
 	public ExecutionContext getExecutionContext() {
-		return executionContext;
+		if (this.executionContextLoader != null) {
+			loadExecutionContext();
+		}
+		return this.executionContext;
+	}
+
+	private synchronized void loadExecutionContext() {
+		Supplier<ExecutionContext> loader = this.executionContextLoader;
+		if (loader != null) {
+			this.executionContext = loader.get();
+			this.executionContextLoader = null;
+		}
 	}
 
 	/**
@@ -326,4 +365,10 @@ public class JobExecution extends Entity {
 				startTime, endTime, lastUpdated, status, exitStatus, jobInstance, jobParameters);
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the loader is not serializable, so the execution context is loaded beforehand
+		getExecutionContext();
+		out.defaultWriteObject();
+	}
+
 }
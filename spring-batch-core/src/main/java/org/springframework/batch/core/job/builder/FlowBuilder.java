@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -310,7 +310,8 @@ public class FlowBuilder<Q> {
 		return result;
 	}
 
-	private SplitState createState(Collection<Flow> flows, TaskExecutor executor, SplitState parentSplit) {
+	private SplitState createState(Collection<Flow> flows, TaskExecutor executor, SplitState parentSplit,
+			boolean failFast) {
 		if (!states.containsKey(flows)) {
 			states.put(flows, new SplitState(flows, prefix + "split" + splitCounter++, parentSplit));
 		}
@@ -318,6 +319,7 @@ public class FlowBuilder<Q> {
 		if (executor != null) {
 			result.setTaskExecutor(executor);
 		}
+		result.setFailFast(failFast);
 		dirty = true;
 		return result;
 	}
@@ -618,6 +620,8 @@ public class FlowBuilder<Q> {
 
 		private final TaskExecutor executor;
 
+		private boolean failFast = false;
+
 		/**
 		 * @param parent the parent builder
 		 * @param executor the task executor to use in the split
@@ -627,6 +631,19 @@ public class FlowBuilder<Q> {
 			this.executor = executor;
 		}
 
+		/**
+		 * Cancel the sibling flows of the split as soon as one of them fails. Defaults to
+		 * {@code false}.
+		 * @param failFast true to cancel sibling flows on the first failure
+		 * @return this for fluent chaining
+		 * @see SplitState#setFailFast(boolean)
+		 * @since 6.0.3
+		 */
+		public SplitBuilder<Q> failFast(boolean failFast) {
+			this.failFast = failFast;
+			return this;
+		}
+
 		/**
 		 * Add flows to the split, in addition to the current state already present in the
 		 * parent builder.
@@ -639,7 +656,7 @@ public class FlowBuilder<Q> {
 			State one = parent.currentState;
 
 			if (one instanceof SplitState splitState) {
-				parent.currentState = parent.createState(list, executor, splitState);
+				parent.currentState = parent.createState(list, executor, splitState, failFast);
 				return parent;
 			}
 
@@ -652,7 +669,7 @@ public class FlowBuilder<Q> {
 				list.add(flowState.getFlows().iterator().next());
 			}
 
-			parent.currentState = parent.createState(list, executor, null);
+			parent.currentState = parent.createState(list, executor, null, failFast);
 			return parent;
 		}
 
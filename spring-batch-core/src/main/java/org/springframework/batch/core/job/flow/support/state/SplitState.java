@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2024 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,19 +20,30 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 
-import org.springframework.batch.core.job.flow.Flow;
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.job.flow.FlowExecution;
 import org.springframework.batch.core.job.flow.FlowExecutionException;
 import org.springframework.batch.core.job.flow.FlowExecutionStatus;
 import org.springframework.batch.core.job.flow.FlowExecutor;
 import org.springframework.batch.core.job.flow.FlowHolder;
 import org.springframework.batch.core.job.flow.State;
+import org.springframework.batch.core.observability.BatchMetrics;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.core.task.TaskRejectedException;
@@ -40,6 +51,19 @@ import org.springframework.core.task.TaskRejectedException;
 /**
  * A {@link State} implementation that splits a {@link Flow} into multiple parallel
  * subflows.
+ * <p>
+ * Flows are submitted to the configured {@link TaskExecutor} (a {@link SyncTaskExecutor}
+ * by default). To run them in parallel with a bounded degree of concurrency, use a pooled
+ * executor or a {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with a
+ * concurrency limit (and virtual threads if desired). Results are collected in the order
+ * in which the flows complete. When {@link #setFailFast(boolean) fail-fast} is enabled,
+ * the first flow that fails (either by throwing an exception or by ending with a
+ * {@link FlowExecutionStatus#FAILED FAILED} status) causes the sibling flows to be
+ * cancelled: flows that have not started yet are skipped and running flows are
+ * interrupted. The split always waits for running flows to terminate before returning.
+ * <p>
+ * The duration of each flow is recorded in a {@link Timer} named
+ * {@code spring.batch.split.flow}.
  *
  * @author Dave Syer
  * @author Mahmoud Ben Hassine
@@ -47,6 +71,8 @@ import org.springframework.core.task.TaskRejectedException;
  */
 public class SplitState extends AbstractState implements FlowHolder {
 
+	private static final Log logger = LogFactory.getLog(SplitState.class);
+
 	private final Collection<Flow> flows;
 
 	private final SplitState parentSplit;
@@ -55,6 +81,10 @@ public class SplitState extends AbstractState implements FlowHolder {
 
 	private final FlowExecutionAggregator aggregator = new MaxValueFlowExecutionAggregator();
 
+	private boolean failFast = false;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 	/**
 	 * @param flows collection of {@link Flow} instances.
 	 * @param name the name of the state.
@@ -82,6 +112,27 @@ public class SplitState extends AbstractState implements FlowHolder {
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Flag to indicate whether sibling flows should be cancelled as soon as one of the
+	 * flows fails. Defaults to {@code false}, meaning that all flows are run to
+	 * completion.
+	 * @param failFast true to cancel sibling flows on the first failure
+	 * @since 6.0.3
+	 */
+	public void setFailFast(boolean failFast) {
+		this.failFast = failFast;
+	}
+
+	/**
+	 * Set the meter registry to use to record flow durations. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry
+	 * @since 6.0.3
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
 	/**
 	 * @return the flows
 	 */
@@ -92,7 +143,9 @@ public class SplitState extends AbstractState implements FlowHolder {
 
 	/**
 	 * Execute the flows in parallel by passing them to the {@link TaskExecutor} and wait
-	 * for all of them to finish before proceeding.
+	 * for all of them to finish before proceeding. Results are collected as flows
+	 * complete and, if fail-fast is enabled, sibling flows are cancelled on the first
+	 * failure.
 	 *
 	 * @see State#handle(FlowExecutor)
 	 */
@@ -101,11 +154,12 @@ public class SplitState extends AbstractState implements FlowHolder {
 
 		// TODO: collect the last StepExecution from the flows as well, so they
 		// can be abandoned if necessary
-		Collection<Future<FlowExecution>> tasks = new ArrayList<>();
+		BlockingQueue<FlowTask> completed = new LinkedBlockingQueue<>();
+		List<FlowTask> tasks = new ArrayList<>();
 
 		for (Flow flow : flows) {
 
-			final FutureTask<FlowExecution> task = new FutureTask<>(() -> flow.start(executor));
+			FlowTask task = new FlowTask(flow, executor, completed);
 
 			tasks.add(task);
 
@@ -113,6 +167,7 @@ public class SplitState extends AbstractState implements FlowHolder {
 				taskExecutor.execute(task);
 			}
 			catch (TaskRejectedException e) {
+				cancel(tasks);
 				throw new FlowExecutionException("TaskExecutor rejected task for flow=" + flow.getName());
 			}
 
@@ -122,10 +177,17 @@ public class SplitState extends AbstractState implements FlowHolder {
 
 		Collection<FlowExecution> results = new ArrayList<>();
 		List<Exception> exceptions = new ArrayList<>();
-		// Could use a CompletionService here?
-		for (Future<FlowExecution> task : tasks) {
+		for (int i = 0; i < tasks.size(); i++) {
+			FlowTask task = completed.take();
 			try {
-				results.add(task.get());
+				FlowExecution result = task.get();
+				results.add(result);
+				if (failFast && result.getStatus().isFail()) {
+					cancel(tasks);
+				}
+			}
+			catch (CancellationException e) {
+				// cancelled after a sibling failure, nothing to aggregate
 			}
 			catch (ExecutionException e) {
 				// Unwrap the expected exceptions
@@ -136,6 +198,9 @@ public class SplitState extends AbstractState implements FlowHolder {
 				else {
 					exceptions.add(e);
 				}
+				if (failFast) {
+					cancel(tasks);
+				}
 			}
 		}
 
@@ -150,6 +215,17 @@ public class SplitState extends AbstractState implements FlowHolder {
 		return flowExecutionStatus;
 	}
 
+	private void cancel(List<FlowTask> tasks) {
+		for (FlowTask task : tasks) {
+			if (!task.isDone()) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Cancelling flow=" + task.flow.getName() + " in split=" + getName());
+				}
+				task.cancel(true);
+			}
+		}
+	}
+
 	protected FlowExecutionStatus doAggregation(Collection<FlowExecution> results, FlowExecutor executor) {
 		return aggregator.aggregate(results);
 	}
@@ -159,4 +235,72 @@ public class SplitState extends AbstractState implements FlowHolder {
 		return false;
 	}
 
+	/**
+	 * A {@link FutureTask} running a single flow of the split. It is handed to the
+	 * completion queue only once the executing thread is done with the flow (even when
+	 * the task was cancelled), so that the split never returns while a flow is still
+	 * running.
+	 */
+	private final class FlowTask extends FutureTask<FlowExecution> {
+
+		private final Flow flow;
+
+		private final FlowExecutor executor;
+
+		private final BlockingQueue<FlowTask> completed;
+
+		private FlowTask(Flow flow, FlowExecutor executor, BlockingQueue<FlowTask> completed) {
+			super(() -> flow.start(executor));
+			this.flow = flow;
+			this.executor = executor;
+			this.completed = completed;
+		}
+
+		@Override
+		public void run() {
+			if (isDone()) {
+				// cancelled before it was started
+				this.completed.add(this);
+				return;
+			}
+			Timer.Sample sample = MicrometerMetrics.createTimerSample(meterRegistry);
+			try {
+				super.run();
+				String status = isCancelled() ? "CANCELLED" : getStatus();
+				long duration = stopTimer(sample, status);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Flow=" + this.flow.getName() + " in split=" + getName() + " ended with status="
+							+ status + " in " + duration / 1_000_000 + "ms");
+				}
+			}
+			finally {
+				this.completed.add(this);
+			}
+		}
+
+		private String getStatus() {
+			try {
+				return get().getStatus().getName();
+			}
+			catch (Exception e) {
+				return BatchMetrics.STATUS_FAILURE;
+			}
+		}
+
+		private String getJobName() {
+			JobExecution jobExecution = this.executor.getJobExecution();
+			return jobExecution == null ? "" : jobExecution.getJobInstance().getJobName();
+		}
+
+		private long stopTimer(Timer.Sample sample, String status) {
+			String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + "split.flow";
+			return sample.stop(MicrometerMetrics.createTimer(meterRegistry, "split.flow", "Split flow duration",
+					Tag.of(fullyQualifiedMetricName + ".job.name", getJobName()),
+					Tag.of(fullyQualifiedMetricName + ".split.name", getName()),
+					Tag.of(fullyQualifiedMetricName + ".flow.name", String.valueOf(this.flow.getName())),
+					Tag.of(fullyQualifiedMetricName + ".status", status)));
+		}
+
+	}
+
 }
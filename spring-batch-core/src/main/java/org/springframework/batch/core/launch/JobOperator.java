@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.core.launch;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -24,6 +26,7 @@ import org.springframework.batch.core.job.Job;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobExecutionException;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersIncrementer;
@@ -92,6 +95,29 @@ public interface JobOperator extends JobLauncher {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Start several jobs at once. Each request is handled as with
+	 * {@link #start(Job, JobParameters)}, but a request that cannot be started does not
+	 * prevent the other requests from being started. Implementations may create the job
+	 * instances and executions of the requests in batches. The default implementation
+	 * starts the jobs one at a time.
+	 * @param requests the jobs to start with their parameters
+	 * @return the result of each request, in the order of the requests
+	 * @since 6.0.3
+	 */
+	default List<JobStartResult> startAll(List<JobStartRequest> requests) {
+		List<JobStartResult> results = new ArrayList<>(requests.size());
+		for (JobStartRequest request : requests) {
+			try {
+				results.add(JobStartResult.started(request, start(request.job(), request.jobParameters())));
+			}
+			catch (JobExecutionException | RuntimeException e) {
+				results.add(JobStartResult.failed(request, e));
+			}
+		}
+		return results;
+	}
+
 	/**
 	 * Restart a failed or stopped {@link JobExecution}. Fails with an exception if the id
 	 * provided does not exist or corresponds to a {@link JobInstance} that in normal
@@ -236,6 +262,24 @@ public interface JobOperator extends JobLauncher {
 	 */
 	JobExecution recover(JobExecution jobExecution);
 
+	/**
+	 * Delete the metadata of the job instances that cannot be restarted (because they
+	 * completed or were abandoned) and whose job executions all ended before the given
+	 * date. Job instances are deleted in chunks, each chunk in its own transaction, so
+	 * that purging can run while other jobs are running. Restartable job instances and
+	 * job instances with a running execution are kept.
+	 * @param jobName the name of the job whose instances should be deleted, or
+	 * {@code null} to delete instances of all jobs
+	 * @param endedBefore the date before which the job executions must have ended
+	 * @return the number of deleted job instances
+	 * @since 6.0.3
+	 * @see org.springframework.batch.core.repository.JobRepository#purgeJobInstances(String,
+	 * LocalDateTime, int)
+	 */
+	default long purge(@Nullable String jobName, LocalDateTime endedBefore) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * List the {@link JobExecution JobExecutions} associated with a particular
 	 * {@link JobInstance}, in reverse order of creation (and therefore usually of
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.launch;
+
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.util.Assert;
+
+/**
+ * A request to start a {@link Job} with the given {@link JobParameters}, used to start
+ * several jobs at once with {@link JobOperator#startAll(java.util.List)}.
+ *
+ * @param job the job to start
+ * @param jobParameters the parameters to start the job with
+ * @since 6.0.3
+ */
+public record JobStartRequest(Job job, JobParameters jobParameters) {
+
+	/**
+	 * Create a new {@link JobStartRequest}.
+	 * @param job the job to start. Must not be {@code null}.
+	 * @param jobParameters the parameters to start the job with. Must not be
+	 * {@code null}.
+	 */
+	public JobStartRequest {
+		Assert.notNull(job, "job must not be null");
+		Assert.notNull(jobParameters, "jobParameters must not be null");
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.launch;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.job.JobExecution;
+
+/**
+ * The result of a {@link JobStartRequest}: either the {@link JobExecution} that was
+ * started, or the exception that prevented the job from being started.
+ *
+ * @param request the request
+ * @param jobExecution the job execution that was started, or {@code null} if the job
+ * could not be started
+ * @param exception the exception that prevented the job from being started, typically a
+ * {@link org.springframework.batch.core.job.JobExecutionException}, or {@code null} if
+ * the job was started
+ * @since 6.0.3
+ */
+public record JobStartResult(JobStartRequest request, @Nullable JobExecution jobExecution,
+		@Nullable Exception exception) {
+
+	/**
+	 * Create the result of a request whose job was started.
+	 * @param request the request
+	 * @param jobExecution the job execution that was started
+	 * @return the result of the request
+	 */
+	public static JobStartResult started(JobStartRequest request, JobExecution jobExecution) {
+		return new JobStartResult(request, jobExecution, null);
+	}
+
+	/**
+	 * Create the result of a request whose job could not be started.
+	 * @param request the request
+	 * @param exception the exception that prevented the job from being started
+	 * @return the result of the request
+	 */
+	public static JobStartResult failed(JobStartRequest request, Exception exception) {
+		return new JobStartResult(request, null, exception);
+	}
+
+	/**
+	 * Return whether the job of the request was started.
+	 * @return true if the job was started
+	 */
+	public boolean isStarted() {
+		return this.jobExecution != null;
+	}
+
+}
@@ -15,10 +15,15 @@
  */
 package org.springframework.batch.core.launch.support;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.converter.DefaultJobParametersConverter;
 import org.springframework.batch.core.converter.JobParametersConverter;
@@ -40,8 +45,8 @@ import static org.springframework.batch.core.launch.support.ExitCodeMapper.JVM_E
 
 /**
  * A command-line utility to operate Spring Batch jobs using the {@link JobOperator}. It
- * allows starting, stopping, restarting, abandoning and recovering jobs from the command
- * line.
+ * allows starting, stopping, restarting, abandoning and recovering jobs, as well as
+ * purging old job metadata, from the command line.
  * <p>
  * This utility requires a Spring application context to be set up with the necessary
  * batch infrastructure, including a {@link JobOperator}, a {@link JobRepository}, and a
@@ -265,6 +270,34 @@ public class CommandLineJobOperator {
 		}
 	}
 
+	/**
+	 * Purge the metadata of the job instances that cannot be restarted and whose job
+	 * executions all ended more than the given retention period ago.
+	 * @param retention the retention period of the job instances
+	 * @param jobName the name of the job whose instances should be purged, or
+	 * {@code null} to purge instances of all jobs
+	 * @return JVM_EXITCODE_COMPLETED if the job instances were purged, or
+	 * JVM_EXITCODE_GENERIC_ERROR if an error occurs
+	 * @since 6.0.3
+	 * @see JobOperator#purge(String, LocalDateTime)
+	 */
+	public int purge(Duration retention, @Nullable String jobName) {
+		logger.info(() -> "Purging job instances that ended more than " + retention + " ago"
+				+ (jobName == null ? "" : " for job: " + jobName));
+		try {
+			// end times are stored in the time zone of the JVM
+			LocalDateTime endedBefore = LocalDateTime.now(ZoneId.systemDefault()).minus(retention);
+			long count = this.jobOperator.purge(jobName, endedBefore);
+			logger.info(() -> "Purged job instances: " + count);
+			return JVM_EXITCODE_COMPLETED;
+		}
+		catch (Exception e) {
+			String message = "Job instances purged in error: " + e.getMessage();
+			logger.error(e, () -> message);
+			return JVM_EXITCODE_GENERIC_ERROR;
+		}
+	}
+
 	// @formatter:off
 	/**
 	 * Main method to operate jobs from the command line.
@@ -285,9 +318,11 @@ public class CommandLineJobOperator {
      *     <li>stop jobExecutionId</li>
      *     <li>abandon jobExecutionId</li>
      *     <li>recover jobExecutionId</li>
+     *     <li>purge retention <code>[jobName]</code></li>
      * </ul>
 	 * <p>
-	 * and <code>jobParameters</code> are key-value pairs in the form name=value,type,identifying.
+	 * and <code>jobParameters</code> are key-value pairs in the form name=value,type,identifying,
+	 * and <code>retention</code> is an ISO-8601 duration such as <code>P30D</code>.
 	 * <p>
 	 * Exit status:
      * <ul>
@@ -308,7 +343,9 @@ public class CommandLineJobOperator {
 					 - stop jobExecutionId
 					 - abandon jobExecutionId
 					 - recover jobExecutionId
-					and jobParameters are key-value pairs in the form name=value,type,identifying.
+					 - purge retention [jobName]
+					and jobParameters are key-value pairs in the form name=value,type,identifying,
+					and retention is an ISO-8601 duration such as P30D.
 					""";
 			logger.error(String.format(usage, CommandLineJobOperator.class.getName()));
 			System.exit(1);
@@ -395,6 +432,11 @@ public class CommandLineJobOperator {
 				jobExecutionId = Long.parseLong(args[2]);
 				exitCode = operator.recover(jobExecutionId);
 				break;
+			case "purge":
+				Duration retention = Duration.parse(args[2]);
+				jobName = args.length > 3 ? args[3] : null;
+				exitCode = operator.purge(retention, jobName);
+				break;
 			default:
 				logger.error(() -> "Unknown operation: " + operation);
 				exitCode = JVM_EXITCODE_GENERIC_ERROR;
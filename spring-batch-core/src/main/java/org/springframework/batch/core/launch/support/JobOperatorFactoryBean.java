@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2025 the original author or authors.
+ * Copyright 2022-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -82,6 +82,14 @@ public class JobOperatorFactoryBean implements FactoryBean<JobOperator>, Applica
 
 	private @Nullable ObservationRegistry observationRegistry;
 
+	private boolean fastLaunch;
+
+	private int purgeChunkSize = 500;
+
+	private int bulkLaunchChunkSize = 500;
+
+	private int bulkLaunchConcurrencyLimit;
+
 	private final ProxyFactory proxyFactory = new ProxyFactory();
 
 	@Override
@@ -157,6 +165,51 @@ public class JobOperatorFactoryBean implements FactoryBean<JobOperator>, Applica
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Set whether job executions should be created with a single call to the job
+	 * repository. Defaults to false.
+	 * @param fastLaunch true to create job executions with a single call to the job
+	 * repository
+	 * @since 6.0.3
+	 * @see TaskExecutorJobLauncher#setFastLaunch(boolean)
+	 */
+	public void setFastLaunch(boolean fastLaunch) {
+		this.fastLaunch = fastLaunch;
+	}
+
+	/**
+	 * Set the maximum number of job instances deleted in each transaction when purging
+	 * the job repository. Defaults to 500.
+	 * @param purgeChunkSize the number of job instances deleted in each transaction
+	 * @since 6.0.3
+	 * @see TaskExecutorJobOperator#setPurgeChunkSize(int)
+	 */
+	public void setPurgeChunkSize(int purgeChunkSize) {
+		this.purgeChunkSize = purgeChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of job instances created in each transaction when starting
+	 * several jobs at once. Defaults to 500.
+	 * @param bulkLaunchChunkSize the number of job instances created in each transaction
+	 * @since 6.0.3
+	 * @see TaskExecutorJobOperator#setBulkLaunchChunkSize(int)
+	 */
+	public void setBulkLaunchChunkSize(int bulkLaunchChunkSize) {
+		this.bulkLaunchChunkSize = bulkLaunchChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of job executions started at once that can run at the same
+	 * time. Defaults to no limit.
+	 * @param bulkLaunchConcurrencyLimit the maximum number of running job executions
+	 * @since 6.0.3
+	 * @see TaskExecutorJobOperator#setBulkLaunchConcurrencyLimit(int)
+	 */
+	public void setBulkLaunchConcurrencyLimit(int bulkLaunchConcurrencyLimit) {
+		this.bulkLaunchConcurrencyLimit = bulkLaunchConcurrencyLimit;
+	}
+
 	/**
 	 * Set the observation registry to use for metrics. Defaults to
 	 * {@link ObservationRegistry#NOOP}.
@@ -213,6 +266,12 @@ public class JobOperatorFactoryBean implements FactoryBean<JobOperator>, Applica
 		taskExecutorJobOperator.setJobRegistry(this.jobRegistry);
 		taskExecutorJobOperator.setJobRepository(this.jobRepository);
 		taskExecutorJobOperator.setTaskExecutor(this.taskExecutor);
+		taskExecutorJobOperator.setFastLaunch(this.fastLaunch);
+		taskExecutorJobOperator.setPurgeChunkSize(this.purgeChunkSize);
+		taskExecutorJobOperator.setBulkLaunchChunkSize(this.bulkLaunchChunkSize);
+		if (this.bulkLaunchConcurrencyLimit > 0) {
+			taskExecutorJobOperator.setBulkLaunchConcurrencyLimit(this.bulkLaunchConcurrencyLimit);
+		}
 		if (this.observationRegistry != null) {
 			taskExecutorJobOperator.setObservationRegistry(this.observationRegistry);
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2025 the original author or authors.
+ * Copyright 2022-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,6 +83,8 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 
 	protected ObservationRegistry observationRegistry;
 
+	protected boolean fastLaunch;
+
 	/**
 	 * Run the provided job with the given {@link JobParameters}. The
 	 * {@link JobParameters} will be used to determine if this is an execution of an
@@ -111,9 +113,12 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 	}
 
 	// TODO Extract restartability checks to a separate method
-	private JobExecution createJobExecution(Job job, JobParameters jobParameters)
-			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException,
-			InvalidJobParametersException {
+	JobExecution createJobExecution(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
+			JobRestartException, JobInstanceAlreadyCompleteException, InvalidJobParametersException {
+		if (this.fastLaunch) {
+			job.getJobParametersValidator().validate(jobParameters);
+			return jobRepository.createJobExecution(job.getName(), jobParameters, job.isRestartable());
+		}
 		JobInstance jobInstance = jobRepository.getJobInstance(job.getName(), jobParameters);
 		ExecutionContext executionContext;
 		if (jobInstance == null) { // fresh start
@@ -206,6 +211,16 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 	 * @since 6.0
 	 */
 	protected void launchJobExecution(Job job, JobExecution jobExecution) {
+		launchJobExecution(job, jobExecution, this.taskExecutor);
+	}
+
+	/**
+	 * Launch the job execution using the given task executor.
+	 * @param job the job to be executed.
+	 * @param jobExecution the job execution to be used for this run.
+	 * @param taskExecutor the task executor used to launch the job execution
+	 */
+	void launchJobExecution(Job job, JobExecution jobExecution, TaskExecutor taskExecutor) {
 		JobParameters jobParameters = jobExecution.getJobParameters();
 		try {
 			taskExecutor.execute(new Runnable() {
@@ -265,6 +280,20 @@ public class TaskExecutorJobLauncher implements JobLauncher, InitializingBean {
 		this.jobRepository = jobRepository;
 	}
 
+	/**
+	 * Set whether job executions should be created with a single call to
+	 * {@link JobRepository#createJobExecution(String, JobParameters, boolean)}, which
+	 * checks if the job instance can be restarted with targeted queries and creates the
+	 * job instance and execution in a single transaction. In that case, the job
+	 * parameters are validated before accessing the job repository. Defaults to false.
+	 * @param fastLaunch true to create job executions with a single call to the job
+	 * repository
+	 * @since 6.0.3
+	 */
+	public void setFastLaunch(boolean fastLaunch) {
+		this.fastLaunch = fastLaunch;
+	}
+
 	/**
 	 * Set the TaskExecutor. (Optional)
 	 * @param taskExecutor instance of {@link TaskExecutor}.
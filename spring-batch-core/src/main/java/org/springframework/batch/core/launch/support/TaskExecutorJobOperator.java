@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2025 the original author or authors.
+ * Copyright 2022-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,19 +15,34 @@
  */
 package org.springframework.batch.core.launch.support;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.configuration.JobRegistry;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.JobExecutionException;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
 import org.springframework.batch.core.launch.JobExecutionNotRunningException;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.JobStartRequest;
+import org.springframework.batch.core.launch.JobStartResult;
 import org.springframework.batch.core.observability.jfr.events.job.JobLaunchEvent;
 import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
@@ -35,6 +50,7 @@ import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.util.Assert;
 
 import static org.springframework.batch.core.observability.BatchMetrics.METRICS_PREFIX;
@@ -66,6 +82,12 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 
 	protected @Nullable ObservationRegistry observationRegistry;
 
+	protected int purgeChunkSize = 500;
+
+	protected int bulkLaunchChunkSize = 500;
+
+	protected @Nullable Semaphore bulkLaunchPermits;
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
@@ -104,6 +126,47 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 		this.observationRegistry = observationRegistry;
 	}
 
+	/**
+	 * Set the maximum number of job instances deleted in each transaction when
+	 * {@link #purge(String, LocalDateTime) purging} the job repository. Should be kept
+	 * below the maximum number of elements of an {@code IN} clause of the database (1000
+	 * for Oracle). Defaults to 500.
+	 * @param purgeChunkSize the number of job instances deleted in each transaction
+	 * @since 6.0.3
+	 */
+	public void setPurgeChunkSize(int purgeChunkSize) {
+		Assert.isTrue(purgeChunkSize > 0, "purgeChunkSize must be greater than zero");
+		this.purgeChunkSize = purgeChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of job instances looked up with a single query, and created
+	 * in each transaction, when {@link #startAll(List) starting several jobs at once}.
+	 * Should be kept below the maximum number of elements of an {@code IN} clause of the
+	 * database (1000 for Oracle). Defaults to 500.
+	 * @param bulkLaunchChunkSize the number of job instances looked up and created at
+	 * once
+	 * @since 6.0.3
+	 */
+	public void setBulkLaunchChunkSize(int bulkLaunchChunkSize) {
+		Assert.isTrue(bulkLaunchChunkSize > 0, "bulkLaunchChunkSize must be greater than zero");
+		this.bulkLaunchChunkSize = bulkLaunchChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of job executions started with {@link #startAll(List)} that
+	 * can run at the same time. When the limit is reached, {@link #startAll(List)} waits
+	 * for a job execution to complete before submitting the next one to the task
+	 * executor, instead of having the task executor reject it. The limit is shared by all
+	 * calls to {@link #startAll(List)}. Defaults to no limit.
+	 * @param bulkLaunchConcurrencyLimit the maximum number of running job executions
+	 * @since 6.0.3
+	 */
+	public void setBulkLaunchConcurrencyLimit(int bulkLaunchConcurrencyLimit) {
+		Assert.isTrue(bulkLaunchConcurrencyLimit > 0, "bulkLaunchConcurrencyLimit must be greater than zero");
+		this.bulkLaunchPermits = new Semaphore(bulkLaunchConcurrencyLimit);
+	}
+
 	@Override
 	public JobExecution start(Job job, JobParameters jobParameters) throws JobInstanceAlreadyCompleteException,
 			JobExecutionAlreadyRunningException, JobRestartException, InvalidJobParametersException {
@@ -121,6 +184,165 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 		}
 	}
 
+	/**
+	 * Start several jobs at once. The requests are grouped by job name, and the existing
+	 * job instances of each group are found in batches of
+	 * {@link #setBulkLaunchChunkSize(int) bulkLaunchChunkSize}, each batch with a single
+	 * call to {@link JobRepository#getJobInstances(String, List)}. Requests for existing
+	 * job instances are then handled one at a time as restarts. The job instances that do
+	 * not exist yet are created with their first job execution in a single call to
+	 * {@link JobRepository#createJobExecutions(String, List)} per batch. If a batch
+	 * cannot be created, for example because one of its job instances was created
+	 * concurrently, its job executions are created one at a time. Requests for jobs with
+	 * a {@link org.springframework.batch.core.job.parameters.JobParametersIncrementer}
+	 * are handled with {@link #start(Job, JobParameters)}. The created job executions are
+	 * finally submitted to the task executor, within the
+	 * {@link #setBulkLaunchConcurrencyLimit(int) concurrency limit} if any. An exception
+	 * thrown while creating or launching the job execution of a request is reported in
+	 * the result of that request, and a job execution that could not be launched is
+	 * marked as {@link BatchStatus#FAILED FAILED}.
+	 * @param requests the jobs to start with their parameters
+	 * @return the result of each request, in the order of the requests
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobStartResult> startAll(List<JobStartRequest> requests) {
+		Assert.notNull(requests, "requests must not be null");
+		JobStartResult[] results = new JobStartResult[requests.size()];
+		JobExecution[] jobExecutions = new JobExecution[requests.size()];
+		Map<String, List<Integer>> requestsByJobName = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			JobStartRequest request = requests.get(i);
+			Job job = request.job();
+			if (job.getJobParametersIncrementer() != null) {
+				try {
+					results[i] = JobStartResult.started(request, start(job, request.jobParameters()));
+				}
+				catch (JobExecutionException | RuntimeException e) {
+					results[i] = JobStartResult.failed(request, e);
+				}
+			}
+			else {
+				requestsByJobName.computeIfAbsent(job.getName(), jobName -> new ArrayList<>()).add(i);
+			}
+		}
+		requestsByJobName.forEach((jobName, indexes) -> {
+			for (int from = 0; from < indexes.size(); from += this.bulkLaunchChunkSize) {
+				List<Integer> chunk = indexes.subList(from, Math.min(from + this.bulkLaunchChunkSize, indexes.size()));
+				createJobExecutions(jobName, requests, chunk, jobExecutions, results);
+			}
+		});
+		TaskExecutor launchExecutor = this.bulkLaunchPermits == null ? this.taskExecutor
+				: new AdmissionControlTaskExecutor(this.taskExecutor, this.bulkLaunchPermits);
+		for (int i = 0; i < requests.size(); i++) {
+			JobExecution jobExecution = jobExecutions[i];
+			if (jobExecution != null) {
+				JobStartRequest request = requests.get(i);
+				new JobLaunchEvent(request.job().getName(), request.jobParameters().toString()).commit();
+				Observation observation = MicrometerMetrics
+					.createObservation(METRICS_PREFIX + "job.launch.count", this.observationRegistry)
+					.start();
+				try (var scope = observation.openScope()) {
+					launchJobExecution(request.job(), jobExecution, launchExecutor);
+					results[i] = JobStartResult.started(request, jobExecution);
+				}
+				catch (RuntimeException e) {
+					if (jobExecution.getStatus() == BatchStatus.STARTING) {
+						failJobExecution(jobExecution, e);
+					}
+					results[i] = JobStartResult.failed(request, e);
+				}
+				finally {
+					observation.stop();
+				}
+			}
+		}
+		return Arrays.asList(results);
+	}
+
+	/*
+	 * Fail a job execution that was created but could not be launched, so that it does
+	 * not stay in STARTING status and prevent its job instance from being restarted.
+	 */
+	private void failJobExecution(JobExecution jobExecution, Throwable cause) {
+		try {
+			jobExecution.upgradeStatus(BatchStatus.FAILED);
+			jobExecution.setExitStatus(ExitStatus.FAILED.addExitDescription(cause));
+			jobExecution.setEndTime(LocalDateTime.now(ZoneId.systemDefault()));
+			this.jobRepository.update(jobExecution);
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	private void createJobExecutions(String jobName, List<JobStartRequest> requests, List<Integer> indexes,
+			JobExecution[] jobExecutions, JobStartResult[] results) {
+		List<JobParameters> jobParameters = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			jobParameters.add(requests.get(index).jobParameters());
+		}
+		List<@Nullable JobInstance> jobInstances;
+		try {
+			jobInstances = this.jobRepository.getJobInstances(jobName, jobParameters);
+		}
+		catch (RuntimeException e) {
+			for (int index : indexes) {
+				results[index] = JobStartResult.failed(requests.get(index), e);
+			}
+			return;
+		}
+		List<Integer> newJobInstanceIndexes = new ArrayList<>(indexes.size());
+		for (int i = 0; i < indexes.size(); i++) {
+			int index = indexes.get(i);
+			JobStartRequest request = requests.get(index);
+			try {
+				if (jobInstances.get(i) != null) {
+					jobExecutions[index] = createJobExecution(request.job(), request.jobParameters());
+				}
+				else {
+					request.job().getJobParametersValidator().validate(request.jobParameters());
+					newJobInstanceIndexes.add(index);
+				}
+			}
+			catch (JobExecutionException | RuntimeException e) {
+				results[index] = JobStartResult.failed(request, e);
+			}
+		}
+		if (!newJobInstanceIndexes.isEmpty()) {
+			createNewJobExecutions(jobName, requests, newJobInstanceIndexes, jobExecutions, results);
+		}
+	}
+
+	private void createNewJobExecutions(String jobName, List<JobStartRequest> requests, List<Integer> indexes,
+			JobExecution[] jobExecutions, JobStartResult[] results) {
+		List<JobParameters> jobParameters = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			jobParameters.add(requests.get(index).jobParameters());
+		}
+		try {
+			List<JobExecution> createdJobExecutions = this.jobRepository.createJobExecutions(jobName, jobParameters);
+			for (int i = 0; i < indexes.size(); i++) {
+				jobExecutions[indexes.get(i)] = createdJobExecutions.get(i);
+			}
+		}
+		catch (RuntimeException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to create a batch of " + indexes.size() + " job executions for job " + jobName
+						+ ", creating them one at a time", e);
+			}
+			for (int index : indexes) {
+				JobStartRequest request = requests.get(index);
+				try {
+					jobExecutions[index] = createJobExecution(request.job(), request.jobParameters());
+				}
+				catch (JobExecutionException | RuntimeException ex) {
+					results[index] = JobStartResult.failed(request, ex);
+				}
+			}
+		}
+	}
+
 	@Override
 	public JobExecution restart(JobExecution jobExecution) throws JobRestartException {
 		Assert.notNull(jobExecution, "JobExecution must not be null");
@@ -151,4 +373,66 @@ public class TaskExecutorJobOperator extends SimpleJobOperator {
 		return super.recover(jobExecution);
 	}
 
+	@Override
+	public long purge(@Nullable String jobName, LocalDateTime endedBefore) {
+		Assert.notNull(endedBefore, "endedBefore must not be null");
+		if (logger.isInfoEnabled()) {
+			logger.info("Purging job instances " + (jobName == null ? "" : "of job " + jobName + " ")
+					+ "that ended before " + endedBefore);
+		}
+		long purgedCount = 0;
+		int count;
+		do {
+			count = this.jobRepository.purgeJobInstances(jobName, endedBefore, this.purgeChunkSize);
+			purgedCount += count;
+		}
+		while (count == this.purgeChunkSize);
+		if (logger.isInfoEnabled()) {
+			logger.info("Purged " + purgedCount + " job instances");
+		}
+		return purgedCount;
+	}
+
+	/**
+	 * Task executor waiting for a permit before submitting a task to the delegate task
+	 * executor. The permit is released when the task completes.
+	 */
+	private static final class AdmissionControlTaskExecutor implements TaskExecutor {
+
+		private final TaskExecutor delegate;
+
+		private final Semaphore permits;
+
+		private AdmissionControlTaskExecutor(TaskExecutor delegate, Semaphore permits) {
+			this.delegate = delegate;
+			this.permits = permits;
+		}
+
+		@Override
+		public void execute(Runnable task) {
+			try {
+				this.permits.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TaskRejectedException("Interrupted while waiting to launch a job execution", e);
+			}
+			try {
+				this.delegate.execute(() -> {
+					try {
+						task.run();
+					}
+					finally {
+						this.permits.release();
+					}
+				});
+			}
+			catch (TaskRejectedException e) {
+				this.permits.release();
+				throw e;
+			}
+		}
+
+	}
+
 }
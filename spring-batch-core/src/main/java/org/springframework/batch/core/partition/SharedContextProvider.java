@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.core.partition;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+/**
+ * <p>
+ * Optional interface for {@link Partitioner} implementations that provide data common to
+ * all partitions. Instead of being copied in the {@link ExecutionContext} of each
+ * partition, this data is stored once, in the {@link ExecutionContext} of the job
+ * execution, where the workers can read it (for example with
+ * {@code #{jobExecutionContext['key']}} in a step scoped bean).
+ * </p>
+ * <p>
+ * The shared context is only requested when the partitions are first created. On a
+ * restart, it is retrieved from the execution context of the previous job execution.
+ * Since the job execution context is shared by all the steps of the job, its keys should
+ * not clash with the keys used by other steps.
+ * </p>
+ *
+ * @since 6.0.3
+ * @see org.springframework.batch.core.partition.support.SimpleStepExecutionSplitter
+ */
+public interface SharedContextProvider {
+
+	/**
+	 * Create the data common to all partitions.
+	 * @param gridSize the size of the map returned by {@link Partitioner#partition(int)}
+	 * @return the shared context of the partitions
+	 */
+	ExecutionContext getSharedContext(int gridSize);
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.avro.AvroFileSplitter;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single Avro container file into
+ * byte ranges aligned on the sync markers of its blocks. Creates at most {@code gridSize}
+ * {@link ExecutionContext}s, each one holding the file name, the start position and the
+ * end position of its range, and labels them as
+ * <code>{partition0, partition1, ..., partitionN}</code>. Ranges that would not contain
+ * any sync marker are omitted. The file is split by {@link AvroFileSplitter}.
+ * <p>
+ * A worker step typically uses a step-scoped
+ * {@link org.springframework.batch.infrastructure.item.avro.AvroItemReader} configured
+ * with {@code #{stepExecutionContext['startPosition']}} and
+ * {@code #{stepExecutionContext['endPosition']}}, which reads exactly the blocks whose
+ * sync marker lies in its range.
+ *
+ * @since 6.0.3
+ */
+public class AvroFilePartitioner implements Partitioner {
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String START_POSITION_KEY = "startPosition";
+
+	private static final String END_POSITION_KEY = "endPosition";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private final Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	/**
+	 * Create a new {@link AvroFilePartitioner} for the given Avro container file.
+	 * @param resource the file to split, must be resolvable to a {@link java.io.File}
+	 */
+	public AvroFilePartitioner(Resource resource) {
+		Assert.notNull(resource, "Resource must not be null");
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * Split the file into at most {@code gridSize} block-aligned ranges of similar size.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.isTrue(gridSize > 0, "gridSize must be greater than zero");
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		List<Long> boundaries;
+		String fileName;
+		try {
+			boundaries = AvroFileSplitter.split(this.resource, gridSize);
+			fileName = this.resource.getURL().toExternalForm();
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Avro file could not be split: " + this.resource, e);
+		}
+		Map<String, ExecutionContext> map = CollectionUtils.newHashMap(boundaries.size() - 1);
+		for (int i = 1; i < boundaries.size(); i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString(this.keyName, fileName);
+			context.putLong(START_POSITION_KEY, boundaries.get(i - 1));
+			context.putLong(END_POSITION_KEY, boundaries.get(i));
+			map.put(PARTITION_KEY + (i - 1), context);
+		}
+		return map;
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.kafka.KafkaTopicSplitter;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Implementation of {@link Partitioner} that distributes the partitions of a Kafka topic
+ * over the worker steps of a partitioned step. Creates at most {@code gridSize}
+ * {@link ExecutionContext}s, each one holding the list of topic partitions (as a
+ * {@code List<Integer>}) assigned to the worker under the key {@link #setKeyName(String)
+ * keyName}, and labels them as <code>{partition0, partition1, ..., partitionN}</code>.
+ * Topic partitions are assigned round-robin with {@link KafkaTopicSplitter}.
+ * <p>
+ * The topic partitions can be provided explicitly, or discovered from the broker with a
+ * consumer created from the given consumer properties. A worker step typically uses a
+ * step-scoped {@link org.springframework.batch.infrastructure.item.kafka.KafkaItemReader}
+ * created with {@code #{stepExecutionContext['partitions']}}, so that each worker saves
+ * the offsets of its own partitions for restart.
+ *
+ * @since 6.0.3
+ */
+public class KafkaTopicPartitioner implements Partitioner {
+
+	private static final String DEFAULT_KEY_NAME = "partitions";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private final String topicName;
+
+	private @Nullable List<Integer> partitions;
+
+	private @Nullable Properties consumerProperties;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	/**
+	 * Create a new {@link KafkaTopicPartitioner} for the given topic partitions.
+	 * @param topicName the name of the topic
+	 * @param partitions the partitions of the topic to distribute
+	 */
+	public KafkaTopicPartitioner(String topicName, List<Integer> partitions) {
+		Assert.hasLength(topicName, "Topic name must not be null or empty");
+		Assert.notEmpty(partitions, "At least one partition must be provided");
+		this.topicName = topicName;
+		this.partitions = partitions;
+	}
+
+	/**
+	 * Create a new {@link KafkaTopicPartitioner} that discovers the partitions of the
+	 * topic from the broker.
+	 * @param consumerProperties the properties of the consumer used to discover the
+	 * partitions of the topic
+	 * @param topicName the name of the topic
+	 */
+	public KafkaTopicPartitioner(Properties consumerProperties, String topicName) {
+		Assert.notNull(consumerProperties, "Consumer properties must not be null");
+		Assert.hasLength(topicName, "Topic name must not be null or empty");
+		this.topicName = topicName;
+		this.consumerProperties = consumerProperties;
+	}
+
+	/**
+	 * The name of the key for the list of topic partitions in each
+	 * {@link ExecutionContext}. Defaults to "partitions".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * Assign the partitions of the topic round-robin to at most {@code gridSize}
+	 * {@link ExecutionContext}s.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.isTrue(gridSize > 0, "gridSize must be greater than zero");
+		List<List<Integer>> assignments = KafkaTopicSplitter.split(getPartitions(), gridSize);
+		Map<String, ExecutionContext> map = CollectionUtils.newHashMap(assignments.size());
+		for (int i = 0; i < assignments.size(); i++) {
+			ExecutionContext context = new ExecutionContext();
+			context.put(this.keyName, new ArrayList<>(assignments.get(i)));
+			map.put(PARTITION_KEY + i, context);
+		}
+		return map;
+	}
+
+	private List<Integer> getPartitions() {
+		if (this.partitions != null) {
+			return this.partitions;
+		}
+		Assert.state(this.consumerProperties != null, "Consumer properties must not be null");
+		return KafkaTopicSplitter.partitionsFor(this.consumerProperties, this.topicName);
+	}
+
+}
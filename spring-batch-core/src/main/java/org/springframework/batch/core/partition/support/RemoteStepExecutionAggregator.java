@@ -17,6 +17,7 @@
 package org.springframework.batch.core.partition.support;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -40,6 +41,8 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator {
 
 	private JobRepository jobRepository;
 
+	private boolean aggregateInRepository;
+
 	/**
 	 * Create a new instance with a job repository that can be used to refresh the data
 	 * when aggregating.
@@ -64,10 +67,25 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator {
 		this.delegate = delegate;
 	}
 
+	/**
+	 * Set whether the counters of the input executions should be aggregated by the
+	 * {@link JobRepository} (for example with {@code SUM} queries) instead of loading
+	 * each input execution. The delegate then aggregates the partial aggregates returned
+	 * by {@link JobRepository#aggregateStepExecutions(JobExecution, Collection)}, so it
+	 * should only combine the status, exit status and counters of the executions, like
+	 * the {@link DefaultStepExecutionAggregator}. Defaults to {@code false}.
+	 * @param aggregateInRepository whether to aggregate the counters in the repository
+	 * @since 6.0.3
+	 */
+	public void setAggregateInRepository(boolean aggregateInRepository) {
+		this.aggregateInRepository = aggregateInRepository;
+	}
+
 	/**
 	 * Aggregates the input executions into the result {@link StepExecution} delegating to
 	 * the delegate aggregator once the input has been refreshed from the
-	 * {@link JobRepository}.
+	 * {@link JobRepository}. Only the input executions are loaded from the repository,
+	 * not the whole {@link JobExecution} of the result.
 	 *
 	 * @see StepExecutionAggregator #aggregate(StepExecution, Collection)
 	 */
@@ -77,17 +95,17 @@ public class RemoteStepExecutionAggregator implements StepExecutionAggregator {
 		if (executions == null) {
 			return;
 		}
-		Set<Long> stepExecutionIds = executions.stream().map(stepExecution -> {
-			long id = stepExecution.getId();
-			return id;
-		}).collect(Collectors.toSet());
-		JobExecution jobExecution = jobRepository.getJobExecution(result.getJobExecutionId());
-		Assert.state(jobExecution != null,
-				"Could not load JobExecution from JobRepository for id " + result.getJobExecutionId());
-		List<StepExecution> updates = jobExecution.getStepExecutions()
-			.stream()
-			.filter(stepExecution -> stepExecutionIds.contains(stepExecution.getId()))
-			.collect(Collectors.toList());
+		Set<Long> stepExecutionIds = executions.stream().map(StepExecution::getId).collect(Collectors.toSet());
+		List<StepExecution> updates;
+		if (stepExecutionIds.isEmpty()) {
+			updates = Collections.emptyList();
+		}
+		else if (aggregateInRepository) {
+			updates = jobRepository.aggregateStepExecutions(result.getJobExecution(), stepExecutionIds);
+		}
+		else {
+			updates = jobRepository.getStepExecutions(result.getJobExecution(), stepExecutionIds);
+		}
 		delegate.aggregate(result, updates);
 	}
 
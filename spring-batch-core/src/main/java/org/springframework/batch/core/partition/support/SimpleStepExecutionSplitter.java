@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import org.springframework.batch.core.job.JobExecutionException;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.partition.PartitionNameProvider;
+import org.springframework.batch.core.partition.SharedContextProvider;
 import org.springframework.batch.core.partition.Partitioner;
 import org.springframework.batch.core.partition.StepExecutionSplitter;
 import org.springframework.batch.core.repository.JobRepository;
@@ -41,7 +42,9 @@ import org.springframework.util.CollectionUtils;
  * The generated {@link StepExecution} instances have names that identify them uniquely in
  * the partition. The name is constructed from a base (name of the target step) plus a
  * suffix taken from the {@link Partitioner} identifiers, separated by a colon, e.g.
- * <code>{step1:partition0, step1:partition1, ...}</code>.
+ * <code>{step1:partition0, step1:partition1, ...}</code>. If the {@link Partitioner} is a
+ * {@link SharedContextProvider}, the data common to all partitions is stored once in the
+ * {@link ExecutionContext} of the job execution rather than in each partition.
  *
  * @author Dave Syer
  * @author Mahmoud Ben Hassine
@@ -137,17 +140,15 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 			StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobExecution.getJobInstance(),
 					stepName);
 			if (lastStepExecution == null) { // fresh start
-				StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-				currentStepExecution.setExecutionContext(context.getValue());
-				jobRepository.updateExecutionContext(currentStepExecution);
+				StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution,
+						context.getValue());
 				set.add(currentStepExecution);
 			}
 			else { // restart
 				if (lastStepExecution.getStatus() != BatchStatus.COMPLETED
 						&& shouldStart(allowStartIfComplete, stepExecution, lastStepExecution)) {
-					StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-					currentStepExecution.setExecutionContext(lastStepExecution.getExecutionContext());
-					jobRepository.updateExecutionContext(currentStepExecution);
+					StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution,
+							lastStepExecution.getExecutionContext());
 					set.add(currentStepExecution);
 				}
 			}
@@ -175,6 +176,9 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 			// The context changed so we didn't already know the partitions
 			jobRepository.updateExecutionContext(stepExecution);
 			result = partitioner.partition(splitSize);
+			if (partitioner instanceof SharedContextProvider sharedContextProvider) {
+				shareContext(stepExecution.getJobExecution(), sharedContextProvider.getSharedContext(splitSize));
+			}
 		}
 		else {
 			if (partitioner instanceof PartitionNameProvider partitionNameProvider) {
@@ -197,6 +201,17 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 		return result;
 	}
 
+	private void shareContext(JobExecution jobExecution, ExecutionContext sharedContext) {
+		if (sharedContext.isEmpty()) {
+			return;
+		}
+		ExecutionContext jobExecutionContext = jobExecution.getExecutionContext();
+		for (Entry<String, Object> entry : sharedContext.entrySet()) {
+			jobExecutionContext.put(entry.getKey(), entry.getValue());
+		}
+		jobRepository.updateExecutionContext(jobExecution);
+	}
+
 	private boolean shouldStart(boolean allowStartIfComplete, StepExecution stepExecution,
 			StepExecution lastStepExecution) throws JobExecutionException {
 
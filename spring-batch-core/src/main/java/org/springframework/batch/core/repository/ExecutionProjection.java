@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository;
+
+/**
+ * Part of the object graph of job and step executions loaded by the paged and streaming
+ * queries of a {@link JobRepository}. Each projection includes the previous ones.
+ *
+ * @since 6.0.3
+ * @see JobRepository#findJobExecutions(String, Long, int, ExecutionProjection)
+ * @see JobRepository#findStepExecutions(org.springframework.batch.core.job.JobExecution,
+ * Long, int, ExecutionProjection)
+ */
+public enum ExecutionProjection {
+
+	/**
+	 * Only the attributes of the executions. Job executions include their job instance
+	 * and job parameters, but neither their step executions nor their execution context.
+	 * Step executions do not include their execution context.
+	 */
+	SUMMARY,
+
+	/**
+	 * Job executions include their step executions, without execution contexts. Step
+	 * executions are loaded as with {@link #SUMMARY}.
+	 */
+	STEP_EXECUTIONS,
+
+	/**
+	 * The whole object graph of the executions, including the execution contexts of job
+	 * and step executions.
+	 */
+	FULL
+
+}
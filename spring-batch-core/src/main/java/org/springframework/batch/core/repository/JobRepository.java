@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,30 @@
 
 package org.springframework.batch.core.repository;
 
+import org.springframework.batch.core.Entity;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.step.NoSuchStepException;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.explore.JobExplorer;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -129,6 +140,26 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Find the job instances with the given name and each of the given parameters.
+	 * Implementations should find all job instances with a single query. The default
+	 * implementation calls {@link #getJobInstance(String, JobParameters)} for each of the
+	 * given parameters.
+	 * @param jobName {@link String} name of the job.
+	 * @param jobParameters the {@link JobParameters} of each job instance.
+	 * @return the {@link JobInstance}s with the given name and parameters, in the order
+	 * of the given parameters, with {@code null} for the parameters that do not match any
+	 * job instance.
+	 * @since 6.0.3
+	 */
+	default List<@Nullable JobInstance> getJobInstances(String jobName, List<JobParameters> jobParameters) {
+		List<@Nullable JobInstance> jobInstances = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			jobInstances.add(getJobInstance(jobName, parameters));
+		}
+		return jobInstances;
+	}
+
 	/**
 	 * Query the repository for the number of unique {@link JobInstance} objects
 	 * associated with the supplied job name.
@@ -206,6 +237,68 @@ public interface JobRepository extends JobExplorer {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Retrieve the job executions of a job instance with the given projection.
+	 * Implementations should only load the part of the object graph of the executions
+	 * required by the projection. The default implementation ignores the projection.
+	 * @param jobInstance the {@link JobInstance} to query
+	 * @param projection the part of the object graph of the executions to load
+	 * @return the list of all executions for the specified {@link JobInstance}
+	 * @since 6.0.3
+	 */
+	default List<JobExecution> getJobExecutions(JobInstance jobInstance, ExecutionProjection projection) {
+		return getJobExecutions(jobInstance);
+	}
+
+	/**
+	 * Retrieve the running job executions of a job with the given projection.
+	 * Implementations should only load the part of the object graph of the executions
+	 * required by the projection. The default implementation ignores the projection.
+	 * @param jobName the name of the job
+	 * @param projection the part of the object graph of the executions to load
+	 * @return the set of running executions for jobs with the specified name
+	 * @since 6.0.3
+	 */
+	default Set<JobExecution> findRunningJobExecutions(String jobName, ExecutionProjection projection) {
+		return findRunningJobExecutions(jobName);
+	}
+
+	/**
+	 * Retrieve a page of the job executions of a job, in descending order of ID (so the
+	 * first element is the most recent). Pages are iterated with keyset pagination: the
+	 * next page is retrieved by passing the ID of the last job execution of the current
+	 * page, so that each page is retrieved with a bounded query regardless of the size of
+	 * the history of the job.
+	 * @param jobName the name of the job
+	 * @param beforeJobExecutionId the ID of the last job execution of the previous page,
+	 * or {@code null} to retrieve the first page
+	 * @param count the maximum number of job executions to retrieve
+	 * @param projection the part of the object graph of the executions to load
+	 * @return a page of job executions, which is empty after the last page
+	 * @since 6.0.3
+	 */
+	default List<JobExecution> findJobExecutions(String jobName, @Nullable Long beforeJobExecutionId, int count,
+			ExecutionProjection projection) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Stream the job executions of a job, in descending order of ID. The stream is backed
+	 * by {@link #findJobExecutions(String, Long, int, ExecutionProjection)}: pages of
+	 * {@code pageSize} job executions are retrieved lazily while the stream is consumed,
+	 * so that at most one page is held in memory. The stream does not hold any resource
+	 * of the underlying data store and does not need to be closed.
+	 * @param jobName the name of the job
+	 * @param projection the part of the object graph of the executions to load
+	 * @param pageSize the number of job executions retrieved by each query
+	 * @return a stream of the job executions of the job
+	 * @since 6.0.3
+	 */
+	default Stream<JobExecution> streamJobExecutions(String jobName, ExecutionProjection projection, int pageSize) {
+		Assert.isTrue(pageSize > 0, "pageSize must be greater than zero");
+		return streamPages(pageSize, lastId -> findJobExecutions(jobName, lastId, pageSize, projection));
+	}
+
 	/*
 	 * ===================================================================================
 	 * Step execution operations
@@ -241,6 +334,81 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Retrieve the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs, without the whole object graph of the job execution. The execution contexts of
+	 * the step executions may not be loaded, depending on the implementation. Unknown IDs
+	 * are ignored. The default implementation reloads the job execution and filters its
+	 * step executions.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to retrieve
+	 * @return the list of {@link StepExecution}s with the given IDs
+	 * @since 6.0.3
+	 */
+	default List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		JobExecution refreshedJobExecution = getJobExecution(jobExecution.getId());
+		Assert.state(refreshedJobExecution != null,
+				"Could not load JobExecution from JobRepository for id " + jobExecution.getId());
+		return refreshedJobExecution.getStepExecutions()
+			.stream()
+			.filter(stepExecution -> stepExecutionIds.contains(stepExecution.getId()))
+			.toList();
+	}
+
+	/**
+	 * Aggregate the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs in the data store when supported by the implementation. The result holds
+	 * partial aggregates of the step executions (or the step executions themselves) that
+	 * should only be used to aggregate them into a result with a
+	 * {@link org.springframework.batch.core.partition.StepExecutionAggregator} summing
+	 * their counters. The default implementation returns the step executions.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to aggregate
+	 * @return the list of partial aggregates of the step executions
+	 * @since 6.0.3
+	 * @see #getStepExecutions(JobExecution, Collection)
+	 */
+	default List<StepExecution> aggregateStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		return getStepExecutions(jobExecution, stepExecutionIds);
+	}
+
+	/**
+	 * Retrieve a page of the step executions of a job execution, in ascending order of
+	 * ID. Pages are iterated with keyset pagination: the next page is retrieved by
+	 * passing the ID of the last step execution of the current page. The step executions
+	 * are not added to the given job execution.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param afterStepExecutionId the ID of the last step execution of the previous page,
+	 * or {@code null} to retrieve the first page
+	 * @param count the maximum number of step executions to retrieve
+	 * @param projection the part of the object graph of the executions to load
+	 * @return a page of step executions, which is empty after the last page
+	 * @since 6.0.3
+	 */
+	default List<StepExecution> findStepExecutions(JobExecution jobExecution, @Nullable Long afterStepExecutionId,
+			int count, ExecutionProjection projection) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Stream the step executions of a job execution, in ascending order of ID. The stream
+	 * is backed by
+	 * {@link #findStepExecutions(JobExecution, Long, int, ExecutionProjection)} and
+	 * retrieves pages of {@code pageSize} step executions lazily while it is consumed.
+	 * The stream does not hold any resource of the underlying data store and does not
+	 * need to be closed.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param projection the part of the object graph of the executions to load
+	 * @param pageSize the number of step executions retrieved by each query
+	 * @return a stream of the step executions of the job execution
+	 * @since 6.0.3
+	 */
+	default Stream<StepExecution> streamStepExecutions(JobExecution jobExecution, ExecutionProjection projection,
+			int pageSize) {
+		Assert.isTrue(pageSize > 0, "pageSize must be greater than zero");
+		return streamPages(pageSize, lastId -> findStepExecutions(jobExecution, lastId, pageSize, projection));
+	}
+
 	/**
 	 * @param jobInstance {@link JobInstance} instance containing the step executions.
 	 * @param stepName the name of the step execution that might have run.
@@ -284,6 +452,26 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Delete up to {@code count} job instances that cannot be restarted and whose job
+	 * executions all ended before the given date, along with their object graphs.
+	 * Instances with a restartable (for example {@code FAILED} or {@code STOPPED}) last
+	 * execution, or with a running execution, are kept. Callers are expected to call this
+	 * method repeatedly until it returns 0, so that each call runs in a short
+	 * transaction.
+	 * @param jobName the name of the job whose instances should be deleted, or
+	 * {@code null} to delete instances of all jobs
+	 * @param endedBefore the date before which the job executions must have ended
+	 * @param count the maximum number of job instances to delete
+	 * @return the number of deleted job instances
+	 * @since 6.0.3
+	 * @see org.springframework.batch.core.repository.dao.JobInstanceDao#purgeJobInstances(String,
+	 * LocalDateTime, int)
+	 */
+	default int purgeJobInstances(@Nullable String jobName, LocalDateTime endedBefore, int count) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Create a {@link JobExecution} for a given {@link JobInstance},
 	 * {@link JobParameters} and {@link ExecutionContext}. The {@link JobInstance} must
@@ -301,6 +489,48 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a {@link JobExecution} for a launch of the job with the given name and
+	 * {@link JobParameters}. The job instance is created if it does not exist yet.
+	 * Otherwise, the last execution of the job instance is checked to determine if the
+	 * job instance can be restarted, and its {@link ExecutionContext} is associated with
+	 * the new {@link JobExecution}. Implementations should perform the checks with
+	 * targeted queries and create the job instance and execution in a single operation.
+	 * @param jobName the name of the job
+	 * @param jobParameters the runtime parameters for the job
+	 * @param restartable whether the job can be restarted
+	 * @return a new {@link JobExecution} for the arguments provided
+	 * @throws JobExecutionAlreadyRunningException if an execution of the job instance is
+	 * already running
+	 * @throws JobRestartException if the job instance can not be restarted
+	 * @throws JobInstanceAlreadyCompleteException if the job instance is already complete
+	 * @since 6.0.3
+	 */
+	default JobExecution createJobExecution(String jobName, JobParameters jobParameters, boolean restartable)
+			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Create a new {@link JobInstance} and its first {@link JobExecution} for each of the
+	 * given {@link JobParameters}, with an empty {@link ExecutionContext}. None of the
+	 * job instances must exist yet. Implementations should create all job instances and
+	 * executions in a single operation with batched inserts, and fail without creating
+	 * any of them if one of the job instances already exists.
+	 * @param jobName the name of the job
+	 * @param jobParameters the runtime parameters of each job instance
+	 * @return the new job executions, in the order of the given parameters
+	 * @since 6.0.3
+	 */
+	default List<JobExecution> createJobExecutions(String jobName, List<JobParameters> jobParameters) {
+		List<JobExecution> jobExecutions = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			JobInstance jobInstance = createJobInstance(jobName, parameters);
+			jobExecutions.add(createJobExecution(jobInstance, parameters, new ExecutionContext()));
+		}
+		return jobExecutions;
+	}
+
 	/**
 	 * Update the {@link JobExecution} (but not its {@link ExecutionContext}).
 	 * <p>
@@ -341,6 +571,25 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a {@link StepExecution} for a given {@link JobExecution} and step name, and
+	 * associate the provided {@link ExecutionContext} with it. Implementations are
+	 * encouraged to store the execution context along with the step execution rather than
+	 * updating it afterwards, as done by this default implementation.
+	 * @param stepName the name of the step
+	 * @param jobExecution the job execution to which the step execution belongs
+	 * @param executionContext the execution context to associate with the step execution
+	 * @return a valid {@link StepExecution} for the arguments provided
+	 * @since 6.0.3
+	 */
+	default StepExecution createStepExecution(String stepName, JobExecution jobExecution,
+			ExecutionContext executionContext) {
+		StepExecution stepExecution = createStepExecution(stepName, jobExecution);
+		stepExecution.setExecutionContext(executionContext);
+		updateExecutionContext(stepExecution);
+		return stepExecution;
+	}
+
 	/**
 	 * Update the {@link StepExecution} (but not its {@link ExecutionContext}).
 	 * <p>
@@ -365,4 +614,21 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/*
+	 * Stream the elements of consecutive pages, each page being retrieved from the ID of
+	 * the last element of the previous one (null for the first page). The first page is
+	 * only retrieved when the stream is consumed.
+	 */
+	private static <T extends Entity> Stream<T> streamPages(int pageSize,
+			Function<@Nullable Long, List<T>> pageRetriever) {
+		return Stream.iterate(Optional.<List<T>>empty(), page -> page.isEmpty() || !page.get().isEmpty(), page -> {
+			if (page.isEmpty()) {
+				return Optional.of(pageRetriever.apply(null));
+			}
+			List<T> elements = page.get();
+			return Optional.of(elements.size() < pageSize ? List.of()
+					: pageRetriever.apply(elements.get(elements.size() - 1).getId()));
+		}).flatMap(page -> page.stream().flatMap(List::stream));
+	}
+
 }
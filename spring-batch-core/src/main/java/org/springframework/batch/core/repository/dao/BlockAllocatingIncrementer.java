@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DataFieldMaxValueIncrementer} decorator that allocates ids in blocks with the
+ * hi/lo algorithm. Each call to the delegate returns a "hi" value that reserves the block
+ * of ids {@code [hi * blockSize, (hi + 1) * blockSize - 1]}, which are then handed out
+ * from memory without locking. The delegate is only called again when the block is
+ * exhausted, so generating {@code n} ids costs {@code n / blockSize} round trips to the
+ * database instead of {@code n}.
+ * <p>
+ * Since the first allocated block starts after the current value of the delegate
+ * multiplied by the block size, ids remain unique with respect to ids generated before
+ * enabling block allocation. However, all processes sharing the same sequence must use
+ * this decorator with the same block size, and ids are not contiguous: ids of a block
+ * that is not fully used (for example when the process stops) are lost.
+ *
+ * @since 6.0.3
+ */
+public class BlockAllocatingIncrementer implements DataFieldMaxValueIncrementer {
+
+	private final DataFieldMaxValueIncrementer delegate;
+
+	private final int blockSize;
+
+	private final Lock lock = new ReentrantLock();
+
+	private volatile Block block = new Block(0, -1);
+
+	/**
+	 * Create a new {@link BlockAllocatingIncrementer}.
+	 * @param delegate the incrementer used to allocate blocks
+	 * @param blockSize the number of ids in each block, must be greater than zero
+	 */
+	public BlockAllocatingIncrementer(DataFieldMaxValueIncrementer delegate, int blockSize) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(blockSize > 0, "blockSize must be greater than zero");
+		this.delegate = delegate;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public long nextLongValue() throws DataAccessException {
+		while (true) {
+			Block current = this.block;
+			long value = current.next.getAndIncrement();
+			if (value <= current.max) {
+				return value;
+			}
+			this.lock.lock();
+			try {
+				// another thread may have allocated a new block in the meantime
+				if (this.block == current) {
+					long hi = this.delegate.nextLongValue();
+					long first = Math.multiplyExact(hi, (long) this.blockSize);
+					this.block = new Block(first, first + this.blockSize - 1);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public int nextIntValue() throws DataAccessException {
+		return Math.toIntExact(nextLongValue());
+	}
+
+	@Override
+	public String nextStringValue() throws DataAccessException {
+		return String.valueOf(nextLongValue());
+	}
+
+	private static final class Block {
+
+		private final AtomicLong next;
+
+		private final long max;
+
+		private Block(long first, long max) {
+			this.next = new AtomicLong(first);
+			this.max = max;
+		}
+
+	}
+
+}
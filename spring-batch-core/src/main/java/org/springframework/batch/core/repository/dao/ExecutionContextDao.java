@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,6 +65,19 @@ public interface ExecutionContextDao {
 	 */
 	void saveExecutionContexts(Collection<StepExecution> stepExecutions);
 
+	/**
+	 * Persist the execution context associated with each jobExecution in a given
+	 * collection, persistent entry for the context should not exist yet.
+	 * @param jobExecutions a collection of {@link JobExecution}s that contain the
+	 * contexts.
+	 * @since 6.0.3
+	 */
+	default void saveJobExecutionContexts(Collection<JobExecution> jobExecutions) {
+		for (JobExecution jobExecution : jobExecutions) {
+			saveExecutionContext(jobExecution);
+		}
+	}
+
 	/**
 	 * Persist the updates of execution context associated with the given jobExecution.
 	 * Persistent entry should already exist for this context.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -46,6 +49,23 @@ public interface JobExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create a new job execution with an assigned id for each of the given job instances.
+	 * This method should not add the job executions to the job instances.
+	 * @param jobInstances the {@link JobInstance}s the job executions belong to.
+	 * @param jobParameters the {@link JobParameters} of each job execution, in the order
+	 * of the job instances.
+	 * @return the new job executions, in the order of the job instances
+	 * @since 6.0.3
+	 */
+	default List<JobExecution> createJobExecutions(List<JobInstance> jobInstances, List<JobParameters> jobParameters) {
+		List<JobExecution> jobExecutions = new ArrayList<>(jobInstances.size());
+		for (int i = 0; i < jobInstances.size(); i++) {
+			jobExecutions.add(createJobExecution(jobInstances.get(i), jobParameters.get(i)));
+		}
+		return jobExecutions;
+	}
+
 	/**
 	 * Update and existing JobExecution.
 	 * <p>
@@ -63,6 +83,24 @@ public interface JobExecutionDao {
 	 */
 	List<JobExecution> findJobExecutions(JobInstance jobInstance);
 
+	/**
+	 * Return a page of the {@link JobExecution}s of the job with the given name, sorted
+	 * backwards by ID (so the first element is the most recent). The page starts after
+	 * the given job execution ID, so that consecutive pages are retrieved with keyset
+	 * pagination. The job executions include their {@link JobInstance} and
+	 * {@link JobParameters}, but neither their step executions nor their execution
+	 * context.
+	 * @param jobName the name of the job
+	 * @param beforeJobExecutionId the ID of the last job execution of the previous page,
+	 * or {@code null} for the first page
+	 * @param count the maximum number of job executions to return
+	 * @return a page of job executions
+	 * @since 6.0.3
+	 */
+	default List<JobExecution> findJobExecutions(String jobName, @Nullable Long beforeJobExecutionId, int count) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Find the last {@link JobExecution} to have been created for a given
 	 * {@link JobInstance}.
@@ -72,6 +110,17 @@ public interface JobExecutionDao {
 	 */
 	@Nullable JobExecution getLastJobExecution(JobInstance jobInstance);
 
+	/**
+	 * Return the distinct {@link BatchStatus statuses} of the {@link JobExecution}s of
+	 * the given {@link JobInstance}, without loading the job executions.
+	 * @param jobInstance the {@link JobInstance}
+	 * @return the statuses of the job executions of the job instance
+	 * @since 6.0.3
+	 */
+	default Set<BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		return findJobExecutions(jobInstance).stream().map(JobExecution::getStatus).collect(Collectors.toSet());
+	}
+
 	/**
 	 * @param jobName {@link String} containing the name of the job.
 	 * @return all {@link JobExecution} that are still running (or indeterminate state),
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.batch.core.job.JobExecution;
@@ -49,6 +51,24 @@ public interface JobInstanceDao {
 	 */
 	JobInstance createJobInstance(String jobName, JobParameters jobParameters);
 
+	/**
+	 * Create a job instance with the given name for each of the given parameters.
+	 * <p>
+	 * PreConditions: the job instances for the given name and parameters must not already
+	 * exist
+	 * @param jobName {@link String} containing the name of the job.
+	 * @param jobParameters the {@link JobParameters} of each job instance.
+	 * @return the created job instances, in the order of the given parameters
+	 * @since 6.0.3
+	 */
+	default List<JobInstance> createJobInstances(String jobName, List<JobParameters> jobParameters) {
+		List<JobInstance> jobInstances = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			jobInstances.add(createJobInstance(jobName, parameters));
+		}
+		return jobInstances;
+	}
+
 	/**
 	 * Find the job instance that matches the given name and parameters. If no matching
 	 * job instances are found, then returns null.
@@ -59,6 +79,22 @@ public interface JobInstanceDao {
 	 */
 	@Nullable JobInstance getJobInstance(String jobName, JobParameters jobParameters);
 
+	/**
+	 * Find the job instances that match the given name and each of the given parameters.
+	 * @param jobName the name of the job
+	 * @param jobParameters the parameters of each job instance
+	 * @return the matching job instances, in the order of the given parameters, with
+	 * {@code null} for the parameters that do not match any job instance
+	 * @since 6.0.3
+	 */
+	default List<@Nullable JobInstance> getJobInstances(String jobName, List<JobParameters> jobParameters) {
+		List<@Nullable JobInstance> jobInstances = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			jobInstances.add(getJobInstance(jobName, parameters));
+		}
+		return jobInstances;
+	}
+
 	/**
 	 * Fetch the job instance with the provided identifier.
 	 * @param instanceId the job identifier
@@ -162,4 +198,21 @@ public interface JobInstanceDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Delete up to {@code count} job instances that completed before the given date,
+	 * together with their job executions, step executions, job parameters and execution
+	 * contexts. A job instance is eligible if it has a {@code COMPLETED} or
+	 * {@code ABANDONED} job execution (so it cannot be restarted) and all its job
+	 * executions ended before {@code endedBefore} (so none of them is running).
+	 * @param jobName the name of the job whose instances should be deleted, or
+	 * {@code null} to delete instances of all jobs
+	 * @param endedBefore the date before which the job executions must have ended
+	 * @param count the maximum number of job instances to delete
+	 * @return the number of deleted job instances
+	 * @since 6.0.3
+	 */
+	default int purgeJobInstances(@Nullable String jobName, LocalDateTime endedBefore, int count) {
+		throw new UnsupportedOperationException();
+	}
+
 }
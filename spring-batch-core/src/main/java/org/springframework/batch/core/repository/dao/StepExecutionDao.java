@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.batch.core.job.JobExecution;
@@ -91,6 +93,59 @@ public interface StepExecutionDao {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Retrieve the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs. The execution context will not be loaded. Unknown IDs are ignored.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to retrieve
+	 * @return a list of {@link StepExecution}s
+	 * @since 6.0.3
+	 */
+	default List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		return getStepExecutions(jobExecution).stream()
+			.filter(stepExecution -> stepExecutionIds.contains(stepExecution.getId()))
+			.toList();
+	}
+
+	/**
+	 * Retrieve a page of the {@link StepExecution}s of a given {@link JobExecution},
+	 * sorted by ID. The page starts after the given step execution ID, so that
+	 * consecutive pages are retrieved with keyset pagination. The execution context will
+	 * not be loaded. The default implementation filters the step executions returned by
+	 * {@link #getStepExecutions(JobExecution)}.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param afterStepExecutionId the ID of the last step execution of the previous page,
+	 * or {@code null} for the first page
+	 * @param count the maximum number of step executions to return
+	 * @return a page of {@link StepExecution}s
+	 * @since 6.0.3
+	 */
+	default List<StepExecution> findStepExecutions(JobExecution jobExecution, @Nullable Long afterStepExecutionId,
+			int count) {
+		return getStepExecutions(jobExecution).stream()
+			.filter(stepExecution -> afterStepExecutionId == null || stepExecution.getId() > afterStepExecutionId)
+			.sorted(Comparator.comparingLong(StepExecution::getId))
+			.limit(count)
+			.toList();
+	}
+
+	/**
+	 * Aggregate the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs in the data store. The result holds one partial aggregate for each distinct
+	 * status and exit status of the step executions, with the sum of their counters.
+	 * Partial aggregates are not persisted: they should only be used to aggregate the
+	 * step executions into a result with a
+	 * {@link org.springframework.batch.core.partition.StepExecutionAggregator}. The
+	 * default implementation returns the step executions themselves.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to aggregate
+	 * @return a list of partial aggregates of the step executions
+	 * @since 6.0.3
+	 */
+	default List<StepExecution> aggregateStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		return getStepExecutions(jobExecution, stepExecutionIds);
+	}
+
 	/**
 	 * Counts all the {@link StepExecution} for a given step name.
 	 * @param jobInstance the parent {@link JobInstance}
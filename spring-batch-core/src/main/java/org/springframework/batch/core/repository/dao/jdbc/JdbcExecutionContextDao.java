@@ -243,6 +243,19 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		persistSerializedContexts(serializedContexts, INSERT_STEP_EXECUTION_CONTEXT);
 	}
 
+	@Override
+	public void saveJobExecutionContexts(Collection<JobExecution> jobExecutions) {
+		Assert.notNull(jobExecutions, "Attempt to save an null collection of job executions");
+		Map<Long, String> serializedContexts = CollectionUtils.newHashMap(jobExecutions.size());
+		for (JobExecution jobExecution : jobExecutions) {
+			long executionId = jobExecution.getId();
+			ExecutionContext executionContext = jobExecution.getExecutionContext();
+			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+			serializedContexts.put(executionId, serializeContext(executionContext));
+		}
+		persistSerializedContexts(serializedContexts, INSERT_JOB_EXECUTION_CONTEXT);
+	}
+
 	/**
 	 * Delete the execution context of the given {@link JobExecution}.
 	 * @param jobExecution {@link JobExecution} that contains the context to delete.
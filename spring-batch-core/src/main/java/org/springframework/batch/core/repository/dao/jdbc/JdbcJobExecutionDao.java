@@ -17,12 +17,17 @@
 package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -73,6 +78,10 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
 			""";
 
+	private static final int[] SAVE_JOB_EXECUTION_TYPES = { Types.BIGINT, Types.BIGINT, Types.TIMESTAMP,
+			Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP,
+			Types.TIMESTAMP };
+
 	private static final String CHECK_JOB_EXECUTION_EXISTS = """
 			SELECT COUNT(*)
 			FROM %PREFIX%JOB_EXECUTION
@@ -102,8 +111,16 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE JOB_INSTANCE_ID = ? AND JOB_EXECUTION_ID IN (SELECT MAX(JOB_EXECUTION_ID) FROM %PREFIX%JOB_EXECUTION E2 WHERE E2.JOB_INSTANCE_ID = ?)
 			""";
 
+	private static final String GET_JOB_EXECUTION_STATUSES = """
+			SELECT DISTINCT STATUS
+			FROM %PREFIX%JOB_EXECUTION
+			WHERE JOB_INSTANCE_ID = ?
+			""";
+
 	private static final String GET_EXECUTION_BY_ID = GET_JOB_EXECUTIONS + " WHERE JOB_EXECUTION_ID = ?";
 
+	private static final String GET_EXECUTIONS_BY_IDS = GET_JOB_EXECUTIONS + " WHERE JOB_EXECUTION_ID IN (%IDS%)";
+
 	private static final String GET_RUNNING_EXECUTION_FOR_INSTANCE = """
 			SELECT E.JOB_EXECUTION_ID
 			FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I
@@ -122,6 +139,12 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_PARAMS_FROM_IDS = """
+			SELECT JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING
+			FROM %PREFIX%JOB_EXECUTION_PARAMS
+			WHERE JOB_EXECUTION_ID IN (%IDS%)
+			""";
+
 	private static final String CREATE_JOB_PARAMETERS = """
 			INSERT INTO %PREFIX%JOB_EXECUTION_PARAMS(JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING)
 				VALUES (?, ?, ?, ?, ?)
@@ -148,6 +171,13 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			ORDER BY JOB_EXECUTION_ID DESC
 			""";
 
+	private static final String GET_JOB_EXECUTION_IDS_BY_JOB_NAME = """
+			SELECT E.JOB_EXECUTION_ID, I.JOB_INSTANCE_ID, I.JOB_NAME
+			FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I
+			WHERE E.JOB_INSTANCE_ID = I.JOB_INSTANCE_ID AND I.JOB_NAME = ? AND E.JOB_EXECUTION_ID < ?
+			ORDER BY E.JOB_EXECUTION_ID DESC
+			""";
+
 	JdbcJobInstanceDao jobInstanceDao;
 
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
@@ -194,6 +224,56 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 
 		jobExecution.incrementVersion();
 
+		getJdbcTemplate().update(getQuery(SAVE_JOB_EXECUTION), getInsertParameters(jobExecution),
+				SAVE_JOB_EXECUTION_TYPES);
+
+		insertJobParameters(jobExecution.getId(), jobExecution.getJobParameters());
+
+		return jobExecution;
+	}
+
+	/**
+	 * Create the job executions with a single batch of inserts, followed by a single
+	 * batch of inserts of the parameters of all job executions.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> createJobExecutions(List<JobInstance> jobInstances, List<JobParameters> jobParameters) {
+		Assert.notNull(jobInstances, "JobInstances must not be null.");
+		Assert.notNull(jobParameters, "JobParameters must not be null.");
+		Assert.isTrue(jobInstances.size() == jobParameters.size(),
+				"There must be as many JobParameters as JobInstances.");
+
+		List<JobExecution> jobExecutions = new ArrayList<>(jobInstances.size());
+		List<Object[]> batchArgs = new ArrayList<>(jobInstances.size());
+		for (int i = 0; i < jobInstances.size(); i++) {
+			JobInstance jobInstance = jobInstances.get(i);
+			JobExecution jobExecution = new JobExecution(jobExecutionIncrementer.nextLongValue(), jobInstance,
+					jobParameters.get(i));
+			jobExecution.incrementVersion();
+			jobExecutions.add(jobExecution);
+			batchArgs.add(getInsertParameters(jobExecution));
+		}
+		getJdbcTemplate().batchUpdate(getQuery(SAVE_JOB_EXECUTION), batchArgs, SAVE_JOB_EXECUTION_TYPES);
+
+		List<Object[]> parameterArgs = new ArrayList<>();
+		for (JobExecution jobExecution : jobExecutions) {
+			for (JobParameter<?> jobParameter : jobExecution.getJobParameters()) {
+				parameterArgs
+					.add(new Object[] { jobExecution.getId(), jobParameter.name(), jobParameter.type().getName(),
+							getConversionService().convert(jobParameter.value(), String.class),
+							jobParameter.identifying() ? "Y" : "N" });
+			}
+		}
+		if (!parameterArgs.isEmpty()) {
+			getJdbcTemplate().batchUpdate(getQuery(CREATE_JOB_PARAMETERS), parameterArgs,
+					new int[] { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR });
+		}
+
+		return jobExecutions;
+	}
+
+	private Object[] getInsertParameters(JobExecution jobExecution) {
 		Timestamp startTime = jobExecution.getStartTime() == null ? null
 				: Timestamp.valueOf(jobExecution.getStartTime());
 		Timestamp endTime = jobExecution.getEndTime() == null ? null : Timestamp.valueOf(jobExecution.getEndTime());
@@ -201,16 +281,9 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 				: Timestamp.valueOf(jobExecution.getCreateTime());
 		Timestamp lastUpdated = jobExecution.getLastUpdated() == null ? null
 				: Timestamp.valueOf(jobExecution.getLastUpdated());
-		Object[] parameters = new Object[] { jobExecution.getId(), jobInstance.getId(), startTime, endTime,
+		return new Object[] { jobExecution.getId(), jobExecution.getJobInstance().getId(), startTime, endTime,
 				jobExecution.getStatus().toString(), jobExecution.getExitStatus().getExitCode(),
 				jobExecution.getExitStatus().getExitDescription(), jobExecution.getVersion(), createTime, lastUpdated };
-		getJdbcTemplate().update(getQuery(SAVE_JOB_EXECUTION), parameters,
-				new int[] { Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR,
-						Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP });
-
-		insertJobParameters(jobExecution.getId(), jobExecution.getJobParameters());
-
-		return jobExecution;
 	}
 
 	@Override
@@ -228,6 +301,61 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 		return jobExecutions;
 	}
 
+	/**
+	 * Return a page of the job executions of the job with the given name with three
+	 * queries, whatever the size of the page: one limited to {@code count} rows for the
+	 * IDs of the job executions and their job instances, one for the job executions and
+	 * one for their job parameters. Callers should keep {@code count} below the maximum
+	 * number of elements of an {@code IN} clause of the database (1000 for Oracle).
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> findJobExecutions(String jobName, @Nullable Long beforeJobExecutionId, int count) {
+		Assert.notNull(jobName, "Job name cannot be null.");
+		Map<Long, JobInstance> jobInstancesByJobExecutionId = new LinkedHashMap<>();
+		Map<Long, JobInstance> jobInstances = new HashMap<>();
+		JobInstanceRowMapper jobInstanceRowMapper = new JobInstanceRowMapper();
+		getJdbcTemplate().query(getQuery(GET_JOB_EXECUTION_IDS_BY_JOB_NAME), ps -> {
+			ps.setString(1, jobName);
+			ps.setLong(2, beforeJobExecutionId != null ? beforeJobExecutionId : Long.MAX_VALUE);
+			ps.setMaxRows(count);
+		}, rs -> {
+			JobInstance jobInstance = jobInstances.get(rs.getLong(2));
+			if (jobInstance == null) {
+				jobInstance = jobInstanceRowMapper.mapRow(rs, 0);
+				jobInstances.put(jobInstance.getId(), jobInstance);
+			}
+			jobInstancesByJobExecutionId.put(rs.getLong(1), jobInstance);
+		});
+		if (jobInstancesByJobExecutionId.isEmpty()) {
+			return new ArrayList<>();
+		}
+		String ids = String.join(", ", Collections.nCopies(jobInstancesByJobExecutionId.size(), "?"));
+		Object[] jobExecutionIds = jobInstancesByJobExecutionId.keySet().toArray();
+		Map<Long, Set<JobParameter<?>>> jobParameters = new HashMap<>();
+		getJdbcTemplate().query(getQuery(FIND_PARAMS_FROM_IDS).replace("%IDS%", ids), rs -> {
+			jobParameters.computeIfAbsent(rs.getLong("JOB_EXECUTION_ID"), id -> new HashSet<>())
+				.add(mapJobParameter(rs));
+		}, jobExecutionIds);
+		Map<Long, JobExecution> jobExecutions = new HashMap<>();
+		getJdbcTemplate().query(getQuery(GET_EXECUTIONS_BY_IDS).replace("%IDS%", ids), rs -> {
+			long jobExecutionId = rs.getLong("JOB_EXECUTION_ID");
+			JobExecutionRowMapper rowMapper = new JobExecutionRowMapper(
+					jobInstancesByJobExecutionId.get(jobExecutionId),
+					new JobParameters(jobParameters.getOrDefault(jobExecutionId, Set.of())));
+			jobExecutions.put(jobExecutionId, rowMapper.mapRow(rs, 0));
+		}, jobExecutionIds);
+		// keep the order of the page
+		List<JobExecution> page = new ArrayList<>(jobExecutions.size());
+		for (Long jobExecutionId : jobInstancesByJobExecutionId.keySet()) {
+			JobExecution jobExecution = jobExecutions.get(jobExecutionId);
+			if (jobExecution != null) {
+				page.add(jobExecution);
+			}
+		}
+		return page;
+	}
+
 	/**
 	 * Validate JobExecution. At a minimum, Status, CreateTime cannot be null.
 	 * @param jobExecution the job execution to validate
@@ -314,13 +442,26 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 		Long lastJobExecutionId = getJdbcTemplate().queryForObject(getQuery(GET_LAST_JOB_EXECUTION_ID), Long.class,
 				jobInstanceId, jobInstanceId);
 
-		return lastJobExecutionId != null ? getJobExecution(lastJobExecutionId) : null;
+		// the job instance is already known, no need to query it again
+		return lastJobExecutionId != null ? getJobExecution(jobInstance, lastJobExecutionId) : null;
+	}
+
+	@Override
+	public Set<BatchStatus> getJobExecutionStatuses(JobInstance jobInstance) {
+		return getJdbcTemplate().queryForList(getQuery(GET_JOB_EXECUTION_STATUSES), String.class, jobInstance.getId())
+			.stream()
+			.map(BatchStatus::valueOf)
+			.collect(Collectors.toSet());
 	}
 
 	@Override
 	public JobExecution getJobExecution(long jobExecutionId) {
 		long jobInstanceId = getJobInstanceId(jobExecutionId);
 		JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
+		return getJobExecution(jobInstance, jobExecutionId);
+	}
+
+	private @Nullable JobExecution getJobExecution(JobInstance jobInstance, long jobExecutionId) {
 		JobParameters jobParameters = getJobParameters(jobExecutionId);
 		try {
 			return getJdbcTemplate().queryForObject(getQuery(GET_EXECUTION_BY_ID),
@@ -421,32 +562,32 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 	 * @param executionId {@link Long} containing the id for the execution.
 	 * @return job parameters for the requested execution id
 	 */
-	@SuppressWarnings(value = { "unchecked", "rawtypes" })
 	public JobParameters getJobParameters(Long executionId) {
 		final Set<JobParameter<?>> jobParameters = new HashSet<>();
-		RowCallbackHandler handler = rs -> {
-			String parameterName = rs.getString("PARAMETER_NAME");
+		RowCallbackHandler handler = rs -> jobParameters.add(mapJobParameter(rs));
 
-			Class<?> parameterType = null;
-			try {
-				parameterType = Class.forName(rs.getString("PARAMETER_TYPE"));
-			}
-			catch (ClassNotFoundException e) {
-				throw new RuntimeException(e);
-			}
-			String stringValue = rs.getString("PARAMETER_VALUE");
-			Object typedValue = getConversionService().convert(stringValue, parameterType);
+		getJdbcTemplate().query(getQuery(FIND_PARAMS_FROM_ID), handler, executionId);
 
-			boolean identifying = rs.getString("IDENTIFYING").equalsIgnoreCase("Y");
+		return new JobParameters(jobParameters);
+	}
 
-			JobParameter<?> jobParameter = new JobParameter(parameterName, typedValue, parameterType, identifying);
+	@SuppressWarnings(value = { "unchecked", "rawtypes" })
+	private JobParameter<?> mapJobParameter(ResultSet rs) throws SQLException {
+		String parameterName = rs.getString("PARAMETER_NAME");
 
-			jobParameters.add(jobParameter);
-		};
+		Class<?> parameterType = null;
+		try {
+			parameterType = Class.forName(rs.getString("PARAMETER_TYPE"));
+		}
+		catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+		String stringValue = rs.getString("PARAMETER_VALUE");
+		Object typedValue = getConversionService().convert(stringValue, parameterType);
 
-		getJdbcTemplate().query(getQuery(FIND_PARAMS_FROM_ID), handler, executionId);
+		boolean identifying = rs.getString("IDENTIFYING").equalsIgnoreCase("Y");
 
-		return new JobParameters(jobParameters);
+		return new JobParameter(parameterName, typedValue, parameterType, identifying);
 	}
 
 }
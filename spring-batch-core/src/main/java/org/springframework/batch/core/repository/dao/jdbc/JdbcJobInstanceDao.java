@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,16 @@ package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.batch.core.job.DefaultJobKeyGenerator;
 import org.springframework.batch.core.job.JobExecution;
@@ -79,6 +86,12 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 
 	private static final String FIND_JOBS_WITH_KEY = FIND_JOBS_WITH_NAME + " AND JOB_KEY = ?";
 
+	private static final String FIND_JOBS_WITH_KEYS = """
+			SELECT JOB_INSTANCE_ID, JOB_NAME, JOB_KEY
+			FROM %PREFIX%JOB_INSTANCE
+			WHERE JOB_NAME = ? AND JOB_KEY IN (%KEYS%)
+			""";
+
 	private static final String COUNT_JOBS_WITH_NAME = """
 			SELECT COUNT(*)
 			FROM %PREFIX%JOB_INSTANCE
@@ -134,10 +147,59 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 			SELECT JOB_INSTANCE_ID FROM %PREFIX%JOB_INSTANCE WHERE JOB_NAME = ?
 			""";
 
+	private static final String GET_PURGEABLE_JOB_INSTANCE_IDS = """
+			SELECT DISTINCT JE.JOB_INSTANCE_ID
+			FROM %PREFIX%JOB_EXECUTION JE
+			WHERE JE.STATUS IN ('COMPLETED', 'ABANDONED') AND JE.END_TIME < ?
+			AND NOT EXISTS (SELECT 1 FROM %PREFIX%JOB_EXECUTION JE2 WHERE JE2.JOB_INSTANCE_ID = JE.JOB_INSTANCE_ID AND (JE2.END_TIME IS NULL OR JE2.END_TIME >= ?))
+			""";
+
+	private static final String GET_PURGEABLE_JOB_INSTANCE_IDS_BY_JOB_NAME = GET_PURGEABLE_JOB_INSTANCE_IDS
+			+ " AND JE.JOB_INSTANCE_ID IN (SELECT JOB_INSTANCE_ID FROM %PREFIX%JOB_INSTANCE WHERE JOB_NAME = ?)";
+
+	private static final String JOB_EXECUTION_IDS_OF_INSTANCES = """
+			SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%)""";
+
+	private static final String STEP_EXECUTION_IDS_OF_INSTANCES = """
+			SELECT SE.STEP_EXECUTION_ID FROM %PREFIX%STEP_EXECUTION SE, %PREFIX%JOB_EXECUTION JE
+			WHERE SE.JOB_EXECUTION_ID = JE.JOB_EXECUTION_ID AND JE.JOB_INSTANCE_ID IN (%IDS%)""";
+
+	/**
+	 * Statements copying the rows of the purged job instances to the archive tables,
+	 * parents first.
+	 */
+	private static final List<String> ARCHIVE_JOB_INSTANCES = List.of(
+			"INSERT INTO %ARCHIVE_PREFIX%JOB_INSTANCE SELECT * FROM %PREFIX%JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (%IDS%)",
+			"INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION SELECT * FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%)",
+			"INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION_PARAMS SELECT * FROM %PREFIX%JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN ("
+					+ JOB_EXECUTION_IDS_OF_INSTANCES + ")",
+			"INSERT INTO %ARCHIVE_PREFIX%JOB_EXECUTION_CONTEXT SELECT * FROM %PREFIX%JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN ("
+					+ JOB_EXECUTION_IDS_OF_INSTANCES + ")",
+			"INSERT INTO %ARCHIVE_PREFIX%STEP_EXECUTION SELECT * FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN ("
+					+ JOB_EXECUTION_IDS_OF_INSTANCES + ")",
+			"INSERT INTO %ARCHIVE_PREFIX%STEP_EXECUTION_CONTEXT SELECT * FROM %PREFIX%STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN ("
+					+ STEP_EXECUTION_IDS_OF_INSTANCES + ")");
+
+	/**
+	 * Statements deleting the rows of the purged job instances, children first.
+	 */
+	private static final List<String> PURGE_JOB_INSTANCES = List.of(
+			"DELETE FROM %PREFIX%STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN (" + STEP_EXECUTION_IDS_OF_INSTANCES
+					+ ")",
+			"DELETE FROM %PREFIX%STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS_OF_INSTANCES + ")",
+			"DELETE FROM %PREFIX%JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS_OF_INSTANCES
+					+ ")",
+			"DELETE FROM %PREFIX%JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (" + JOB_EXECUTION_IDS_OF_INSTANCES
+					+ ")",
+			"DELETE FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID IN (%IDS%)",
+			"DELETE FROM %PREFIX%JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (%IDS%)");
+
 	private DataFieldMaxValueIncrementer jobInstanceIncrementer;
 
 	private JobKeyGenerator jobKeyGenerator = new DefaultJobKeyGenerator();
 
+	private @Nullable String archiveTablePrefix;
+
 	/**
 	 * In this JDBC implementation a job instance id is obtained by asking the
 	 * jobInstanceIncrementer (which is likely a sequence) for the next long value, and
@@ -152,21 +214,48 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		Assert.notNull(jobName, "Job name must not be null.");
 		Assert.notNull(jobParameters, "JobParameters must not be null.");
 
-		Assert.state(getJobInstance(jobName, jobParameters) == null, "JobInstance must not already exist");
+		String jobKey = jobKeyGenerator.generateKey(jobParameters);
+		Assert.state(getJobInstance(jobName, jobKey) == null, "JobInstance must not already exist");
 
 		long jobInstanceId = jobInstanceIncrementer.nextLongValue();
 
 		JobInstance jobInstance = new JobInstance(jobInstanceId, jobName);
 		jobInstance.incrementVersion();
 
-		Object[] parameters = new Object[] { jobInstanceId, jobName, jobKeyGenerator.generateKey(jobParameters),
-				jobInstance.getVersion() };
+		Object[] parameters = new Object[] { jobInstanceId, jobName, jobKey, jobInstance.getVersion() };
 		getJdbcTemplate().update(getQuery(CREATE_JOB_INSTANCE), parameters,
 				new int[] { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER });
 
 		return jobInstance;
 	}
 
+	/**
+	 * Create the job instances with a single batch of inserts. The job instances are not
+	 * checked for existence beforehand, an existing job instance is reported by the
+	 * unique constraint on the job name and key.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobInstance> createJobInstances(String jobName, List<JobParameters> jobParameters) {
+
+		Assert.notNull(jobName, "Job name must not be null.");
+		Assert.notNull(jobParameters, "JobParameters must not be null.");
+
+		List<JobInstance> jobInstances = new ArrayList<>(jobParameters.size());
+		List<Object[]> batchArgs = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			JobInstance jobInstance = new JobInstance(jobInstanceIncrementer.nextLongValue(), jobName);
+			jobInstance.incrementVersion();
+			jobInstances.add(jobInstance);
+			batchArgs.add(new Object[] { jobInstance.getId(), jobName, jobKeyGenerator.generateKey(parameters),
+					jobInstance.getVersion() });
+		}
+		getJdbcTemplate().batchUpdate(getQuery(CREATE_JOB_INSTANCE), batchArgs,
+				new int[] { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER });
+
+		return jobInstances;
+	}
+
 	/**
 	 * The job table is queried for <strong>any</strong> jobs that match the given
 	 * identifier, adding them to a list via the RowMapper callback.
@@ -180,7 +269,54 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		Assert.notNull(jobName, "Job name must not be null.");
 		Assert.notNull(jobParameters, "JobParameters must not be null.");
 
-		String jobKey = jobKeyGenerator.generateKey(jobParameters);
+		return getJobInstance(jobName, jobKeyGenerator.generateKey(jobParameters));
+	}
+
+	/**
+	 * Find the job instances with a single query on the job keys. Callers should keep the
+	 * number of parameters below the maximum number of elements of an {@code IN} clause
+	 * of the database (1000 for Oracle).
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<@Nullable JobInstance> getJobInstances(String jobName, List<JobParameters> jobParameters) {
+
+		Assert.notNull(jobName, "Job name must not be null.");
+		Assert.notNull(jobParameters, "JobParameters must not be null.");
+
+		List<String> jobKeys = new ArrayList<>(jobParameters.size());
+		for (JobParameters parameters : jobParameters) {
+			String jobKey = jobKeyGenerator.generateKey(parameters);
+			if (!StringUtils.hasLength(jobKey)) {
+				// empty keys also match job instances without key
+				return JobInstanceDao.super.getJobInstances(jobName, jobParameters);
+			}
+			jobKeys.add(jobKey);
+		}
+		if (jobKeys.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		RowMapper<JobInstance> rowMapper = new JobInstanceRowMapper();
+		Map<String, JobInstance> jobInstancesByKey = new HashMap<>();
+		Object[] parameters = new Object[jobKeys.size() + 1];
+		parameters[0] = jobName;
+		for (int i = 0; i < jobKeys.size(); i++) {
+			parameters[i + 1] = jobKeys.get(i);
+		}
+		String keys = String.join(", ", Collections.nCopies(jobKeys.size(), "?"));
+		getJdbcTemplate().query(getQuery(FIND_JOBS_WITH_KEYS).replace("%KEYS%", keys), rs -> {
+			jobInstancesByKey.put(rs.getString("JOB_KEY"), rowMapper.mapRow(rs, rs.getRow()));
+		}, parameters);
+
+		List<@Nullable JobInstance> jobInstances = new ArrayList<>(jobKeys.size());
+		for (String jobKey : jobKeys) {
+			jobInstances.add(jobInstancesByKey.get(jobKey));
+		}
+		return jobInstances;
+	}
+
+	private @Nullable JobInstance getJobInstance(String jobName, String jobKey) {
 
 		RowMapper<JobInstance> rowMapper = new JobInstanceRowMapper();
 
@@ -314,6 +450,65 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 		}
 	}
 
+	/**
+	 * Delete up to {@code count} eligible job instances, selected with a query limited to
+	 * {@code count} rows, with set-based {@code DELETE} statements, one for each metadata
+	 * table. When an {@link #setArchiveTablePrefix(String) archive table prefix} is set,
+	 * the rows are first copied to the archive tables. Callers should keep {@code count}
+	 * below the maximum number of elements of an {@code IN} clause of the database (1000
+	 * for Oracle).
+	 *
+	 * @see JobInstanceDao#purgeJobInstances(String, LocalDateTime, int)
+	 * @since 6.0.3
+	 */
+	@Override
+	public int purgeJobInstances(@Nullable String jobName, LocalDateTime endedBefore, int count) {
+		Assert.notNull(endedBefore, "endedBefore must not be null.");
+		Assert.isTrue(count > 0, "count must be greater than zero.");
+		Timestamp endTime = Timestamp.valueOf(endedBefore);
+		Set<Long> jobInstanceIds = new LinkedHashSet<>();
+		getJdbcTemplate().query(
+				getQuery(jobName == null ? GET_PURGEABLE_JOB_INSTANCE_IDS : GET_PURGEABLE_JOB_INSTANCE_IDS_BY_JOB_NAME),
+				ps -> {
+					ps.setTimestamp(1, endTime);
+					ps.setTimestamp(2, endTime);
+					if (jobName != null) {
+						ps.setString(3, jobName);
+					}
+					ps.setMaxRows(count);
+				}, rs -> {
+					jobInstanceIds.add(rs.getLong(1));
+				});
+		if (jobInstanceIds.isEmpty()) {
+			return 0;
+		}
+		String ids = String.join(", ", Collections.nCopies(jobInstanceIds.size(), "?"));
+		Object[] parameters = jobInstanceIds.toArray();
+		if (this.archiveTablePrefix != null) {
+			for (String statement : ARCHIVE_JOB_INSTANCES) {
+				String query = StringUtils.replace(statement, "%ARCHIVE_PREFIX%", this.archiveTablePrefix);
+				getJdbcTemplate().update(getQuery(query).replace("%IDS%", ids), parameters);
+			}
+		}
+		for (String statement : PURGE_JOB_INSTANCES) {
+			getJdbcTemplate().update(getQuery(statement).replace("%IDS%", ids), parameters);
+		}
+		return jobInstanceIds.size();
+	}
+
+	/**
+	 * Set the prefix of the archive tables to which purged job instances are copied
+	 * before being deleted. The archive tables must have the same structure as the
+	 * metadata tables, for example by running the schema script of the database with the
+	 * table prefix replaced. Defaults to {@code null}, meaning that purged job instances
+	 * are not archived.
+	 * @param archiveTablePrefix the prefix of the archive tables
+	 * @since 6.0.3
+	 */
+	public void setArchiveTablePrefix(@Nullable String archiveTablePrefix) {
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
 	/**
 	 * Setter for {@link DataFieldMaxValueIncrementer} to be used when generating primary
 	 * keys for {@link JobInstance} instances.
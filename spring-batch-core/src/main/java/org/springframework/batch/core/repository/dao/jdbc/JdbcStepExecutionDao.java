@@ -21,6 +21,8 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -90,6 +92,25 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 	private static final String GET_STEP_EXECUTION = GET_RAW_STEP_EXECUTIONS + " WHERE STEP_EXECUTION_ID = ?";
 
+	private static final String GET_STEP_EXECUTIONS_PAGE = GET_RAW_STEP_EXECUTIONS
+			+ " WHERE JOB_EXECUTION_ID = ? AND STEP_EXECUTION_ID > ? ORDER BY STEP_EXECUTION_ID";
+
+	private static final String GET_STEP_EXECUTIONS_BY_IDS = GET_RAW_STEP_EXECUTIONS
+			+ " WHERE JOB_EXECUTION_ID = ? AND STEP_EXECUTION_ID IN (%IDS%) ORDER BY STEP_EXECUTION_ID";
+
+	private static final String AGGREGATE_STEP_EXECUTIONS = """
+			SELECT MIN(STEP_NAME), STATUS, EXIT_CODE, EXIT_MESSAGE, SUM(COMMIT_COUNT), SUM(READ_COUNT), SUM(FILTER_COUNT), SUM(WRITE_COUNT), SUM(READ_SKIP_COUNT), SUM(WRITE_SKIP_COUNT), SUM(PROCESS_SKIP_COUNT), SUM(ROLLBACK_COUNT)
+			FROM %PREFIX%STEP_EXECUTION
+			WHERE JOB_EXECUTION_ID = ? AND STEP_EXECUTION_ID IN (%IDS%)
+			GROUP BY STATUS, EXIT_CODE, EXIT_MESSAGE
+			""";
+
+	/**
+	 * Maximum number of IDs in an {@code IN} clause, below the limit of 1000 elements of
+	 * Oracle.
+	 */
+	private static final int IN_CLAUSE_BATCH_SIZE = 500;
+
 	private static final String GET_LAST_STEP_EXECUTION = """
 			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
 			FROM %PREFIX%JOB_EXECUTION JE
@@ -353,6 +374,102 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 				jobExecution.getId());
 	}
 
+	/**
+	 * Retrieve a page of the {@link StepExecution}s of a given {@link JobExecution} with
+	 * a query limited to {@code count} rows. The execution context will not be loaded.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param afterStepExecutionId the ID of the last step execution of the previous page,
+	 * or {@code null} for the first page
+	 * @param count the maximum number of step executions to return
+	 * @return a page of {@link StepExecution}s ordered by ID
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> findStepExecutions(JobExecution jobExecution, @Nullable Long afterStepExecutionId,
+			int count) {
+		return getJdbcTemplate().query(getQuery(GET_STEP_EXECUTIONS_PAGE), ps -> {
+			ps.setLong(1, jobExecution.getId());
+			ps.setLong(2, afterStepExecutionId != null ? afterStepExecutionId : -1L);
+			ps.setMaxRows(count);
+		}, new StepExecutionRowMapper(jobExecution));
+	}
+
+	/**
+	 * Retrieve the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs, with one query for each batch of up to 500 IDs. The execution context will not
+	 * be loaded.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to retrieve
+	 * @return a list of {@link StepExecution}s ordered by ID
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		StepExecutionRowMapper rowMapper = new StepExecutionRowMapper(jobExecution);
+		List<StepExecution> stepExecutions = new ArrayList<>(stepExecutionIds.size());
+		for (List<Long> batch : partition(stepExecutionIds)) {
+			stepExecutions.addAll(getJdbcTemplate().query(getInClauseQuery(GET_STEP_EXECUTIONS_BY_IDS, batch.size()),
+					rowMapper, getInClauseArguments(jobExecution, batch)));
+		}
+		return stepExecutions;
+	}
+
+	/**
+	 * Aggregate the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs with {@code SUM} and {@code GROUP BY} queries, so that only one row is
+	 * transferred for each distinct status and exit status of each batch of up to 500
+	 * IDs. Partial aggregates have an ID of 0 and the name of one of the aggregated step
+	 * executions.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to aggregate
+	 * @return a list of partial aggregates of the step executions
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> aggregateStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		List<StepExecution> aggregates = new ArrayList<>();
+		for (List<Long> batch : partition(stepExecutionIds)) {
+			aggregates.addAll(
+					getJdbcTemplate().query(getInClauseQuery(AGGREGATE_STEP_EXECUTIONS, batch.size()), (rs, rowNum) -> {
+						StepExecution aggregate = new StepExecution(0, rs.getString(1), jobExecution);
+						aggregate.setStatus(BatchStatus.valueOf(rs.getString(2)));
+						aggregate.setExitStatus(new ExitStatus(rs.getString(3), rs.getString(4)));
+						aggregate.setCommitCount(rs.getLong(5));
+						aggregate.setReadCount(rs.getLong(6));
+						aggregate.setFilterCount(rs.getLong(7));
+						aggregate.setWriteCount(rs.getLong(8));
+						aggregate.setReadSkipCount(rs.getLong(9));
+						aggregate.setWriteSkipCount(rs.getLong(10));
+						aggregate.setProcessSkipCount(rs.getLong(11));
+						aggregate.setRollbackCount(rs.getLong(12));
+						return aggregate;
+					}, getInClauseArguments(jobExecution, batch)));
+		}
+		return aggregates;
+	}
+
+	private static List<List<Long>> partition(Collection<Long> ids) {
+		List<Long> distinctIds = ids.stream().distinct().toList();
+		List<List<Long>> batches = new ArrayList<>();
+		for (int i = 0; i < distinctIds.size(); i += IN_CLAUSE_BATCH_SIZE) {
+			batches.add(distinctIds.subList(i, Math.min(i + IN_CLAUSE_BATCH_SIZE, distinctIds.size())));
+		}
+		return batches;
+	}
+
+	private String getInClauseQuery(String query, int size) {
+		return getQuery(query).replace("%IDS%", String.join(", ", Collections.nCopies(size, "?")));
+	}
+
+	private static Object[] getInClauseArguments(JobExecution jobExecution, List<Long> ids) {
+		Object[] arguments = new Object[ids.size() + 1];
+		arguments[0] = jobExecution.getId();
+		for (int i = 0; i < ids.size(); i++) {
+			arguments[i + 1] = ids.get(i);
+		}
+		return arguments;
+	}
+
 	@Override
 	public long countStepExecutions(JobInstance jobInstance, String stepName) {
 		return getJdbcTemplate().queryForObject(getQuery(COUNT_STEP_EXECUTIONS), Long.class,
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,20 +19,31 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.bson.Document;
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.persistence.JobParameter;
 import org.springframework.batch.core.repository.persistence.converter.JobExecutionConverter;
+import org.springframework.batch.core.repository.persistence.converter.JobInstanceConverter;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
@@ -52,10 +63,16 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 
 	private static final String JOB_EXECUTIONS_SEQUENCE_NAME = "BATCH_JOB_EXECUTION_SEQ";
 
+	private static final String JOB_INSTANCES_COLLECTION_NAME = "BATCH_JOB_INSTANCE";
+
+	private static final String JOB_EXECUTIONS_FIELD = "jobExecutions";
+
 	private final MongoOperations mongoOperations;
 
 	private final JobExecutionConverter jobExecutionConverter = new JobExecutionConverter();
 
+	private final JobInstanceConverter jobInstanceConverter = new JobInstanceConverter();
+
 	private DataFieldMaxValueIncrementer jobExecutionIncrementer;
 
 	private MongoJobInstanceDao jobInstanceDao;
@@ -84,12 +101,23 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 		return jobExecution;
 	}
 
+	/**
+	 * Update the status, dates and exit status of the job execution with a {@code $set}
+	 * on the existing document. Step executions are stored in their own collection and
+	 * the execution context is saved separately by the {@link MongoExecutionContextDao}.
+	 */
 	@Override
 	public void updateJobExecution(JobExecution jobExecution) {
 		Query query = query(where("jobExecutionId").is(jobExecution.getId()));
-		org.springframework.batch.core.repository.persistence.JobExecution jobExecutionToUpdate = this.jobExecutionConverter
-			.fromJobExecution(jobExecution);
-		this.mongoOperations.findAndReplace(query, jobExecutionToUpdate, JOB_EXECUTIONS_COLLECTION_NAME);
+		Update update = new Update().set("status", jobExecution.getStatus())
+			.set("startTime", jobExecution.getStartTime())
+			.set("endTime", jobExecution.getEndTime())
+			.set("lastUpdated", jobExecution.getLastUpdated())
+			.set("exitStatus.exitCode", jobExecution.getExitStatus().getExitCode())
+			.set("exitStatus.exitDescription", jobExecution.getExitStatus().getExitDescription());
+		this.mongoOperations.updateFirst(query, update,
+				org.springframework.batch.core.repository.persistence.JobExecution.class,
+				JOB_EXECUTIONS_COLLECTION_NAME);
 	}
 
 	@Override
@@ -102,6 +130,47 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 		return jobExecutions.stream().map(jobExecution -> convert(jobExecution, jobInstance)).toList();
 	}
 
+	/**
+	 * Return a page of the job executions of the job with the given name with a single
+	 * aggregation: the job instances of the job are joined with at most {@code count} of
+	 * their job executions each, which are then sorted and limited on the server. The
+	 * step executions and execution contexts embedded in the job execution documents are
+	 * not fetched. Requires MongoDB 5.0 or later.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> findJobExecutions(String jobName, @Nullable Long beforeJobExecutionId, int count) {
+		List<AggregationOperation> jobExecutionsPipeline = new ArrayList<>();
+		if (beforeJobExecutionId != null) {
+			jobExecutionsPipeline.add(Aggregation.match(where("jobExecutionId").lt(beforeJobExecutionId)));
+		}
+		jobExecutionsPipeline.add(Aggregation.project().andExclude("stepExecutions", "executionContext"));
+		jobExecutionsPipeline.add(Aggregation.sort(Sort.Direction.DESC, "jobExecutionId"));
+		jobExecutionsPipeline.add(Aggregation.limit(count));
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(where("jobName").is(jobName)),
+				Aggregation.lookup()
+					.from(JOB_EXECUTIONS_COLLECTION_NAME)
+					.localField("jobInstanceId")
+					.foreignField("jobInstanceId")
+					.pipeline(new AggregationPipeline(jobExecutionsPipeline))
+					.as(JOB_EXECUTIONS_FIELD),
+				Aggregation.unwind(JOB_EXECUTIONS_FIELD),
+				Aggregation.sort(Sort.Direction.DESC, JOB_EXECUTIONS_FIELD + ".jobExecutionId"),
+				Aggregation.limit(count));
+		MongoConverter converter = this.mongoOperations.getConverter();
+		List<JobExecution> jobExecutions = new ArrayList<>();
+		for (Document document : this.mongoOperations.aggregate(aggregation, JOB_INSTANCES_COLLECTION_NAME,
+				Document.class)) {
+			JobInstance jobInstance = this.jobInstanceConverter.toJobInstance(
+					converter.read(org.springframework.batch.core.repository.persistence.JobInstance.class, document));
+			org.springframework.batch.core.repository.persistence.JobExecution jobExecution = converter.read(
+					org.springframework.batch.core.repository.persistence.JobExecution.class,
+					document.get(JOB_EXECUTIONS_FIELD, Document.class));
+			jobExecutions.add(convert(jobExecution, jobInstance));
+		}
+		return jobExecutions;
+	}
+
 	@Override
 	public JobExecution getLastJobExecution(JobInstance jobInstance) {
 		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
@@ -115,18 +184,22 @@ public class MongoJobExecutionDao implements JobExecutionDao {
 
 	@Override
 	public Set<JobExecution> findRunningJobExecutions(String jobName) {
-		List<JobInstance> jobInstances = this.jobInstanceDao.findJobInstancesByName(jobName);
+		Map<Long, JobInstance> jobInstances = new HashMap<>();
+		for (JobInstance jobInstance : this.jobInstanceDao.findJobInstancesByName(jobName)) {
+			jobInstances.put(jobInstance.getId(), jobInstance);
+		}
 		Set<JobExecution> runningJobExecutions = new HashSet<>();
-		for (JobInstance jobInstance : jobInstances) {
-			Query query = query(
-					where("jobInstanceId").is(jobInstance.getId()).and("status").in("STARTING", "STARTED", "STOPPING"));
-			this.mongoOperations
-				.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
-						JOB_EXECUTIONS_COLLECTION_NAME)
-				.stream()
-				.map(jobExecution -> convert(jobExecution, jobInstance))
-				.forEach(runningJobExecutions::add);
+		if (jobInstances.isEmpty()) {
+			return runningJobExecutions;
 		}
+		Query query = query(
+				where("jobInstanceId").in(jobInstances.keySet()).and("status").in("STARTING", "STARTED", "STOPPING"));
+		this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(jobExecution -> convert(jobExecution, jobInstances.get(jobExecution.getJobInstanceId())))
+			.forEach(runningJobExecutions::add);
 		return runningJobExecutions;
 	}
 
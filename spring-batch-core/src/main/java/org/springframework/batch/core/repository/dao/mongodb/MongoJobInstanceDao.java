@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,11 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.batch.core.job.DefaultJobKeyGenerator;
 import org.springframework.batch.core.job.JobExecution;
@@ -73,11 +76,11 @@ public class MongoJobInstanceDao implements JobInstanceDao {
 		Assert.notNull(jobName, "Job name must not be null.");
 		Assert.notNull(jobParameters, "JobParameters must not be null.");
 
-		Assert.state(getJobInstance(jobName, jobParameters) == null, "JobInstance must not already exist");
+		String key = this.jobKeyGenerator.generateKey(jobParameters);
+		Assert.state(getJobInstance(jobName, key) == null, "JobInstance must not already exist");
 
 		org.springframework.batch.core.repository.persistence.JobInstance jobInstanceToSave = new org.springframework.batch.core.repository.persistence.JobInstance();
 		jobInstanceToSave.setJobName(jobName);
-		String key = this.jobKeyGenerator.generateKey(jobParameters);
 		jobInstanceToSave.setJobKey(key);
 		long instanceId = jobInstanceIncrementer.nextLongValue();
 		jobInstanceToSave.setJobInstanceId(instanceId);
@@ -90,7 +93,30 @@ public class MongoJobInstanceDao implements JobInstanceDao {
 
 	@Override
 	public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
-		String key = this.jobKeyGenerator.generateKey(jobParameters);
+		return getJobInstance(jobName, this.jobKeyGenerator.generateKey(jobParameters));
+	}
+
+	/**
+	 * Find the job instances with a single query on the job keys.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, List<JobParameters> jobParameters) {
+		List<String> keys = jobParameters.stream().map(this.jobKeyGenerator::generateKey).toList();
+		Query query = query(where("jobName").is(jobName).and("jobKey").in(keys));
+		Map<String, JobInstance> jobInstancesByKey = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.JobInstance jobInstance : this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.JobInstance.class, COLLECTION_NAME)) {
+			jobInstancesByKey.put(jobInstance.getJobKey(), this.jobInstanceConverter.toJobInstance(jobInstance));
+		}
+		List<JobInstance> jobInstances = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			jobInstances.add(jobInstancesByKey.get(key));
+		}
+		return jobInstances;
+	}
+
+	private JobInstance getJobInstance(String jobName, String key) {
 		Query query = query(where("jobName").is(jobName).and("jobKey").is(key));
 		org.springframework.batch.core.repository.persistence.JobInstance jobInstance = this.mongoOperations
 			.findOne(query, org.springframework.batch.core.repository.persistence.JobInstance.class, COLLECTION_NAME);
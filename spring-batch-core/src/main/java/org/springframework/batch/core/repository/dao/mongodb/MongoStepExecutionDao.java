@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,8 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 
@@ -27,8 +26,11 @@ import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.repository.persistence.converter.JobExecutionConverter;
 import org.springframework.batch.core.repository.persistence.converter.StepExecutionConverter;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -81,12 +83,32 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return stepExecution;
 	}
 
+	/**
+	 * Update the status, counters, dates and exit status of the step execution with a
+	 * {@code $set} on the existing document. The execution context is saved separately by
+	 * the {@link MongoExecutionContextDao}.
+	 */
 	@Override
 	public void updateStepExecution(StepExecution stepExecution) {
 		Query query = query(where("stepExecutionId").is(stepExecution.getId()));
-		org.springframework.batch.core.repository.persistence.StepExecution stepExecutionToUpdate = this.stepExecutionConverter
-			.fromStepExecution(stepExecution);
-		this.mongoOperations.findAndReplace(query, stepExecutionToUpdate, STEP_EXECUTIONS_COLLECTION_NAME);
+		Update update = new Update().set("status", stepExecution.getStatus())
+			.set("readCount", stepExecution.getReadCount())
+			.set("writeCount", stepExecution.getWriteCount())
+			.set("commitCount", stepExecution.getCommitCount())
+			.set("rollbackCount", stepExecution.getRollbackCount())
+			.set("readSkipCount", stepExecution.getReadSkipCount())
+			.set("processSkipCount", stepExecution.getProcessSkipCount())
+			.set("writeSkipCount", stepExecution.getWriteSkipCount())
+			.set("filterCount", stepExecution.getFilterCount())
+			.set("startTime", stepExecution.getStartTime())
+			.set("endTime", stepExecution.getEndTime())
+			.set("lastUpdated", stepExecution.getLastUpdated())
+			.set("exitStatus.exitCode", stepExecution.getExitStatus().getExitCode())
+			.set("exitStatus.exitDescription", stepExecution.getExitStatus().getExitDescription())
+			.set("terminateOnly", stepExecution.isTerminateOnly());
+		this.mongoOperations.updateFirst(query, update,
+				org.springframework.batch.core.repository.persistence.StepExecution.class,
+				STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
 	@Nullable
@@ -113,37 +135,23 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 	@Nullable
 	@Override
 	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
-		// TODO optimize the query
-		// get all step executions
-		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
-		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
-			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
-					JOB_EXECUTIONS_COLLECTION_NAME);
-		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutions = this.mongoOperations
-			.find(query(where("jobExecutionId").in(jobExecutions.stream()
-				.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
-				.toList())), org.springframework.batch.core.repository.persistence.StepExecution.class,
-					STEP_EXECUTIONS_COLLECTION_NAME);
 		// sort step executions by creation date then id (see contract) and return the
 		// last one
-		Optional<org.springframework.batch.core.repository.persistence.StepExecution> lastStepExecution = stepExecutions
-			.stream()
-			.filter(stepExecution -> stepExecution.getName().equals(stepName))
-			.max(Comparator
-				.comparing(org.springframework.batch.core.repository.persistence.StepExecution::getCreateTime)
-				.thenComparing(
-						org.springframework.batch.core.repository.persistence.StepExecution::getStepExecutionId));
-		if (lastStepExecution.isPresent()) {
-			org.springframework.batch.core.repository.persistence.StepExecution stepExecution = lastStepExecution.get();
-			JobExecution jobExecution = this.jobExecutionConverter.toJobExecution(jobExecutions.stream()
-				.filter(execution -> execution.getJobExecutionId() == stepExecution.getJobExecutionId())
-				.findFirst()
-				.get(), jobInstance);
-			return this.stepExecutionConverter.toStepExecution(stepExecution, jobExecution);
-		}
-		else {
+		Query query = query(where("jobExecutionId").in(getJobExecutionIds(jobInstance)).and("name").is(stepName))
+			.with(Sort.by(Sort.Order.desc("createTime"), Sort.Order.desc("stepExecutionId")))
+			.limit(1);
+		org.springframework.batch.core.repository.persistence.StepExecution stepExecution = this.mongoOperations
+			.findOne(query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME);
+		if (stepExecution == null) {
 			return null;
 		}
+		org.springframework.batch.core.repository.persistence.JobExecution jobExecution = this.mongoOperations.findOne(
+				query(where("jobExecutionId").is(stepExecution.getJobExecutionId())),
+				org.springframework.batch.core.repository.persistence.JobExecution.class,
+				JOB_EXECUTIONS_COLLECTION_NAME);
+		return this.stepExecutionConverter.toStepExecution(stepExecution,
+				this.jobExecutionConverter.toJobExecution(jobExecution, jobInstance));
 	}
 
 	/**
@@ -163,23 +171,68 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 			.toList();
 	}
 
+	/**
+	 * Retrieve the {@link StepExecution}s of a given {@link JobExecution} with the given
+	 * IDs with a single {@code $in} query. The execution contexts are excluded from the
+	 * query.
+	 * @param jobExecution the parent {@link JobExecution}
+	 * @param stepExecutionIds the IDs of the step executions to retrieve
+	 * @return a list of {@link StepExecution}s
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		Query query = query(
+				where("jobExecutionId").is(jobExecution.getId()).and("stepExecutionId").in(stepExecutionIds));
+		query.fields().exclude("executionContext");
+		return this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(stepExecution -> this.stepExecutionConverter.toStepExecution(stepExecution, jobExecution))
+			.toList();
+	}
+
+	@Override
+	public List<StepExecution> findStepExecutions(JobExecution jobExecution, @Nullable Long afterStepExecutionId,
+			int count) {
+		Criteria criteria = where("jobExecutionId").is(jobExecution.getId());
+		if (afterStepExecutionId != null) {
+			criteria = criteria.and("stepExecutionId").gt(afterStepExecutionId);
+		}
+		Query query = query(criteria).with(Sort.by(Sort.Direction.ASC, "stepExecutionId")).limit(count);
+		query.fields().exclude("executionContext");
+		return this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(stepExecution -> this.stepExecutionConverter.toStepExecution(stepExecution, jobExecution))
+			.toList();
+	}
+
 	@Override
 	public long countStepExecutions(JobInstance jobInstance, String stepName) {
-		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
-		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
-			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
-					JOB_EXECUTIONS_COLLECTION_NAME);
 		return this.mongoOperations.count(
-				query(where("jobExecutionId")
-					.in(jobExecutions.stream()
-						.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
-						.toList())
-					.and("name")
-					.is(stepName)),
+				query(where("jobExecutionId").in(getJobExecutionIds(jobInstance)).and("name").is(stepName)),
 				org.springframework.batch.core.repository.persistence.StepExecution.class,
 				STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
+	/*
+	 * Only the ids of the job executions are fetched, not their (potentially large)
+	 * execution contexts.
+	 */
+	private List<Long> getJobExecutionIds(JobInstance jobInstance) {
+		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
+		query.fields().include("jobExecutionId");
+		return this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
+					JOB_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
+			.toList();
+	}
+
 	@Override
 	public void deleteStepExecution(StepExecution stepExecution) {
 		this.mongoOperations.remove(query(where("stepExecutionId").is(stepExecution.getId())),
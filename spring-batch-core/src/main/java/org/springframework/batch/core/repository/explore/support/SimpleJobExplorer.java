@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,6 @@ import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.repository.support.SimpleJobRepository;
-import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
 
 import java.util.List;
@@ -238,8 +237,15 @@ public class SimpleJobExplorer implements JobExplorer {
 		JobInstance jobInstance = jobInstanceDao.getJobInstance(jobExecution);
 		jobExecution.setJobInstance(jobInstance);
 		jobExecution.addStepExecutions(stepExecutionDao.getStepExecutions(jobExecution));
-		jobExecution.setExecutionContext(ecDao.getExecutionContext(jobExecution));
+		fillJobExecutionContext(jobExecution);
+
+	}
 
+	/*
+	 * Fill the ExecutionContext of a JobExecution
+	 */
+	protected void fillJobExecutionContext(JobExecution jobExecution) {
+		jobExecution.setExecutionContext(ecDao.getExecutionContext(jobExecution));
 	}
 
 	/*
@@ -268,8 +274,7 @@ public class SimpleJobExplorer implements JobExplorer {
 
 		if (latest != null) {
 			fillStepExecutionDependencies(latest);
-			ExecutionContext jobExecutionContext = ecDao.getExecutionContext(latest.getJobExecution());
-			latest.getJobExecution().setExecutionContext(jobExecutionContext);
+			fillJobExecutionContext(latest.getJobExecution());
 		}
 
 		return latest;
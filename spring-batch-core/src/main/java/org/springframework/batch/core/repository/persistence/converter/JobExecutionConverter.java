@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,8 +53,10 @@ public class JobExecutionConverter {
 		jobExecution.setLastUpdated(source.getLastUpdated());
 		jobExecution.setExitStatus(new org.springframework.batch.core.ExitStatus(source.getExitStatus().exitCode(),
 				source.getExitStatus().exitDescription()));
-		jobExecution.setExecutionContext(
-				new org.springframework.batch.infrastructure.item.ExecutionContext(source.getExecutionContext().map()));
+		if (source.getExecutionContext() != null) {
+			jobExecution.setExecutionContext(new org.springframework.batch.infrastructure.item.ExecutionContext(
+					source.getExecutionContext().map()));
+		}
 		return jobExecution;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,8 +45,10 @@ public class StepExecutionConverter {
 		stepExecution.setLastUpdated(source.getLastUpdated());
 		stepExecution.setExitStatus(new org.springframework.batch.core.ExitStatus(source.getExitStatus().exitCode(),
 				source.getExitStatus().exitDescription()));
-		stepExecution.setExecutionContext(
-				new org.springframework.batch.infrastructure.item.ExecutionContext(source.getExecutionContext().map()));
+		if (source.getExecutionContext() != null) {
+			stepExecution.setExecutionContext(new org.springframework.batch.infrastructure.item.ExecutionContext(
+					source.getExecutionContext().map()));
+		}
 		if (source.isTerminateOnly()) {
 			stepExecution.setTerminateOnly();
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,6 +66,8 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 
 	private boolean validateTransactionState = true;
 
+	private boolean lazyLoadExecutionContexts = false;
+
 	private static final String TRANSACTION_ISOLATION_LEVEL_PREFIX = "ISOLATION_";
 
 	private static final String TRANSACTION_PROPAGATION_PREFIX = "PROPAGATION_";
@@ -186,6 +188,18 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 		this.jobKeyGenerator = jobKeyGenerator;
 	}
 
+	/**
+	 * Set whether the execution contexts of the job and step executions retrieved from
+	 * the repository should be loaded on first access rather than eagerly. Defaults to
+	 * {@code false}.
+	 * @param lazyLoadExecutionContexts true to load execution contexts on first access
+	 * @since 6.0.3
+	 * @see SimpleJobRepository#setLazyLoadExecutionContexts(boolean)
+	 */
+	public void setLazyLoadExecutionContexts(boolean lazyLoadExecutionContexts) {
+		this.lazyLoadExecutionContexts = lazyLoadExecutionContexts;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(transactionManager != null, "TransactionManager must not be null.");
@@ -219,7 +233,11 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 		this.proxyFactory.addAdvice(advice);
 		this.proxyFactory.setProxyTargetClass(false);
 		this.proxyFactory.addInterface(JobRepository.class);
-		this.proxyFactory.setTarget(getTarget());
+		Object target = getTarget();
+		if (target instanceof SimpleJobRepository simpleJobRepository) {
+			simpleJobRepository.setLazyLoadExecutionContexts(this.lazyLoadExecutionContexts);
+		}
+		this.proxyFactory.setTarget(target);
 		return (JobRepository) this.proxyFactory.getProxy(getClass().getClassLoader());
 	}
 
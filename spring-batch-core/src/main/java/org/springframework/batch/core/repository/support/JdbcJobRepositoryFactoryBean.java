@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDa
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcExecutionContextDao;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcJobExecutionDao;
+import org.springframework.batch.core.repository.dao.jdbc.JdbcJobInstanceDao;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcStepExecutionDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.database.support.DataFieldMaxValueIncrementerFactory;
@@ -184,6 +185,32 @@ public class JdbcJobRepositoryFactoryBean extends JobRepositoryFactoryBean {
 		super.setIncrementerFactory(incrementerFactory);
 	}
 
+	/**
+	 * Set the number of ids reserved by each call to the incrementers. When greater than
+	 * 1, the incrementers are decorated with a
+	 * {@link org.springframework.batch.core.repository.dao.BlockAllocatingIncrementer}.
+	 * Defaults to 1.
+	 * @param incrementerBlockSize the number of ids reserved at a time
+	 * @since 6.0.3
+	 */
+	@Override
+	public void setIncrementerBlockSize(int incrementerBlockSize) {
+		super.setIncrementerBlockSize(incrementerBlockSize);
+	}
+
+	/**
+	 * Set the prefix of the archive tables to which purged job instances are copied
+	 * before being deleted. Defaults to {@code null}, meaning that purged job instances
+	 * are not archived.
+	 * @param archiveTablePrefix the prefix of the archive tables
+	 * @see JdbcJobInstanceDao#setArchiveTablePrefix(String)
+	 * @since 6.0.3
+	 */
+	@Override
+	public void setArchiveTablePrefix(String archiveTablePrefix) {
+		super.setArchiveTablePrefix(archiveTablePrefix);
+	}
+
 	/**
 	 * Set the {@link Charset} to use when serializing/deserializing the execution
 	 * context. Defaults to "UTF-8". Must not be {@code null}.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.batch.core.converter.StringToLocalDateTimeConverter;
 import org.springframework.batch.core.converter.StringToLocalTimeConverter;
 import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
+import org.springframework.batch.core.repository.dao.BlockAllocatingIncrementer;
 import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcExecutionContextDao;
 import org.springframework.batch.core.repository.dao.jdbc.JdbcJobExecutionDao;
@@ -45,6 +46,7 @@ import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -92,6 +94,10 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 
 	protected DataFieldMaxValueIncrementerFactory incrementerFactory;
 
+	protected int incrementerBlockSize = 1;
+
+	protected String archiveTablePrefix;
+
 	protected int maxVarCharLengthForExitMessage = AbstractJdbcBatchMetadataDao.DEFAULT_EXIT_MESSAGE_LENGTH;
 
 	protected int maxVarCharLengthForShortContext = AbstractJdbcBatchMetadataDao.DEFAULT_SHORT_CONTEXT_LENGTH;
@@ -238,6 +244,30 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		this.incrementerFactory = incrementerFactory;
 	}
 
+	/**
+	 * Set the number of ids reserved by each call to the incrementers. When greater than
+	 * 1, the incrementers are decorated with a {@link BlockAllocatingIncrementer}.
+	 * Defaults to 1.
+	 * @param incrementerBlockSize the number of ids reserved at a time
+	 * @since 6.0.3
+	 */
+	public void setIncrementerBlockSize(int incrementerBlockSize) {
+		Assert.isTrue(incrementerBlockSize > 0, "incrementerBlockSize must be greater than zero");
+		this.incrementerBlockSize = incrementerBlockSize;
+	}
+
+	/**
+	 * Set the prefix of the archive tables to which purged job instances are copied
+	 * before being deleted. Defaults to {@code null}, meaning that purged job instances
+	 * are not archived.
+	 * @param archiveTablePrefix the prefix of the archive tables
+	 * @see JdbcJobInstanceDao#setArchiveTablePrefix(String)
+	 * @since 6.0.3
+	 */
+	public void setArchiveTablePrefix(String archiveTablePrefix) {
+		this.archiveTablePrefix = archiveTablePrefix;
+	}
+
 	/**
 	 * Set the {@link Charset} to use when serializing/deserializing the execution
 	 * context. Defaults to "UTF-8". Must not be {@code null}.
@@ -309,14 +339,20 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 		super.afterPropertiesSet();
 	}
 
+	private DataFieldMaxValueIncrementer getIncrementer(String incrementerName) {
+		DataFieldMaxValueIncrementer incrementer = incrementerFactory.getIncrementer(databaseType, incrementerName);
+		return incrementerBlockSize > 1 ? new BlockAllocatingIncrementer(incrementer, incrementerBlockSize)
+				: incrementer;
+	}
+
 	@Override
 	protected JdbcJobInstanceDao createJobInstanceDao() {
 		JdbcJobInstanceDao dao = new JdbcJobInstanceDao();
 		dao.setJdbcTemplate(jdbcOperations);
-		dao.setJobInstanceIncrementer(
-				incrementerFactory.getIncrementer(databaseType, tablePrefix + jobInstanceIncrementerName));
+		dao.setJobInstanceIncrementer(getIncrementer(tablePrefix + jobInstanceIncrementerName));
 		dao.setJobKeyGenerator(jobKeyGenerator);
 		dao.setTablePrefix(tablePrefix);
+		dao.setArchiveTablePrefix(archiveTablePrefix);
 		return dao;
 	}
 
@@ -324,8 +360,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 	protected JdbcJobExecutionDao createJobExecutionDao() {
 		JdbcJobExecutionDao dao = new JdbcJobExecutionDao();
 		dao.setJdbcTemplate(jdbcOperations);
-		dao.setJobExecutionIncrementer(
-				incrementerFactory.getIncrementer(databaseType, tablePrefix + jobExecutionIncrementerName));
+		dao.setJobExecutionIncrementer(getIncrementer(tablePrefix + jobExecutionIncrementerName));
 		dao.setTablePrefix(tablePrefix);
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setExitMessageLength(this.maxVarCharLengthForExitMessage);
@@ -337,8 +372,7 @@ public class JobRepositoryFactoryBean extends AbstractJobRepositoryFactoryBean i
 	protected JdbcStepExecutionDao createStepExecutionDao() {
 		JdbcStepExecutionDao dao = new JdbcStepExecutionDao();
 		dao.setJdbcTemplate(jdbcOperations);
-		dao.setStepExecutionIncrementer(
-				incrementerFactory.getIncrementer(databaseType, tablePrefix + stepExecutionIncrementerName));
+		dao.setStepExecutionIncrementer(getIncrementer(tablePrefix + stepExecutionIncrementerName));
 		dao.setTablePrefix(tablePrefix);
 		dao.setClobTypeToUse(determineClobTypeToUse(this.databaseType));
 		dao.setExitMessageLength(this.maxVarCharLengthForExitMessage);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.springframework.batch.core.repository.support;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.core.repository.dao.BlockAllocatingIncrementer;
 import org.springframework.batch.core.repository.dao.mongodb.MongoExecutionContextDao;
 import org.springframework.batch.core.repository.dao.mongodb.MongoJobExecutionDao;
 import org.springframework.batch.core.repository.dao.mongodb.MongoJobInstanceDao;
@@ -49,6 +50,8 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 
 	private @Nullable DataFieldMaxValueIncrementer stepExecutionIncrementer;
 
+	private int incrementerBlockSize = 1;
+
 	public void setMongoOperations(MongoOperations mongoOperations) {
 		this.mongoOperations = mongoOperations;
 	}
@@ -65,6 +68,19 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 		this.stepExecutionIncrementer = stepExecutionIncrementer;
 	}
 
+	/**
+	 * Set the number of ids reserved by each call to the incrementers. When greater than
+	 * 1, the incrementers are decorated with a {@link BlockAllocatingIncrementer}, so
+	 * that a single {@code $inc} on a sequence document reserves a block of ids. Defaults
+	 * to 1.
+	 * @param incrementerBlockSize the number of ids reserved at a time
+	 * @since 6.0.3
+	 */
+	public void setIncrementerBlockSize(int incrementerBlockSize) {
+		Assert.isTrue(incrementerBlockSize > 0, "incrementerBlockSize must be greater than zero");
+		this.incrementerBlockSize = incrementerBlockSize;
+	}
+
 	@Override
 	protected Object getTarget() throws Exception {
 		MongoJobInstanceDao jobInstanceDao = createJobInstanceDao();
@@ -118,6 +134,14 @@ public class MongoJobRepositoryFactoryBean extends AbstractJobRepositoryFactoryB
 			this.stepExecutionIncrementer = new MongoSequenceIncrementer(this.mongoOperations,
 					"BATCH_STEP_EXECUTION_SEQ");
 		}
+		if (this.incrementerBlockSize > 1) {
+			this.jobInstanceIncrementer = new BlockAllocatingIncrementer(this.jobInstanceIncrementer,
+					this.incrementerBlockSize);
+			this.jobExecutionIncrementer = new BlockAllocatingIncrementer(this.jobExecutionIncrementer,
+					this.incrementerBlockSize);
+			this.stepExecutionIncrementer = new BlockAllocatingIncrementer(this.stepExecutionIncrementer,
+					this.incrementerBlockSize);
+		}
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 the original author or authors.
+ * Copyright 2024-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.batch.core.repository.support;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
@@ -27,6 +28,9 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.JobKeyGenerator;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.JobRepository;
@@ -59,6 +63,10 @@ public class ResourcelessJobRepository implements JobRepository {
 
 	private JobKeyGenerator jobKeyGenerator;
 
+	private @Nullable JobParameters currentJobParameters;
+
+	private @Nullable String currentJobKey;
+
 	/**
 	 * Create a new {@link ResourcelessJobRepository} instance with a
 	 * {@link DefaultJobKeyGenerator}.
@@ -235,6 +243,19 @@ public class ResourcelessJobRepository implements JobRepository {
 		return this.jobExecution;
 	}
 
+	@Override
+	public JobExecution createJobExecution(String jobName, JobParameters jobParameters, boolean restartable)
+			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+		JobInstance jobInstance = getJobInstance(jobName, jobParameters);
+		if (jobInstance == null || this.jobExecution == null) {
+			jobInstance = createJobInstance(jobName, jobParameters);
+			return createJobExecution(jobInstance, jobParameters, new ExecutionContext());
+		}
+		SimpleJobRepository.checkRestartable(Set.of(this.jobExecution.getStatus()), this.jobExecution,
+				this.jobExecution.getStepExecutions(), restartable);
+		return createJobExecution(jobInstance, jobParameters, this.jobExecution.getExecutionContext());
+	}
+
 	@Override
 	public void update(JobExecution jobExecution) {
 		jobExecution.setLastUpdated(LocalDateTime.now());
@@ -338,11 +359,22 @@ public class ResourcelessJobRepository implements JobRepository {
 		stepExecution.setLastUpdated(LocalDateTime.now());
 	}
 
+	// identity comparison on purpose: job parameters are immutable, so the key only
+	// needs to be recomputed when the job execution gets another instance
+	@SuppressWarnings("ReferenceEquality")
 	private boolean isJobKeyEquals(JobParameters jobParameters) {
 		if (this.jobExecution == null) {
 			return false;
 		}
-		String currentKey = this.jobKeyGenerator.generateKey(this.jobExecution.getJobParameters());
+		// the key of the current job execution is only computed when its parameters
+		// change
+		JobParameters currentJobParameters = this.jobExecution.getJobParameters();
+		String currentKey = this.currentJobKey;
+		if (currentKey == null || currentJobParameters != this.currentJobParameters) {
+			currentKey = this.jobKeyGenerator.generateKey(currentJobParameters);
+			this.currentJobParameters = currentJobParameters;
+			this.currentJobKey = currentKey;
+		}
 		String expectedKey = this.jobKeyGenerator.generateKey(jobParameters);
 		return currentKey.equals(expectedKey);
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,8 +24,12 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.explore.support.SimpleJobExplorer;
+import org.springframework.batch.core.repository.ExecutionProjection;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
@@ -35,7 +39,9 @@ import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  *
@@ -64,11 +70,28 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 
 	private static final Log logger = LogFactory.getLog(SimpleJobRepository.class);
 
+	private boolean lazyLoadExecutionContexts = false;
+
 	public SimpleJobRepository(JobInstanceDao jobInstanceDao, JobExecutionDao jobExecutionDao,
 			StepExecutionDao stepExecutionDao, ExecutionContextDao ecDao) {
 		super(jobInstanceDao, jobExecutionDao, stepExecutionDao, ecDao);
 	}
 
+	/**
+	 * Set whether the execution contexts of the job and step executions retrieved from
+	 * this repository should be loaded on first access rather than eagerly. This avoids
+	 * reading contexts that are never used, for example the contexts of all partitions
+	 * when a manager step polls the repository for their status. Defaults to
+	 * {@code false}.
+	 * @param lazyLoadExecutionContexts true to load execution contexts on first access
+	 * @since 6.0.3
+	 * @see StepExecution#setExecutionContextLoader(java.util.function.Supplier)
+	 * @see JobExecution#setExecutionContextLoader(java.util.function.Supplier)
+	 */
+	public void setLazyLoadExecutionContexts(boolean lazyLoadExecutionContexts) {
+		this.lazyLoadExecutionContexts = lazyLoadExecutionContexts;
+	}
+
 	/**
 	 * Fetch all {@link JobInstance} values for a given job name.
 	 * @param jobName The name of the job.
@@ -80,18 +103,104 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return this.jobInstanceDao.getJobInstances(jobName);
 	}
 
+	/**
+	 * Find the job instances with a single query of the job instance DAO.
+	 * @param jobName the name of the job
+	 * @param jobParameters the parameters of each job instance
+	 * @return the matching job instances, in the order of the given parameters
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<@Nullable JobInstance> getJobInstances(String jobName, List<JobParameters> jobParameters) {
+		return this.jobInstanceDao.getJobInstances(jobName, jobParameters);
+	}
+
 	@Nullable
 	@Override
 	public StepExecution getStepExecution(long executionId) {
 		StepExecution stepExecution = this.stepExecutionDao.getStepExecution(executionId);
 		if (stepExecution != null) {
 			fillStepExecutionDependencies(stepExecution);
-			ExecutionContext jobExecutionContext = this.ecDao.getExecutionContext(stepExecution.getJobExecution());
-			stepExecution.getJobExecution().setExecutionContext(jobExecutionContext);
+			fillJobExecutionContext(stepExecution.getJobExecution());
 		}
 		return stepExecution;
 	}
 
+	/**
+	 * Retrieve the job executions of the job instance and only the part of their object
+	 * graph required by the given projection.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> getJobExecutions(JobInstance jobInstance, ExecutionProjection projection) {
+		List<JobExecution> jobExecutions = this.jobExecutionDao.findJobExecutions(jobInstance);
+		jobExecutions.forEach(jobExecution -> fillJobExecution(jobExecution, projection));
+		return jobExecutions;
+	}
+
+	/**
+	 * Retrieve the running job executions of the job and only the part of their object
+	 * graph required by the given projection.
+	 * @since 6.0.3
+	 */
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(String jobName, ExecutionProjection projection) {
+		Set<JobExecution> jobExecutions = this.jobExecutionDao.findRunningJobExecutions(jobName);
+		jobExecutions.forEach(jobExecution -> fillJobExecution(jobExecution, projection));
+		return jobExecutions;
+	}
+
+	/**
+	 * Retrieve the job executions of the page with
+	 * {@link JobExecutionDao#findJobExecutions(String, Long, int)} and only the part of
+	 * their object graph required by the given projection.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> findJobExecutions(String jobName, @Nullable Long beforeJobExecutionId, int count,
+			ExecutionProjection projection) {
+		List<JobExecution> jobExecutions = this.jobExecutionDao.findJobExecutions(jobName, beforeJobExecutionId, count);
+		jobExecutions.forEach(jobExecution -> fillJobExecution(jobExecution, projection));
+		return jobExecutions;
+	}
+
+	/**
+	 * Retrieve the {@link StepExecution}s with the given IDs with a single query on the
+	 * step executions, without their execution contexts.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> getStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		return this.stepExecutionDao.getStepExecutions(jobExecution, stepExecutionIds);
+	}
+
+	/**
+	 * Retrieve the step executions of the page with
+	 * {@link StepExecutionDao#findStepExecutions(JobExecution, Long, int)}, and their
+	 * execution contexts for the {@link ExecutionProjection#FULL} projection.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> findStepExecutions(JobExecution jobExecution, @Nullable Long afterStepExecutionId,
+			int count, ExecutionProjection projection) {
+		List<StepExecution> stepExecutions = this.stepExecutionDao.findStepExecutions(jobExecution,
+				afterStepExecutionId, count);
+		if (projection == ExecutionProjection.FULL) {
+			stepExecutions.forEach(this::fillStepExecutionDependencies);
+		}
+		return stepExecutions;
+	}
+
+	/**
+	 * Aggregate the {@link StepExecution}s with the given IDs with the
+	 * {@link StepExecutionDao#aggregateStepExecutions(JobExecution, Collection)} method.
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<StepExecution> aggregateStepExecutions(JobExecution jobExecution, Collection<Long> stepExecutionIds) {
+		return this.stepExecutionDao.aggregateStepExecutions(jobExecution, stepExecutionIds);
+	}
+
 	/**
 	 * Create a new {@link JobExecution} for the given {@link JobInstance} and
 	 * {@link JobParameters}, and associate the provided {@link ExecutionContext} with the
@@ -115,6 +224,105 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return jobExecution;
 	}
 
+	/**
+	 * Create a new {@link JobExecution} for a launch of the job with the given name and
+	 * {@link JobParameters}. The job instance is checked for restart with the same checks
+	 * as {@code TaskExecutorJobLauncher}, but only the statuses of its executions and its
+	 * last execution are queried: only the step executions of the last execution are
+	 * loaded, without their execution contexts.
+	 * @param jobName the name of the job
+	 * @param jobParameters the runtime parameters for the job
+	 * @param restartable whether the job can be restarted
+	 * @return the new job execution
+	 * @since 6.0.3
+	 */
+	@Override
+	public JobExecution createJobExecution(String jobName, JobParameters jobParameters, boolean restartable)
+			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+		JobInstance jobInstance = this.jobInstanceDao.getJobInstance(jobName, jobParameters);
+		if (jobInstance == null) {
+			jobInstance = createJobInstance(jobName, jobParameters);
+			return createJobExecution(jobInstance, jobParameters, new ExecutionContext());
+		}
+		JobExecution lastJobExecution = this.jobExecutionDao.getLastJobExecution(jobInstance);
+		if (lastJobExecution == null) {
+			throw new IllegalStateException("Cannot find any job execution for job instance: " + jobInstance);
+		}
+		Set<BatchStatus> statuses = this.jobExecutionDao.getJobExecutionStatuses(jobInstance);
+		List<StepExecution> stepExecutions = this.stepExecutionDao.getStepExecutions(lastJobExecution);
+		checkRestartable(statuses, lastJobExecution, stepExecutions, restartable);
+		ExecutionContext executionContext = this.ecDao.getExecutionContext(lastJobExecution);
+		return createJobExecution(jobInstance, jobParameters, executionContext);
+	}
+
+	/**
+	 * Create the job instances, the job executions and their execution contexts with one
+	 * batch of inserts each.
+	 * @param jobName the name of the job
+	 * @param jobParameters the runtime parameters of each job instance
+	 * @return the new job executions
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobExecution> createJobExecutions(String jobName, List<JobParameters> jobParameters) {
+		Assert.notNull(jobName, "A job name is required to create JobInstances");
+		Assert.notNull(jobParameters, "Job parameters are required to create JobInstances");
+
+		List<JobInstance> jobInstances = this.jobInstanceDao.createJobInstances(jobName, jobParameters);
+		List<JobExecution> jobExecutions = this.jobExecutionDao.createJobExecutions(jobInstances, jobParameters);
+		for (JobExecution jobExecution : jobExecutions) {
+			jobExecution.setExecutionContext(new ExecutionContext());
+			jobExecution.getJobInstance().addJobExecution(jobExecution);
+		}
+		this.ecDao.saveJobExecutionContexts(jobExecutions);
+		return jobExecutions;
+	}
+
+	/**
+	 * Check if the job instance of the given job execution can be restarted.
+	 * @param statuses the statuses of all the executions of the job instance
+	 * @param lastJobExecution the last execution of the job instance
+	 * @param stepExecutions the step executions of the last job execution
+	 * @param restartable whether the job can be restarted
+	 */
+	static void checkRestartable(Collection<BatchStatus> statuses, JobExecution lastJobExecution,
+			Collection<StepExecution> stepExecutions, boolean restartable)
+			throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException {
+		for (BatchStatus status : statuses) {
+			if (status.isRunning()) {
+				throw new JobExecutionAlreadyRunningException(
+						"A job execution for this job is already running: " + lastJobExecution.getJobInstance());
+			}
+			if (status == BatchStatus.UNKNOWN) {
+				throw new JobRestartException("Cannot restart job from UNKNOWN status. "
+						+ "The last execution ended with a failure that could not be rolled back, "
+						+ "so it may be dangerous to proceed. Manual intervention is probably necessary.");
+			}
+			if (status == BatchStatus.COMPLETED || status == BatchStatus.ABANDONED) {
+				throw new JobInstanceAlreadyCompleteException(
+						"A job instance already exists and is complete for identifying parameters="
+								+ new JobParameters(lastJobExecution.getJobParameters().getIdentifyingParameters())
+								+ ".  If you want to run this job again, change the parameters.");
+			}
+		}
+		if (!restartable) {
+			throw new JobRestartException("JobInstance already exists and is not restartable");
+		}
+		for (StepExecution stepExecution : stepExecutions) {
+			BatchStatus stepStatus = stepExecution.getStatus();
+			if (stepStatus.isRunning()) {
+				throw new JobExecutionAlreadyRunningException(
+						"A job execution for this job is already running: " + lastJobExecution);
+			}
+			else if (stepStatus == BatchStatus.UNKNOWN) {
+				throw new JobRestartException(
+						"Cannot restart step [" + stepExecution.getStepName() + "] from UNKNOWN status. "
+								+ "The last execution ended with a failure that could not be rolled back, "
+								+ "so it may be dangerous to proceed. Manual intervention is probably necessary.");
+			}
+		}
+	}
+
 	/**
 	 * Create a new {@link StepExecution} for the given {@link JobExecution} and step
 	 * name, associate a new {@link ExecutionContext} with the new {@link StepExecution},
@@ -125,10 +333,29 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 	 * @since 6.0
 	 */
 	public StepExecution createStepExecution(String stepName, JobExecution jobExecution) {
+		return createStepExecution(stepName, jobExecution, new ExecutionContext());
+	}
+
+	/**
+	 * Create a new {@link StepExecution} for the given {@link JobExecution} and step
+	 * name, associate the provided {@link ExecutionContext} with the new
+	 * {@link StepExecution}, and add the new {@link StepExecution} to the
+	 * {@link JobExecution}.
+	 * @param stepName the name of the step
+	 * @param jobExecution the job execution to which the step execution belongs
+	 * @param executionContext the execution context to associate with the step execution
+	 * @return the new step execution
+	 * @since 6.0.3
+	 */
+	@Override
+	public StepExecution createStepExecution(String stepName, JobExecution jobExecution,
+			ExecutionContext executionContext) {
 		Assert.notNull(jobExecution, "JobExecution must not be null.");
 		Assert.notNull(stepName, "Step name must not be null.");
+		Assert.notNull(executionContext, "ExecutionContext must not be null.");
 
 		StepExecution stepExecution = stepExecutionDao.createStepExecution(stepName, jobExecution);
+		stepExecution.setExecutionContext(executionContext);
 		ecDao.saveExecutionContext(stepExecution);
 		jobExecution.addStepExecution(stepExecution);
 
@@ -184,11 +411,19 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 	public void updateExecutionContext(StepExecution stepExecution) {
 		validateStepExecution(stepExecution);
 		Assert.notNull(stepExecution.getId(), "StepExecution must already be saved (have an id assigned)");
+		if (!stepExecution.isExecutionContextLoaded()) {
+			// the context was never accessed, so it is unchanged
+			return;
+		}
 		ecDao.updateExecutionContext(stepExecution);
 	}
 
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
+		if (!jobExecution.isExecutionContextLoaded()) {
+			// the context was never accessed, so it is unchanged
+			return;
+		}
 		ecDao.updateExecutionContext(jobExecution);
 	}
 
@@ -217,6 +452,13 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		this.jobInstanceDao.deleteJobInstance(jobInstance);
 	}
 
+	@Override
+	public int purgeJobInstances(@Nullable String jobName, LocalDateTime endedBefore, int count) {
+		Assert.notNull(endedBefore, "endedBefore must not be null");
+		Assert.isTrue(count > 0, "count must be greater than zero");
+		return this.jobInstanceDao.purgeJobInstances(jobName, endedBefore, count);
+	}
+
 	@Override
 	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
 		Assert.notNull(jobName, "A job name is required to create a JobInstance");
@@ -225,4 +467,39 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return jobInstanceDao.createJobInstance(jobName, jobParameters);
 	}
 
+	@Override
+	protected void fillJobExecutionContext(JobExecution jobExecution) {
+		if (this.lazyLoadExecutionContexts) {
+			jobExecution.setExecutionContextLoader(() -> this.ecDao.getExecutionContext(jobExecution));
+		}
+		else {
+			super.fillJobExecutionContext(jobExecution);
+		}
+	}
+
+	@Override
+	protected void fillStepExecutionDependencies(StepExecution stepExecution) {
+		if (this.lazyLoadExecutionContexts && stepExecution != null) {
+			stepExecution.setExecutionContextLoader(() -> this.ecDao.getExecutionContext(stepExecution));
+		}
+		else {
+			super.fillStepExecutionDependencies(stepExecution);
+		}
+	}
+
+	/*
+	 * Add to a job execution retrieved by the job execution DAO the part of its object
+	 * graph required by the projection. The job instance is already set by the DAO.
+	 */
+	private void fillJobExecution(JobExecution jobExecution, ExecutionProjection projection) {
+		if (projection == ExecutionProjection.SUMMARY) {
+			return;
+		}
+		jobExecution.addStepExecutions(this.stepExecutionDao.getStepExecutions(jobExecution));
+		if (projection == ExecutionProjection.FULL) {
+			fillJobExecutionContext(jobExecution);
+			jobExecution.getStepExecutions().forEach(this::fillStepExecutionDependencies);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -83,7 +83,14 @@ public class JobScope extends BatchScopeSupport {
 		JobContext context = getContext();
 		// TODO: support for attributes as well maybe (setters not exposed yet
 		// so not urgent).
-		return new BeanWrapperImpl(context).getPropertyValue(key);
+		// Resolve the most common late-binding roots directly, without going through
+		// bean introspection
+		return switch (key) {
+			case "jobParameters" -> context.getJobParameters();
+			case "jobExecutionContext" -> context.getJobExecutionContext();
+			case "jobExecution" -> context.getJobExecution();
+			default -> new BeanWrapperImpl(context).getPropertyValue(key);
+		};
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,8 @@ public class JobContext extends SynchronizedAttributeAccessor {
 
 	private final Map<String, Set<Runnable>> callbacks = new HashMap<>();
 
+	private volatile @Nullable Map<String, Object> jobParameters;
+
 	public JobContext(JobExecution jobExecution) {
 		super();
 		Assert.notNull(jobExecution, "A JobContext must have a non-null JobExecution");
@@ -87,14 +89,22 @@ public class JobContext extends SynchronizedAttributeAccessor {
 	}
 
 	/**
-	 * @return a map containing the items from the {@link JobParameters}
+	 * Return a read-only map containing the items from the {@link JobParameters}. Since
+	 * job parameters are immutable, the map is created on first access and cached for the
+	 * lifetime of this context.
+	 * @return a read-only map containing the items from the {@link JobParameters}
 	 */
 	public Map<String, Object> getJobParameters() {
-		Map<String, Object> result = new HashMap<>();
-		for (JobParameter<?> jobParameter : jobExecution.getJobParameters()) {
-			result.put(jobParameter.name(), jobParameter.value());
+		Map<String, Object> result = this.jobParameters;
+		if (result == null) {
+			Map<String, Object> parameters = new HashMap<>();
+			for (JobParameter<?> jobParameter : jobExecution.getJobParameters()) {
+				parameters.put(jobParameter.name(), jobParameter.value());
+			}
+			result = Collections.unmodifiableMap(parameters);
+			this.jobParameters = result;
 		}
-		return Collections.unmodifiableMap(result);
+		return result;
 	}
 
 	/**
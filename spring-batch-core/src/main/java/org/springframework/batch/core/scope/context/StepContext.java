@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -56,6 +56,8 @@ public class StepContext extends SynchronizedAttributeAccessor {
 
 	private final Map<String, Set<Runnable>> callbacks = new HashMap<>();
 
+	private volatile @Nullable Map<String, Object> jobParameters;
+
 	/**
 	 * Create a new instance of {@link StepContext} for this {@link StepExecution}.
 	 * @param stepExecution a step execution
@@ -117,14 +119,22 @@ public class StepContext extends SynchronizedAttributeAccessor {
 	}
 
 	/**
-	 * @return a map containing the items from the {@link JobParameters}
+	 * Return a read-only map containing the items from the {@link JobParameters}. Since
+	 * job parameters are immutable, the map is created on first access and cached for the
+	 * lifetime of this context.
+	 * @return a read-only map containing the items from the {@link JobParameters}
 	 */
 	public Map<String, Object> getJobParameters() {
-		Map<String, Object> result = new HashMap<>();
-		for (JobParameter<?> jobParameter : stepExecution.getJobParameters()) {
-			result.put(jobParameter.name(), jobParameter.value());
+		Map<String, Object> result = this.jobParameters;
+		if (result == null) {
+			Map<String, Object> parameters = new HashMap<>();
+			for (JobParameter<?> jobParameter : stepExecution.getJobParameters()) {
+				parameters.put(jobParameter.name(), jobParameter.value());
+			}
+			result = Collections.unmodifiableMap(parameters);
+			this.jobParameters = result;
 		}
-		return Collections.unmodifiableMap(result);
+		return result;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package org.springframework.batch.core.step;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Entity;
@@ -73,6 +76,8 @@ public class StepExecution extends Entity {
 
 	private ExecutionContext executionContext = new ExecutionContext();
 
+	private transient volatile @Nullable Supplier<ExecutionContext> executionContextLoader;
+
 	private ExitStatus exitStatus = ExitStatus.EXECUTING;
 
 	private boolean terminateOnly;
@@ -104,15 +109,49 @@ public class StepExecution extends Entity {
 	 * @return the attributes.
 	 */
 	public ExecutionContext getExecutionContext() {
-		return executionContext;
+		if (this.executionContextLoader != null) {
+			loadExecutionContext();
+		}
+		return this.executionContext;
+	}
+
+	private synchronized void loadExecutionContext() {
+		Supplier<ExecutionContext> loader = this.executionContextLoader;
+		if (loader != null) {
+			this.executionContext = loader.get();
+			this.executionContextLoader = null;
+		}
 	}
 
 	/**
 	 * Sets the {@link ExecutionContext} for this execution.
 	 * @param executionContext The attributes.
 	 */
-	public void setExecutionContext(ExecutionContext executionContext) {
+	public synchronized void setExecutionContext(ExecutionContext executionContext) {
 		this.executionContext = executionContext;
+		this.executionContextLoader = null;
+	}
+
+	/**
+	 * Sets a loader for the {@link ExecutionContext} of this execution. The loader is
+	 * called on the first access to the context, so that executions retrieved from the
+	 * job repository do not have to carry their context until it is actually needed.
+	 * Setting the context directly discards the loader.
+	 * @param executionContextLoader the loader of the execution context
+	 * @since 6.0.3
+	 */
+	public void setExecutionContextLoader(Supplier<ExecutionContext> executionContextLoader) {
+		this.executionContextLoader = executionContextLoader;
+	}
+
+	/**
+	 * Returns whether the {@link ExecutionContext} of this execution is available, that
+	 * is if it was set directly or if its loader has already been called.
+	 * @return {@code false} if the execution context is still to be loaded
+	 * @since 6.0.3
+	 */
+	public boolean isExecutionContextLoaded() {
+		return this.executionContextLoader == null;
 	}
 
 	/**
@@ -494,4 +533,10 @@ public class StepExecution extends Entity {
 				writeSkipCount, processSkipCount, commitCount, rollbackCount);
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the loader is not serializable, so the execution context is loaded beforehand
+		getExecutionContext();
+		out.defaultWriteObject();
+	}
+
 }
@@ -21,6 +21,8 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
@@ -47,6 +49,7 @@ import org.springframework.batch.core.listener.StepListenerFactoryBean;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepInterruptionPolicy;
 import org.springframework.batch.core.step.ThreadStepInterruptionPolicy;
+import org.springframework.batch.core.step.item.AdaptiveChunkSizePolicy;
 import org.springframework.batch.core.step.item.ChunkOrientedStep;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.LimitCheckingExceptionHierarchySkipPolicy;
@@ -115,6 +118,10 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 
 	private @Nullable ObservationRegistry observationRegistry;
 
+	private @Nullable AdaptiveChunkSizePolicy<I> chunkSizePolicy;
+
+	private @Nullable MeterRegistry meterRegistry;
+
 	ChunkOrientedStepBuilder(StepBuilderHelper<?> parent, int chunkSize) {
 		super(parent);
 		this.chunkSize = chunkSize;
@@ -395,6 +402,31 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Set the policy used to adapt the chunk size during the execution of the step. The
+	 * chunk size given to this builder is used as the initial chunk size.
+	 * @param chunkSizePolicy the adaptive chunk size policy to use
+	 * @return this for fluent chaining
+	 * @since 6.0.3
+	 * @see ChunkOrientedStep#setChunkSizePolicy(AdaptiveChunkSizePolicy)
+	 */
+	public ChunkOrientedStepBuilder<I, O> adaptiveChunkSize(AdaptiveChunkSizePolicy<I> chunkSizePolicy) {
+		this.chunkSizePolicy = chunkSizePolicy;
+		return self();
+	}
+
+	/**
+	 * Set the meter registry to be used for recording chunk size decisions. If not set,
+	 * it will default to {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry to use
+	 * @return this for fluent chaining
+	 * @since 6.0.3
+	 */
+	public ChunkOrientedStepBuilder<I, O> meterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		return self();
+	}
+
 	@SuppressWarnings("unchecked")
 	public ChunkOrientedStep<I, O> build() {
 		Assert.notNull(this.reader, "Item reader must not be null");
@@ -462,6 +494,12 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		if (this.observationRegistry != null) {
 			chunkOrientedStep.setObservationRegistry(this.observationRegistry);
 		}
+		if (this.chunkSizePolicy != null) {
+			chunkOrientedStep.setChunkSizePolicy(this.chunkSizePolicy);
+		}
+		if (this.meterRegistry != null) {
+			chunkOrientedStep.setMeterRegistry(this.meterRegistry);
+		}
 		try {
 			chunkOrientedStep.afterPropertiesSet();
 		}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy used by a {@link ChunkOrientedStep} to adapt the size of its chunks during the
+ * execution of the step. After each committed chunk, the size of the next chunk is
+ * computed as follows:
+ * <ul>
+ * <li>if the heap usage is above {@link #setMaxHeapUsage(double) maxHeapUsage}, the chunk
+ * size is halved</li>
+ * <li>otherwise, if the chunk reached the {@link #setMaxChunkBytes(long) byte budget},
+ * the chunk size is reduced to the number of items read before reaching the budget, and
+ * is never increased</li>
+ * <li>otherwise, if the chunk was full, the chunk size is scaled by the ratio between the
+ * {@link #setTargetCommitDuration(Duration) target commit duration} and the actual
+ * duration of the chunk transaction, by at most a factor of two in either direction.
+ * Durations within 10% of the target leave the chunk size unchanged.</li>
+ * </ul>
+ * The chunk size always stays between the configured minimum and maximum chunk sizes. In
+ * addition to its size, a chunk is completed as soon as the estimated size of its items
+ * reaches the byte budget.
+ * <p>
+ * This policy is stateless and can be shared between concurrent executions of the same
+ * step: the current chunk size is held by the step for each execution, and saved in the
+ * step execution context under {@link ChunkOrientedStep#CHUNK_SIZE_KEY} so that a
+ * restarted execution resumes with the last chunk size.
+ *
+ * @param <I> type of input items
+ * @since 6.0.3
+ */
+public class AdaptiveChunkSizePolicy<I> {
+
+	private static final double TOLERANCE = 0.1;
+
+	private final int minChunkSize;
+
+	private final int maxChunkSize;
+
+	private Duration targetCommitDuration = Duration.ofSeconds(1);
+
+	private long maxChunkBytes = Long.MAX_VALUE;
+
+	private ToLongFunction<? super I> itemSizeEstimator = item -> 0;
+
+	private double maxHeapUsage = 0.9;
+
+	/**
+	 * Create a new {@link AdaptiveChunkSizePolicy}.
+	 * @param minChunkSize the minimum size of a chunk, must be greater than zero
+	 * @param maxChunkSize the maximum size of a chunk, must be greater than or equal to
+	 * {@code minChunkSize}
+	 */
+	public AdaptiveChunkSizePolicy(int minChunkSize, int maxChunkSize) {
+		Assert.isTrue(minChunkSize > 0, "minChunkSize must be greater than zero");
+		Assert.isTrue(maxChunkSize >= minChunkSize, "maxChunkSize must be greater than or equal to minChunkSize");
+		this.minChunkSize = minChunkSize;
+		this.maxChunkSize = maxChunkSize;
+	}
+
+	/**
+	 * Set the target duration of a chunk transaction. Defaults to one second.
+	 * @param targetCommitDuration the target duration of a chunk transaction
+	 */
+	public void setTargetCommitDuration(Duration targetCommitDuration) {
+		Assert.notNull(targetCommitDuration, "targetCommitDuration must not be null");
+		Assert.isTrue(!targetCommitDuration.isNegative() && !targetCommitDuration.isZero(),
+				"targetCommitDuration must be positive");
+		this.targetCommitDuration = targetCommitDuration;
+	}
+
+	/**
+	 * Set the maximum estimated size in bytes of the items of a chunk. Requires an
+	 * {@link #setItemSizeEstimator(ToLongFunction) item size estimator}. Defaults to no
+	 * limit.
+	 * @param maxChunkBytes the byte budget of a chunk
+	 */
+	public void setMaxChunkBytes(long maxChunkBytes) {
+		Assert.isTrue(maxChunkBytes > 0, "maxChunkBytes must be greater than zero");
+		this.maxChunkBytes = maxChunkBytes;
+	}
+
+	/**
+	 * Set the function used to estimate the size in bytes of a read item. Defaults to a
+	 * function returning zero for all items.
+	 * @param itemSizeEstimator the item size estimator
+	 */
+	public void setItemSizeEstimator(ToLongFunction<? super I> itemSizeEstimator) {
+		Assert.notNull(itemSizeEstimator, "itemSizeEstimator must not be null");
+		this.itemSizeEstimator = itemSizeEstimator;
+	}
+
+	/**
+	 * Set the fraction of the maximum heap size above which the chunk size is halved
+	 * after a commit. Defaults to 0.9.
+	 * @param maxHeapUsage the heap usage threshold, between 0 (exclusive) and 1
+	 * (inclusive)
+	 */
+	public void setMaxHeapUsage(double maxHeapUsage) {
+		Assert.isTrue(maxHeapUsage > 0 && maxHeapUsage <= 1, "maxHeapUsage must be in (0, 1]");
+		this.maxHeapUsage = maxHeapUsage;
+	}
+
+	/**
+	 * Bound the given chunk size between the minimum and maximum chunk sizes.
+	 * @param chunkSize the chunk size to bound
+	 * @return the bounded chunk size
+	 */
+	public int bound(int chunkSize) {
+		return Math.max(this.minChunkSize, Math.min(this.maxChunkSize, chunkSize));
+	}
+
+	/**
+	 * Estimate the size in bytes of the given item.
+	 * @param item the read item
+	 * @return the estimated size of the item in bytes
+	 */
+	public long estimateSize(I item) {
+		return this.itemSizeEstimator.applyAsLong(item);
+	}
+
+	/**
+	 * Check if a chunk with the given estimated size must be completed.
+	 * @param chunkBytes the estimated size in bytes of the items of the chunk
+	 * @return true if the chunk reached the byte budget
+	 */
+	public boolean isByteBudgetExhausted(long chunkBytes) {
+		return chunkBytes >= this.maxChunkBytes;
+	}
+
+	/**
+	 * Compute the size of the next chunk after a chunk has been committed.
+	 * @param chunkSize the size of the committed chunk
+	 * @param itemCount the number of items read in the committed chunk
+	 * @param chunkBytes the estimated size in bytes of the items of the committed chunk
+	 * @param commitDuration the duration of the chunk transaction
+	 * @return the decision holding the size of the next chunk
+	 */
+	public Decision decide(int chunkSize, int itemCount, long chunkBytes, Duration commitDuration) {
+		if (getHeapUsage() > this.maxHeapUsage) {
+			return new Decision(bound(chunkSize / 2), Reason.HEAP_USAGE);
+		}
+		if (isByteBudgetExhausted(chunkBytes)) {
+			return new Decision(bound(Math.min(chunkSize, itemCount)), Reason.CHUNK_BYTES);
+		}
+		if (itemCount < chunkSize) {
+			// partial chunk (end of input or skipped items), nothing to learn from
+			return new Decision(chunkSize, Reason.COMMIT_DURATION);
+		}
+		long durationNanos = Math.max(1, commitDuration.toNanos());
+		double ratio = (double) this.targetCommitDuration.toNanos() / durationNanos;
+		if (Math.abs(ratio - 1) <= TOLERANCE) {
+			return new Decision(chunkSize, Reason.COMMIT_DURATION);
+		}
+		ratio = Math.max(0.5, Math.min(2, ratio));
+		return new Decision(bound((int) Math.round(chunkSize * ratio)), Reason.COMMIT_DURATION);
+	}
+
+	/**
+	 * Return the fraction of the maximum heap size currently in use.
+	 * @return the current heap usage, between 0 and 1
+	 */
+	protected double getHeapUsage() {
+		Runtime runtime = Runtime.getRuntime();
+		return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+	}
+
+	/**
+	 * The reason of a chunk size decision.
+	 */
+	public enum Reason {
+
+		/**
+		 * The chunk size was scaled toward the target commit duration.
+		 */
+		COMMIT_DURATION,
+
+		/**
+		 * The chunk size was reduced to fit the byte budget.
+		 */
+		CHUNK_BYTES,
+
+		/**
+		 * The chunk size was halved because of the heap usage.
+		 */
+		HEAP_USAGE
+
+	}
+
+	/**
+	 * Decision on the size of the next chunk.
+	 *
+	 * @param chunkSize the size of the next chunk
+	 * @param reason the reason of the decision
+	 */
+	public record Decision(int chunkSize, Reason reason) {
+	}
+
+}
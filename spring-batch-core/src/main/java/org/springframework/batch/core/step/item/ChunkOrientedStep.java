@@ -15,10 +15,16 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Future;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.observation.Observation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,6 +47,7 @@ import org.springframework.batch.core.observability.jfr.events.step.chunk.ChunkT
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ChunkWriteEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ItemProcessEvent;
 import org.springframework.batch.core.observability.jfr.events.step.chunk.ItemReadEvent;
+import org.springframework.batch.core.observability.micrometer.MicrometerMetrics;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.StepContribution;
@@ -94,6 +101,13 @@ import static org.springframework.batch.core.observability.BatchMetrics.METRICS_
  */
 public class ChunkOrientedStep<I, O> extends AbstractStep {
 
+	/**
+	 * Key of the current chunk size in the step execution context when an
+	 * {@link AdaptiveChunkSizePolicy} is used.
+	 * @since 6.0.3
+	 */
+	public static final String CHUNK_SIZE_KEY = "batch.chunkSize";
+
 	private static final Log logger = LogFactory.getLog(ChunkOrientedStep.class.getName());
 
 	/*
@@ -138,6 +152,10 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	private final CompositeChunkListener<I, O> compositeChunkListener = new CompositeChunkListener<>();
 
+	private @Nullable AdaptiveChunkSizePolicy<I> chunkSizePolicy;
+
+	private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
 	/*
 	 * Fault-tolerance parameters
 	 */
@@ -280,6 +298,29 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		this.taskExecutor = asyncTaskExecutor;
 	}
 
+	/**
+	 * Set the {@link AdaptiveChunkSizePolicy} used to adapt the chunk size during the
+	 * execution of the step. When set, the chunk size given at construction time is used
+	 * as the initial chunk size. Defaults to a fixed chunk size.
+	 * @param chunkSizePolicy the chunk size policy to set
+	 * @since 6.0.3
+	 */
+	public void setChunkSizePolicy(AdaptiveChunkSizePolicy<I> chunkSizePolicy) {
+		Assert.notNull(chunkSizePolicy, "Chunk size policy must not be null");
+		this.chunkSizePolicy = chunkSizePolicy;
+	}
+
+	/**
+	 * Set the meter registry to use to record chunk size decisions. Defaults to
+	 * {@link Metrics#globalRegistry}.
+	 * @param meterRegistry the meter registry
+	 * @since 6.0.3
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "Meter registry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
 	/**
 	 * Set the {@link RetryPolicy} for this step.
 	 * @param retryPolicy the retry policy to set
@@ -352,7 +393,12 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	@Override
 	protected void open(ExecutionContext executionContext) throws Exception {
 		this.compositeItemStream.open(executionContext);
-		this.chunkTracker.get().init();
+		int currentChunkSize = this.chunkSize;
+		if (this.chunkSizePolicy != null) {
+			currentChunkSize = this.chunkSizePolicy.bound(executionContext.containsKey(CHUNK_SIZE_KEY)
+					? executionContext.getInt(CHUNK_SIZE_KEY) : this.chunkSize);
+		}
+		this.chunkTracker.get().init(currentChunkSize);
 	}
 
 	@Override
@@ -365,6 +411,9 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	protected void doExecute(StepExecution stepExecution) throws Exception {
 		stepExecution.getExecutionContext().put(STEP_TYPE_KEY, this.getClass().getName());
 		while (this.chunkTracker.get().moreItems() && !interrupted(stepExecution)) {
+			long startTime = System.nanoTime();
+			long readCount = stepExecution.getReadCount() + stepExecution.getReadSkipCount();
+			long rollbackCount = stepExecution.getRollbackCount();
 			// process next chunk in its own transaction
 			this.transactionTemplate.executeWithoutResult(transactionStatus -> {
 				ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
@@ -386,9 +435,52 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				chunkTransactionEvent.transactionStatus = BatchMetrics.STATUS_COMMITTED;
 				chunkTransactionEvent.commit();
 			});
+			if (this.chunkSizePolicy != null && stepExecution.getRollbackCount() == rollbackCount) {
+				int itemCount = (int) (stepExecution.getReadCount() + stepExecution.getReadSkipCount() - readCount);
+				adjustChunkSize(this.chunkSizePolicy, stepExecution, itemCount,
+						Duration.ofNanos(System.nanoTime() - startTime));
+			}
 		}
 	}
 
+	private void adjustChunkSize(AdaptiveChunkSizePolicy<I> policy, StepExecution stepExecution, int itemCount,
+			Duration commitDuration) {
+		if (itemCount == 0) {
+			return;
+		}
+		ChunkTracker<O> tracker = this.chunkTracker.get();
+		int currentChunkSize = tracker.getChunkSize();
+		AdaptiveChunkSizePolicy.Decision decision = policy.decide(currentChunkSize, itemCount, tracker.getChunkBytes(),
+				commitDuration);
+		int nextChunkSize = decision.chunkSize();
+		String fullyQualifiedMetricName = METRICS_PREFIX + "chunk.size";
+		Tag jobNameTag = Tag.of(fullyQualifiedMetricName + ".job.name",
+				stepExecution.getJobExecution().getJobInstance().getJobName());
+		Tag stepNameTag = Tag.of(fullyQualifiedMetricName + ".step.name", stepExecution.getStepName());
+		DistributionSummary.builder(fullyQualifiedMetricName)
+			.description("Chunk size")
+			.tags(List.of(jobNameTag, stepNameTag))
+			.register(this.meterRegistry)
+			.record(nextChunkSize);
+		if (nextChunkSize != currentChunkSize) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Changing chunk size from " + currentChunkSize + " to " + nextChunkSize + " ("
+						+ decision.reason() + ", " + itemCount + " items committed in " + commitDuration.toMillis()
+						+ " ms)");
+			}
+			MicrometerMetrics
+				.createCounter(this.meterRegistry, "chunk.size.adjustment", "Chunk size adjustments", jobNameTag,
+						stepNameTag,
+						Tag.of(fullyQualifiedMetricName + ".adjustment",
+								nextChunkSize > currentChunkSize ? "grow" : "shrink"),
+						Tag.of(fullyQualifiedMetricName + ".reason", decision.reason().name().toLowerCase(Locale.ROOT)))
+				.increment();
+			tracker.setChunkSize(nextChunkSize);
+		}
+		// saved with the next chunk, or at the end of the step
+		stepExecution.getExecutionContext().putInt(CHUNK_SIZE_KEY, nextChunkSize);
+	}
+
 	private void processNextChunk(TransactionStatus status, StepContribution contribution,
 			StepExecution stepExecution) {
 		if (isConcurrent()) {
@@ -424,9 +516,11 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			}
 
 			// read items and submit concurrent item processing tasks
-			for (int i = 0; i < this.chunkSize && this.chunkTracker.get().moreItems(); i++) {
+			long chunkBytes = 0;
+			for (int i = 0; !isChunkComplete(i, chunkBytes) && this.chunkTracker.get().moreItems(); i++) {
 				I item = readItem(contribution);
 				if (item != null) {
+					chunkBytes += estimateSize(item);
 					Future<O> itemProcessingFuture = this.taskExecutor.submit(() -> {
 						try {
 							StepSynchronizationManager.register(stepExecution);
@@ -439,6 +533,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 					itemProcessingTasks.add(itemProcessingFuture);
 				}
 			}
+			tracker.setChunkBytes(chunkBytes);
 			// exclude empty chunks (when the total items is a multiple of the chunk size)
 			if (itemProcessingTasks.isEmpty()) {
 				return;
@@ -557,15 +652,27 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	private Chunk<I> readChunk(StepContribution contribution) throws Exception {
 		Chunk<I> chunk = new Chunk<>();
-		for (int i = 0; i < chunkSize && this.chunkTracker.get().moreItems(); i++) {
+		long chunkBytes = 0;
+		for (int i = 0; !isChunkComplete(i, chunkBytes) && this.chunkTracker.get().moreItems(); i++) {
 			I item = readItem(contribution);
 			if (item != null) {
 				chunk.add(item);
+				chunkBytes += estimateSize(item);
 			}
 		}
+		this.chunkTracker.get().setChunkBytes(chunkBytes);
 		return chunk;
 	}
 
+	private boolean isChunkComplete(int readCount, long chunkBytes) {
+		return readCount >= this.chunkTracker.get().getChunkSize()
+				|| (this.chunkSizePolicy != null && this.chunkSizePolicy.isByteBudgetExhausted(chunkBytes));
+	}
+
+	private long estimateSize(I item) {
+		return this.chunkSizePolicy != null ? this.chunkSizePolicy.estimateSize(item) : 0;
+	}
+
 	private @Nullable I readItem(StepContribution contribution) throws Exception {
 		ItemReadEvent itemReadEvent = new ItemReadEvent(contribution.getStepExecution().getStepName(),
 				contribution.getStepExecution().getId());
@@ -840,10 +947,32 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 		@Nullable private Chunk<O> pendingChunk;
 
-		void init() {
+		private int chunkSize;
+
+		private long chunkBytes;
+
+		void init(int chunkSize) {
 			this.moreItems = true;
 			this.scanMode = false;
 			this.pendingChunk = null;
+			this.chunkSize = chunkSize;
+			this.chunkBytes = 0;
+		}
+
+		int getChunkSize() {
+			return this.chunkSize;
+		}
+
+		void setChunkSize(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		long getChunkBytes() {
+			return this.chunkBytes;
+		}
+
+		void setChunkBytes(long chunkBytes) {
+			this.chunkBytes = chunkBytes;
 		}
 
 		void reset() {
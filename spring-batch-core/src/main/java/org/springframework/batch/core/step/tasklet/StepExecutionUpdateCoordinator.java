@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.FatalStepExecutionException;
+import org.springframework.batch.core.step.StepContribution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ItemStream;
+
+/**
+ * Coordinator of the updates of a {@link StepExecution} by the concurrent chunks of a
+ * {@link TaskletStep} with concurrent commits. Chunks submit their contribution once
+ * their transaction is completed, and never wait for each other: contributions are
+ * queued, and the chunk that finds the coordinator idle applies all the queued
+ * contributions to the step execution and saves it with a single update of the
+ * {@link JobRepository}, while the other chunks carry on.
+ *
+ * @since 6.0.3
+ */
+final class StepExecutionUpdateCoordinator {
+
+	private static final Log logger = LogFactory.getLog(StepExecutionUpdateCoordinator.class);
+
+	private final StepExecution stepExecution;
+
+	private final ItemStream stream;
+
+	private final JobRepository jobRepository;
+
+	private final Queue<Update> pendingUpdates = new ConcurrentLinkedQueue<>();
+
+	private final Lock lock = new ReentrantLock();
+
+	StepExecutionUpdateCoordinator(StepExecution stepExecution, ItemStream stream, JobRepository jobRepository) {
+		this.stepExecution = stepExecution;
+		this.stream = stream;
+		this.jobRepository = jobRepository;
+	}
+
+	/**
+	 * Submit the contribution of a completed chunk. The contribution is saved by the
+	 * calling thread, unless another thread is already saving the step execution, in
+	 * which case that thread saves it before releasing the coordinator.
+	 * @param contribution the contribution of the chunk
+	 * @param committed whether the transaction of the chunk has been committed
+	 */
+	void update(StepContribution contribution, boolean committed) {
+		this.pendingUpdates.add(new Update(contribution, committed));
+		// the queue is checked again after releasing the lock, so that an update queued
+		// while the lock was held cannot be left behind
+		while (!this.pendingUpdates.isEmpty() && this.lock.tryLock()) {
+			try {
+				saveUpdates();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private void saveUpdates() {
+		int updates = 0;
+		Update update;
+		while ((update = this.pendingUpdates.poll()) != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Applying contribution: " + update.contribution());
+			}
+			this.stepExecution.apply(update.contribution());
+			if (update.committed()) {
+				this.stepExecution.incrementCommitCount();
+			}
+			updates++;
+		}
+		if (updates == 0) {
+			return;
+		}
+		this.stream.update(this.stepExecution.getExecutionContext());
+		try {
+			if (this.stepExecution.getExecutionContext().isDirty()) {
+				this.jobRepository.updateExecutionContext(this.stepExecution);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Saving step execution after " + updates + " chunks: " + this.stepExecution);
+			}
+			this.jobRepository.update(this.stepExecution);
+		}
+		catch (Exception e) {
+			String msg = "JobRepository failure while saving the step execution";
+			logger.error(msg, e);
+			throw new FatalStepExecutionException(msg, e);
+		}
+	}
+
+	private record Update(StepContribution contribution, boolean committed) {
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,6 +103,8 @@ public class TaskletStep extends AbstractStep {
 
 	private Tasklet tasklet;
 
+	private boolean concurrentCommits = false;
+
 	public static final String TASKLET_TYPE_KEY = "batch.taskletType";
 
 	/**
@@ -232,6 +234,24 @@ public class TaskletStep extends AbstractStep {
 		this.interruptionPolicy = interruptionPolicy;
 	}
 
+	/**
+	 * Public setter for the concurrent commits flag. By default, the contribution of each
+	 * chunk is applied to the step execution, and the step execution is saved, in the
+	 * transaction of the chunk, so the chunks of a multi-threaded step commit one at a
+	 * time. When this flag is set, the transactions of concurrent chunks commit
+	 * independently, and the step execution is updated after each transaction by a
+	 * coordinator that saves the contributions of several chunks at once without making
+	 * the chunks wait for each other. The step execution is then no longer saved
+	 * atomically with the data of the chunks, which is only suitable for steps that are
+	 * not restarted from their saved state, like most multi-threaded steps. Defaults to
+	 * {@code false}.
+	 * @param concurrentCommits true to let concurrent chunks commit independently
+	 * @since 6.0.3
+	 */
+	public void setConcurrentCommits(boolean concurrentCommits) {
+		this.concurrentCommits = concurrentCommits;
+	}
+
 	/**
 	 * Process the step and update its context so that progress can be monitored by the
 	 * caller. The step is broken down into chunks, each one executing in a transaction.
@@ -258,6 +278,8 @@ public class TaskletStep extends AbstractStep {
 		// Shared semaphore per step execution, so other step executions can run
 		// in parallel without needing the lock
 		final Semaphore semaphore = createSemaphore();
+		final StepExecutionUpdateCoordinator coordinator = this.concurrentCommits
+				? new StepExecutionUpdateCoordinator(stepExecution, stream, getJobRepository()) : null;
 
 		stepOperations.iterate(new StepContextRepeatCallback(stepExecution) {
 
@@ -272,13 +294,23 @@ public class TaskletStep extends AbstractStep {
 				interruptionPolicy.checkInterrupted(stepExecution);
 
 				RepeatStatus result;
+				ChunkTransactionCallback callback = new ChunkTransactionCallback(chunkContext, semaphore, coordinator);
 				try {
-					result = new TransactionTemplate(transactionManager, transactionAttribute)
-						.execute(new ChunkTransactionCallback(chunkContext, semaphore));
+					result = new TransactionTemplate(transactionManager, transactionAttribute).execute(callback);
 				}
 				catch (UncheckedTransactionException e) {
 					// Allow checked exceptions to be thrown inside callback
-					throw (Exception) e.getCause();
+					Exception cause = (Exception) e.getCause();
+					updateAfterFailure(coordinator, callback, cause);
+					throw cause;
+				}
+				catch (RuntimeException | Error e) {
+					updateAfterFailure(coordinator, callback, e);
+					throw e;
+				}
+				if (coordinator != null && callback.contribution != null) {
+					// Outside the transaction, so that chunks commit concurrently
+					coordinator.update(callback.contribution, callback.committed);
 				}
 
 				chunkListener.afterChunk(chunkContext);
@@ -297,6 +329,22 @@ public class TaskletStep extends AbstractStep {
 		taskletExecutionEvent.commit();
 	}
 
+	/**
+	 * Apply the contribution of a failed chunk, if any, without hiding the failure of the
+	 * chunk if the step execution cannot be updated.
+	 */
+	private static void updateAfterFailure(StepExecutionUpdateCoordinator coordinator,
+			ChunkTransactionCallback callback, Throwable failure) {
+		if (coordinator != null && callback.contribution != null) {
+			try {
+				coordinator.update(callback.contribution, callback.committed);
+			}
+			catch (RuntimeException e) {
+				failure.addSuppressed(e);
+			}
+		}
+	}
+
 	/**
 	 * Extension point mainly for test purposes so that the behaviour of the lock can be
 	 * manipulated to simulate various pathologies.
@@ -349,14 +397,23 @@ public class TaskletStep extends AbstractStep {
 
 		private final Semaphore semaphore;
 
-		public ChunkTransactionCallback(ChunkContext chunkContext, Semaphore semaphore) {
+		private final StepExecutionUpdateCoordinator coordinator;
+
+		private StepContribution contribution;
+
+		private boolean committed = false;
+
+		public ChunkTransactionCallback(ChunkContext chunkContext, Semaphore semaphore,
+				StepExecutionUpdateCoordinator coordinator) {
 			this.chunkContext = chunkContext;
 			this.stepExecution = chunkContext.getStepContext().getStepExecution();
 			this.semaphore = semaphore;
+			this.coordinator = coordinator;
 		}
 
 		@Override
 		public void afterCompletion(int status) {
+			committed = status == TransactionSynchronization.STATUS_COMMITTED;
 			try {
 				if (status != TransactionSynchronization.STATUS_COMMITTED) {
 					if (stepExecutionUpdated) {
@@ -396,7 +453,7 @@ public class TaskletStep extends AbstractStep {
 
 			RepeatStatus result = RepeatStatus.CONTINUABLE;
 
-			StepContribution contribution = stepExecution.createStepContribution();
+			contribution = stepExecution.createStepContribution();
 
 			chunkListener.beforeChunk(chunkContext);
 
@@ -423,30 +480,38 @@ public class TaskletStep extends AbstractStep {
 				}
 				finally {
 
-					// If the step operations are asynchronous then we need
-					// to synchronize changes to the step execution (at a
-					// minimum). Take the lock *before* changing the step
-					// execution.
-					try {
-						semaphore.acquire();
-						locked = true;
-					}
-					catch (InterruptedException e) {
-						logger.error("Thread interrupted while locking for repository update");
-						stepExecution.setStatus(BatchStatus.STOPPED);
-						stepExecution.setTerminateOnly();
-						Thread.currentThread().interrupt();
-					}
+					// The coordinator applies the contribution after the
+					// transaction is completed
+					if (coordinator == null) {
+						// If the step operations are asynchronous then we need
+						// to synchronize changes to the step execution (at a
+						// minimum). Take the lock *before* changing the step
+						// execution.
+						try {
+							semaphore.acquire();
+							locked = true;
+						}
+						catch (InterruptedException e) {
+							logger.error("Thread interrupted while locking for repository update");
+							stepExecution.setStatus(BatchStatus.STOPPED);
+							stepExecution.setTerminateOnly();
+							Thread.currentThread().interrupt();
+						}
 
-					// Apply the contribution to the step
-					// even if unsuccessful
-					if (logger.isDebugEnabled()) {
-						logger.debug("Applying contribution: " + contribution);
+						// Apply the contribution to the step
+						// even if unsuccessful
+						if (logger.isDebugEnabled()) {
+							logger.debug("Applying contribution: " + contribution);
+						}
+						stepExecution.apply(contribution);
 					}
-					stepExecution.apply(contribution);
 
 				}
 
+				if (coordinator != null) {
+					return result;
+				}
+
 				stepExecutionUpdated = true;
 
 				stream.update(stepExecution.getExecutionContext());
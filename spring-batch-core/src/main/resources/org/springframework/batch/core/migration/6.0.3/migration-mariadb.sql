@@ -0,0 +1,3 @@
+-- Foreign key columns are indexed automatically by this database
+CREATE INDEX BATCH_JOB_EXEC_STATUS_IDX ON BATCH_JOB_EXECUTION(STATUS, END_TIME);
+CREATE INDEX BATCH_STEP_EXEC_NAME_IDX ON BATCH_STEP_EXECUTION(JOB_EXECUTION_ID, STEP_NAME);
@@ -0,0 +1,4 @@
+CREATE INDEX BATCH_JOB_EXEC_INST_IDX ON BATCH_JOB_EXECUTION(JOB_INSTANCE_ID);
+CREATE INDEX BATCH_JOB_EXEC_PARAMS_IDX ON BATCH_JOB_EXECUTION_PARAMS(JOB_EXECUTION_ID);
+CREATE INDEX BATCH_JOB_EXEC_STATUS_IDX ON BATCH_JOB_EXECUTION(STATUS, END_TIME);
+CREATE INDEX BATCH_STEP_EXEC_NAME_IDX ON BATCH_STEP_EXECUTION(JOB_EXECUTION_ID, STEP_NAME);
@@ -76,3 +76,6 @@ CREATE TABLE BATCH_JOB_EXECUTION_CONTEXT (
 CREATE TABLE BATCH_STEP_EXECUTION_SEQ (ID BIGINT  PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY, DUMMY VARCHAR(1));
 CREATE TABLE BATCH_JOB_EXECUTION_SEQ (ID BIGINT  PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY, DUMMY VARCHAR(1));
 CREATE TABLE BATCH_JOB_INSTANCE_SEQ (ID BIGINT  PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY, DUMMY VARCHAR(1));
+
+CREATE INDEX BATCH_JOB_EXEC_STATUS_IDX ON BATCH_JOB_EXECUTION(STATUS, END_TIME);
+CREATE INDEX BATCH_STEP_EXEC_NAME_IDX ON BATCH_STEP_EXECUTION(JOB_EXECUTION_ID, STEP_NAME);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2025 the original author or authors.
+ * Copyright 2013-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,11 @@
 package org.springframework.batch.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.core.job.DefaultJobKeyGenerator;
@@ -88,4 +91,39 @@ class DefaultJobKeyGeneratorTests {
 		assertEquals(key1, key2);
 	}
 
+	@Test
+	void testCreateJobKeyIsBackwardCompatible() {
+		JobParameters jobParameters1 = new JobParametersBuilder().addString("foo", "bar")
+			.addString("bar", "foo")
+			.toJobParameters();
+		JobParameters jobParameters2 = new JobParametersBuilder().addLong("run", 1L).toJobParameters();
+		assertEquals("4ed4b8e1e365cfb2b467fd0e4f5eb4d9", jobKeyGenerator.generateKey(jobParameters1));
+		assertEquals("2d39b5c1ba92d4c3cb0c816d980f1173", jobKeyGenerator.generateKey(jobParameters2));
+	}
+
+	@Test
+	void testCreateJobKeyForSuccessiveParameters() {
+		JobParameters jobParameters1 = new JobParametersBuilder().addString("foo", "bar").toJobParameters();
+		JobParameters jobParameters2 = new JobParametersBuilder().addString("foo", "baz").toJobParameters();
+		String key1 = jobKeyGenerator.generateKey(jobParameters1);
+		assertEquals(key1, jobKeyGenerator.generateKey(jobParameters1));
+		assertNotEquals(key1, jobKeyGenerator.generateKey(jobParameters2));
+		assertEquals(key1, jobKeyGenerator.generateKey(jobParameters1));
+	}
+
+	@Test
+	void testCreateJobKeyWithCustomHash() {
+		JobKeyGenerator customJobKeyGenerator = new DefaultJobKeyGenerator() {
+			@Override
+			protected String hash(byte[] canonicalForm) {
+				return new String(canonicalForm, StandardCharsets.UTF_8);
+			}
+		};
+		JobParameters jobParameters = new JobParametersBuilder().addString("foo", "bar")
+			.addString("bar", "foo", false)
+			.toJobParameters();
+		String key = customJobKeyGenerator.generateKey(jobParameters);
+		assertEquals("JobParameter{name='foo', value=bar, type=class java.lang.String, identifying=true}", key);
+	}
+
 }
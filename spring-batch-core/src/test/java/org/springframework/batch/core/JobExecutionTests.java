@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package org.springframework.batch.core;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +27,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.util.SerializationUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -148,4 +151,38 @@ class JobExecutionTests {
 		assertEquals(exception, execution.getFailureExceptions().get(0));
 	}
 
+	@Test
+	void testExecutionContextLoader() {
+		ExecutionContext executionContext = new ExecutionContext(Map.of("foo", "bar"));
+		AtomicInteger loads = new AtomicInteger();
+		execution.setExecutionContextLoader(() -> {
+			loads.incrementAndGet();
+			return executionContext;
+		});
+		assertFalse(execution.isExecutionContextLoaded());
+		assertEquals(executionContext, execution.getExecutionContext());
+		assertEquals(executionContext, execution.getExecutionContext());
+		assertTrue(execution.isExecutionContextLoaded());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void testSetExecutionContextDiscardsLoader() {
+		execution.setExecutionContextLoader(() -> {
+			throw new IllegalStateException("Should not be called");
+		});
+		ExecutionContext executionContext = new ExecutionContext(Map.of("foo", "bar"));
+		execution.setExecutionContext(executionContext);
+		assertTrue(execution.isExecutionContextLoaded());
+		assertEquals(executionContext, execution.getExecutionContext());
+	}
+
+	@Test
+	void testSerializationWithExecutionContextLoader() {
+		execution.setExecutionContextLoader(() -> new ExecutionContext(Map.of("foo", "bar")));
+		JobExecution copy = SerializationUtils.clone(execution);
+		assertTrue(copy.isExecutionContextLoaded());
+		assertEquals("bar", copy.getExecutionContext().getString("foo"));
+	}
+
 }
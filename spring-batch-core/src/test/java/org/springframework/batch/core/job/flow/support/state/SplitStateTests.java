@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,20 @@
 package org.springframework.batch.core.job.flow.support.state;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.job.flow.FlowExecution;
@@ -74,4 +81,99 @@ class SplitStateTests {
 
 	}
 
+	@Test
+	void testFailFastCancelsSiblingFlows() throws Exception {
+
+		Flow failingFlow = mock();
+		Flow longRunningFlow = mock();
+		RuntimeException failure = new RuntimeException("planned");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		SplitState state = new SplitState(Arrays.asList(longRunningFlow, failingFlow), "foo");
+		state.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		state.setFailFast(true);
+
+		when(longRunningFlow.start(executor)).thenAnswer(invocation -> {
+			started.countDown();
+			try {
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return new FlowExecution("step1", FlowExecutionStatus.STOPPED);
+		});
+		when(failingFlow.start(executor)).thenAnswer(invocation -> {
+			started.await();
+			throw failure;
+		});
+
+		Exception exception = assertThrows(RuntimeException.class, () -> state.handle(executor));
+		assertSame(failure, exception);
+		assertTrue(interrupted.await(0, TimeUnit.SECONDS));
+
+	}
+
+	@Test
+	void testFailFastOnFailedStatus() throws Exception {
+
+		Flow failingFlow = mock();
+		Flow longRunningFlow = mock();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		SplitState state = new SplitState(Arrays.asList(longRunningFlow, failingFlow), "foo");
+		state.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		state.setFailFast(true);
+
+		when(longRunningFlow.start(executor)).thenAnswer(invocation -> {
+			started.countDown();
+			try {
+				Thread.sleep(60_000);
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return new FlowExecution("step1", FlowExecutionStatus.COMPLETED);
+		});
+		when(failingFlow.start(executor)).thenAnswer(invocation -> {
+			started.await();
+			return new FlowExecution("step1", FlowExecutionStatus.FAILED);
+		});
+
+		FlowExecutionStatus result = state.handle(executor);
+		assertEquals(FlowExecutionStatus.FAILED, result);
+		assertTrue(interrupted.await(0, TimeUnit.SECONDS));
+
+	}
+
+	@Test
+	void testFlowDurationsAreRecorded() throws Exception {
+
+		Flow flow1 = mock();
+		Flow flow2 = mock();
+		when(flow1.getName()).thenReturn("flow1");
+		when(flow2.getName()).thenReturn("flow2");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		SplitState state = new SplitState(Arrays.asList(flow1, flow2), "foo");
+		state.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		state.setMeterRegistry(meterRegistry);
+
+		when(flow1.start(executor)).thenReturn(new FlowExecution("step1", FlowExecutionStatus.COMPLETED));
+		when(flow2.start(executor)).thenReturn(new FlowExecution("step1", FlowExecutionStatus.FAILED));
+		FlowExecutionStatus result = state.handle(executor);
+		assertEquals(FlowExecutionStatus.FAILED, result);
+		assertNotNull(meterRegistry.find("spring.batch.split.flow")
+			.tag("spring.batch.split.flow.flow.name", "flow1")
+			.tag("spring.batch.split.flow.status", "COMPLETED")
+			.timer());
+		assertNotNull(meterRegistry.find("spring.batch.split.flow")
+			.tag("spring.batch.split.flow.flow.name", "flow2")
+			.tag("spring.batch.split.flow.status", "FAILED")
+			.timer());
+
+	}
+
 }
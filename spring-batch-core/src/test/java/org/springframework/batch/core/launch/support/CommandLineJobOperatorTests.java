@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 the original author or authors.
+ * Copyright 2025-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,14 @@
  */
 package org.springframework.batch.core.launch.support;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import org.springframework.batch.core.BatchStatus;
@@ -201,4 +204,22 @@ class CommandLineJobOperatorTests {
 		Mockito.verify(jobOperator).recover(jobExecution);
 	}
 
+	@Test
+	void purge() {
+		// given
+		String jobName = "job";
+		Duration retention = Duration.ofDays(30);
+		LocalDateTime before = LocalDateTime.now().minus(retention);
+
+		// when
+		int exitCode = this.commandLineJobOperator.purge(retention, jobName);
+
+		// then
+		Assertions.assertEquals(ExitCodeMapper.JVM_EXITCODE_COMPLETED, exitCode);
+		ArgumentCaptor<LocalDateTime> endedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+		Mockito.verify(jobOperator).purge(Mockito.eq(jobName), endedBefore.capture());
+		Assertions.assertFalse(endedBefore.getValue().isBefore(before));
+		Assertions.assertTrue(endedBefore.getValue().isBefore(LocalDateTime.now().minus(retention).plusSeconds(1)));
+	}
+
 }
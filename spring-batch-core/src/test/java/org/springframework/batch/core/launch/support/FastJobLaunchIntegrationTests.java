@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.launch.support;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.configuration.support.MapJobRegistry;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobRestartException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the number of statements and the restartability checks of the default launch
+ * path and of the fast launch path on an embedded H2 database.
+ */
+class FastJobLaunchIntegrationTests {
+
+	private static final Log logger = LogFactory.getLog(FastJobLaunchIntegrationTests.class);
+
+	private EmbeddedDatabase database;
+
+	private final AtomicInteger statements = new AtomicInteger();
+
+	private JobRepository jobRepository;
+
+	private TaskExecutorJobOperator jobOperator;
+
+	private Job job;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.addScript("/org/springframework/batch/core/schema-drop-h2.sql")
+			.addScript("/org/springframework/batch/core/schema-h2.sql")
+			.build();
+		DataSource dataSource = new StatementCountingDataSource(this.database, this.statements);
+		JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+
+		JdbcJobRepositoryFactoryBean jobRepositoryFactoryBean = new JdbcJobRepositoryFactoryBean();
+		jobRepositoryFactoryBean.setDataSource(dataSource);
+		jobRepositoryFactoryBean.setTransactionManager(transactionManager);
+		jobRepositoryFactoryBean.afterPropertiesSet();
+		this.jobRepository = jobRepositoryFactoryBean.getObject();
+
+		this.job = new JobBuilder("job", this.jobRepository)
+			.start(new StepBuilder("step", this.jobRepository).tasklet((contribution, chunkContext) -> {
+				String mode = chunkContext.getStepContext().getJobParameters().get("mode").toString();
+				return mode.equals("fail") ? failure() : RepeatStatus.FINISHED;
+			}).build())
+			.build();
+
+		this.jobOperator = new TaskExecutorJobOperator();
+		this.jobOperator.setJobRepository(this.jobRepository);
+		this.jobOperator.setJobRegistry(new MapJobRegistry());
+		this.jobOperator.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Test
+	void testFastLaunchExecutesFewerStatementsOnRestart() throws Exception {
+		int defaultStatements = countRestartStatements(false, "default");
+		int fastStatements = countRestartStatements(true, "fast");
+
+		logger.info(
+				"Statements to create a restart execution: default=" + defaultStatements + ", fast=" + fastStatements);
+		assertTrue(fastStatements < defaultStatements);
+	}
+
+	@Test
+	void testDefaultLaunchChecksAllExecutions() throws Exception {
+		checkAllExecutions(false, "default");
+	}
+
+	@Test
+	void testFastLaunchChecksAllExecutions() throws Exception {
+		checkAllExecutions(true, "fast");
+	}
+
+	private void checkAllExecutions(boolean fastLaunch, String run) throws Exception {
+		this.jobOperator.setFastLaunch(fastLaunch);
+		JobParameters jobParameters = new JobParametersBuilder().addString("run", run)
+			.addString("mode", "fail", false)
+			.toJobParameters();
+		JobExecution firstJobExecution = this.jobOperator.start(this.job, jobParameters);
+		assertEquals(BatchStatus.FAILED, this.jobOperator.start(this.job, jobParameters).getStatus());
+		// only an execution older than the last one is in an unsafe state
+		firstJobExecution.setStatus(BatchStatus.UNKNOWN);
+		this.jobRepository.update(firstJobExecution);
+
+		assertThrows(JobRestartException.class, () -> this.jobOperator.start(this.job, jobParameters));
+	}
+
+	private int countRestartStatements(boolean fastLaunch, String run) throws Exception {
+		this.jobOperator.setFastLaunch(fastLaunch);
+		JobParameters jobParameters = new JobParametersBuilder().addString("run", run)
+			.addString("mode", "fail", false)
+			.toJobParameters();
+		// a few failed executions so that the instance has a history
+		for (int i = 0; i < 3; i++) {
+			assertEquals(BatchStatus.FAILED, this.jobOperator.start(this.job, jobParameters).getStatus());
+		}
+		this.statements.set(0);
+		this.jobOperator.start(this.job, jobParameters);
+		// statements of the job execution itself are the same on both paths
+		return this.statements.get();
+	}
+
+	private static RepeatStatus failure() {
+		throw new IllegalStateException("Planned failure");
+	}
+
+	private static class StatementCountingDataSource extends DelegatingDataSource {
+
+		private final AtomicInteger statements;
+
+		StatementCountingDataSource(DataSource dataSource, AtomicInteger statements) {
+			super(dataSource);
+			this.statements = statements;
+		}
+
+		@Override
+		public Connection getConnection() throws java.sql.SQLException {
+			Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+							this.statements.incrementAndGet();
+						}
+						try {
+							return method.invoke(connection, args);
+						}
+						catch (java.lang.reflect.InvocationTargetException e) {
+							throw e.getTargetException();
+						}
+					});
+		}
+
+	}
+
+}
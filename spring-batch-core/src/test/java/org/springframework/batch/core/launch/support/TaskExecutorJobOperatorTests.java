@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,15 @@
  */
 package org.springframework.batch.core.launch.support;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
 
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.configuration.JobRegistry;
@@ -26,10 +32,14 @@ import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
+import org.springframework.batch.core.job.parameters.DefaultJobParametersValidator;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.launch.JobStartRequest;
+import org.springframework.batch.core.launch.JobStartResult;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.launch.JobRestartException;
 import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
@@ -37,11 +47,22 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.StepContribution;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Dave Syer
@@ -60,12 +81,15 @@ class TaskExecutorJobOperatorTests {
 
 	private JobRegistry jobRegistry;
 
+	private JdbcTemplate jdbcTemplate;
+
 	@BeforeEach
 	void setUp() throws Exception {
 		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
 			.addScript("/org/springframework/batch/core/schema-drop-h2.sql")
 			.addScript("/org/springframework/batch/core/schema-h2.sql")
 			.build();
+		jdbcTemplate = new JdbcTemplate(database);
 		JdbcTransactionManager transactionManager = new JdbcTransactionManager(database);
 
 		JdbcJobRepositoryFactoryBean jobRepositoryFactoryBean = new JdbcJobRepositoryFactoryBean();
@@ -127,4 +151,282 @@ class TaskExecutorJobOperatorTests {
 		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
 	}
 
+	@Test
+	void testFastLaunchStart() throws Exception {
+		jobOperator.setFastLaunch(true);
+
+		JobExecution jobExecution = jobOperator.start(job, new JobParameters());
+
+		Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+		Assertions.assertThrows(JobInstanceAlreadyCompleteException.class,
+				() -> jobOperator.start(job, new JobParameters()));
+	}
+
+	@Test
+	void testFastLaunchRestart() throws Exception {
+		jobOperator.setFastLaunch(true);
+		Tasklet tasklet = new Tasklet() {
+			boolean executed = false;
+
+			@Override
+			public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+				ExecutionContext jobContext = chunkContext.getStepContext()
+					.getStepExecution()
+					.getJobExecution()
+					.getExecutionContext();
+				if (!executed) {
+					executed = true;
+					jobContext.putString("key", "value");
+					throw new RuntimeException("Planned failure");
+				}
+				Assertions.assertEquals("value", jobContext.getString("key"));
+				return RepeatStatus.FINISHED;
+			}
+		};
+		job = new JobBuilder("job", jobRepository)
+			.start(new StepBuilder("step", jobRepository).tasklet(tasklet).build())
+			.build();
+
+		JobExecution jobExecution = jobOperator.start(job, new JobParameters());
+		Assertions.assertEquals(BatchStatus.FAILED, jobExecution.getStatus());
+
+		JobExecution restartedExecution = jobOperator.restart(jobExecution);
+
+		Assertions.assertEquals(BatchStatus.COMPLETED, restartedExecution.getStatus());
+		Assertions.assertEquals(jobExecution.getJobInstance().getId(), restartedExecution.getJobInstance().getId());
+	}
+
+	@Test
+	void testFastLaunchNotRestartable() throws Exception {
+		jobOperator.setFastLaunch(true);
+		job = new JobBuilder("job", jobRepository).preventRestart()
+			.start(new StepBuilder("step", jobRepository).tasklet((contribution, chunkContext) -> {
+				throw new RuntimeException("Planned failure");
+			}).build())
+			.build();
+
+		JobExecution jobExecution = jobOperator.start(job, new JobParameters());
+		Assertions.assertEquals(BatchStatus.FAILED, jobExecution.getStatus());
+
+		Assertions.assertThrows(JobRestartException.class, () -> jobOperator.start(job, new JobParameters()));
+	}
+
+	@Test
+	void testPurge() throws Exception {
+		jobOperator.setPurgeChunkSize(2);
+		for (int i = 0; i < 5; i++) {
+			jobOperator.start(job, new JobParametersBuilder().addLong("run", (long) i).toJobParameters());
+		}
+		Job failingJob = new JobBuilder("failingJob", jobRepository)
+			.start(new StepBuilder("failingStep", jobRepository).tasklet((contribution, chunkContext) -> {
+				throw new RuntimeException("Planned failure");
+			}).build())
+			.build();
+		JobExecution failedExecution = jobOperator.start(failingJob, new JobParameters());
+
+		long count = jobOperator.purge(null, LocalDateTime.now().plusMinutes(1));
+
+		Assertions.assertEquals(5, count);
+		Assertions.assertEquals(0, jobRepository.getJobInstances("job", 0, 10).size());
+		Assertions.assertNotNull(jobRepository.getJobExecution(failedExecution.getId()));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_INSTANCE"));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION"));
+		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION_PARAMS"));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION_CONTEXT"));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION"));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION_CONTEXT"));
+	}
+
+	@Test
+	void testPurgeByJobName() throws Exception {
+		Job otherJob = new JobBuilder("otherJob", jobRepository)
+			.start(new StepBuilder("otherStep", jobRepository)
+				.tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+				.build())
+			.build();
+		jobOperator.start(job, new JobParameters());
+		jobOperator.start(otherJob, new JobParameters());
+
+		long count = jobOperator.purge("job", LocalDateTime.now().plusMinutes(1));
+
+		Assertions.assertEquals(1, count);
+		Assertions.assertEquals(0, jobRepository.getJobInstances("job", 0, 10).size());
+		Assertions.assertEquals(1, jobRepository.getJobInstances("otherJob", 0, 10).size());
+	}
+
+	@Test
+	void testPurgeKeepsRecentInstances() throws Exception {
+		jobOperator.start(job, new JobParameters());
+
+		long count = jobOperator.purge(null, LocalDateTime.now().minusDays(1));
+
+		Assertions.assertEquals(0, count);
+		Assertions.assertEquals(1, jobRepository.getJobInstances("job", 0, 10).size());
+	}
+
+	@Test
+	void testStartAll() throws Exception {
+		jobOperator.setBulkLaunchChunkSize(2);
+		JobExecution completedExecution = jobOperator.start(job, new JobParameters());
+		Job jobWithRequiredParameter = new JobBuilder("jobWithRequiredParameter", jobRepository)
+			.validator(new DefaultJobParametersValidator(new String[] { "required" }, new String[0]))
+			.start(new StepBuilder("step", jobRepository).tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+				.build())
+			.build();
+		List<JobStartRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			requests
+				.add(new JobStartRequest(job, new JobParametersBuilder().addLong("run", (long) i).toJobParameters()));
+		}
+		requests.add(new JobStartRequest(job, new JobParameters()));
+		requests.add(new JobStartRequest(jobWithRequiredParameter, new JobParameters()));
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		Assertions.assertEquals(7, results.size());
+		for (int i = 0; i < 5; i++) {
+			JobStartResult result = results.get(i);
+			Assertions.assertTrue(result.isStarted());
+			Assertions.assertEquals(requests.get(i), result.request());
+			Assertions.assertEquals(BatchStatus.COMPLETED, result.jobExecution().getStatus());
+			Assertions.assertEquals(Long.valueOf(i), result.jobExecution().getJobParameters().getLong("run"));
+		}
+		Assertions.assertInstanceOf(JobInstanceAlreadyCompleteException.class, results.get(5).exception());
+		Assertions.assertInstanceOf(InvalidJobParametersException.class, results.get(6).exception());
+		Assertions.assertEquals(6, jobRepository.getJobInstances("job", 0, 10).size());
+		Assertions.assertEquals(1, jobRepository.getJobExecutions(completedExecution.getJobInstance()).size());
+		Assertions.assertEquals(6, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION_CONTEXT"));
+	}
+
+	@Test
+	void testStartAllWithDuplicateRequests() {
+		JobParameters jobParameters = new JobParametersBuilder().addString("file", "data.csv").toJobParameters();
+		List<JobStartRequest> requests = List.of(new JobStartRequest(job, jobParameters),
+				new JobStartRequest(job, jobParameters));
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		Assertions.assertTrue(results.get(0).isStarted());
+		Assertions.assertEquals(BatchStatus.COMPLETED, results.get(0).jobExecution().getStatus());
+		Assertions.assertFalse(results.get(1).isStarted());
+		Assertions.assertInstanceOf(JobExecutionAlreadyRunningException.class, results.get(1).exception());
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_INSTANCE"));
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION"));
+	}
+
+	@Test
+	void testStartAllWhenRepositoryFailsInTheMiddleOfTheBatch() throws Exception {
+		JobRepository failingJobRepository = mock(JobRepository.class, AdditionalAnswers.delegatesTo(jobRepository));
+		doThrow(new IllegalStateException("Batch failure")).when(failingJobRepository)
+			.createJobExecutions(eq("job"), any());
+		doThrow(new IllegalStateException("Repository failure")).when(failingJobRepository)
+			.createJobInstance(eq("job"), argThat(jobParameters -> jobParameters.getLong("run") == 1L));
+		jobOperator.setJobRepository(failingJobRepository);
+		List<JobStartRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			requests
+				.add(new JobStartRequest(job, new JobParametersBuilder().addLong("run", (long) i).toJobParameters()));
+		}
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		Assertions.assertTrue(results.get(0).isStarted());
+		Assertions.assertEquals(BatchStatus.COMPLETED, results.get(0).jobExecution().getStatus());
+		Assertions.assertFalse(results.get(1).isStarted());
+		Assertions.assertInstanceOf(IllegalStateException.class, results.get(1).exception());
+		Assertions.assertTrue(results.get(2).isStarted());
+		Assertions.assertEquals(BatchStatus.COMPLETED, results.get(2).jobExecution().getStatus());
+		Assertions.assertEquals(2, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION"));
+	}
+
+	@Test
+	void testStartAllReportsLaunchFailures() {
+		AtomicInteger launches = new AtomicInteger();
+		jobOperator.setTaskExecutor(task -> {
+			if (launches.incrementAndGet() == 2) {
+				throw new IllegalStateException("Launch failure");
+			}
+			task.run();
+		});
+		List<JobStartRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			requests
+				.add(new JobStartRequest(job, new JobParametersBuilder().addLong("run", (long) i).toJobParameters()));
+		}
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		Assertions.assertTrue(results.get(0).isStarted());
+		Assertions.assertFalse(results.get(1).isStarted());
+		Assertions.assertEquals("Launch failure", results.get(1).exception().getMessage());
+		Assertions.assertTrue(results.get(2).isStarted());
+		List<BatchStatus> statuses = jdbcTemplate
+			.queryForList("SELECT STATUS FROM BATCH_JOB_EXECUTION ORDER BY JOB_EXECUTION_ID", String.class)
+			.stream()
+			.map(BatchStatus::valueOf)
+			.toList();
+		Assertions.assertEquals(List.of(BatchStatus.COMPLETED, BatchStatus.FAILED, BatchStatus.COMPLETED), statuses);
+		Assertions.assertEquals(1, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "BATCH_JOB_EXECUTION",
+				"EXIT_CODE = 'FAILED' AND END_TIME IS NOT NULL"));
+	}
+
+	@Test
+	void testStartAllFindsJobInstancesOncePerJobName() throws Exception {
+		JobRepository spiedJobRepository = mock(JobRepository.class, AdditionalAnswers.delegatesTo(jobRepository));
+		jobOperator.setJobRepository(spiedJobRepository);
+		jobOperator.start(job, new JobParametersBuilder().addLong("run", 0L).toJobParameters());
+		Job otherJob = new JobBuilder("otherJob", jobRepository)
+			.start(new StepBuilder("step", jobRepository).tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+				.build())
+			.build();
+		List<JobStartRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			JobParameters jobParameters = new JobParametersBuilder().addLong("run", (long) i).toJobParameters();
+			requests.add(new JobStartRequest(job, jobParameters));
+			requests.add(new JobStartRequest(otherJob, jobParameters));
+		}
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		Assertions.assertInstanceOf(JobInstanceAlreadyCompleteException.class, results.get(0).exception());
+		for (int i = 1; i < 6; i++) {
+			Assertions.assertTrue(results.get(i).isStarted());
+		}
+		verify(spiedJobRepository).getJobInstances(eq("job"), any());
+		verify(spiedJobRepository).getJobInstances(eq("otherJob"), any());
+	}
+
+	@Test
+	void testStartAllWithConcurrencyLimit() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		job = new JobBuilder("job", jobRepository)
+			.start(new StepBuilder("step", jobRepository).tasklet((contribution, chunkContext) -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(50);
+				running.decrementAndGet();
+				return RepeatStatus.FINISHED;
+			}).build())
+			.build();
+		jobOperator.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		jobOperator.setBulkLaunchConcurrencyLimit(2);
+		List<JobStartRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			requests
+				.add(new JobStartRequest(job, new JobParametersBuilder().addLong("run", (long) i).toJobParameters()));
+		}
+
+		List<JobStartResult> results = jobOperator.startAll(requests);
+
+		for (JobStartResult result : results) {
+			Assertions.assertTrue(result.isStarted());
+		}
+		for (JobStartResult result : results) {
+			while (jobRepository.getJobExecution(result.jobExecution().getId()).isRunning()) {
+				Thread.sleep(10);
+			}
+		}
+		Assertions.assertTrue(maxRunning.get() <= 2);
+	}
+
 }
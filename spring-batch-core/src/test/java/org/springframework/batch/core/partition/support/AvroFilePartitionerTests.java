@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.avro.AvroItemReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvroFilePartitionerTests {
+
+	@TempDir
+	private File directory;
+
+	private FileSystemResource resource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		File file = new File(this.directory, "numbers.avro");
+		Schema schema = SchemaBuilder.record("Number").fields().requiredInt("value").endRecord();
+		try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(schema))) {
+			writer.create(schema, file);
+			for (int i = 0; i < 1000; i++) {
+				GenericRecord record = new GenericData.Record(schema);
+				record.put("value", i);
+				writer.append(record);
+				if (i % 10 == 9) {
+					writer.sync();
+				}
+			}
+		}
+		this.resource = new FileSystemResource(file);
+	}
+
+	@Test
+	void testPartitionsCoverAllRecordsOnce() throws Exception {
+		AvroFilePartitioner partitioner = new AvroFilePartitioner(this.resource);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertEquals(4, partitions.size());
+		List<Integer> values = new ArrayList<>();
+		long previousEnd = 0;
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			assertEquals(previousEnd, context.getLong("startPosition"));
+			previousEnd = context.getLong("endPosition");
+			List<Integer> partitionValues = read(context);
+			assertTrue(partitionValues.size() > 0);
+			values.addAll(partitionValues);
+		}
+		assertEquals(this.resource.contentLength(), previousEnd);
+		assertEquals(1000, values.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, values.get(i));
+		}
+	}
+
+	@Test
+	void testMorePartitionsThanBlocks() {
+		AvroFilePartitioner partitioner = new AvroFilePartitioner(this.resource);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(10000);
+
+		assertTrue(partitions.size() <= 100);
+	}
+
+	@Test
+	void testCustomKeyName() throws Exception {
+		AvroFilePartitioner partitioner = new AvroFilePartitioner(this.resource);
+		partitioner.setKeyName("file");
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+		assertEquals(1, partitions.size());
+		assertEquals(this.resource.getURL().toExternalForm(), partitions.get("partition0").getString("file"));
+	}
+
+	@Test
+	void testInvalidGridSize() {
+		AvroFilePartitioner partitioner = new AvroFilePartitioner(this.resource);
+
+		assertThrows(IllegalArgumentException.class, () -> partitioner.partition(0));
+	}
+
+	private List<Integer> read(ExecutionContext context) throws Exception {
+		AvroItemReader<GenericRecord> reader = new AvroItemReader<>(new UrlResource(context.getString("fileName")),
+				GenericRecord.class);
+		reader.setSaveState(false);
+		reader.setStartPosition(context.getLong("startPosition"));
+		reader.setEndPosition(context.getLong("endPosition"));
+		reader.open(new ExecutionContext());
+		List<Integer> values = new ArrayList<>();
+		GenericRecord record;
+		while ((record = reader.read()) != null) {
+			values.add((Integer) record.get("value"));
+		}
+		reader.close();
+		return values;
+	}
+
+}
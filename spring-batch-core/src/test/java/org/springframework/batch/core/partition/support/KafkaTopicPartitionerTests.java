@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaTopicPartitionerTests {
+
+	@Test
+	void testPartition() {
+		// given
+		KafkaTopicPartitioner partitioner = new KafkaTopicPartitioner("topic", List.of(0, 1, 2, 3, 4));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertEquals(List.of(0, 2, 4), partitions.get("partition0").get("partitions"));
+		assertEquals(List.of(1, 3), partitions.get("partition1").get("partitions"));
+	}
+
+	@Test
+	void testPartitionWithGridSizeGreaterThanPartitionCount() {
+		// given
+		KafkaTopicPartitioner partitioner = new KafkaTopicPartitioner("topic", List.of(0, 1));
+		partitioner.setKeyName("topicPartitions");
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertEquals(List.of(0), partitions.get("partition0").get("topicPartitions"));
+		assertEquals(List.of(1), partitions.get("partition1").get("topicPartitions"));
+	}
+
+	@Test
+	void testValidation() {
+		assertThrows(IllegalArgumentException.class, () -> new KafkaTopicPartitioner("", List.of(0)));
+		assertThrows(IllegalArgumentException.class, () -> new KafkaTopicPartitioner("topic", List.of()));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2025 the original author or authors.
+ * Copyright 2011-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.batch.core.partition.support;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -37,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class RemoteStepExecutionAggregatorTests {
 
+	private JobRepository jobRepository;
+
 	private RemoteStepExecutionAggregator aggregator;
 
 	private StepExecution result;
@@ -57,7 +60,7 @@ class RemoteStepExecutionAggregatorTests {
 		factory.setDataSource(embeddedDatabase);
 		factory.setTransactionManager(transactionManager);
 		factory.afterPropertiesSet();
-		JobRepository jobRepository = factory.getObject();
+		jobRepository = factory.getObject();
 		aggregator = new RemoteStepExecutionAggregator(jobRepository);
 		JobParameters jobParameters = new JobParameters();
 		JobInstance jobInstance = jobRepository.createJobInstance("job", jobParameters);
@@ -87,4 +90,42 @@ class RemoteStepExecutionAggregatorTests {
 		assertEquals(BatchStatus.STARTING, result.getStatus());
 	}
 
+	@Test
+	void testAggregateCountersFromRepository() {
+		updateStepExecutions();
+		aggregator.aggregate(result, Arrays.<StepExecution>asList(stepExecution1, stepExecution2));
+		assertEquals(BatchStatus.FAILED, result.getStatus());
+		assertEquals(ExitStatus.FAILED.getExitCode(), result.getExitStatus().getExitCode());
+		assertEquals(15, result.getReadCount());
+		assertEquals(2, result.getCommitCount());
+	}
+
+	@Test
+	void testAggregateCountersInRepository() {
+		updateStepExecutions();
+		aggregator.setAggregateInRepository(true);
+		aggregator.aggregate(result, Arrays.<StepExecution>asList(stepExecution1, stepExecution2));
+		assertEquals(BatchStatus.FAILED, result.getStatus());
+		assertEquals(ExitStatus.FAILED.getExitCode(), result.getExitStatus().getExitCode());
+		assertEquals(15, result.getReadCount());
+		assertEquals(2, result.getCommitCount());
+	}
+
+	private void updateStepExecutions() {
+		stepExecution1.setStatus(BatchStatus.COMPLETED);
+		stepExecution1.setExitStatus(ExitStatus.COMPLETED);
+		stepExecution1.setReadCount(10);
+		stepExecution1.setCommitCount(1);
+		jobRepository.update(stepExecution1);
+		stepExecution2.setStatus(BatchStatus.FAILED);
+		stepExecution2.setExitStatus(ExitStatus.FAILED);
+		stepExecution2.setReadCount(5);
+		stepExecution2.setCommitCount(1);
+		jobRepository.update(stepExecution2);
+		// not part of the aggregated executions
+		StepExecution other = jobRepository.createStepExecution("foo:3", result.getJobExecution());
+		other.setReadCount(100);
+		jobRepository.update(other);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -33,6 +34,7 @@ import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.partition.PartitionNameProvider;
 import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.core.partition.SharedContextProvider;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
@@ -144,6 +146,39 @@ class SimpleStepExecutionSplitterTests {
 		assertEquals("step:foo", split.iterator().next().getStepName());
 	}
 
+	@Test
+	void testSharedContext() throws Exception {
+		class CustomPartitioner implements Partitioner, SharedContextProvider {
+
+			@Override
+			public Map<String, ExecutionContext> partition(int gridSize) {
+				Map<String, ExecutionContext> partitions = new HashMap<>();
+				for (int i = 0; i < gridSize; i++) {
+					partitions.put("partition" + i, new ExecutionContext(Map.of("index", i)));
+				}
+				return partitions;
+			}
+
+			@Override
+			public ExecutionContext getSharedContext(int gridSize) {
+				return new ExecutionContext(Map.of("input.directory", "/data/input"));
+			}
+
+		}
+		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, step.getName(),
+				new CustomPartitioner());
+		Set<StepExecution> split = provider.split(stepExecution, 2);
+		assertEquals(2, split.size());
+
+		JobExecution jobExecution = jobRepository.getJobExecution(stepExecution.getJobExecutionId());
+		assertEquals("/data/input", jobExecution.getExecutionContext().getString("input.directory"));
+		for (StepExecution partition : split) {
+			ExecutionContext executionContext = jobRepository.getStepExecution(partition.getId()).getExecutionContext();
+			assertEquals(1, executionContext.size());
+			assertTrue(executionContext.containsKey("index"));
+		}
+	}
+
 	@Test
 	void testGetStepName() {
 		SimpleStepExecutionSplitter provider = new SimpleStepExecutionSplitter(jobRepository, step.getName(),
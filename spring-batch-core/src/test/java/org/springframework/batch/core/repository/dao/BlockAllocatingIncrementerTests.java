@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JdbcJobRepositoryFactoryBean;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockAllocatingIncrementerTests {
+
+	@Test
+	void testIdsAreAllocatedInBlocks() {
+		DataFieldMaxValueIncrementer delegate = mock();
+		when(delegate.nextLongValue()).thenReturn(1L, 2L);
+		BlockAllocatingIncrementer incrementer = new BlockAllocatingIncrementer(delegate, 3);
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			ids.add(incrementer.nextLongValue());
+		}
+
+		assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L), ids);
+		verify(delegate, times(2)).nextLongValue();
+	}
+
+	@Test
+	void testConcurrentAllocationProducesUniqueIds() throws Exception {
+		DataFieldMaxValueIncrementer delegate = mock();
+		AtomicLong hi = new AtomicLong();
+		when(delegate.nextLongValue()).thenAnswer(invocation -> hi.getAndIncrement());
+		BlockAllocatingIncrementer incrementer = new BlockAllocatingIncrementer(delegate, 10);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						ids.add(incrementer.nextLongValue());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(8000, ids.size());
+		verify(delegate, times(800)).nextLongValue();
+	}
+
+	@Test
+	void testInvalidBlockSize() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new BlockAllocatingIncrementer(mock(DataFieldMaxValueIncrementer.class), 0));
+	}
+
+	@Test
+	void testJobRepositoryWithIncrementerBlockSize() throws Exception {
+		EmbeddedDatabase embeddedDatabase = new EmbeddedDatabaseBuilder()
+			.addScript("/org/springframework/batch/core/schema-drop-hsqldb.sql")
+			.addScript("/org/springframework/batch/core/schema-hsqldb.sql")
+			.generateUniqueName(true)
+			.build();
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(embeddedDatabase);
+		factory.setTransactionManager(new JdbcTransactionManager(embeddedDatabase));
+		factory.setIncrementerBlockSize(100);
+		factory.afterPropertiesSet();
+		JobRepository jobRepository = factory.getObject();
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jobRepository.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters,
+				new ExecutionContext());
+
+		List<StepExecution> stepExecutions = new ArrayList<>();
+		for (int i = 0; i < 150; i++) {
+			stepExecutions.add(jobRepository.createStepExecution("step" + i, jobExecution));
+		}
+
+		// ids start at a block boundary and consecutive blocks are contiguous
+		assertEquals(0, stepExecutions.get(0).getId() % 100);
+		for (int i = 1; i < stepExecutions.size(); i++) {
+			assertEquals(stepExecutions.get(i - 1).getId() + 1, stepExecutions.get(i).getId());
+		}
+		embeddedDatabase.shutdown();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,16 +20,22 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -171,4 +177,81 @@ public class JdbcJobExecutionDaoTests {
 		Assertions.assertEquals(jobExecution1.getId(), jobExecutions.get(1).getId());
 	}
 
+	@Test
+	void testGetJobExecutionStatuses() {
+		// given
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jobExecution1.setStatus(BatchStatus.FAILED);
+		jdbcJobExecutionDao.updateJobExecution(jobExecution1);
+		jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+
+		// when
+		Set<BatchStatus> statuses = jdbcJobExecutionDao.getJobExecutionStatuses(jobInstance);
+
+		// then
+		Assertions.assertEquals(Set.of(BatchStatus.FAILED, BatchStatus.STARTING), statuses);
+	}
+
+	@Test
+	void testFindJobExecutionsByJobNameWithKeysetPagination() {
+		// given
+		JobParameters jobParameters1 = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobParameters jobParameters2 = new JobParametersBuilder().addString("name", "bar").toJobParameters();
+		JobInstance jobInstance1 = jdbcJobInstanceDao.createJobInstance("job", jobParameters1);
+		JobInstance jobInstance2 = jdbcJobInstanceDao.createJobInstance("job", jobParameters2);
+		JobInstance otherJobInstance = jdbcJobInstanceDao.createJobInstance("otherJob", jobParameters1);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance1, jobParameters1);
+		JobExecution jobExecution2 = jdbcJobExecutionDao.createJobExecution(jobInstance2, jobParameters2);
+		jdbcJobExecutionDao.createJobExecution(otherJobInstance, jobParameters1);
+		JobExecution jobExecution3 = jdbcJobExecutionDao.createJobExecution(jobInstance1, jobParameters1);
+
+		// when
+		List<JobExecution> firstPage = jdbcJobExecutionDao.findJobExecutions("job", null, 2);
+		List<JobExecution> secondPage = jdbcJobExecutionDao.findJobExecutions("job", firstPage.get(1).getId(), 2);
+		List<JobExecution> lastPage = jdbcJobExecutionDao.findJobExecutions("job", secondPage.get(0).getId(), 2);
+
+		// then
+		Assertions.assertEquals(List.of(jobExecution3.getId(), jobExecution2.getId()),
+				firstPage.stream().map(JobExecution::getId).toList());
+		Assertions.assertEquals(jobInstance1, firstPage.get(0).getJobInstance());
+		Assertions.assertEquals(jobParameters2, firstPage.get(1).getJobParameters());
+		Assertions.assertEquals(List.of(jobExecution1.getId()), secondPage.stream().map(JobExecution::getId).toList());
+		Assertions.assertTrue(lastPage.isEmpty());
+	}
+
+	@Test
+	void testFindJobExecutionsByJobNameWithConstantNumberOfQueries() {
+		// given
+		for (int i = 0; i < 5; i++) {
+			JobParameters jobParameters = new JobParametersBuilder().addLong("id", (long) i)
+				.addString("name", "foo", false)
+				.toJobParameters();
+			JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+			jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		}
+		AtomicInteger queries = new AtomicInteger();
+		jdbcJobExecutionDao.setJdbcTemplate(new JdbcTemplate(jdbcTemplate.getDataSource()) {
+			@Override
+			public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse) {
+				queries.incrementAndGet();
+				return super.query(psc, pss, rse);
+			}
+		});
+
+		// when
+		List<JobExecution> jobExecutions = jdbcJobExecutionDao.findJobExecutions("job", null, 4);
+
+		// then
+		Assertions.assertEquals(3, queries.get());
+		Assertions.assertEquals(4, jobExecutions.size());
+		for (int i = 0; i < 4; i++) {
+			JobExecution jobExecution = jobExecutions.get(i);
+			Assertions.assertEquals(4L - i, jobExecution.getJobParameters().getLong("id"));
+			Assertions.assertEquals("foo", jobExecution.getJobParameters().getString("name"));
+			Assertions.assertEquals("job", jobExecution.getJobInstance().getJobName());
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,14 @@ package org.springframework.batch.core.repository.dao.jdbc;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
@@ -90,6 +92,23 @@ public class JdbcJobInstanceDaoTests {
 		assertEquals(0, jobInstance.getJobExecutions().size());
 	}
 
+	@Test
+	void testGetJobInstances() {
+		JobParameters foo = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobParameters bar = new JobParametersBuilder().addString("name", "bar").toJobParameters();
+		JobParameters baz = new JobParametersBuilder().addString("name", "baz").toJobParameters();
+		JobInstance fooInstance = jdbcJobInstanceDao.createJobInstance("job", foo);
+		JobInstance bazInstance = jdbcJobInstanceDao.createJobInstance("job", baz);
+		jdbcJobInstanceDao.createJobInstance("otherJob", bar);
+
+		List<JobInstance> jobInstances = jdbcJobInstanceDao.getJobInstances("job", List.of(foo, bar, baz));
+
+		assertEquals(3, jobInstances.size());
+		assertEquals(fooInstance.getInstanceId(), jobInstances.get(0).getInstanceId());
+		assertNull(jobInstances.get(1));
+		assertEquals(bazInstance.getInstanceId(), jobInstances.get(2).getInstanceId());
+	}
+
 	@Test
 	void testGetJobNames() {
 		jdbcJobInstanceDao.createJobInstance("job", new JobParameters());
@@ -191,4 +210,97 @@ public class JdbcJobInstanceDaoTests {
 		assertThrows(IllegalStateException.class, () -> jdbcJobInstanceDao.createJobInstance("job", jobParameters));
 	}
 
+	@Test
+	void testPurgeJobInstances() {
+		LocalDateTime now = LocalDateTime.now();
+		JobInstance completed = createJobInstance("completed", now.minusDays(2), BatchStatus.COMPLETED);
+		JobInstance abandoned = createJobInstance("abandoned", now.minusDays(2), BatchStatus.ABANDONED);
+		JobInstance restarted = createJobInstance("restarted", now.minusDays(2), BatchStatus.FAILED,
+				BatchStatus.COMPLETED);
+		createJobInstance("failed", now.minusDays(2), BatchStatus.FAILED);
+		createJobInstance("recent", now, BatchStatus.COMPLETED);
+		createJobInstance("running", null, BatchStatus.STARTED);
+
+		int count = jdbcJobInstanceDao.purgeJobInstances(null, now.minusDays(1), 10);
+
+		assertEquals(3, count);
+		assertNull(jdbcJobInstanceDao.getJobInstance(completed.getInstanceId()));
+		assertNull(jdbcJobInstanceDao.getJobInstance(abandoned.getInstanceId()));
+		assertNull(jdbcJobInstanceDao.getJobInstance(restarted.getInstanceId()));
+		assertEquals(3, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_INSTANCE"));
+		assertEquals(3, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION"));
+		assertEquals(3, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION_PARAMS"));
+	}
+
+	@Test
+	void testPurgeJobInstancesByJobName() {
+		LocalDateTime now = LocalDateTime.now();
+		createJobInstance("job1", now.minusDays(2), BatchStatus.COMPLETED);
+		createJobInstance("job2", now.minusDays(2), BatchStatus.COMPLETED);
+
+		int count = jdbcJobInstanceDao.purgeJobInstances("job1", now.minusDays(1), 10);
+
+		assertEquals(1, count);
+		assertEquals(0, jdbcJobInstanceDao.getJobInstances("job1", 0, 10).size());
+		assertEquals(1, jdbcJobInstanceDao.getJobInstances("job2", 0, 10).size());
+	}
+
+	@Test
+	void testPurgeJobInstancesWithCount() {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 5; i++) {
+			createJobInstance("job" + i, now.minusDays(2), BatchStatus.COMPLETED);
+		}
+
+		assertEquals(2, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+		assertEquals(2, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+		assertEquals(1, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+		assertEquals(0, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+	}
+
+	@Test
+	void testPurgeJobInstancesWithCountAndSeveralExecutionsPerInstance() {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 3; i++) {
+			createJobInstance("job" + i, now.minusDays(2), BatchStatus.ABANDONED, BatchStatus.COMPLETED);
+		}
+
+		assertEquals(2, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+		assertEquals(1, jdbcJobInstanceDao.purgeJobInstances(null, now, 2));
+		assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_EXECUTION"));
+	}
+
+	@Test
+	void testPurgeJobInstancesWithArchive() {
+		jdbcTemplate.execute("CREATE SCHEMA ARCHIVE");
+		for (String table : List.of("BATCH_JOB_INSTANCE", "BATCH_JOB_EXECUTION", "BATCH_JOB_EXECUTION_PARAMS",
+				"BATCH_JOB_EXECUTION_CONTEXT", "BATCH_STEP_EXECUTION", "BATCH_STEP_EXECUTION_CONTEXT")) {
+			jdbcTemplate.execute("CREATE TABLE ARCHIVE." + table + " AS SELECT * FROM " + table + " WITH NO DATA");
+		}
+		jdbcJobInstanceDao.setArchiveTablePrefix("ARCHIVE.BATCH_");
+		LocalDateTime now = LocalDateTime.now();
+		JobInstance completed = createJobInstance("completed", now.minusDays(2), BatchStatus.COMPLETED);
+
+		int count = jdbcJobInstanceDao.purgeJobInstances(null, now, 10);
+
+		assertEquals(1, count);
+		assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_JOB_INSTANCE"));
+		assertEquals(completed.getInstanceId(),
+				jdbcTemplate.queryForObject("SELECT JOB_INSTANCE_ID FROM ARCHIVE.BATCH_JOB_INSTANCE", Long.class));
+		assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "ARCHIVE.BATCH_JOB_EXECUTION"));
+		assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "ARCHIVE.BATCH_JOB_EXECUTION_PARAMS"));
+	}
+
+	private JobInstance createJobInstance(String jobName, LocalDateTime endTime, BatchStatus... statuses) {
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", jobName).toJobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance(jobName, jobParameters);
+		for (BatchStatus status : statuses) {
+			JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+			jobExecution.setStatus(status);
+			jobExecution.setEndTime(endTime);
+			jdbcJobExecutionDao.updateJobExecution(jobExecution);
+		}
+		return jobInstance;
+	}
+
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.jspecify.annotations.Nullable;
+import org.sqlite.SQLiteDataSource;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Regression tests for the query plans of the main queries of the JDBC DAOs against a
+ * large job repository created with the provided schema scripts: none of these queries
+ * should scan a whole metadata table. The number of job instances loaded in each database
+ * defaults to 10,000 and can be raised to millions with the
+ * {@code spring.batch.test.metadata.instances} system property.
+ */
+class JdbcMetadataQueryPerformanceIntegrationTests {
+
+	private static final int JOB_INSTANCES = Integer.getInteger("spring.batch.test.metadata.instances", 10_000);
+
+	private static final int JOB_NAMES = 10;
+
+	private static final List<String> STEP_NAMES = List.of("step1", "step2");
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final Pattern HSQLDB_TABLE_SCAN = Pattern
+		.compile("table=BATCH_\\w+\\s+(alias=\\w+\\s+)?cardinality=\\d+\\s+access=FULL SCAN");
+
+	private static final Pattern DERBY_TABLE_SCAN = Pattern.compile("Table Scan ResultSet for BATCH_\\w+");
+
+	private static final String INSERT_JOB_INSTANCE = """
+			INSERT INTO BATCH_JOB_INSTANCE(JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY)
+				VALUES (?, 0, ?, ?)
+			""";
+
+	private static final String INSERT_JOB_EXECUTION = """
+			INSERT INTO BATCH_JOB_EXECUTION(JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED)
+				VALUES (?, 1, ?, ?, ?, ?, ?, ?, '', ?)
+			""";
+
+	private static final String INSERT_STEP_EXECUTION = """
+			INSERT INTO BATCH_STEP_EXECUTION(STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, CREATE_TIME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED)
+				VALUES (?, 1, ?, ?, ?, ?, ?, 'COMPLETED', 1, 10, 0, 10, 0, 0, 0, 0, 'COMPLETED', '', ?)
+			""";
+
+	static Stream<TestDatabase> databases() {
+		return Stream.of(
+				new TestDatabase("h2", () -> embeddedDatabase(EmbeddedDatabaseType.H2), "EXPLAIN ", true,
+						plan -> plan.contains(".tableScan")),
+				new TestDatabase("hsqldb", () -> embeddedDatabase(EmbeddedDatabaseType.HSQL), "EXPLAIN PLAN FOR ",
+						false, plan -> HSQLDB_TABLE_SCAN.matcher(plan).find()),
+				new TestDatabase("sqlite", JdbcMetadataQueryPerformanceIntegrationTests::sqliteDatabase,
+						"EXPLAIN QUERY PLAN ", true, plan -> plan.matches("(?s).*\\bSCAN (?!CONSTANT ROW).*")),
+				// the query plans of Derby are only available in the runtime statistics
+				new TestDatabase("derby", () -> embeddedDatabase(EmbeddedDatabaseType.DERBY), null, true,
+						plan -> DERBY_TABLE_SCAN.matcher(plan).find(),
+						// Derby does not probe an IN list on the first column of an index
+						// combined with a range on the second column
+						Set.of("GET_PURGEABLE_JOB_INSTANCE_IDS")));
+	}
+
+	@ParameterizedTest
+	@MethodSource("databases")
+	void testMetadataQueries(TestDatabase database) {
+		DataSource dataSource = database.dataSource().get();
+		// the tables do not exist yet in a new database
+		ResourceDatabasePopulator dropPopulator = new ResourceDatabasePopulator(
+				new ClassPathResource("/org/springframework/batch/core/schema-drop-" + database.name() + ".sql"));
+		dropPopulator.setContinueOnError(true);
+		dropPopulator.execute(dataSource);
+		new ResourceDatabasePopulator(
+				new ClassPathResource("/org/springframework/batch/core/schema-" + database.name() + ".sql"))
+			.execute(dataSource);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		LocalDateTime start = LocalDateTime.now().minusMinutes(JOB_INSTANCES).minusDays(1);
+		load(jdbcTemplate, new TransactionTemplate(new JdbcTransactionManager(dataSource)), start);
+
+		long jobInstanceId = JOB_INSTANCES / 2;
+		String jobName = jobName(jobInstanceId);
+		Timestamp purgeBefore = Timestamp.valueOf(start.plusMinutes(100));
+		List<Query> queries = List.of(
+				new Query(JdbcJobInstanceDao.class, "FIND_JOBS_WITH_KEY", jobName, jobKey(jobInstanceId)),
+				new Query(JdbcJobInstanceDao.class, "FIND_LAST_JOB_INSTANCE_BY_JOB_NAME", jobName, jobName),
+				new Query(JdbcJobInstanceDao.class, "GET_PURGEABLE_JOB_INSTANCE_IDS", purgeBefore, purgeBefore),
+				new Query(JdbcJobExecutionDao.class, "GET_LAST_JOB_EXECUTION_ID", jobInstanceId, jobInstanceId),
+				new Query(JdbcJobExecutionDao.class, "GET_RUNNING_EXECUTION_FOR_INSTANCE", jobName),
+				new Query(JdbcStepExecutionDao.class, "GET_LAST_STEP_EXECUTION", jobInstanceId, STEP_NAMES.get(1)),
+				new Query(JdbcStepExecutionDao.class, "COUNT_STEP_EXECUTIONS", jobInstanceId, STEP_NAMES.get(1)));
+
+		List<Executable> assertions = new ArrayList<>();
+		for (Query query : queries) {
+			if (database.expectedFullScans().contains(query.name())) {
+				continue;
+			}
+			String sql = query.sql();
+			// HSQLDB explains statements with unbound parameters
+			Object[] args = database.explainWithParameters() ? query.args() : new Object[0];
+			String plan = database.explainPrefix() != null ? explain(jdbcTemplate, database.explainPrefix() + sql, args)
+					: runtimeStatistics(jdbcTemplate, sql, args);
+			assertions.add(() -> assertFalse(database.fullScan().test(plan),
+					query.name() + " does a full table scan on " + database.name() + ":\n" + plan));
+		}
+		try {
+			assertAll(database.name(), assertions);
+		}
+		finally {
+			if (dataSource instanceof EmbeddedDatabase embeddedDatabase) {
+				embeddedDatabase.shutdown();
+			}
+		}
+	}
+
+	private static void load(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, LocalDateTime start) {
+		for (long first = 1; first <= JOB_INSTANCES; first += BATCH_SIZE) {
+			long last = Math.min(first + BATCH_SIZE - 1, JOB_INSTANCES);
+			List<Object[]> jobInstances = new ArrayList<>();
+			List<Object[]> jobExecutions = new ArrayList<>();
+			List<Object[]> stepExecutions = new ArrayList<>();
+			for (long id = first; id <= last; id++) {
+				Timestamp startTime = Timestamp.valueOf(start.plusMinutes(id));
+				Timestamp endTime = Timestamp.valueOf(start.plusMinutes(id).plusSeconds(30));
+				// the last instance of each job is still running
+				boolean running = id > JOB_INSTANCES - JOB_NAMES;
+				String status = running ? "STARTED" : "COMPLETED";
+				jobInstances.add(new Object[] { id, jobName(id), jobKey(id) });
+				jobExecutions.add(new Object[] { id, id, startTime, startTime, running ? null : endTime, status,
+						running ? "UNKNOWN" : "COMPLETED", endTime });
+				for (int i = 0; i < STEP_NAMES.size(); i++) {
+					stepExecutions.add(new Object[] { (id - 1) * STEP_NAMES.size() + i + 1, STEP_NAMES.get(i), id,
+							startTime, startTime, endTime, endTime });
+				}
+			}
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate(INSERT_JOB_INSTANCE, jobInstances);
+				jdbcTemplate.batchUpdate(INSERT_JOB_EXECUTION, jobExecutions);
+				jdbcTemplate.batchUpdate(INSERT_STEP_EXECUTION, stepExecutions);
+			});
+		}
+	}
+
+	private static String explain(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+		StringBuilder plan = new StringBuilder();
+		jdbcTemplate.query(sql, rs -> {
+			int columnCount = rs.getMetaData().getColumnCount();
+			for (int i = 1; i <= columnCount; i++) {
+				plan.append(rs.getString(i)).append(' ');
+			}
+			plan.append('\n');
+		}, args);
+		return plan.toString();
+	}
+
+	private static String runtimeStatistics(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CALL SYSCS_UTIL.SYSCS_SET_RUNTIMESTATISTICS(1)");
+				try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+					for (int i = 0; i < args.length; i++) {
+						preparedStatement.setObject(i + 1, args[i]);
+					}
+					try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						while (resultSet.next()) {
+							// statistics are complete once the result set is consumed
+						}
+					}
+				}
+				try (ResultSet resultSet = statement.executeQuery("VALUES SYSCS_UTIL.SYSCS_GET_RUNTIMESTATISTICS()")) {
+					return resultSet.next() ? resultSet.getString(1) : "";
+				}
+				finally {
+					statement.execute("CALL SYSCS_UTIL.SYSCS_SET_RUNTIMESTATISTICS(0)");
+				}
+			}
+		});
+	}
+
+	private static String jobName(long jobInstanceId) {
+		return "job" + jobInstanceId % JOB_NAMES;
+	}
+
+	private static String jobKey(long jobInstanceId) {
+		return String.format("%032x", jobInstanceId);
+	}
+
+	private static DataSource embeddedDatabase(EmbeddedDatabaseType type) {
+		return new EmbeddedDatabaseBuilder().setType(type).generateUniqueName(true).build();
+	}
+
+	private static DataSource sqliteDatabase() {
+		SQLiteDataSource dataSource = new SQLiteDataSource();
+		dataSource.setUrl("jdbc:sqlite:target/spring-batch-metadata-queries.sqlite");
+		return dataSource;
+	}
+
+	record TestDatabase(String name, Supplier<DataSource> dataSource, @Nullable String explainPrefix,
+			boolean explainWithParameters, Predicate<String> fullScan, Set<String> expectedFullScans) {
+
+		TestDatabase(String name, Supplier<DataSource> dataSource, @Nullable String explainPrefix,
+				boolean explainWithParameters, Predicate<String> fullScan) {
+			this(name, dataSource, explainPrefix, explainWithParameters, fullScan, Set.of());
+		}
+
+		@Override
+		public String toString() {
+			return this.name;
+		}
+
+	}
+
+	record Query(Class<?> dao, String name, Object... args) {
+
+		String sql() {
+			String sql = (String) ReflectionTestUtils.getField(this.dao, this.name);
+			return sql.replace("%PREFIX%", "BATCH_");
+		}
+
+	}
+
+}
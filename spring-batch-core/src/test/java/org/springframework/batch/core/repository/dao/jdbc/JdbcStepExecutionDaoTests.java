@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,14 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
@@ -158,4 +162,98 @@ class JdbcStepExecutionDaoTests {
 		Assertions.assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION"));
 	}
 
+	@Test
+	void testGetStepExecutionsByIds() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 1200; i++) {
+			StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step" + i, jobExecution);
+			if (i % 2 == 0) {
+				ids.add(stepExecution.getId());
+			}
+		}
+
+		// when
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao.getStepExecutions(jobExecution, ids);
+
+		// then
+		assertEquals(600, stepExecutions.size());
+		assertEquals(ids, stepExecutions.stream().map(StepExecution::getId).toList());
+		assertEquals(jobExecution, stepExecutions.get(0).getJobExecution());
+	}
+
+	@Test
+	void testFindStepExecutionsWithKeysetPagination() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			ids.add(jdbcStepExecutionDao.createStepExecution("step" + i, jobExecution).getId());
+		}
+
+		// when
+		List<StepExecution> firstPage = jdbcStepExecutionDao.findStepExecutions(jobExecution, null, 3);
+		List<StepExecution> lastPage = jdbcStepExecutionDao.findStepExecutions(jobExecution, firstPage.get(2).getId(),
+				3);
+
+		// then
+		assertEquals(ids.subList(0, 3), firstPage.stream().map(StepExecution::getId).toList());
+		assertEquals(ids.subList(3, 5), lastPage.stream().map(StepExecution::getId).toList());
+		assertEquals("step3", lastPage.get(0).getStepName());
+		assertEquals(jobExecution, lastPage.get(0).getJobExecution());
+	}
+
+	@Test
+	void testAggregateStepExecutions() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution1 = createStepExecution("step:1", jobExecution, BatchStatus.COMPLETED,
+				ExitStatus.COMPLETED, 10);
+		StepExecution stepExecution2 = createStepExecution("step:2", jobExecution, BatchStatus.COMPLETED,
+				ExitStatus.COMPLETED, 20);
+		StepExecution stepExecution3 = createStepExecution("step:3", jobExecution, BatchStatus.FAILED,
+				ExitStatus.FAILED, 5);
+		createStepExecution("other", jobExecution, BatchStatus.FAILED, ExitStatus.FAILED, 100);
+
+		// when
+		List<StepExecution> aggregates = jdbcStepExecutionDao.aggregateStepExecutions(jobExecution,
+				List.of(stepExecution1.getId(), stepExecution2.getId(), stepExecution3.getId()));
+
+		// then
+		assertEquals(2, aggregates.size());
+		StepExecution completed = aggregates.stream()
+			.filter(aggregate -> aggregate.getStatus() == BatchStatus.COMPLETED)
+			.findFirst()
+			.orElseThrow();
+		assertEquals(30, completed.getReadCount());
+		assertEquals(30, completed.getWriteCount());
+		assertEquals(2, completed.getCommitCount());
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), completed.getExitStatus().getExitCode());
+		StepExecution failed = aggregates.stream()
+			.filter(aggregate -> aggregate.getStatus() == BatchStatus.FAILED)
+			.findFirst()
+			.orElseThrow();
+		assertEquals(5, failed.getReadCount());
+		assertEquals("step:3", failed.getStepName());
+	}
+
+	private StepExecution createStepExecution(String stepName, JobExecution jobExecution, BatchStatus status,
+			ExitStatus exitStatus, long count) {
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution(stepName, jobExecution);
+		stepExecution.setStatus(status);
+		stepExecution.setExitStatus(exitStatus);
+		stepExecution.setReadCount(count);
+		stepExecution.setWriteCount(count);
+		stepExecution.setCommitCount(1);
+		jdbcStepExecutionDao.updateStepExecution(stepExecution);
+		return stepExecution;
+	}
+
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao.mongodb;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.persistence.JobExecution;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the queries issued by {@link MongoJobExecutionDao}.
+ */
+class MongoJobExecutionDaoTests {
+
+	private final MongoOperations mongoOperations = mock();
+
+	private final MongoJobInstanceDao jobInstanceDao = mock();
+
+	private final MongoJobExecutionDao dao = new MongoJobExecutionDao(this.mongoOperations);
+
+	@Test
+	void testUpdateJobExecutionSetsMutableFieldsOnly() {
+		org.springframework.batch.core.job.JobExecution jobExecution = new org.springframework.batch.core.job.JobExecution(
+				1L, new JobInstance(1L, "job"), new JobParameters());
+		jobExecution.setStatus(BatchStatus.STARTED);
+		jobExecution.getExecutionContext().putString("foo", "bar");
+
+		this.dao.updateJobExecution(jobExecution);
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(this.mongoOperations).updateFirst(query.capture(), update.capture(), eq(JobExecution.class),
+				eq("BATCH_JOB_EXECUTION"));
+		verify(this.mongoOperations, never()).findAndReplace(any(Query.class), any(), any(String.class));
+		assertEquals(new Document("jobExecutionId", 1L), query.getValue().getQueryObject());
+		Document updateObject = update.getValue().getUpdateObject();
+		assertEquals(1, updateObject.size());
+		Document set = updateObject.get("$set", Document.class);
+		assertEquals(BatchStatus.STARTED, set.get("status"));
+		assertTrue(set.containsKey("lastUpdated"));
+		assertEquals("UNKNOWN", set.get("exitStatus.exitCode"));
+		assertFalse(set.containsKey("executionContext"));
+		assertFalse(set.containsKey("stepExecutions"));
+		assertFalse(set.containsKey("jobParameters"));
+	}
+
+	@Test
+	void testFindRunningJobExecutionsUsesSingleQuery() {
+		this.dao.setJobInstanceDao(this.jobInstanceDao);
+		when(this.jobInstanceDao.findJobInstancesByName("job"))
+			.thenReturn(List.of(new JobInstance(1L, "job"), new JobInstance(2L, "job")));
+		when(this.mongoOperations.find(any(Query.class), eq(JobExecution.class), eq("BATCH_JOB_EXECUTION")))
+			.thenReturn(List.of());
+
+		assertTrue(this.dao.findRunningJobExecutions("job").isEmpty());
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(this.mongoOperations).find(query.capture(), eq(JobExecution.class), eq("BATCH_JOB_EXECUTION"));
+		Document queryObject = query.getValue().getQueryObject();
+		assertEquals(Set.of(1L, 2L),
+				Set.copyOf(queryObject.get("jobInstanceId", Document.class).get("$in", Collection.class)));
+		assertEquals(new Document("$in", List.of("STARTING", "STARTED", "STOPPING")), queryObject.get("status"));
+	}
+
+	@Test
+	void testFindJobExecutionsByJobNameUsesSingleAggregation() {
+		MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+		when(this.mongoOperations.getConverter()).thenReturn(converter);
+		Document jobExecution = new Document("jobExecutionId", 3L).append("jobInstanceId", 1L)
+			.append("status", "COMPLETED")
+			.append("exitStatus", new Document("exitCode", "COMPLETED").append("exitDescription", ""));
+		Document result = new Document("jobInstanceId", 1L).append("jobName", "job")
+			.append("jobKey", "key")
+			.append("jobExecutions", jobExecution);
+		when(this.mongoOperations.aggregate(any(Aggregation.class), eq("BATCH_JOB_INSTANCE"), eq(Document.class)))
+			.thenReturn(new AggregationResults<>(List.of(result), new Document()));
+
+		List<org.springframework.batch.core.job.JobExecution> jobExecutions = this.dao.findJobExecutions("job", 5L, 2);
+
+		assertEquals(1, jobExecutions.size());
+		assertEquals(3L, jobExecutions.get(0).getId());
+		assertEquals(BatchStatus.COMPLETED, jobExecutions.get(0).getStatus());
+		assertEquals(new JobInstance(1L, "job"), jobExecutions.get(0).getJobInstance());
+		ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+		verify(this.mongoOperations).aggregate(aggregation.capture(), eq("BATCH_JOB_INSTANCE"), eq(Document.class));
+		verify(this.mongoOperations, never()).find(any(Query.class), any(), any(String.class));
+		List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(5, pipeline.size());
+		assertEquals(new Document("$match", new Document("jobName", "job")), pipeline.get(0));
+		Document lookup = pipeline.get(1).get("$lookup", Document.class);
+		assertEquals("BATCH_JOB_EXECUTION", lookup.get("from"));
+		assertEquals("jobInstanceId", lookup.get("localField"));
+		assertEquals("jobInstanceId", lookup.get("foreignField"));
+		List<?> lookupPipeline = lookup.get("pipeline", List.class);
+		assertEquals(new Document("$match", new Document("jobExecutionId", new Document("$lt", 5L))),
+				lookupPipeline.get(0));
+		assertEquals(new Document("$sort", new Document("jobExecutionId", -1)), lookupPipeline.get(2));
+		assertEquals(new Document("$limit", 2L), lookupPipeline.get(3));
+		assertEquals(new Document("$sort", new Document("jobExecutions.jobExecutionId", -1)), pipeline.get(3));
+		assertEquals(new Document("$limit", 2L), pipeline.get(4));
+	}
+
+}
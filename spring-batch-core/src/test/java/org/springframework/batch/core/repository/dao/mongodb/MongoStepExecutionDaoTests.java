@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao.mongodb;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.persistence.StepExecution;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the queries issued by {@link MongoStepExecutionDao}.
+ */
+class MongoStepExecutionDaoTests {
+
+	private final MongoOperations mongoOperations = mock();
+
+	private final MongoStepExecutionDao dao = new MongoStepExecutionDao(this.mongoOperations);
+
+	@Test
+	void testUpdateStepExecutionSetsMutableFieldsOnly() {
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		org.springframework.batch.core.step.StepExecution stepExecution = new org.springframework.batch.core.step.StepExecution(
+				2L, "step", jobExecution);
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		stepExecution.setReadCount(5);
+		stepExecution.setExitStatus(ExitStatus.COMPLETED);
+		stepExecution.getExecutionContext().putString("foo", "bar");
+
+		this.dao.updateStepExecution(stepExecution);
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(this.mongoOperations).updateFirst(query.capture(), update.capture(), eq(StepExecution.class),
+				eq("BATCH_STEP_EXECUTION"));
+		verify(this.mongoOperations, never()).findAndReplace(any(Query.class), any(), any(String.class));
+		assertEquals(new Document("stepExecutionId", 2L), query.getValue().getQueryObject());
+		Document updateObject = update.getValue().getUpdateObject();
+		assertEquals(1, updateObject.size());
+		Document set = updateObject.get("$set", Document.class);
+		assertEquals(BatchStatus.COMPLETED, set.get("status"));
+		assertEquals(5L, set.get("readCount"));
+		assertEquals("COMPLETED", set.get("exitStatus.exitCode"));
+		assertFalse(set.containsKey("executionContext"));
+		assertFalse(set.containsKey("name"));
+		assertFalse(set.containsKey("jobExecutionId"));
+	}
+
+	@Test
+	void testGetLastStepExecutionUsesSortedLimitedQuery() {
+		org.springframework.batch.core.repository.persistence.JobExecution jobExecution1 = new org.springframework.batch.core.repository.persistence.JobExecution();
+		jobExecution1.setJobExecutionId(1L);
+		org.springframework.batch.core.repository.persistence.JobExecution jobExecution2 = new org.springframework.batch.core.repository.persistence.JobExecution();
+		jobExecution2.setJobExecutionId(2L);
+		when(this.mongoOperations.find(any(Query.class),
+				eq(org.springframework.batch.core.repository.persistence.JobExecution.class),
+				eq("BATCH_JOB_EXECUTION")))
+			.thenReturn(List.of(jobExecution1, jobExecution2));
+
+		assertNull(this.dao.getLastStepExecution(new JobInstance(1L, "job"), "step"));
+
+		ArgumentCaptor<Query> jobExecutionsQuery = ArgumentCaptor.forClass(Query.class);
+		verify(this.mongoOperations).find(jobExecutionsQuery.capture(),
+				eq(org.springframework.batch.core.repository.persistence.JobExecution.class),
+				eq("BATCH_JOB_EXECUTION"));
+		assertEquals(new Document("jobInstanceId", 1L), jobExecutionsQuery.getValue().getQueryObject());
+		assertEquals(new Document("jobExecutionId", 1), jobExecutionsQuery.getValue().getFieldsObject());
+
+		ArgumentCaptor<Query> stepExecutionQuery = ArgumentCaptor.forClass(Query.class);
+		verify(this.mongoOperations).findOne(stepExecutionQuery.capture(), eq(StepExecution.class),
+				eq("BATCH_STEP_EXECUTION"));
+		Query query = stepExecutionQuery.getValue();
+		assertEquals(new Document("jobExecutionId", new Document("$in", List.of(1L, 2L))).append("name", "step"),
+				query.getQueryObject());
+		assertEquals(new Document("createTime", -1).append("stepExecutionId", -1), query.getSortObject());
+		assertEquals(1, query.getLimit());
+		assertTrue(query.isLimited());
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.repository.ExecutionProjection;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
@@ -40,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Abstract repository tests using DAOs (rather than mocks).
@@ -274,4 +276,42 @@ abstract class AbstractJobRepositoryIntegrationTests {
 		assertNull(jobRepository.getLastJobExecution(job.getName(), jobParameters));
 	}
 
+	@Test
+	void testStreamJobExecutionsWithProjection() {
+		ExecutionContext ctx = new ExecutionContext(Map.of("crashedPosition", 7));
+		for (int i = 0; i < 5; i++) {
+			var jobParameters = new JobParametersBuilder().addLong("run", (long) i).toJobParameters();
+			JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+			JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters, ctx);
+			StepExecution stepExecution = jobRepository.createStepExecution("step", jobExecution);
+			stepExecution.setExecutionContext(ctx);
+			jobRepository.updateExecutionContext(stepExecution);
+		}
+
+		List<JobExecution> summaries = jobRepository.streamJobExecutions(job.getName(), ExecutionProjection.SUMMARY, 2)
+			.toList();
+		assertEquals(5, summaries.size());
+		assertEquals(4L, summaries.get(0).getJobParameters().getLong("run"));
+		assertEquals(0L, summaries.get(4).getJobParameters().getLong("run"));
+		assertTrue(summaries.get(0).getStepExecutions().isEmpty());
+		assertTrue(summaries.get(0).getExecutionContext().isEmpty());
+
+		JobExecution withSteps = jobRepository
+			.findJobExecutions(job.getName(), summaries.get(0).getId(), 1, ExecutionProjection.STEP_EXECUTIONS)
+			.get(0);
+		assertEquals(summaries.get(1).getId(), withSteps.getId());
+		assertEquals(1, withSteps.getStepExecutions().size());
+		assertTrue(withSteps.getExecutionContext().isEmpty());
+		assertTrue(withSteps.getStepExecutions().iterator().next().getExecutionContext().isEmpty());
+
+		JobExecution full = jobRepository.findJobExecutions(job.getName(), null, 1, ExecutionProjection.FULL).get(0);
+		assertEquals(ctx, full.getExecutionContext());
+		assertEquals(ctx, full.getStepExecutions().iterator().next().getExecutionContext());
+
+		List<StepExecution> stepExecutions = jobRepository.streamStepExecutions(full, ExecutionProjection.FULL, 1)
+			.toList();
+		assertEquals(1, stepExecutions.size());
+		assertEquals(ctx, stepExecutions.get(0).getExecutionContext());
+	}
+
 }
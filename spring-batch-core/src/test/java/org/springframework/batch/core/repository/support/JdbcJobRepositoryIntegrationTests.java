@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2025 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,26 @@
 package org.springframework.batch.core.repository.support;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Repository tests using JDBC DAOs (rather than mocks).
@@ -45,4 +58,33 @@ public class JdbcJobRepositoryIntegrationTests extends AbstractJobRepositoryInte
 		}
 	}
 
+	@Test
+	void testLazyLoadExecutionContexts() throws Exception {
+		JdbcJobRepositoryFactoryBean factory = new JdbcJobRepositoryFactoryBean();
+		factory.setDataSource(this.dataSource);
+		factory.setTransactionManager(new JdbcTransactionManager(this.dataSource));
+		factory.setLazyLoadExecutionContexts(true);
+		factory.afterPropertiesSet();
+		JobRepository jobRepository = factory.getObject();
+		ExecutionContext jobExecutionContext = new ExecutionContext(Map.of("foo", "bar"));
+		ExecutionContext stepExecutionContext = new ExecutionContext(Map.of("crashedPosition", 7));
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jobRepository.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jobRepository.createJobExecution(jobInstance, jobParameters, jobExecutionContext);
+		StepExecution stepExecution = jobRepository.createStepExecution("step", jobExecution, stepExecutionContext);
+
+		StepExecution retrievedStepExecution = jobRepository.getStepExecution(stepExecution.getId());
+		assertFalse(retrievedStepExecution.isExecutionContextLoaded());
+		assertFalse(retrievedStepExecution.getJobExecution().isExecutionContextLoaded());
+		assertEquals(stepExecutionContext, retrievedStepExecution.getExecutionContext());
+		assertTrue(retrievedStepExecution.isExecutionContextLoaded());
+		assertEquals(jobExecutionContext, retrievedStepExecution.getJobExecution().getExecutionContext());
+
+		JobExecution retrievedJobExecution = jobRepository.getJobExecution(jobExecution.getId());
+		StepExecution polledStepExecution = retrievedJobExecution.getStepExecutions().iterator().next();
+		assertFalse(retrievedJobExecution.isExecutionContextLoaded());
+		assertFalse(polledStepExecution.isExecutionContextLoaded());
+		assertEquals(stepExecutionContext, polledStepExecution.getExecutionContext());
+	}
+
 }
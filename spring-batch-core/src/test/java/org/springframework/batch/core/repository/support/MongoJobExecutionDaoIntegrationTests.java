@@ -24,6 +24,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
@@ -166,6 +167,25 @@ class MongoJobExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegration
 		assertExecutionsAreEqual(execution, updated);
 	}
 
+	/**
+	 * Update a job execution - check the execution context is not overwritten.
+	 */
+	@Test
+	void testUpdateExecutionKeepsExecutionContext(@Autowired ExecutionContextDao executionContextDao) {
+		JobExecution execution = dao.createJobExecution(jobInstance, jobParameters);
+		execution.getExecutionContext().putString("foo", "bar");
+		executionContextDao.saveExecutionContext(execution);
+
+		execution.setStatus(BatchStatus.COMPLETED);
+		execution.setLastUpdated(LocalDateTime.now());
+		dao.updateJobExecution(execution);
+
+		JobExecution updated = dao.getJobExecution(execution.getId());
+		assertNotNull(updated);
+		assertEquals(BatchStatus.COMPLETED, updated.getStatus());
+		assertEquals("bar", executionContextDao.getExecutionContext(execution).getString("foo"));
+	}
+
 	/**
 	 * Check the execution with most recent start time is returned
 	 */
@@ -241,6 +261,32 @@ class MongoJobExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegration
 
 	}
 
+	/**
+	 * Check the running executions of all instances of the job are returned
+	 */
+	@Test
+	void testFindRunningExecutionsOfSeveralInstances(@Autowired JobInstanceDao jobInstanceDao) {
+		JobInstance otherJobInstance = jobInstanceDao.createJobInstance("execTestJob",
+				new JobParametersBuilder().addString("name", "foo").toJobParameters());
+		JobExecution exec1 = dao.createJobExecution(jobInstance, jobParameters);
+		exec1.setStatus(BatchStatus.STARTED);
+		dao.updateJobExecution(exec1);
+		JobExecution exec2 = dao.createJobExecution(otherJobInstance, jobParameters);
+		exec2.setStatus(BatchStatus.STARTED);
+		dao.updateJobExecution(exec2);
+		JobExecution exec3 = dao.createJobExecution(otherJobInstance, jobParameters);
+		exec3.setStatus(BatchStatus.FAILED);
+		dao.updateJobExecution(exec3);
+
+		Set<JobExecution> values = dao.findRunningJobExecutions("execTestJob");
+
+		assertEquals(Set.of(exec1, exec2), values);
+		for (JobExecution value : values) {
+			JobInstance expected = value.getId() == exec1.getId() ? jobInstance : otherJobInstance;
+			assertEquals(expected.getId(), value.getJobInstance().getId());
+		}
+	}
+
 	/**
 	 * Check the execution is returned
 	 */
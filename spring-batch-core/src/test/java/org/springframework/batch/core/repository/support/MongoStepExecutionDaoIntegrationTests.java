@@ -22,6 +22,7 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
@@ -115,6 +116,20 @@ class MongoStepExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegratio
 		assertEquals(lastStepExecution.getId(), retrieved.getId());
 	}
 
+	@Test
+	void testGetLastExecutionAmongSeveralJobExecutions(@Autowired JobExecutionDao jobExecutionDao) {
+		dao.createStepExecution("step1", jobExecution);
+		JobExecution lastJobExecution = jobExecutionDao.createJobExecution(jobInstance, new JobParameters());
+		StepExecution lastStepExecution = dao.createStepExecution("step1", lastJobExecution);
+		dao.createStepExecution("step2", lastJobExecution);
+
+		StepExecution retrieved = dao.getLastStepExecution(jobInstance, "step1");
+		assertNotNull(retrieved);
+		assertEquals(lastStepExecution.getId(), retrieved.getId());
+		assertEquals(lastJobExecution.getId(), retrieved.getJobExecutionId());
+		assertNull(dao.getLastStepExecution(jobInstance, "step3"));
+	}
+
 	@Test
 	void testGetForNotExistingJobExecution() {
 		assertNull(dao.getStepExecution(45677L));
@@ -139,6 +154,23 @@ class MongoStepExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegratio
 		assertEquals(BatchStatus.ABANDONED, retrieved.getStatus());
 	}
 
+	@Test
+	void testUpdateExecutionKeepsExecutionContext(@Autowired ExecutionContextDao executionContextDao) {
+		StepExecution stepExecution = dao.createStepExecution("step1", jobExecution);
+		stepExecution.getExecutionContext().putString("foo", "bar");
+		executionContextDao.saveExecutionContext(stepExecution);
+
+		stepExecution.setStatus(BatchStatus.COMPLETED);
+		stepExecution.setReadCount(3);
+		dao.updateStepExecution(stepExecution);
+
+		StepExecution retrieved = dao.getStepExecution(stepExecution.getId());
+		assertNotNull(retrieved);
+		assertEquals(BatchStatus.COMPLETED, retrieved.getStatus());
+		assertEquals(3, retrieved.getReadCount());
+		assertEquals("bar", executionContextDao.getExecutionContext(stepExecution).getString("foo"));
+	}
+
 	/**
 	 * Exception should be raised when the version of update argument doesn't match the
 	 * version of persisted entity.
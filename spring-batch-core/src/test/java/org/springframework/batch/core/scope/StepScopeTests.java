@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.scope.context.StepSynchronizationManager;
@@ -103,6 +105,21 @@ class StepScopeTests {
 		assertSame(other, context);
 	}
 
+	@Test
+	void testResolveContextualObject() {
+		StepExecution stepExecution = new StepExecution(124L, "bar", new JobExecution(1L, new JobInstance(1L, "job"),
+				new JobParametersBuilder().addString("foo", "bar").toJobParameters()));
+		stepExecution.getExecutionContext().putString("step", "spam");
+		stepExecution.getJobExecution().getExecutionContext().putString("job", "bucket");
+		StepSynchronizationManager.register(stepExecution);
+		assertEquals("bar", ((Map<?, ?>) scope.resolveContextualObject("jobParameters")).get("foo"));
+		assertEquals("spam", ((Map<?, ?>) scope.resolveContextualObject("stepExecutionContext")).get("step"));
+		assertEquals("bucket", ((Map<?, ?>) scope.resolveContextualObject("jobExecutionContext")).get("job"));
+		assertSame(stepExecution, scope.resolveContextualObject("stepExecution"));
+		assertEquals("bar", scope.resolveContextualObject("stepName"));
+		StepSynchronizationManager.close();
+	}
+
 	@Test
 	void testGetConversationId() {
 		String id = scope.getConversationId();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.batch.core.scope.context;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -156,6 +157,16 @@ class StepContextTests {
 		assertEquals("bar", context.getJobParameters().get("foo"));
 	}
 
+	@Test
+	void testJobParametersAreCached() {
+		JobParameters jobParameters = new JobParametersBuilder().addString("foo", "bar").toJobParameters();
+		JobInstance instance = stepExecution.getJobExecution().getJobInstance();
+		stepExecution = new StepExecution(1L, "step", new JobExecution(1L, instance, jobParameters));
+		context = new StepContext(stepExecution);
+		assertSame(context.getJobParameters(), context.getJobParameters());
+		assertThrows(UnsupportedOperationException.class, () -> context.getJobParameters().put("foo", "spam"));
+	}
+
 	@Test
 	void testContextId() {
 		assertEquals("execution#1", context.getId());
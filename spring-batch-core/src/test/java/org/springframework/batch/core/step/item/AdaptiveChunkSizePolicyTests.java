@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.step.item.AdaptiveChunkSizePolicy.Decision;
+import org.springframework.batch.core.step.item.AdaptiveChunkSizePolicy.Reason;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveChunkSizePolicyTests {
+
+	private double heapUsage = 0.5;
+
+	private final AdaptiveChunkSizePolicy<String> policy = new AdaptiveChunkSizePolicy<>(10, 1000) {
+		@Override
+		protected double getHeapUsage() {
+			return heapUsage;
+		}
+	};
+
+	@Test
+	void testScaleTowardTargetCommitDuration() {
+		policy.setTargetCommitDuration(Duration.ofMillis(100));
+
+		assertEquals(new Decision(125, Reason.COMMIT_DURATION), policy.decide(100, 100, 0, Duration.ofMillis(80)));
+		assertEquals(new Decision(200, Reason.COMMIT_DURATION), policy.decide(100, 100, 0, Duration.ofMillis(1)));
+		assertEquals(new Decision(50, Reason.COMMIT_DURATION), policy.decide(100, 100, 0, Duration.ofSeconds(1)));
+		// within tolerance
+		assertEquals(new Decision(100, Reason.COMMIT_DURATION), policy.decide(100, 100, 0, Duration.ofMillis(95)));
+		// partial chunk
+		assertEquals(new Decision(100, Reason.COMMIT_DURATION), policy.decide(100, 20, 0, Duration.ofMillis(1)));
+	}
+
+	@Test
+	void testBounds() {
+		policy.setTargetCommitDuration(Duration.ofMillis(100));
+
+		assertEquals(1000, policy.decide(800, 800, 0, Duration.ofMillis(1)).chunkSize());
+		assertEquals(10, policy.decide(12, 12, 0, Duration.ofSeconds(1)).chunkSize());
+		assertEquals(10, policy.bound(1));
+		assertEquals(1000, policy.bound(5000));
+	}
+
+	@Test
+	void testByteBudget() {
+		policy.setMaxChunkBytes(1024);
+		policy.setItemSizeEstimator(String::length);
+
+		assertEquals(3, policy.estimateSize("foo"));
+		assertEquals(new Decision(40, Reason.CHUNK_BYTES), policy.decide(100, 40, 1030, Duration.ofMillis(1)));
+		assertEquals(new Decision(100, Reason.CHUNK_BYTES), policy.decide(100, 100, 1024, Duration.ofMillis(1)));
+	}
+
+	@Test
+	void testHeapUsage() {
+		heapUsage = 0.95;
+
+		assertEquals(new Decision(50, Reason.HEAP_USAGE), policy.decide(100, 100, 0, Duration.ofMillis(1)));
+	}
+
+	@Test
+	void testInvalidBounds() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy<String>(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy<String>(10, 5));
+	}
+
+}
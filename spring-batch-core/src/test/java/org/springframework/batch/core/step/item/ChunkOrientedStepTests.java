@@ -15,9 +15,13 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -509,4 +513,88 @@ public class ChunkOrientedStepTests {
 				"Sequential mode should have accurate process skip count");
 	}
 
+	@Test
+	void testAdaptiveChunkSizeGrowsTowardTargetCommitDuration() throws Exception {
+		// given
+		List<Integer> items = IntStream.range(0, 100).boxed().toList();
+		List<Integer> chunkSizes = new ArrayList<>();
+		ItemWriter<Integer> writer = chunk -> chunkSizes.add(chunk.size());
+		AdaptiveChunkSizePolicy<Integer> policy = new AdaptiveChunkSizePolicy<>(1, 40);
+		policy.setMaxHeapUsage(1);
+		policy.setTargetCommitDuration(Duration.ofHours(1));
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStepBuilder<Integer, Integer>("step",
+				new ResourcelessJobRepository(), 2)
+			.reader(new ListItemReader<>(items))
+			.writer(writer)
+			.adaptiveChunkSize(policy)
+			.meterRegistry(meterRegistry)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(List.of(2, 4, 8, 16, 32, 38), chunkSizes);
+		assertEquals(40, stepExecution.getExecutionContext().getInt(ChunkOrientedStep.CHUNK_SIZE_KEY));
+		assertEquals(5, meterRegistry.get("spring.batch.chunk.size.adjustment").counter().count());
+	}
+
+	@Test
+	void testAdaptiveChunkSizeWithByteBudget() throws Exception {
+		// given
+		List<String> items = List.of("aaa", "bbb", "ccc", "ddd", "eee", "fff", "ggg", "hhh", "iii", "jjj");
+		List<Integer> chunkSizes = new ArrayList<>();
+		ItemWriter<String> writer = chunk -> chunkSizes.add(chunk.size());
+		AdaptiveChunkSizePolicy<String> policy = new AdaptiveChunkSizePolicy<>(1, 100);
+		policy.setMaxHeapUsage(1);
+		policy.setTargetCommitDuration(Duration.ofHours(1));
+		policy.setMaxChunkBytes(7);
+		policy.setItemSizeEstimator(String::length);
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStepBuilder<String, String>("step",
+				new ResourcelessJobRepository(), 10)
+			.reader(new ListItemReader<>(items))
+			.writer(writer)
+			.adaptiveChunkSize(policy)
+			.meterRegistry(new SimpleMeterRegistry())
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(List.of(3, 3, 3, 1), chunkSizes);
+	}
+
+	@Test
+	void testAdaptiveChunkSizeIsRestoredFromExecutionContext() throws Exception {
+		// given
+		List<Integer> items = IntStream.range(0, 10).boxed().toList();
+		List<Integer> chunkSizes = new ArrayList<>();
+		ItemWriter<Integer> writer = chunk -> chunkSizes.add(chunk.size());
+		AdaptiveChunkSizePolicy<Integer> policy = new AdaptiveChunkSizePolicy<>(1, 100);
+		policy.setMaxHeapUsage(1);
+		policy.setTargetCommitDuration(Duration.ofNanos(1));
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStepBuilder<Integer, Integer>("step",
+				new ResourcelessJobRepository(), 2)
+			.reader(new ListItemReader<>(items))
+			.writer(writer)
+			.adaptiveChunkSize(policy)
+			.meterRegistry(new SimpleMeterRegistry())
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+		stepExecution.getExecutionContext().putInt(ChunkOrientedStep.CHUNK_SIZE_KEY, 8);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(List.of(8, 2), chunkSizes);
+	}
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.tasklet;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.FatalStepExecutionException;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.batch.infrastructure.repeat.support.TaskExecutorRepeatTemplate;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for multi-threaded {@link TaskletStep}s with concurrent commits.
+ */
+@SuppressWarnings("removal")
+class TaskletStepConcurrentCommitsTests {
+
+	private static final int CHUNKS = 100;
+
+	@Test
+	void testConcurrentCommits() throws Exception {
+		// given
+		CountDownLatch concurrentCommits = new CountDownLatch(TaskExecutorRepeatTemplate.DEFAULT_THROTTLE_LIMIT);
+		AtomicInteger serializedCommits = new AtomicInteger();
+		ResourcelessTransactionManager transactionManager = new ResourcelessTransactionManager() {
+			@Override
+			protected void doCommit(DefaultTransactionStatus status) {
+				// the first chunks can only commit if they commit at the same time
+				concurrentCommits.countDown();
+				try {
+					if (!concurrentCommits.await(5, TimeUnit.SECONDS)) {
+						serializedCommits.incrementAndGet();
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		AtomicInteger chunks = new AtomicInteger();
+		AtomicInteger stepExecutionUpdates = new AtomicInteger();
+		ResourcelessJobRepository jobRepository = new ResourcelessJobRepository() {
+			@Override
+			public void update(StepExecution stepExecution) {
+				stepExecutionUpdates.incrementAndGet();
+			}
+		};
+		TaskExecutorRepeatTemplate stepOperations = new TaskExecutorRepeatTemplate();
+		stepOperations.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		TaskletStep step = new TaskletStep(jobRepository);
+		step.setName("step");
+		step.setTransactionManager(transactionManager);
+		step.setStepOperations(stepOperations);
+		step.setConcurrentCommits(true);
+		step.setTasklet((contribution, chunkContext) -> {
+			if (chunks.incrementAndGet() > CHUNKS) {
+				return RepeatStatus.FINISHED;
+			}
+			contribution.incrementReadCount();
+			contribution.incrementWriteCount(1);
+			return RepeatStatus.CONTINUABLE;
+		});
+		step.afterPropertiesSet();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+		assertEquals(0, serializedCommits.get());
+		assertEquals(CHUNKS, stepExecution.getReadCount());
+		assertEquals(CHUNKS, stepExecution.getWriteCount());
+		assertEquals(chunks.get(), stepExecution.getCommitCount());
+		assertTrue(stepExecutionUpdates.get() > 0);
+	}
+
+	@Test
+	void testStepExecutionUpdateFailureDoesNotHideChunkFailure() throws Exception {
+		// given
+		ResourcelessJobRepository jobRepository = new ResourcelessJobRepository() {
+			@Override
+			public void update(StepExecution stepExecution) {
+				// only the update of the failed chunk by the coordinator
+				if (stepExecution.getStatus() == BatchStatus.STARTED && stepExecution.getReadCount() > 0) {
+					throw new IllegalStateException("Step execution update failure");
+				}
+			}
+		};
+		TaskletStep step = new TaskletStep(jobRepository);
+		step.setName("step");
+		step.setTransactionManager(new ResourcelessTransactionManager());
+		step.setConcurrentCommits(true);
+		step.setTasklet((contribution, chunkContext) -> {
+			contribution.incrementReadCount();
+			throw new IllegalArgumentException("Chunk failure");
+		});
+		step.afterPropertiesSet();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+		Throwable failure = stepExecution.getFailureExceptions().get(0);
+		assertEquals("Chunk failure", failure.getMessage());
+		assertEquals(1, failure.getSuppressed().length);
+		Throwable updateFailure = failure.getSuppressed()[0];
+		assertInstanceOf(FatalStepExecutionException.class, updateFailure);
+		assertEquals("Step execution update failure", updateFailure.getCause().getMessage());
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
  * the License. You may obtain a copy of the License at
@@ -12,6 +12,11 @@
  */
 package org.springframework.batch.infrastructure.item;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -23,6 +28,10 @@ import org.springframework.util.Assert;
  * A base class to implement any {@link ItemWriter} that writes to a key value store using
  * a {@link Converter} to derive a key from an item. If a derived key is null, the item
  * will be skipped and a warning logged.
+ * <p>
+ * When {@link #setCoalesce(boolean) coalescing} is enabled, the items of a chunk that map
+ * to the same key are collapsed to the last one before being written, so that each key is
+ * written at most once per chunk.
  *
  * @author David Turanski
  * @author Mahmoud Ben Hassine
@@ -38,6 +47,10 @@ public abstract class KeyValueItemWriter<K, V> implements ItemWriter<V>, Initial
 
 	protected boolean delete;
 
+	protected boolean coalesce;
+
+	private final AtomicLong coalescedItemCount = new AtomicLong();
+
 	/**
 	 * Create a new {@link KeyValueItemWriter} instance.
 	 * @param itemKeyMapper the {@link Converter} used to derive a key from an item.
@@ -50,13 +63,41 @@ public abstract class KeyValueItemWriter<K, V> implements ItemWriter<V>, Initial
 
 	@Override
 	public void write(Chunk<? extends V> chunk) throws Exception {
-		for (V item : chunk) {
-			K key = itemKeyMapper.convert(item);
-			writeKeyValue(key, item);
-		}
+		writeKeyValues(chunk, this::writeKeyValue);
 		flush();
 	}
 
+	/**
+	 * Hand the items of the given chunk to the given writer along with their key,
+	 * collapsing the items that map to the same key when {@link #setCoalesce(boolean)
+	 * coalescing} is enabled. Subclasses that write a chunk through other means than
+	 * {@link #writeKeyValue(Object, Object)} can use this method to honor coalescing.
+	 * @param chunk the items to write
+	 * @param writer the callback writing a single key/value pair
+	 * @since 6.0.3
+	 */
+	protected void writeKeyValues(Chunk<? extends V> chunk, BiConsumer<K, V> writer) {
+		if (coalesce) {
+			Map<K, V> items = new LinkedHashMap<>();
+			for (V item : chunk) {
+				K key = itemKeyMapper.convert(item);
+				// keep the position of the last write of each key
+				items.remove(key);
+				items.put(key, item);
+			}
+			coalescedItemCount.addAndGet(chunk.size() - items.size());
+			for (Map.Entry<K, V> entry : items.entrySet()) {
+				writer.accept(entry.getKey(), entry.getValue());
+			}
+		}
+		else {
+			for (V item : chunk) {
+				K key = itemKeyMapper.convert(item);
+				writer.accept(key, item);
+			}
+		}
+	}
+
 	/**
 	 * Flush items to the key/value store.
 	 * @throws Exception if unable to flush items
@@ -93,6 +134,27 @@ public abstract class KeyValueItemWriter<K, V> implements ItemWriter<V>, Initial
 		this.delete = delete;
 	}
 
+	/**
+	 * Set whether the items of a chunk that map to the same key should be collapsed to
+	 * the last one before being written. This should only be enabled when only the last
+	 * value written for a key matters. Defaults to false.
+	 * @param coalesce if true, each key is written at most once per chunk
+	 * @since 6.0.3
+	 */
+	public void setCoalesce(boolean coalesce) {
+		this.coalesce = coalesce;
+	}
+
+	/**
+	 * Return the number of items that were not written because a later item of the same
+	 * chunk mapped to the same key.
+	 * @return the number of coalesced items
+	 * @since 6.0.3
+	 */
+	public long getCoalescedItemCount() {
+		return this.coalescedItemCount.get();
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		init();
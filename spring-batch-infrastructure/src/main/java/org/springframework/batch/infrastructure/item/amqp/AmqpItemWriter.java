@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2023 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,23 @@
 
 package org.springframework.batch.infrastructure.item.amqp;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.util.Assert;
@@ -32,6 +45,17 @@ import org.springframework.util.Assert;
  * </p>
  *
  * <p>
+ * When a {@link #setConfirmTimeout(Duration) confirm timeout} is set, the template must
+ * be a {@link RabbitOperations} backed by a connection factory with
+ * {@link org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType#CORRELATED
+ * correlated} publisher confirms. Each item of a chunk is then published with its own
+ * {@link CorrelationData}, without waiting for the broker, and the confirms of the whole
+ * chunk are collected asynchronously and awaited once before returning. If any message is
+ * negatively acknowledged or not confirmed within the timeout, an exception is thrown and
+ * the chunk is rolled back.
+ * </p>
+ *
+ * <p>
  * This writer is thread-safe as long as the delegate <code>AmqpTemplate</code>
  * implementation is thread-safe.
  * </p>
@@ -45,20 +69,94 @@ public class AmqpItemWriter<T> implements ItemWriter<T> {
 
 	private final Log log = LogFactory.getLog(getClass());
 
+	private @Nullable Duration confirmTimeout;
+
+	private volatile Duration lastSendLatency = Duration.ZERO;
+
 	public AmqpItemWriter(AmqpTemplate amqpTemplate) {
 		Assert.notNull(amqpTemplate, "AmqpTemplate must not be null");
 
 		this.amqpTemplate = amqpTemplate;
 	}
 
+	/**
+	 * Set the maximum time to wait for the publisher confirms of a chunk. When set, the
+	 * items of a chunk are sent with correlation data and their confirms are awaited once
+	 * per chunk. This requires the template to be a {@link RabbitOperations} whose
+	 * connection factory uses the
+	 * {@link org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType#CORRELATED
+	 * CORRELATED} publisher confirm type.
+	 * @param confirmTimeout the maximum time to wait for the confirms of a chunk
+	 * @since 6.0.3
+	 */
+	public void setConfirmTimeout(Duration confirmTimeout) {
+		Assert.notNull(confirmTimeout, "confirmTimeout must not be null");
+		Assert.isTrue(!confirmTimeout.isNegative(), "confirmTimeout must not be negative");
+		Assert.isTrue(
+				this.amqpTemplate instanceof RabbitOperations rabbitOperations
+						&& rabbitOperations.getConnectionFactory().isPublisherConfirms(),
+				"Publisher confirms require the template to be a RabbitOperations with a connection factory "
+						+ "using the CORRELATED publisher confirm type");
+		this.confirmTimeout = confirmTimeout;
+	}
+
+	/**
+	 * Return the time it took to send the last chunk, including the wait for publisher
+	 * confirms if enabled.
+	 * @return the send latency of the last chunk
+	 * @since 6.0.3
+	 */
+	public Duration getLastSendLatency() {
+		return this.lastSendLatency;
+	}
+
 	@Override
 	public void write(Chunk<? extends T> items) throws Exception {
 		if (log.isDebugEnabled()) {
 			log.debug("Writing to AMQP with " + items.size() + " items.");
 		}
 
+		long start = System.nanoTime();
+		if (this.confirmTimeout != null) {
+			sendWithConfirms(items, this.confirmTimeout);
+		}
+		else {
+			for (T item : items) {
+				amqpTemplate.convertAndSend(item);
+			}
+		}
+		this.lastSendLatency = Duration.ofNanos(System.nanoTime() - start);
+
+		if (log.isDebugEnabled()) {
+			log.debug("Sent " + items.size() + " items in " + this.lastSendLatency.toMillis() + " ms.");
+		}
+	}
+
+	private void sendWithConfirms(Chunk<? extends T> items, Duration timeout) throws Exception {
+		RabbitOperations rabbitOperations = (RabbitOperations) this.amqpTemplate;
+		List<CorrelationData> correlations = new ArrayList<>(items.size());
 		for (T item : items) {
-			amqpTemplate.convertAndSend(item);
+			CorrelationData correlationData = new CorrelationData();
+			rabbitOperations.correlationConvertAndSend(item, correlationData);
+			correlations.add(correlationData);
+		}
+		CompletableFuture<?>[] confirms = correlations.stream()
+			.map(CorrelationData::getFuture)
+			.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(confirms).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			throw new AmqpTimeoutException("Publisher confirms not received within " + timeout.toMillis() + " ms", e);
+		}
+		catch (ExecutionException e) {
+			throw new AmqpException("Unable to receive publisher confirms", e);
+		}
+		for (CorrelationData correlationData : correlations) {
+			CorrelationData.Confirm confirm = correlationData.getFuture().get();
+			if (!confirm.ack()) {
+				throw new AmqpException("Message negatively acknowledged by the broker: " + confirm.reason());
+			}
 		}
 	}
 
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.amqp;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Delivery;
+import com.rabbitmq.client.Envelope;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.RabbitUtils;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.support.AbstractItemStreamItemReader;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * An AMQP {@link org.springframework.batch.infrastructure.item.ItemReader} that keeps a
+ * single consumer open between {@link #open(ExecutionContext)} and {@link #close()},
+ * instead of issuing a blocking receive for each item like {@link AmqpItemReader}. The
+ * broker pushes up to {@link #setPrefetchCount(int) prefetchCount} unacknowledged
+ * messages to the consumer, which are buffered locally until they are read.
+ * <p>
+ * Messages are acknowledged once the chunk transaction that read them commits, with a
+ * single acknowledgement of the last read delivery tag. When the chunk transaction rolls
+ * back, the messages read in the chunk are rejected and requeued, so the step should be
+ * configured with a transactional reader, and messages may be delivered more than once.
+ * Without an active transaction, messages are acknowledged when the reader is
+ * {@link #update(ExecutionContext) updated}. Since the broker stops delivering messages
+ * when {@code prefetchCount} messages are unacknowledged, the prefetch count must be
+ * greater than or equal to the chunk size.
+ * <p>
+ * This reader is not thread-safe.
+ *
+ * @param <T> type of the read items
+ * @since 6.0.3
+ */
+public class AmqpPrefetchingItemReader<T> extends AbstractItemStreamItemReader<T> {
+
+	private static final int DEFAULT_PREFETCH_COUNT = 250;
+
+	private static final long DEFAULT_RECEIVE_TIMEOUT = 1000L;
+
+	private final ConnectionFactory connectionFactory;
+
+	private final String queueName;
+
+	private int prefetchCount = DEFAULT_PREFETCH_COUNT;
+
+	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
+
+	private MessageConverter messageConverter = new SimpleMessageConverter();
+
+	private MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+	private @Nullable Class<? extends T> itemType;
+
+	private final BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+
+	private final Object transactionKey = new Object();
+
+	private @Nullable Connection connection;
+
+	private @Nullable Channel channel;
+
+	private long lastReadDeliveryTag = -1;
+
+	/**
+	 * Create a new {@link AmqpPrefetchingItemReader}.
+	 * @param connectionFactory the connection factory used to create the consumer
+	 * @param queueName the name of the queue to consume messages from
+	 */
+	public AmqpPrefetchingItemReader(ConnectionFactory connectionFactory, String queueName) {
+		Assert.notNull(connectionFactory, "connectionFactory must not be null");
+		Assert.hasLength(queueName, "queueName must not be null or empty");
+		this.connectionFactory = connectionFactory;
+		this.queueName = queueName;
+	}
+
+	/**
+	 * Set the maximum number of unacknowledged messages the broker delivers to the
+	 * consumer. Must be greater than or equal to the chunk size. Defaults to 250.
+	 * @param prefetchCount the prefetch count of the consumer
+	 */
+	public void setPrefetchCount(int prefetchCount) {
+		Assert.isTrue(prefetchCount > 0, "prefetchCount must be greater than zero");
+		this.prefetchCount = prefetchCount;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for a message when the buffer is empty. When
+	 * no message is received in time, {@link #read()} returns {@code null}. Defaults to
+	 * 1000.
+	 * @param receiveTimeout the receive timeout in milliseconds
+	 */
+	public void setReceiveTimeout(long receiveTimeout) {
+		Assert.isTrue(receiveTimeout > 0, "receiveTimeout must be greater than zero");
+		this.receiveTimeout = receiveTimeout;
+	}
+
+	/**
+	 * Set the converter used to convert messages to items. Defaults to a
+	 * {@link SimpleMessageConverter}.
+	 * @param messageConverter the message converter
+	 */
+	public void setMessageConverter(MessageConverter messageConverter) {
+		Assert.notNull(messageConverter, "messageConverter must not be null");
+		this.messageConverter = messageConverter;
+	}
+
+	/**
+	 * Set the converter used to create the properties of the messages. Defaults to a
+	 * {@link DefaultMessagePropertiesConverter}.
+	 * @param messagePropertiesConverter the message properties converter
+	 */
+	public void setMessagePropertiesConverter(MessagePropertiesConverter messagePropertiesConverter) {
+		Assert.notNull(messagePropertiesConverter, "messagePropertiesConverter must not be null");
+		this.messagePropertiesConverter = messagePropertiesConverter;
+	}
+
+	/**
+	 * Establish the itemType for the reader. Set this to {@link Message} to receive the
+	 * raw message.
+	 * @param itemType class type that will be returned by the reader.
+	 */
+	public void setItemType(Class<? extends T> itemType) {
+		Assert.notNull(itemType, "Item type cannot be null");
+		this.itemType = itemType;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		try {
+			this.connection = this.connectionFactory.createConnection();
+			this.channel = this.connection.createChannel(false);
+			this.channel.basicQos(this.prefetchCount);
+			this.channel.basicConsume(this.queueName, false, new DefaultConsumer(this.channel) {
+				@Override
+				public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties,
+						byte[] body) {
+					deliveries.add(new Delivery(envelope, properties, body));
+				}
+			});
+		}
+		catch (IOException e) {
+			close();
+			throw new ItemStreamException("Failed to open the AMQP consumer",
+					RabbitExceptionTranslator.convertRabbitAccessException(e));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public @Nullable T read() throws Exception {
+		Assert.state(this.channel != null, "Reader must be open before it can be read");
+		Delivery delivery = this.deliveries.poll(this.receiveTimeout, TimeUnit.MILLISECONDS);
+		if (delivery == null) {
+			return null;
+		}
+		this.lastReadDeliveryTag = delivery.getEnvelope().getDeliveryTag();
+		registerTransactionSynchronization();
+		Message message = new Message(delivery.getBody(), this.messagePropertiesConverter
+			.toMessageProperties(delivery.getProperties(), delivery.getEnvelope(), "UTF-8"));
+		if (this.itemType != null && this.itemType.isAssignableFrom(Message.class)) {
+			return (T) message;
+		}
+		Object result = this.messageConverter.fromMessage(message);
+		if (this.itemType != null) {
+			Assert.state(this.itemType.isAssignableFrom(result.getClass()),
+					"Received message payload of wrong type: expected [" + this.itemType + "]");
+		}
+		return (T) result;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			acknowledge();
+		}
+	}
+
+	@Override
+	public void close() {
+		// unacknowledged messages are requeued by the broker when the channel is closed
+		RabbitUtils.closeChannel(this.channel);
+		RabbitUtils.closeConnection(this.connection);
+		this.channel = null;
+		this.connection = null;
+		this.deliveries.clear();
+		this.lastReadDeliveryTag = -1;
+	}
+
+	private void registerTransactionSynchronization() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+				|| TransactionSynchronizationManager.hasResource(this.transactionKey)) {
+			return;
+		}
+		TransactionSynchronizationManager.bindResource(this.transactionKey, true);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (TransactionSynchronizationManager.hasResource(transactionKey)) {
+					TransactionSynchronizationManager.unbindResource(transactionKey);
+				}
+				if (status == STATUS_COMMITTED) {
+					acknowledge();
+				}
+				else {
+					reject();
+				}
+			}
+		});
+	}
+
+	private void acknowledge() {
+		if (this.channel == null || this.lastReadDeliveryTag < 0) {
+			return;
+		}
+		try {
+			this.channel.basicAck(this.lastReadDeliveryTag, true);
+			this.lastReadDeliveryTag = -1;
+		}
+		catch (IOException e) {
+			throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+		}
+	}
+
+	private void reject() {
+		if (this.channel == null || this.lastReadDeliveryTag < 0) {
+			return;
+		}
+		try {
+			this.channel.basicNack(this.lastReadDeliveryTag, true, true);
+			this.lastReadDeliveryTag = -1;
+		}
+		catch (IOException e) {
+			throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+		}
+	}
+
+}
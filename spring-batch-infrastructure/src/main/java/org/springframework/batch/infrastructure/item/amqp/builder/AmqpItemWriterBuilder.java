@@ -1,5 +1,5 @@
 /*
- * Copyright 2017 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.infrastructure.item.amqp.builder;
 
+import java.time.Duration;
+
 import org.jspecify.annotations.Nullable;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.batch.infrastructure.item.amqp.AmqpItemWriter;
@@ -33,6 +35,8 @@ public class AmqpItemWriterBuilder<T> {
 
 	private @Nullable AmqpTemplate amqpTemplate;
 
+	private @Nullable Duration confirmTimeout;
+
 	/**
 	 * Establish the amqpTemplate to be used by the AmqpItemWriter.
 	 * @param amqpTemplate the template to be used.
@@ -45,6 +49,22 @@ public class AmqpItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Establish the maximum time to wait for the publisher confirms of a chunk. The
+	 * template must then be a
+	 * {@link org.springframework.amqp.rabbit.core.RabbitOperations} whose connection
+	 * factory uses the CORRELATED publisher confirm type.
+	 * @param confirmTimeout the maximum time to wait for the confirms of a chunk
+	 * @return this instance for method chaining
+	 * @since 6.0.3
+	 * @see AmqpItemWriter#setConfirmTimeout(Duration)
+	 */
+	public AmqpItemWriterBuilder<T> confirmTimeout(Duration confirmTimeout) {
+		this.confirmTimeout = confirmTimeout;
+
+		return this;
+	}
+
 	/**
 	 * Validates and builds a {@link AmqpItemWriter}.
 	 * @return a {@link AmqpItemWriter}
@@ -52,7 +72,11 @@ public class AmqpItemWriterBuilder<T> {
 	public AmqpItemWriter<T> build() {
 		Assert.notNull(this.amqpTemplate, "amqpTemplate is required.");
 
-		return new AmqpItemWriter<>(this.amqpTemplate);
+		AmqpItemWriter<T> amqpItemWriter = new AmqpItemWriter<>(this.amqpTemplate);
+		if (this.confirmTimeout != null) {
+			amqpItemWriter.setConfirmTimeout(this.confirmTimeout);
+		}
+		return amqpItemWriter;
 	}
 
 }
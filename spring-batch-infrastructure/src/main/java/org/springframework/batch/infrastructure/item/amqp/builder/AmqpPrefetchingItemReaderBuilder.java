@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.amqp.builder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.batch.infrastructure.item.amqp.AmqpPrefetchingItemReader;
+import org.springframework.util.Assert;
+
+/**
+ * A builder implementation for the {@link AmqpPrefetchingItemReader}.
+ *
+ * @param <T> type of the read items
+ * @since 6.0.3
+ * @see AmqpPrefetchingItemReader
+ */
+public class AmqpPrefetchingItemReaderBuilder<T> {
+
+	private @Nullable ConnectionFactory connectionFactory;
+
+	private @Nullable String queueName;
+
+	private @Nullable Integer prefetchCount;
+
+	private @Nullable Long receiveTimeout;
+
+	private @Nullable MessageConverter messageConverter;
+
+	private @Nullable Class<? extends T> itemType;
+
+	private @Nullable String name;
+
+	/**
+	 * Establish the connection factory used to create the consumer.
+	 * @param connectionFactory the connection factory
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#AmqpPrefetchingItemReader(ConnectionFactory, String)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> connectionFactory(ConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+
+		return this;
+	}
+
+	/**
+	 * Establish the name of the queue to consume messages from.
+	 * @param queueName the name of the queue
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#AmqpPrefetchingItemReader(ConnectionFactory, String)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> queueName(String queueName) {
+		this.queueName = queueName;
+
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of unacknowledged messages the broker delivers to the
+	 * consumer.
+	 * @param prefetchCount the prefetch count of the consumer
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#setPrefetchCount(int)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> prefetchCount(int prefetchCount) {
+		this.prefetchCount = prefetchCount;
+
+		return this;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for a message when the buffer is empty.
+	 * @param receiveTimeout the receive timeout in milliseconds
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#setReceiveTimeout(long)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> receiveTimeout(long receiveTimeout) {
+		this.receiveTimeout = receiveTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Set the converter used to convert messages to items.
+	 * @param messageConverter the message converter
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#setMessageConverter(MessageConverter)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> messageConverter(MessageConverter messageConverter) {
+		this.messageConverter = messageConverter;
+
+		return this;
+	}
+
+	/**
+	 * Establish the itemType for the reader. Set this to {@link Message} to receive the
+	 * raw message.
+	 * @param itemType the java class of the items to be delivered
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#setItemType(Class)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> itemType(Class<? extends T> itemType) {
+		this.itemType = itemType;
+
+		return this;
+	}
+
+	/**
+	 * The name used to identify the reader.
+	 * @param name name of the reader
+	 * @return this instance for method chaining.
+	 * @see AmqpPrefetchingItemReader#setName(String)
+	 */
+	public AmqpPrefetchingItemReaderBuilder<T> name(String name) {
+		this.name = name;
+
+		return this;
+	}
+
+	/**
+	 * Validates and builds a {@link AmqpPrefetchingItemReader}.
+	 * @return a {@link AmqpPrefetchingItemReader}
+	 */
+	public AmqpPrefetchingItemReader<T> build() {
+		Assert.notNull(this.connectionFactory, "connectionFactory is required.");
+		Assert.hasLength(this.queueName, "queueName is required.");
+
+		AmqpPrefetchingItemReader<T> reader = new AmqpPrefetchingItemReader<>(this.connectionFactory, this.queueName);
+		if (this.prefetchCount != null) {
+			reader.setPrefetchCount(this.prefetchCount);
+		}
+		if (this.receiveTimeout != null) {
+			reader.setReceiveTimeout(this.receiveTimeout);
+		}
+		if (this.messageConverter != null) {
+			reader.setMessageConverter(this.messageConverter);
+		}
+		if (this.itemType != null) {
+			reader.setItemType(this.itemType);
+		}
+		if (this.name != null) {
+			reader.setName(this.name);
+		}
+		return reader;
+	}
+
+}
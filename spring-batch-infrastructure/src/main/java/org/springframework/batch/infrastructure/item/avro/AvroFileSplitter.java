@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.avro;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.SeekableFileInput;
+import org.apache.avro.generic.GenericDatumReader;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Utility methods to split an Avro container file into byte ranges aligned on the sync
+ * markers of its blocks. Each range can then be read independently by an
+ * {@link AvroItemReader} configured with {@link AvroItemReader#setStartPosition(long)}
+ * and {@link AvroItemReader#setEndPosition(long)}.
+ *
+ * @since 6.0.3
+ */
+public abstract class AvroFileSplitter {
+
+	// forbids instantiation
+	private AvroFileSplitter() {
+	}
+
+	/**
+	 * Split the given file into at most {@code count} block-aligned ranges of similar
+	 * size. Ranges that would not contain any sync marker are omitted.
+	 * @param resource the Avro container file, must be resolvable to a
+	 * {@link java.io.File}
+	 * @param count the maximum number of ranges
+	 * @return the boundaries of the ranges in ascending order, starting with 0 and ending
+	 * with the length of the file, so that range {@code i} goes from boundary {@code i}
+	 * (inclusive) to boundary {@code i + 1} (exclusive)
+	 * @throws IOException if the file cannot be read
+	 */
+	public static List<Long> split(Resource resource, int count) throws IOException {
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.isTrue(count > 0, "count must be greater than zero");
+		List<Long> boundaries = new ArrayList<>(count + 1);
+		boundaries.add(0L);
+		try (SeekableFileInput input = new SeekableFileInput(resource.getFile());
+				DataFileReader<Object> reader = new DataFileReader<>(input, new GenericDatumReader<>())) {
+			long length = input.length();
+			long firstSyncMarker = reader.previousSync() - DataFileConstants.SYNC_SIZE;
+			long start = 0;
+			for (int i = 1; i <= count && start < length; i++) {
+				long end = (i == count) ? length : alignToSyncMarker(reader, length * i / count, length);
+				if (end > start && end > firstSyncMarker) {
+					boundaries.add(end);
+					start = end;
+				}
+			}
+		}
+		return boundaries;
+	}
+
+	private static long alignToSyncMarker(DataFileReader<Object> reader, long position, long length)
+			throws IOException {
+		reader.sync(position);
+		long blockStart = reader.previousSync();
+		return (blockStart >= length) ? length : blockStart - DataFileConstants.SYNC_SIZE;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.DataFileStream;
+import org.apache.avro.file.SeekableFileInput;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
@@ -30,6 +32,7 @@ import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
@@ -41,6 +44,16 @@ import org.springframework.util.Assert;
  * serialized Avro objects.
  *
  * <p>
+ * When the resource is a file with an embedded schema, the reader opens it as a seekable
+ * Avro container file. In that case the position of the current block and the number of
+ * records read in that block are saved in the {@link ExecutionContext}, so that a restart
+ * seeks directly to the block instead of re-reading all previous records. A seekable
+ * reader can also be restricted to the blocks whose sync marker lies in a byte range (see
+ * {@link #setStartPosition(long)} and {@link #setEndPosition(long)}), which allows a
+ * large file to be read in parallel by the workers of a partitioned step.
+ * </p>
+ *
+ * <p>
  * This reader is <b>not</b> thread-safe.
  * </p>
  *
@@ -52,8 +65,26 @@ import org.springframework.util.Assert;
  */
 public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
 
+	private static final String BLOCK_POSITION = "block.position";
+
+	private static final String BLOCK_RECORD_COUNT = "block.record.count";
+
 	private boolean embeddedSchema = true;
 
+	private long startPosition;
+
+	private long endPosition = Long.MAX_VALUE;
+
+	private long blockPosition = -1;
+
+	private long blockRecordCount;
+
+	private long restartBlockPosition = -1;
+
+	private long restartBlockRecordCount;
+
+	private final Resource resource;
+
 	private @Nullable InputStreamReader<T> inputStreamReader;
 
 	private @Nullable DataFileStream<T> dataFileReader;
@@ -70,6 +101,7 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 		Assert.notNull(resource, "'resource' is required.");
 		Assert.notNull(clazz, "'class' is required.");
 
+		this.resource = resource;
 		try {
 			this.inputStream = resource.getInputStream();
 			this.datumReader = datumReaderForClass(clazz);
@@ -88,6 +120,7 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 		Assert.state(data.exists(), "'data' " + data.getFilename() + " does not exist.");
 		Assert.notNull(schema, "'schema' is required");
 		Assert.state(schema.exists(), "'schema' " + schema.getFilename() + " does not exist.");
+		this.resource = data;
 		try {
 			this.inputStream = data.getInputStream();
 			Schema avroSchema = new Schema.Parser().parse(schema.getInputStream());
@@ -107,20 +140,103 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 		this.embeddedSchema = embeddedSchema;
 	}
 
+	/**
+	 * Set the position in bytes from which to read. Reading starts at the first block
+	 * whose sync marker is at or after this position. Only applies to seekable resources
+	 * with an embedded schema. Defaults to 0.
+	 * @param startPosition the start position of the range to read
+	 * @since 6.0.3
+	 */
+	public void setStartPosition(long startPosition) {
+		Assert.isTrue(startPosition >= 0, "startPosition must not be negative");
+		this.startPosition = startPosition;
+	}
+
+	/**
+	 * Set the position in bytes up to which to read. Reading stops at the first block
+	 * whose sync marker is at or after this position. Only applies to seekable resources
+	 * with an embedded schema. Defaults to the end of the file.
+	 * @param endPosition the end position (exclusive) of the range to read
+	 * @since 6.0.3
+	 */
+	public void setEndPosition(long endPosition) {
+		Assert.isTrue(endPosition >= 0, "endPosition must not be negative");
+		this.endPosition = endPosition;
+	}
+
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected @Nullable T doRead() throws Exception {
 		if (this.inputStreamReader != null) {
 			return this.inputStreamReader.read();
 		}
+		if (this.dataFileReader instanceof DataFileReader<T> seekableReader) {
+			return readBlockRecord(seekableReader);
+		}
 		return this.dataFileReader.hasNext() ? this.dataFileReader.next() : null;
 	}
 
+	private @Nullable T readBlockRecord(DataFileReader<T> reader) throws IOException {
+		if (!reader.hasNext() || (this.endPosition != Long.MAX_VALUE && reader.pastSync(this.endPosition))) {
+			return null;
+		}
+		T item = reader.next();
+		// the previous sync moves to the next block once the last record of a block is
+		// read
+		long position = reader.previousSync();
+		if (position != this.blockPosition) {
+			this.blockPosition = position;
+			this.blockRecordCount = 0;
+		}
+		else {
+			this.blockRecordCount++;
+		}
+		return item;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		this.restartBlockPosition = -1;
+		if (isSaveState() && executionContext.containsKey(getExecutionContextKey(BLOCK_POSITION))) {
+			this.restartBlockPosition = executionContext.getLong(getExecutionContextKey(BLOCK_POSITION));
+			this.restartBlockRecordCount = executionContext.getLong(getExecutionContextKey(BLOCK_RECORD_COUNT));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && this.dataFileReader instanceof DataFileReader) {
+			executionContext.putLong(getExecutionContextKey(BLOCK_POSITION), this.blockPosition);
+			executionContext.putLong(getExecutionContextKey(BLOCK_RECORD_COUNT), this.blockRecordCount);
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 		initializeReader();
 	}
 
+	/**
+	 * Seek to the saved block and skip the records already read in that block when the
+	 * resource is seekable, otherwise re-read the previous records.
+	 */
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		if (this.restartBlockPosition >= 0 && this.dataFileReader instanceof DataFileReader<T> seekableReader) {
+			seekableReader.seek(this.restartBlockPosition);
+			this.blockPosition = this.restartBlockPosition;
+			this.blockRecordCount = 0;
+			for (long i = 0; i < this.restartBlockRecordCount && seekableReader.hasNext(); i++) {
+				seekableReader.next();
+				this.blockRecordCount++;
+			}
+			return;
+		}
+		super.jumpToItem(itemIndex);
+	}
+
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	protected void doClose() throws Exception {
@@ -132,7 +248,19 @@ public class AvroItemReader<T> extends AbstractItemCountingItemStreamItemReader<
 	}
 
 	private void initializeReader() throws IOException {
-		if (this.embeddedSchema) {
+		if (this.embeddedSchema && this.resource.isFile()) {
+			// the container file is read through a seekable input instead
+			this.inputStream.close();
+			DataFileReader<T> seekableReader = new DataFileReader<>(new SeekableFileInput(this.resource.getFile()),
+					this.datumReader);
+			if (this.startPosition > 0) {
+				seekableReader.sync(this.startPosition);
+			}
+			this.blockPosition = seekableReader.previousSync();
+			this.blockRecordCount = 0;
+			this.dataFileReader = seekableReader;
+		}
+		else if (this.embeddedSchema) {
 			this.dataFileReader = new DataFileStream<>(this.inputStream, this.datumReader);
 		}
 		else {
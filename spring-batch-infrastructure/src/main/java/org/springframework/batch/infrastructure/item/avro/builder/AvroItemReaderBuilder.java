@@ -1,5 +1,5 @@
 /*
- * Copyright 2019 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,10 @@ public class AvroItemReaderBuilder<T> {
 
 	private boolean embeddedSchema = true;
 
+	private long startPosition;
+
+	private long endPosition = Long.MAX_VALUE;
+
 	/**
 	 * Configure a {@link Resource} containing Avro serialized objects.
 	 * @param resource an existing Resource.
@@ -111,6 +115,30 @@ public class AvroItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Set the position in bytes from which to read a seekable Avro container file.
+	 * @param startPosition the start position of the range to read
+	 * @return The current instance of the builder.
+	 * @see AvroItemReader#setStartPosition(long)
+	 * @since 6.0.3
+	 */
+	public AvroItemReaderBuilder<T> startPosition(long startPosition) {
+		this.startPosition = startPosition;
+		return this;
+	}
+
+	/**
+	 * Set the position in bytes up to which to read a seekable Avro container file.
+	 * @param endPosition the end position (exclusive) of the range to read
+	 * @return The current instance of the builder.
+	 * @see AvroItemReader#setEndPosition(long)
+	 * @since 6.0.3
+	 */
+	public AvroItemReaderBuilder<T> endPosition(long endPosition) {
+		this.endPosition = endPosition;
+		return this;
+	}
+
 	/**
 	 * Configure if the state of the {@link ItemStreamSupport} should be persisted within
 	 * the {@link ExecutionContext} for restart purposes.
@@ -184,6 +212,8 @@ public class AvroItemReaderBuilder<T> {
 		avroItemReader.setCurrentItemCount(this.currentItemCount);
 		avroItemReader.setMaxItemCount(this.maxItemCount);
 		avroItemReader.setEmbeddedSchema(this.embeddedSchema);
+		avroItemReader.setStartPosition(this.startPosition);
+		avroItemReader.setEndPosition(this.endPosition);
 
 		return avroItemReader;
 	}
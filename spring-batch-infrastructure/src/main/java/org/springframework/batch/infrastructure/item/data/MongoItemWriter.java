@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,21 @@ package org.springframework.batch.infrastructure.item.data;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.mongodb.bulk.BulkWriteResult;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndReplaceOptions;
@@ -49,6 +56,18 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * Items of a chunk are written with {@link BulkOperations} in the configured
+ * {@link #setBulkMode(BulkMode) bulk mode}. Large chunks can be split into several bulk
+ * batches of at most {@link #setBatchSize(int) batchSize} operations. Bulk batches are
+ * executed sequentially on the thread writing the chunk, so that they take part in the
+ * MongoDB session and transaction bound to that thread, if any. Items of heterogeneous
+ * chunks can be routed to different collections with a
+ * {@link #setCollectionResolver(Converter) collection resolver}. The numbers of inserted,
+ * upserted, modified, removed and failed documents are available through the
+ * corresponding getters.
+ * </p>
+ *
+ * <p>
  * This writer is thread-safe once all properties are set (normal singleton behavior) so
  * it can be used in multiple concurrent transactions.
  * </p>
@@ -98,6 +117,22 @@ public class MongoItemWriter<T> implements ItemWriter<T> {
 
 	private List<String> primaryKeys = List.of(ID_KEY);
 
+	private BulkMode bulkMode = BulkMode.ORDERED;
+
+	private int batchSize = 0;
+
+	private @Nullable Converter<T, String> collectionResolver;
+
+	private final LongAdder insertedCount = new LongAdder();
+
+	private final LongAdder upsertedCount = new LongAdder();
+
+	private final LongAdder modifiedCount = new LongAdder();
+
+	private final LongAdder removedCount = new LongAdder();
+
+	private final LongAdder failedCount = new LongAdder();
+
 	/**
 	 * Create a new instance of {@link MongoItemWriter} with the provided
 	 * {@link MongoOperations} template. The template is required.
@@ -184,6 +219,85 @@ public class MongoItemWriter<T> implements ItemWriter<T> {
 		return primaryKeys;
 	}
 
+	/**
+	 * Set the {@link BulkMode} of the bulk operations. Defaults to
+	 * {@link BulkMode#ORDERED}. With {@link BulkMode#UNORDERED}, the server may apply
+	 * operations in any order and continues after a failed operation.
+	 * @param bulkMode the bulk mode to use
+	 * @since 6.0.3
+	 */
+	public void setBulkMode(BulkMode bulkMode) {
+		Assert.notNull(bulkMode, "bulkMode must not be null");
+		this.bulkMode = bulkMode;
+	}
+
+	/**
+	 * Set the maximum number of operations per bulk batch. Chunks with more items are
+	 * split into several bulk batches. Defaults to 0, meaning that a single bulk batch is
+	 * used per chunk (and target collection).
+	 * @param batchSize the maximum number of operations per bulk batch
+	 * @since 6.0.3
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize >= 0, "batchSize must not be negative");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the {@link Converter} used to derive the name of the target collection from
+	 * each item. Takes precedence over the {@link #setCollection(String) collection}.
+	 * @param collectionResolver the converter from an item to a collection name
+	 * @since 6.0.3
+	 */
+	public void setCollectionResolver(@Nullable Converter<T, String> collectionResolver) {
+		this.collectionResolver = collectionResolver;
+	}
+
+	/**
+	 * Get the number of documents inserted by this writer.
+	 * @return the number of inserted documents
+	 * @since 6.0.3
+	 */
+	public long getInsertedCount() {
+		return this.insertedCount.sum();
+	}
+
+	/**
+	 * Get the number of documents inserted by upserts of this writer.
+	 * @return the number of upserted documents
+	 * @since 6.0.3
+	 */
+	public long getUpsertedCount() {
+		return this.upsertedCount.sum();
+	}
+
+	/**
+	 * Get the number of existing documents replaced by this writer.
+	 * @return the number of modified documents
+	 * @since 6.0.3
+	 */
+	public long getModifiedCount() {
+		return this.modifiedCount.sum();
+	}
+
+	/**
+	 * Get the number of documents removed by this writer.
+	 * @return the number of removed documents
+	 * @since 6.0.3
+	 */
+	public long getRemovedCount() {
+		return this.removedCount.sum();
+	}
+
+	/**
+	 * Get the number of operations of this writer that failed.
+	 * @return the number of failed operations
+	 * @since 6.0.3
+	 */
+	public long getFailedCount() {
+		return this.failedCount.sum();
+	}
+
 	/**
 	 * If a transaction is active, buffer items to be written just before commit.
 	 * Otherwise write items using the provided template.
@@ -210,32 +324,61 @@ public class MongoItemWriter<T> implements ItemWriter<T> {
 	 * @param chunk the chunk of items to be persisted.
 	 */
 	protected void doWrite(Chunk<? extends T> chunk) {
-		if (!chunk.isEmpty()) {
-			switch (this.mode) {
-				case INSERT -> insert(chunk);
-				case REMOVE -> remove(chunk);
-				default -> upsert(chunk);
+		if (chunk.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<Object, List<T>> entry : groupByTarget(chunk).entrySet()) {
+			List<T> items = entry.getValue();
+			int size = this.batchSize > 0 ? this.batchSize : items.size();
+			for (int i = 0; i < items.size(); i += size) {
+				BulkOperations bulkOperations = initBulkOperations(entry.getKey());
+				List<T> batch = items.subList(i, Math.min(i + size, items.size()));
+				switch (this.mode) {
+					case INSERT -> insert(bulkOperations, batch);
+					case REMOVE -> remove(bulkOperations, batch);
+					default -> upsert(bulkOperations, batch);
+				}
+				execute(bulkOperations);
 			}
 		}
 	}
 
-	private void insert(Chunk<? extends T> chunk) {
-		BulkOperations bulkOperations = initBulkOperations(chunk.getItems().get(0));
+	/**
+	 * Group the items of the chunk by target collection name, or by the type of the first
+	 * item if neither a collection resolver nor a collection name is set.
+	 */
+	@SuppressWarnings("DataFlowIssue")
+	private Map<Object, List<T>> groupByTarget(Chunk<? extends T> chunk) {
+		Map<Object, List<T>> groups = new LinkedHashMap<>();
+		if (this.collectionResolver != null) {
+			for (T item : chunk) {
+				String target = this.collectionResolver.convert(item);
+				Assert.state(StringUtils.hasText(target), "No collection resolved for item: " + item);
+				groups.computeIfAbsent(target, key -> new ArrayList<>()).add(item);
+			}
+		}
+		else {
+			Object target = StringUtils.hasText(this.collection) ? this.collection
+					: ClassUtils.getUserClass(chunk.getItems().get(0));
+			groups.put(target, new ArrayList<>(chunk.getItems()));
+		}
+		return groups;
+	}
+
+	private void insert(BulkOperations bulkOperations, List<T> items) {
 		@SuppressWarnings("DataFlowIssue")
 		MongoConverter mongoConverter = this.template.getConverter();
-		for (Object item : chunk) {
+		for (Object item : items) {
 			Document document = new Document();
 			mongoConverter.write(item, document);
 			bulkOperations.insert(document);
 		}
-		bulkOperations.execute();
 	}
 
-	private void remove(Chunk<? extends T> chunk) {
-		BulkOperations bulkOperations = initBulkOperations(chunk.getItems().get(0));
+	private void remove(BulkOperations bulkOperations, List<T> items) {
 		@SuppressWarnings("DataFlowIssue")
 		MongoConverter mongoConverter = this.template.getConverter();
-		for (Object item : chunk) {
+		for (Object item : items) {
 			Document document = new Document();
 			mongoConverter.write(item, document);
 
@@ -249,15 +392,13 @@ public class MongoItemWriter<T> implements ItemWriter<T> {
 				bulkOperations.remove(query);
 			}
 		}
-		bulkOperations.execute();
 	}
 
-	private void upsert(Chunk<? extends T> chunk) {
-		BulkOperations bulkOperations = initBulkOperations(chunk.getItems().get(0));
+	private void upsert(BulkOperations bulkOperations, List<T> items) {
 		@SuppressWarnings("DataFlowIssue")
 		MongoConverter mongoConverter = this.template.getConverter();
 		FindAndReplaceOptions upsert = new FindAndReplaceOptions().upsert();
-		for (Object item : chunk) {
+		for (Object item : items) {
 			Document document = new Document();
 			mongoConverter.write(item, document);
 
@@ -277,14 +418,33 @@ public class MongoItemWriter<T> implements ItemWriter<T> {
 
 			bulkOperations.replaceOne(query, document, upsert);
 		}
-		bulkOperations.execute();
+	}
+
+	private void execute(BulkOperations bulkOperations) {
+		try {
+			record(bulkOperations.execute());
+		}
+		catch (BulkOperationException e) {
+			this.failedCount.add(e.getErrors().size());
+			record(e.getResult());
+			throw e;
+		}
+	}
+
+	private void record(@Nullable BulkWriteResult result) {
+		if (result != null && result.wasAcknowledged()) {
+			this.insertedCount.add(result.getInsertedCount());
+			this.upsertedCount.add(result.getUpserts().size());
+			this.modifiedCount.add(result.getModifiedCount());
+			this.removedCount.add(result.getDeletedCount());
+		}
 	}
 
 	@SuppressWarnings("DataFlowIssue")
-	private BulkOperations initBulkOperations(Object item) {
-		return StringUtils.hasText(this.collection) //
-				? this.template.bulkOps(BulkMode.ORDERED, this.collection)
-				: this.template.bulkOps(BulkMode.ORDERED, ClassUtils.getUserClass(item));
+	private BulkOperations initBulkOperations(Object target) {
+		return target instanceof String collectionName //
+				? this.template.bulkOps(this.bulkMode, collectionName)
+				: this.template.bulkOps(this.bulkMode, (Class<?>) target);
 	}
 
 	private boolean transactionActive() {
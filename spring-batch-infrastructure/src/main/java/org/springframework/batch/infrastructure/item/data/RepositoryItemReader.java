@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2025 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.springframework.batch.infrastructure.item.data;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
@@ -28,14 +29,19 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.adapter.AbstractMethodInvokingDelegator.InvocationTargetThrowableWrapper;
 import org.springframework.batch.infrastructure.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -59,6 +65,15 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, pages are requested with a {@link PageRequest}, which usually results in
+ * offset queries whose cost grows with the page number. When
+ * {@link #setKeysetScrolling(boolean) keyset scrolling} is enabled, pages are requested
+ * with a {@link KeysetScrollPosition} holding the sort key values of the last item of the
+ * previous page instead, and these values are saved in the {@link ExecutionContext} for
+ * restart.
+ * </p>
+ *
+ * <p>
  * This implementation is thread-safe between calls to {@link #open(ExecutionContext)},
  * but remember to use <code>saveState=false</code> if used in a multi-threaded client (no
  * restart available).
@@ -84,6 +99,8 @@ import org.springframework.util.StringUtils;
  */
 public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> implements InitializingBean {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
 	protected Log logger = LogFactory.getLog(getClass());
 
 	private PagingAndSortingRepository<?, ?> repository;
@@ -104,6 +121,12 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 
 	private @Nullable String methodName;
 
+	private boolean keysetScrolling;
+
+	private volatile @Nullable Map<String, Object> startAfterValues;
+
+	private volatile @Nullable Map<String, Object> previousStartAfterValues;
+
 	/**
 	 * Create a new {@link RepositoryItemReader}.
 	 * @param repository the {@link PagingAndSortingRepository} to use
@@ -159,6 +182,18 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		this.methodName = methodName;
 	}
 
+	/**
+	 * Request pages with a {@link KeysetScrollPosition} instead of a {@link PageRequest}.
+	 * In this mode, the repository method must take a {@link ScrollPosition}, a
+	 * {@link Sort} and a {@link Limit} as its <em>last</em> arguments and return a
+	 * {@link Window}, and the sorts must identify items uniquely. Defaults to false.
+	 * @param keysetScrolling true to use keyset scrolling
+	 * @since 6.0.3
+	 */
+	public void setKeysetScrolling(boolean keysetScrolling) {
+		this.keysetScrolling = keysetScrolling;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(pageSize > 0, "Page size must be greater than 0");
@@ -228,9 +263,6 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 	 */
 	@SuppressWarnings("unchecked")
 	protected List<T> doPageRead() throws Exception {
-		@SuppressWarnings("DataFlowIssue")
-		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
-
 		@SuppressWarnings("DataFlowIssue")
 		MethodInvoker invoker = createMethodInvoker(repository, methodName);
 
@@ -240,6 +272,13 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 			parameters.addAll(arguments);
 		}
 
+		if (keysetScrolling) {
+			return doScrollRead(invoker, parameters);
+		}
+
+		@SuppressWarnings("DataFlowIssue")
+		Pageable pageRequest = PageRequest.of(page, pageSize, convertToSort(sorts));
+
 		parameters.add(pageRequest);
 
 		invoker.setArguments(parameters.toArray());
@@ -249,6 +288,56 @@ public class RepositoryItemReader<T> extends AbstractItemCountingItemStreamItemR
 		return curPage.getContent();
 	}
 
+	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
+	private List<T> doScrollRead(MethodInvoker invoker, List<Object> parameters) throws Exception {
+		Map<String, Object> keys = startAfterValues;
+		ScrollPosition position;
+		if (keys != null && !keys.isEmpty()) {
+			previousStartAfterValues = keys;
+			position = ScrollPosition.forward(keys);
+		}
+		else {
+			position = ScrollPosition.keyset();
+		}
+		parameters.add(position);
+		parameters.add(convertToSort(sorts));
+		parameters.add(Limit.of(pageSize));
+
+		invoker.setArguments(parameters.toArray());
+
+		Window<T> window = (Window<T>) doInvoke(invoker);
+
+		List<T> content = window.getContent();
+		if (!content.isEmpty()
+				&& window.positionAt(content.size() - 1) instanceof KeysetScrollPosition keysetScrollPosition) {
+			startAfterValues = new LinkedHashMap<>(keysetScrollPosition.getKeys());
+		}
+		return content;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		startAfterValues = null;
+		previousStartAfterValues = null;
+		if (isSaveState() && keysetScrolling) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && keysetScrolling) {
+			Map<String, Object> keys = (getCurrentItemCount() % pageSize == 0) ? startAfterValues
+					: previousStartAfterValues;
+			if (keys != null) {
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), keys);
+			}
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import java.util.List;
 import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.data.MongoItemWriter;
 import org.springframework.batch.infrastructure.item.data.MongoItemWriter.Mode;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.util.Assert;
 
@@ -42,6 +44,12 @@ public class MongoItemWriterBuilder<T> {
 
 	private List<String> primaryKeys = List.of();
 
+	private BulkMode bulkMode = BulkMode.ORDERED;
+
+	private int batchSize = 0;
+
+	private @Nullable Converter<T, String> collectionResolver;
+
 	/**
 	 * Set the operating {@link Mode} to be applied by this writer. Defaults to
 	 * {@link Mode#UPSERT}.
@@ -107,6 +115,47 @@ public class MongoItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Set the {@link BulkMode} of the bulk operations. Defaults to
+	 * {@link BulkMode#ORDERED}.
+	 * @param bulkMode the bulk mode to use.
+	 * @return The current instance of the builder
+	 * @see MongoItemWriter#setBulkMode(BulkMode)
+	 * @since 6.0.3
+	 */
+	public MongoItemWriterBuilder<T> bulkMode(BulkMode bulkMode) {
+		this.bulkMode = bulkMode;
+
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of operations per bulk batch.
+	 * @param batchSize the maximum number of operations per bulk batch.
+	 * @return The current instance of the builder
+	 * @see MongoItemWriter#setBatchSize(int)
+	 * @since 6.0.3
+	 */
+	public MongoItemWriterBuilder<T> batchSize(int batchSize) {
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Set the {@link Converter} used to derive the name of the target collection from
+	 * each item.
+	 * @param collectionResolver the converter from an item to a collection name.
+	 * @return The current instance of the builder
+	 * @see MongoItemWriter#setCollectionResolver(Converter)
+	 * @since 6.0.3
+	 */
+	public MongoItemWriterBuilder<T> collectionResolver(Converter<T, String> collectionResolver) {
+		this.collectionResolver = collectionResolver;
+
+		return this;
+	}
+
 	/**
 	 * Validates and builds a {@link MongoItemWriter}.
 	 * @return a {@link MongoItemWriter}
@@ -121,6 +170,9 @@ public class MongoItemWriterBuilder<T> {
 		if (!this.primaryKeys.isEmpty()) {
 			writer.setPrimaryKeys(this.primaryKeys);
 		}
+		writer.setBulkMode(this.bulkMode);
+		writer.setBatchSize(this.batchSize);
+		writer.setCollectionResolver(this.collectionResolver);
 
 		return writer;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -46,6 +46,8 @@ public class RepositoryItemReaderBuilder<T> {
 
 	private @Nullable Map<String, Sort.Direction> sorts;
 
+	private boolean keysetScrolling;
+
 	private @Nullable List<?> arguments;
 
 	private int pageSize = 10;
@@ -183,6 +185,23 @@ public class RepositoryItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Request pages with a keyset scroll position instead of a page request. The method
+	 * must then take a {@link org.springframework.data.domain.ScrollPosition}, a
+	 * {@link Sort} and a {@link org.springframework.data.domain.Limit} as its
+	 * <em>last</em> arguments and return a
+	 * {@link org.springframework.data.domain.Window}.
+	 * @param keysetScrolling true to use keyset scrolling
+	 * @return The current instance of the builder.
+	 * @see RepositoryItemReader#setKeysetScrolling(boolean)
+	 * @since 6.0.3
+	 */
+	public RepositoryItemReaderBuilder<T> keysetScrolling(boolean keysetScrolling) {
+		this.keysetScrolling = keysetScrolling;
+
+		return this;
+	}
+
 	/**
 	 * Builds the {@link RepositoryItemReader}.
 	 * @return a {@link RepositoryItemReader}
@@ -203,6 +222,7 @@ public class RepositoryItemReaderBuilder<T> {
 		reader.setRepository(this.repository);
 		reader.setMethodName(this.methodName);
 		reader.setPageSize(this.pageSize);
+		reader.setKeysetScrolling(this.keysetScrolling);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setSaveState(this.saveState);
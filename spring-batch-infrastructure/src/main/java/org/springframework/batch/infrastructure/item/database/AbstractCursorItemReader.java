@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.sql.DataSource;
 
@@ -33,6 +41,8 @@ import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStream;
 import org.springframework.batch.infrastructure.item.ReaderNotOpenException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
@@ -95,6 +105,15 @@ import org.springframework.util.Assert;
  * </p>
  *
  * <p>
+ * When a {@link #setPrefetchSize(int) prefetch size} is set, rows are fetched and mapped
+ * on a dedicated thread into a bounded buffer, ahead of the calls to {@link #read()}.
+ * This overlaps the round trips to the database with the processing of the step. The
+ * restart position and the cursor position verification are not affected, since rows are
+ * still fetched in order and the current item count only reflects items returned by
+ * {@link #read()}. This mode can not be used with a shared extended connection.
+ * </p>
+ *
+ * <p>
  * Known limitation: when used with Derby {@link #setVerifyCursorPosition(boolean)} needs
  * to be <code>false</code> because {@link ResultSet#getRow()} call used for cursor
  * position verification is not available for 'TYPE_FORWARD_ONLY' result sets.
@@ -147,6 +166,14 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 
 	private boolean initialConnectionAutoCommit;
 
+	private int prefetchSize = 0;
+
+	private @Nullable TaskExecutor prefetchTaskExecutor;
+
+	private Duration prefetchStartTimeout = Duration.ofSeconds(30);
+
+	private @Nullable Fetcher fetcher;
+
 	/**
 	 * Create a new {@link AbstractCursorItemReader} instance with the provided data
 	 * source.
@@ -364,6 +391,34 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 		this.connectionAutoCommit = autoCommit;
 	}
 
+	/**
+	 * Set the number of mapped rows to fetch ahead of the calls to {@link #read()}.
+	 * Defaults to 0, which means that rows are fetched and mapped on the calling thread.
+	 * A positive value makes the reader fetch and map rows on a task submitted to the
+	 * {@link #setPrefetchTaskExecutor(TaskExecutor) prefetch task executor}.
+	 * @param prefetchSize the maximum number of mapped rows to buffer
+	 * @since 6.0.3
+	 */
+	public void setPrefetchSize(int prefetchSize) {
+		Assert.isTrue(prefetchSize >= 0, "prefetchSize must not be negative");
+		this.prefetchSize = prefetchSize;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to fetch rows ahead of the calls to
+	 * {@link #read()} when a {@link #setPrefetchSize(int) prefetch size} is set. The
+	 * executor runs one task per open cursor, for as long as the cursor is open, so it
+	 * must not queue tasks behind each other: reading fails if the task is not started
+	 * within 30 seconds. Defaults to a {@link SimpleAsyncTaskExecutor} creating daemon
+	 * threads.
+	 * @param prefetchTaskExecutor the task executor to use
+	 * @since 6.0.3
+	 */
+	public void setPrefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		Assert.notNull(prefetchTaskExecutor, "prefetchTaskExecutor must not be null");
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+	}
+
 	public abstract String getSql();
 
 	/**
@@ -387,6 +442,10 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 	@Override
 	protected void doClose() throws Exception {
 		initialized = false;
+		if (this.fetcher != null) {
+			this.fetcher.stop();
+			this.fetcher = null;
+		}
 		JdbcUtils.closeResultSet(this.rs);
 		rs = null;
 		cleanupOnClose(con);
@@ -421,6 +480,8 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 	protected void doOpen() throws Exception {
 		Assert.state(!initialized, "Stream is already initialized.  Close before re-opening.");
 		Assert.isNull(rs, "ResultSet still open!  Close before re-opening.");
+		Assert.state(this.prefetchSize == 0 || !this.useSharedExtendedConnection,
+				"Prefetching rows is not supported with a shared extended connection");
 
 		initializeConnection();
 		// noinspection DataFlowIssue
@@ -467,6 +528,16 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 			throw new ReaderNotOpenException("Reader must be open before it can be read.");
 		}
 
+		if (this.prefetchSize > 0) {
+			if (this.fetcher == null) {
+				// started on first read, once the cursor is at the restart position
+				Fetcher fetcher = new Fetcher(rs, getCurrentItemCount());
+				fetcher.start();
+				this.fetcher = fetcher;
+			}
+			return this.fetcher.next();
+		}
+
 		try {
 			if (!rs.next()) {
 				return null;
@@ -516,4 +587,160 @@ public abstract class AbstractCursorItemReader<T> extends AbstractItemCountingIt
 		}
 	}
 
+	/**
+	 * Fetches and maps rows on the prefetch task executor into a bounded buffer. The
+	 * result set is only accessed by the fetching task until it is stopped.
+	 */
+	private final class Fetcher implements Runnable {
+
+		private final ResultSet resultSet;
+
+		private final BlockingQueue<FetchedRow<T>> rows;
+
+		private final FutureTask<Void> task;
+
+		// claimed by the fetching task when it starts, or by stop() if it never started
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private long startDeadline;
+
+		private int currentRow;
+
+		private volatile boolean running = true;
+
+		// only accessed by the reading thread
+		private boolean exhausted;
+
+		private Fetcher(ResultSet resultSet, int currentRow) {
+			this.resultSet = resultSet;
+			this.currentRow = currentRow;
+			this.rows = new ArrayBlockingQueue<>(prefetchSize);
+			this.task = new FutureTask<>(this, null);
+		}
+
+		private void start() {
+			TaskExecutor taskExecutor = prefetchTaskExecutor;
+			if (taskExecutor == null) {
+				String name = getName();
+				SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor(
+						name != null ? "cursor-item-reader-" + name + "-" : "cursor-item-reader-");
+				simpleAsyncTaskExecutor.setDaemon(true);
+				taskExecutor = simpleAsyncTaskExecutor;
+			}
+			this.startDeadline = System.nanoTime() + prefetchStartTimeout.toNanos();
+			taskExecutor.execute(this.task);
+		}
+
+		@Override
+		public void run() {
+			if (!this.started.compareAndSet(false, true)) {
+				// stopped before being started by the task executor
+				return;
+			}
+			try {
+				while (this.running) {
+					if (!this.resultSet.next()) {
+						put(new FetchedRow<>(null, null));
+						return;
+					}
+					T item = readCursor(this.resultSet, this.currentRow);
+					verifyCursorPosition(this.currentRow);
+					put(new FetchedRow<>(item, null));
+					if (item == null) {
+						return;
+					}
+					this.currentRow++;
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (SQLException e) {
+				fail(translateSqlException("Attempt to process next row failed", getSql(), e));
+			}
+			catch (RuntimeException e) {
+				fail(e);
+			}
+		}
+
+		private void fail(RuntimeException exception) {
+			try {
+				put(new FetchedRow<>(null, exception));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void put(FetchedRow<T> row) throws InterruptedException {
+			// the thread is not interrupted to stop it, as some drivers close the
+			// connection of an interrupted thread
+			while (this.running) {
+				if (this.rows.offer(row, 100, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		}
+
+		private @Nullable T next() throws InterruptedException {
+			if (this.exhausted) {
+				return null;
+			}
+			FetchedRow<T> row = this.rows.poll(100, TimeUnit.MILLISECONDS);
+			while (row == null) {
+				if (!this.started.get() && System.nanoTime() - this.startDeadline > 0
+						&& this.started.compareAndSet(false, true)) {
+					this.task.cancel(false);
+					this.exhausted = true;
+					throw new IllegalStateException(
+							"The fetching task was not started by the prefetch task executor within "
+									+ prefetchStartTimeout.toSeconds() + " seconds");
+				}
+				if (this.task.isDone()) {
+					// the task may have handed over a row just before completing
+					row = this.rows.poll();
+					if (row == null) {
+						this.exhausted = true;
+						throw new IllegalStateException("The fetching task stopped before fetching all rows");
+					}
+				}
+				else {
+					row = this.rows.poll(100, TimeUnit.MILLISECONDS);
+				}
+			}
+			RuntimeException failure = row.failure();
+			if (failure != null) {
+				this.exhausted = true;
+				throw failure;
+			}
+			if (row.item() == null) {
+				this.exhausted = true;
+			}
+			return row.item();
+		}
+
+		private void stop() throws InterruptedException {
+			this.running = false;
+			if (this.started.compareAndSet(false, true)) {
+				// never started by the task executor, make sure it never runs
+				this.task.cancel(false);
+				return;
+			}
+			// wait for the current fetch to complete before the result set is closed
+			try {
+				this.task.get();
+			}
+			catch (CancellationException e) {
+				// cancelled by a read that timed out waiting for the task to start
+			}
+			catch (ExecutionException e) {
+				// failures are handed over to the reading thread through the buffer
+			}
+		}
+
+	}
+
+	private record FetchedRow<T>(@Nullable T item, @Nullable RuntimeException failure) {
+	}
+
 }
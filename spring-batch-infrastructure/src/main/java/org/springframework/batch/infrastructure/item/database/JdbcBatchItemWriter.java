@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2023 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,11 @@
 package org.springframework.batch.infrastructure.item.database;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.sql.DataSource;
 
 import org.apache.commons.logging.Log;
@@ -29,9 +32,14 @@ import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.util.Assert;
 
@@ -52,6 +60,15 @@ import org.springframework.util.Assert;
  *
  * It is expected that {@link #write(Chunk)} is called inside a transaction.<br>
  *
+ * When {@link #setRowsPerStatement(int) rowsPerStatement} is greater than one, an
+ * {@code INSERT ... VALUES (...)} statement with named parameters is rewritten into a
+ * multi-row {@code INSERT ... VALUES (...), (...), ...} statement, so that each statement
+ * inserts up to {@code rowsPerStatement} items. This is supported by most databases (H2,
+ * HSQLDB, MySQL, MariaDB, PostgreSQL, SQL Server, and Oracle 23ai or later), and
+ * significantly reduces the number of statements executed for bulk loads. The number of
+ * parameters of a statement is limited by most drivers, so the number of rows per
+ * statement should be chosen accordingly.<br>
+ *
  * The writer is thread-safe after its properties are set (normal singleton behavior), so
  * it can be used to write in multiple concurrent transactions.
  *
@@ -66,6 +83,9 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 
 	protected static final Log logger = LogFactory.getLog(JdbcBatchItemWriter.class);
 
+	private static final Pattern VALUES_PATTERN = Pattern.compile("^(.*\\bVALUES\\s*)(\\(.*\\))\\s*;?\\s*$",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
 	protected @Nullable NamedParameterJdbcOperations namedParameterJdbcTemplate;
 
 	protected @Nullable ItemPreparedStatementSetter<T> itemPreparedStatementSetter;
@@ -80,6 +100,10 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 
 	protected boolean usingNamedParameters;
 
+	protected int rowsPerStatement = 1;
+
+	private @Nullable MultiRowInsert multiRowInsert;
+
 	/**
 	 * Public setter for the flag that determines whether an assertion is made that all
 	 * items cause at least one row to be updated.
@@ -89,6 +113,22 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 		this.assertUpdates = assertUpdates;
 	}
 
+	/**
+	 * Public setter for the maximum number of items inserted by each statement. When
+	 * greater than one, the SQL statement must be an {@code INSERT ... VALUES (...)}
+	 * statement with named parameters, which is rewritten into a multi-row insert
+	 * statement. In that case, the assertion made when {@link #setAssertUpdates(boolean)
+	 * assertUpdates} is set verifies that each statement inserts as many rows as items,
+	 * and {@link #processUpdateCounts(int[])} is called with the update count of each
+	 * statement. Defaults to 1.
+	 * @param rowsPerStatement the maximum number of items inserted by each statement
+	 * @since 6.0.3
+	 */
+	public void setRowsPerStatement(int rowsPerStatement) {
+		Assert.isTrue(rowsPerStatement > 0, "rowsPerStatement must be greater than zero");
+		this.rowsPerStatement = rowsPerStatement;
+	}
+
 	/**
 	 * Public setter for the query string to execute on write. The parameters should
 	 * correspond to those known to the {@link ItemPreparedStatementSetter}.
@@ -156,6 +196,10 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 			Assert.state(itemPreparedStatementSetter != null,
 					"Using SQL statement with '?' placeholders requires an ItemPreparedStatementSetter");
 		}
+		if (rowsPerStatement > 1) {
+			Assert.state(usingNamedParameters, "Multi-row inserts require an SQL statement with named parameters");
+			multiRowInsert = new MultiRowInsert(sql);
+		}
 	}
 
 	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
@@ -170,7 +214,10 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 
 			int[] updateCounts;
 
-			if (usingNamedParameters) {
+			if (multiRowInsert != null) {
+				updateCounts = multiRowInsert.execute(namedParameterJdbcTemplate.getJdbcOperations(), chunk.getItems());
+			}
+			else if (usingNamedParameters) {
 				if (chunk.getItems().get(0) instanceof Map && this.itemSqlParameterSourceProvider == null) {
 					updateCounts = namedParameterJdbcTemplate.batchUpdate(sql,
 							chunk.getItems().toArray(new Map[chunk.size()]));
@@ -195,7 +242,7 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 					});
 			}
 
-			if (assertUpdates) {
+			if (assertUpdates && multiRowInsert == null) {
 				for (int i = 0; i < updateCounts.length; i++) {
 					int value = updateCounts[i];
 					if (value == 0) {
@@ -218,4 +265,89 @@ public class JdbcBatchItemWriter<T> implements ItemWriter<T>, InitializingBean {
 		// No Op
 	}
 
+	private SqlParameterSource createSqlParameterSource(T item) {
+		if (item instanceof Map<?, ?> map && this.itemSqlParameterSourceProvider == null) {
+			@SuppressWarnings("unchecked")
+			Map<String, ?> values = (Map<String, ?>) map;
+			return new MapSqlParameterSource(values);
+		}
+		Assert.state(this.itemSqlParameterSourceProvider != null,
+				"Using SQL statement with named parameters requires an ItemSqlParameterSourceProvider");
+		return this.itemSqlParameterSourceProvider.createSqlParameterSource(item);
+	}
+
+	/**
+	 * Rewrites a single-row insert statement into multi-row insert statements, which are
+	 * executed with positional parameters.
+	 */
+	private final class MultiRowInsert {
+
+		private final String prefix;
+
+		private final ParsedSql values;
+
+		private final String positionalValues;
+
+		private MultiRowInsert(String sql) {
+			Matcher matcher = VALUES_PATTERN.matcher(sql);
+			Assert.state(matcher.matches(), "Multi-row inserts require an INSERT ... VALUES (...) statement: " + sql);
+			this.prefix = matcher.group(1);
+			Assert.state(JdbcParameterUtils.countParameterPlaceholders(this.prefix, new ArrayList<>()) == 0,
+					"Multi-row inserts require all parameters to be in the VALUES clause: " + sql);
+			this.values = NamedParameterUtils.parseSqlStatement(matcher.group(2));
+			this.positionalValues = NamedParameterUtils.substituteNamedParameters(this.values, null);
+		}
+
+		private int[] execute(JdbcOperations jdbcOperations, List<? extends T> items) {
+			int fullStatements = items.size() / rowsPerStatement;
+			int remainingRows = items.size() % rowsPerStatement;
+			int[] updateCounts = new int[fullStatements + (remainingRows > 0 ? 1 : 0)];
+			if (fullStatements > 0) {
+				List<Object[]> batchArgs = new ArrayList<>(fullStatements);
+				for (int i = 0; i < fullStatements; i++) {
+					batchArgs.add(buildArgs(items.subList(i * rowsPerStatement, (i + 1) * rowsPerStatement)));
+				}
+				String statement = buildSql(rowsPerStatement);
+				int[] counts = jdbcOperations.batchUpdate(statement, batchArgs);
+				System.arraycopy(counts, 0, updateCounts, 0, counts.length);
+				assertUpdateCounts(statement, counts, rowsPerStatement);
+			}
+			if (remainingRows > 0) {
+				String statement = buildSql(remainingRows);
+				int count = jdbcOperations.update(statement,
+						buildArgs(items.subList(items.size() - remainingRows, items.size())));
+				updateCounts[fullStatements] = count;
+				assertUpdateCounts(statement, new int[] { count }, remainingRows);
+			}
+			return updateCounts;
+		}
+
+		private String buildSql(int rows) {
+			return this.prefix + String.join(", ", Collections.nCopies(rows, this.positionalValues));
+		}
+
+		private Object[] buildArgs(List<? extends T> items) {
+			List<Object> args = new ArrayList<>();
+			for (T item : items) {
+				Collections.addAll(args,
+						NamedParameterUtils.buildValueArray(this.values, createSqlParameterSource(item), null));
+			}
+			return args.toArray();
+		}
+
+		private void assertUpdateCounts(String statement, int[] counts, int rows) {
+			if (!assertUpdates) {
+				return;
+			}
+			for (int count : counts) {
+				// negative counts are returned by drivers that do not report update
+				// counts
+				if (count >= 0 && count != rows) {
+					throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(statement, rows, count);
+				}
+			}
+		}
+
+	}
+
 }
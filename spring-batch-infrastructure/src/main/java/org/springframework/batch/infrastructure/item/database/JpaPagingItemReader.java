@@ -16,10 +16,14 @@
 
 package org.springframework.batch.infrastructure.item.database;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -30,7 +34,10 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -66,6 +73,15 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * When {@link #setSortKeys(Map) sort keys} are configured, the reader uses keyset
+ * pagination instead of offsets: pages are ordered by the sort keys and each page after
+ * the first one is restricted to the rows that come after the sort key values of the last
+ * item of the previous page. The cost of a page then no longer grows with its number,
+ * provided the sort keys are indexed and unique together. The sort key values are saved
+ * in the {@link ExecutionContext} for restart.
+ * </p>
+ *
+ * <p>
  * The reader must be configured with an {@link jakarta.persistence.EntityManagerFactory}.
  * All entity access is performed within a new transaction, independent of any existing
  * Spring managed transactions.
@@ -87,6 +103,10 @@ import org.springframework.util.StringUtils;
  */
 public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
+	private static final String START_AFTER_VALUE = "start.after";
+
+	private static final Pattern WHERE_PATTERN = Pattern.compile("\\swhere\\s", Pattern.CASE_INSENSITIVE);
+
 	private EntityManagerFactory entityManagerFactory;
 
 	private @Nullable EntityManager entityManager;
@@ -103,6 +123,16 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
 	private boolean transacted = true;// default value
 
+	private @Nullable Map<String, Order> sortKeys;
+
+	private @Nullable Map<String, Object> startAfterValues;
+
+	private @Nullable Map<String, Object> previousStartAfterValues;
+
+	private @Nullable String firstPageQueryString;
+
+	private @Nullable String remainingPagesQueryString;
+
 	/**
 	 * Create a new {@link JpaPagingItemReader} instance.
 	 * @param entityManagerFactory the JPA entity manager factory.
@@ -149,6 +179,22 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		this.transacted = transacted;
 	}
 
+	/**
+	 * Enable keyset pagination with the given sort keys. The keys are JPQL paths prefixed
+	 * with the alias of the selected entity (for example {@code f.id}), and are read from
+	 * the items with the same property path without the alias. Use a
+	 * {@link LinkedHashMap} in case of multiple sort keys to keep their order. The query
+	 * string must select a single entity and must not contain an {@code ORDER BY},
+	 * {@code GROUP BY} or {@code HAVING} clause, as the keyset restriction is combined
+	 * with its first {@code WHERE} clause and the ordering is appended to it. Not
+	 * supported with a {@link JpaQueryProvider}.
+	 * @param sortKeys the sort keys and their directions
+	 * @since 6.0.3
+	 */
+	public void setSortKeys(Map<String, Order> sortKeys) {
+		this.sortKeys = sortKeys;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
@@ -158,6 +204,10 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			// of whether the queryProvider is set or not.
 			Assert.state(StringUtils.hasLength(queryString), "Query string is required when queryProvider is null");
 		}
+		if (sortKeys != null) {
+			Assert.state(queryProvider == null, "Sort keys are not supported with a queryProvider");
+			Assert.state(!sortKeys.isEmpty(), "Sort keys must not be empty");
+		}
 	}
 
 	/**
@@ -174,10 +224,45 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		this.queryProvider = queryProvider;
 	}
 
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && sortKeys != null) {
+			if (isAtEndOfPage() && startAfterValues != null) {
+				// restart on next page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), startAfterValues);
+			}
+			else if (previousStartAfterValues != null) {
+				// restart on current page
+				executionContext.put(getExecutionContextKey(START_AFTER_VALUE), previousStartAfterValues);
+			}
+		}
+	}
+
+	private boolean isAtEndOfPage() {
+		return getCurrentItemCount() % getPageSize() == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void open(ExecutionContext executionContext) {
+		startAfterValues = null;
+		previousStartAfterValues = null;
+		if (isSaveState() && sortKeys != null) {
+			startAfterValues = (Map<String, Object>) executionContext.get(getExecutionContextKey(START_AFTER_VALUE));
+		}
+		super.open(executionContext);
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 		super.doOpen();
 
+		if (sortKeys != null) {
+			firstPageQueryString = queryString + getOrderByClause();
+			remainingPagesQueryString = getKeysetQueryString() + getOrderByClause();
+		}
+
 		entityManager = entityManagerFactory.createEntityManager(jpaPropertyMap);
 		if (entityManager == null) {
 			throw new DataAccessResourceFailureException("Unable to obtain an EntityManager");
@@ -204,7 +289,24 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			entityManager.clear();
 		} // end if
 
-		Query query = createQuery().setFirstResult(getPage() * getPageSize()).setMaxResults(getPageSize());
+		boolean keyset = sortKeys != null && startAfterValues != null && !startAfterValues.isEmpty();
+		Query query;
+		if (sortKeys == null) {
+			query = createQuery().setFirstResult(getPage() * getPageSize()).setMaxResults(getPageSize());
+		}
+		else if (keyset) {
+			previousStartAfterValues = startAfterValues;
+			query = entityManager.createQuery(remainingPagesQueryString).setMaxResults(getPageSize());
+			int i = 0;
+			for (Object value : startAfterValues.values()) {
+				query.setParameter("_sortKey" + i++, value);
+			}
+		}
+		else {
+			query = entityManager.createQuery(firstPageQueryString)
+				.setFirstResult(getPage() * getPageSize())
+				.setMaxResults(getPageSize());
+		}
 
 		if (parameterValues != null) {
 			for (Map.Entry<String, Object> me : parameterValues.entrySet()) {
@@ -234,6 +336,56 @@ public class JpaPagingItemReader<T> extends AbstractPagingItemReader<T> {
 			results.addAll(query.getResultList());
 			tx.commit();
 		} // end if
+
+		if (sortKeys != null && !results.isEmpty()) {
+			startAfterValues = getSortKeyValues(results.get(results.size() - 1));
+		}
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private Map<String, Object> getSortKeyValues(T item) {
+		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(item);
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (String sortKey : sortKeys.keySet()) {
+			values.put(sortKey, beanWrapper.getPropertyValue(sortKey.substring(sortKey.indexOf('.') + 1)));
+		}
+		return values;
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private String getOrderByClause() {
+		List<String> orderBy = new ArrayList<>();
+		for (Map.Entry<String, Order> sortKey : sortKeys.entrySet()) {
+			orderBy.add(sortKey.getKey() + (sortKey.getValue() == Order.DESCENDING ? " desc" : " asc"));
+		}
+		return " order by " + String.join(", ", orderBy);
+	}
+
+	/**
+	 * Append the restriction {@code (k1 > :_sortKey0) or (k1 = :_sortKey0 and k2 >
+	 * :_sortKey1) ...} to the query, keeping the original restriction in parentheses.
+	 */
+	@SuppressWarnings("DataFlowIssue")
+	private String getKeysetQueryString() {
+		List<String> keys = new ArrayList<>(sortKeys.keySet());
+		List<String> clauses = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			StringBuilder clause = new StringBuilder("(");
+			for (int j = 0; j < i; j++) {
+				clause.append(keys.get(j)).append(" = :_sortKey").append(j).append(" and ");
+			}
+			String operator = sortKeys.get(keys.get(i)) == Order.DESCENDING ? " < " : " > ";
+			clause.append(keys.get(i)).append(operator).append(":_sortKey").append(i).append(")");
+			clauses.add(clause.toString());
+		}
+		String restriction = "(" + String.join(" or ", clauses) + ")";
+		Matcher matcher = WHERE_PATTERN.matcher(queryString);
+		if (!matcher.find()) {
+			return queryString + " where " + restriction;
+		}
+		int conditionIndex = matcher.end();
+		return queryString.substring(0, conditionIndex) + "(" + queryString.substring(conditionIndex) + ") and "
+				+ restriction;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,8 @@ public class JdbcBatchItemWriterBuilder<T> {
 
 	private BigInteger mapped = new BigInteger("0");
 
+	private int rowsPerStatement = 1;
+
 	/**
 	 * Configure the {@link DataSource} to be used.
 	 * @param dataSource the DataSource
@@ -120,6 +122,21 @@ public class JdbcBatchItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of items inserted by each statement. When greater than one,
+	 * the SQL statement must be an {@code INSERT ... VALUES (...)} statement with named
+	 * parameters, which is rewritten into a multi-row insert statement. Defaults to 1.
+	 * @param rowsPerStatement the maximum number of items inserted by each statement
+	 * @return The current instance of the builder for chaining
+	 * @since 6.0.3
+	 * @see JdbcBatchItemWriter#setRowsPerStatement(int)
+	 */
+	public JdbcBatchItemWriterBuilder<T> rowsPerStatement(int rowsPerStatement) {
+		this.rowsPerStatement = rowsPerStatement;
+
+		return this;
+	}
+
 	/**
 	 * The {@link NamedParameterJdbcOperations} instance to use. If one isn't provided, a
 	 * {@link DataSource} is required.
@@ -176,6 +193,7 @@ public class JdbcBatchItemWriterBuilder<T> {
 		JdbcBatchItemWriter<T> writer = new JdbcBatchItemWriter<>();
 		writer.setSql(this.sql);
 		writer.setAssertUpdates(this.assertUpdates);
+		writer.setRowsPerStatement(this.rowsPerStatement);
 		if (this.itemSqlParameterSourceProvider != null) {
 			writer.setItemSqlParameterSourceProvider(this.itemSqlParameterSourceProvider);
 		}
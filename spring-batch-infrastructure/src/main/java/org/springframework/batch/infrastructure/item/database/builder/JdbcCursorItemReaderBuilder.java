@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 import org.springframework.batch.infrastructure.item.database.AbstractCursorItemReader;
 import org.springframework.batch.infrastructure.item.database.JdbcCursorItemReader;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.ArgumentTypePreparedStatementSetter;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
@@ -54,6 +55,10 @@ public class JdbcCursorItemReaderBuilder<T> {
 
 	private int fetchSize = AbstractCursorItemReader.VALUE_NOT_SET;
 
+	private int prefetchSize = 0;
+
+	private @Nullable TaskExecutor prefetchTaskExecutor;
+
 	private int maxRows = AbstractCursorItemReader.VALUE_NOT_SET;
 
 	private int queryTimeout = AbstractCursorItemReader.VALUE_NOT_SET;
@@ -344,6 +349,37 @@ public class JdbcCursorItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Set the number of mapped rows to fetch ahead of the calls to read on the prefetch
+	 * task executor. Defaults to 0, which means that rows are fetched and mapped on the
+	 * calling thread.
+	 * @param prefetchSize the maximum number of mapped rows to buffer
+	 * @return this instance for method chaining
+	 * @since 6.0.3
+	 * @see AbstractCursorItemReader#setPrefetchSize(int)
+	 */
+	public JdbcCursorItemReaderBuilder<T> prefetchSize(int prefetchSize) {
+		this.prefetchSize = prefetchSize;
+
+		return this;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to fetch rows ahead of the calls to read when a
+	 * prefetch size is set. Defaults to a
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} creating daemon
+	 * threads.
+	 * @param prefetchTaskExecutor the task executor to use
+	 * @return this instance for method chaining
+	 * @since 6.0.3
+	 * @see AbstractCursorItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 */
+	public JdbcCursorItemReaderBuilder<T> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+
+		return this;
+	}
+
 	/**
 	 * Validates configuration and builds a new reader instance.
 	 * @return a fully constructed {@link JdbcCursorItemReader}
@@ -370,6 +406,10 @@ public class JdbcCursorItemReaderBuilder<T> {
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setDriverSupportsAbsolute(this.driverSupportsAbsolute);
 		reader.setFetchSize(this.fetchSize);
+		reader.setPrefetchSize(this.prefetchSize);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 		reader.setIgnoreWarnings(this.ignoreWarnings);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setMaxRows(this.maxRows);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 import org.springframework.batch.infrastructure.item.database.JpaPagingItemReader;
+import org.springframework.batch.infrastructure.item.database.Order;
 import org.springframework.batch.infrastructure.item.database.orm.JpaQueryProvider;
 import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.util.Assert;
@@ -49,6 +50,8 @@ public class JpaPagingItemReaderBuilder<T> {
 
 	private boolean transacted = true;
 
+	private @Nullable Map<String, Order> sortKeys;
+
 	private @Nullable String queryString;
 
 	private @Nullable JpaQueryProvider queryProvider;
@@ -190,6 +193,21 @@ public class JpaPagingItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Enable keyset pagination with the given sort keys (JPQL paths such as
+	 * {@code f.id}). Use a {@link java.util.LinkedHashMap} in case of multiple sort keys
+	 * to keep their order.
+	 * @param sortKeys the sort keys and their directions
+	 * @return this instance for method chaining
+	 * @see JpaPagingItemReader#setSortKeys(Map)
+	 * @since 6.0.3
+	 */
+	public JpaPagingItemReaderBuilder<T> sortKeys(Map<String, Order> sortKeys) {
+		this.sortKeys = sortKeys;
+
+		return this;
+	}
+
 	/**
 	 * The {@link EntityManagerFactory} to be used for executing the configured
 	 * {@link #queryString}.
@@ -218,6 +236,9 @@ public class JpaPagingItemReaderBuilder<T> {
 		if (this.queryProvider == null) {
 			Assert.hasLength(this.queryString, "Query string is required when queryProvider is null");
 		}
+		else {
+			Assert.isNull(this.sortKeys, "Sort keys are not supported with a queryProvider");
+		}
 
 		JpaPagingItemReader<T> reader = new JpaPagingItemReader<>(this.entityManagerFactory);
 
@@ -238,6 +259,9 @@ public class JpaPagingItemReaderBuilder<T> {
 			reader.setQueryProvider(this.queryProvider);
 		}
 		reader.setTransacted(this.transacted);
+		if (this.sortKeys != null) {
+			reader.setSortKeys(this.sortKeys);
+		}
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setSaveState(this.saveState);
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database.builder;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.database.PostgresCopyItemWriter;
+import org.springframework.batch.infrastructure.item.file.transform.FieldExtractor;
+import org.springframework.util.Assert;
+
+/**
+ * A builder for the {@link PostgresCopyItemWriter}.
+ *
+ * @since 6.0.3
+ * @see PostgresCopyItemWriter
+ */
+public class PostgresCopyItemWriterBuilder<T> {
+
+	private @Nullable DataSource dataSource;
+
+	private @Nullable String tableName;
+
+	private @Nullable List<String> columnNames;
+
+	private @Nullable FieldExtractor<T> fieldExtractor;
+
+	private boolean assertUpdates = true;
+
+	/**
+	 * The {@link DataSource} to load items with. Required.
+	 * @param dataSource the data source
+	 * @return this instance for method chaining
+	 */
+	public PostgresCopyItemWriterBuilder<T> dataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+
+		return this;
+	}
+
+	/**
+	 * The name of the table to load. Required.
+	 * @param tableName the name of the table
+	 * @return this instance for method chaining
+	 */
+	public PostgresCopyItemWriterBuilder<T> tableName(String tableName) {
+		this.tableName = tableName;
+
+		return this;
+	}
+
+	/**
+	 * The names of the loaded columns, in the order of the values extracted from items.
+	 * Required.
+	 * @param columnNames the names of the columns
+	 * @return this instance for method chaining
+	 */
+	public PostgresCopyItemWriterBuilder<T> columnNames(String... columnNames) {
+		this.columnNames = List.of(columnNames);
+
+		return this;
+	}
+
+	/**
+	 * The {@link FieldExtractor} used to convert items to rows. Required.
+	 * @param fieldExtractor the field extractor
+	 * @return this instance for method chaining
+	 */
+	public PostgresCopyItemWriterBuilder<T> fieldExtractor(FieldExtractor<T> fieldExtractor) {
+		this.fieldExtractor = fieldExtractor;
+
+		return this;
+	}
+
+	/**
+	 * If set to true, confirms that the number of rows loaded by each chunk is equal to
+	 * the number of items. Defaults to true.
+	 * @param assertUpdates boolean indicator
+	 * @return this instance for method chaining
+	 * @see PostgresCopyItemWriter#setAssertUpdates(boolean)
+	 */
+	public PostgresCopyItemWriterBuilder<T> assertUpdates(boolean assertUpdates) {
+		this.assertUpdates = assertUpdates;
+
+		return this;
+	}
+
+	/**
+	 * Returns a fully constructed {@link PostgresCopyItemWriter}.
+	 * @return a new {@link PostgresCopyItemWriter}
+	 */
+	public PostgresCopyItemWriter<T> build() {
+		Assert.notNull(this.dataSource, "A DataSource is required");
+		Assert.hasText(this.tableName, "A table name is required");
+		Assert.notEmpty(this.columnNames, "Column names are required");
+		Assert.notNull(this.fieldExtractor, "A FieldExtractor is required");
+
+		PostgresCopyItemWriter<T> writer = new PostgresCopyItemWriter<>(this.dataSource, this.tableName,
+				this.columnNames, this.fieldExtractor);
+		writer.setAssertUpdates(this.assertUpdates);
+
+		return writer;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,22 @@
 
 package org.springframework.batch.infrastructure.item.jms;
 
+import java.time.Duration;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.jms.connection.ConnectionFactoryUtils;
 import org.springframework.jms.core.JmsOperations;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
 import org.springframework.util.Assert;
 
 /**
@@ -30,6 +39,16 @@ import org.springframework.util.Assert;
  * default destination, which will be used to send items in {@link #write(Chunk)}.<br>
  * <br>
  *
+ * By default, each item is sent with a separate call to the template, which may open a
+ * new session for each item. When {@link #setBatchSend(boolean) batch send} is enabled,
+ * all the items of a chunk are sent with a single session and message producer. If the
+ * template is configured with {@link JmsTemplate#setSessionTransacted(boolean) transacted
+ * sessions}, the session is committed once per chunk, so that the chunk is sent
+ * atomically. The quality of service settings of the template (delivery delay, delivery
+ * mode, priority and time to live if explicit QoS is enabled, and message id and
+ * timestamp generation) are applied to the batch sends as well.<br>
+ * <br>
+ *
  * The implementation is thread-safe after its properties are set (normal singleton
  * behavior).
  *
@@ -43,6 +62,10 @@ public class JmsItemWriter<T> implements ItemWriter<T> {
 
 	private JmsOperations jmsTemplate;
 
+	private boolean batchSend;
+
+	private volatile Duration lastSendLatency = Duration.ZERO;
+
 	/**
 	 * Create a new {@link JmsItemWriter} with the provided {@link JmsOperations}.
 	 * @param jmsTemplate a {@link JmsOperations} instance
@@ -70,7 +93,28 @@ public class JmsItemWriter<T> implements ItemWriter<T> {
 	}
 
 	/**
-	 * Send the items one-by-one to the default destination of the JMS template.
+	 * Set whether the items of a chunk should be sent with a single session and message
+	 * producer. This requires the JMS template to be a {@link JmsTemplate}. Defaults to
+	 * {@code false}.
+	 * @param batchSend {@code true} to send each chunk in a single session
+	 * @since 6.0.3
+	 */
+	public void setBatchSend(boolean batchSend) {
+		this.batchSend = batchSend;
+	}
+
+	/**
+	 * Return the time it took to send the last chunk.
+	 * @return the send latency of the last chunk
+	 * @since 6.0.3
+	 */
+	public Duration getLastSendLatency() {
+		return this.lastSendLatency;
+	}
+
+	/**
+	 * Send the items to the default destination of the JMS template, either one-by-one or
+	 * in a single session if {@link #setBatchSend(boolean) batch send} is enabled.
 	 *
 	 * @see ItemWriter#write(Chunk)
 	 */
@@ -81,10 +125,79 @@ public class JmsItemWriter<T> implements ItemWriter<T> {
 			logger.debug("Writing to JMS with " + items.size() + " items.");
 		}
 
-		for (T item : items) {
-			jmsTemplate.convertAndSend(item);
+		long start = System.nanoTime();
+		if (this.batchSend) {
+			Assert.state(jmsTemplate instanceof JmsTemplate, "Batch send requires a JmsTemplate");
+			sendInSession((JmsTemplate) jmsTemplate, items);
+		}
+		else {
+			for (T item : items) {
+				jmsTemplate.convertAndSend(item);
+			}
+		}
+		this.lastSendLatency = Duration.ofNanos(System.nanoTime() - start);
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Sent " + items.size() + " items in " + this.lastSendLatency.toMillis() + " ms.");
+		}
+
+	}
+
+	private void sendInSession(JmsTemplate template, Chunk<? extends T> items) {
+		MessageConverter messageConverter = template.getMessageConverter();
+		Assert.state(messageConverter != null, "JmsTemplate must have a message converter");
+		template.execute(session -> {
+			MessageProducer producer = createProducer(template, session);
+			try {
+				for (T item : items) {
+					if (template.isExplicitQosEnabled()) {
+						producer.send(messageConverter.toMessage(item, session), template.getDeliveryMode(),
+								template.getPriority(), template.getTimeToLive());
+					}
+					else {
+						producer.send(messageConverter.toMessage(item, session));
+					}
+				}
+				if (session.getTransacted()
+						&& !ConnectionFactoryUtils.isSessionTransactional(session, template.getConnectionFactory())) {
+					// locally transacted session: commit the whole chunk at once
+					JmsUtils.commitIfNecessary(session);
+				}
+			}
+			finally {
+				JmsUtils.closeMessageProducer(producer);
+			}
+			return null;
+		}, false);
+	}
+
+	/*
+	 * Apply the producer settings of the template, as JmsTemplate#createProducer and
+	 * JmsTemplate#doSend do. The explicit QoS settings are applied on each send.
+	 */
+	private MessageProducer createProducer(JmsTemplate template, Session session) throws JMSException {
+		MessageProducer producer = session.createProducer(getDestination(template, session));
+		if (!template.isMessageIdEnabled()) {
+			producer.setDisableMessageID(true);
+		}
+		if (!template.isMessageTimestampEnabled()) {
+			producer.setDisableMessageTimestamp(true);
 		}
+		if (template.getDeliveryDelay() >= 0) {
+			producer.setDeliveryDelay(template.getDeliveryDelay());
+		}
+		return producer;
+	}
 
+	private Destination getDestination(JmsTemplate template, Session session) throws JMSException {
+		Destination destination = template.getDefaultDestination();
+		if (destination != null) {
+			return destination;
+		}
+		String destinationName = template.getDefaultDestinationName();
+		Assert.state(destinationName != null, "JmsTemplate must have a defaultDestination or defaultDestinationName!");
+		return template.getDestinationResolver()
+			.resolveDestinationName(session, destinationName, template.isPubSubDomain());
 	}
 
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.jms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.support.AbstractItemStreamItemReader;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.jms.support.converter.SimpleMessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link org.springframework.batch.infrastructure.item.ItemReader} for JMS that keeps
+ * a single consumer open between {@link #open(ExecutionContext)} and {@link #close()},
+ * instead of creating a consumer for each received message like {@link JmsItemReader}.
+ * Messages are received in batches of up to {@link #setPrefetchSize(int) prefetchSize}
+ * messages into a local buffer: the reader waits for the first message of a batch and
+ * then takes the messages already delivered to the consumer without waiting.
+ * <p>
+ * Messages are received in a {@link Session#CLIENT_ACKNOWLEDGE} session, and are only
+ * acknowledged once the chunk transaction that read them commits. Since acknowledging a
+ * message acknowledges all the messages delivered to the session, buffered messages would
+ * be acknowledged before being read if the buffer was not empty at the end of a chunk. To
+ * avoid this, a full batch is only received at the start of a chunk: when the buffer is
+ * exhausted in the middle of a chunk, messages are received one at a time, so that the
+ * buffer is empty when the chunk ends. The messages of a committed chunk are acknowledged
+ * at the first commit where the buffer is empty, which is at most {@code prefetchSize}
+ * messages later. A prefetch size equal to the chunk size keeps the acknowledgements
+ * aligned with the chunks.
+ * <p>
+ * When the reader is {@link #close() closed} while messages are still buffered, which
+ * only happens when the step ends before the buffer is exhausted (for instance on
+ * failure), the messages of committed chunks that are not acknowledged yet are not
+ * acknowledged on close either, since that would also acknowledge the buffered messages
+ * that were never read. They are redelivered by the broker instead, and a warning is
+ * logged. A prefetch size that is not greater than the chunk size avoids this.
+ * <p>
+ * When the chunk transaction rolls back and all the messages read by previous chunks are
+ * acknowledged, the session is recovered and all unacknowledged messages are redelivered
+ * by the broker. Otherwise, recovering the session would also redeliver messages of
+ * committed chunks, so the messages of the rolled back chunk are read again from the
+ * local buffer instead. In both cases, the step should be configured with a transactional
+ * reader, and messages may be delivered more than once. Without an active transaction,
+ * messages are acknowledged when the reader is {@link #update(ExecutionContext) updated}.
+ * <p>
+ * This reader is not thread-safe.
+ *
+ * @param <T> type of the read items
+ * @since 6.0.3
+ */
+public class JmsPrefetchingItemReader<T> extends AbstractItemStreamItemReader<T> {
+
+	private static final int DEFAULT_PREFETCH_SIZE = 100;
+
+	private static final long DEFAULT_RECEIVE_TIMEOUT = 1000L;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ConnectionFactory connectionFactory;
+
+	private final Destination destination;
+
+	private int prefetchSize = DEFAULT_PREFETCH_SIZE;
+
+	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
+
+	private MessageConverter messageConverter = new SimpleMessageConverter();
+
+	private @Nullable Class<? extends T> itemType;
+
+	private final Deque<Message> buffer = new ArrayDeque<>();
+
+	private final List<Message> chunkMessages = new ArrayList<>();
+
+	private final Object transactionKey = new Object();
+
+	private @Nullable Connection connection;
+
+	private @Nullable Session session;
+
+	private @Nullable MessageConsumer consumer;
+
+	private @Nullable Message lastCommittedMessage;
+
+	/**
+	 * Create a new {@link JmsPrefetchingItemReader}.
+	 * @param connectionFactory the connection factory used to create the consumer
+	 * @param destination the destination to receive messages from
+	 */
+	public JmsPrefetchingItemReader(ConnectionFactory connectionFactory, Destination destination) {
+		Assert.notNull(connectionFactory, "connectionFactory must not be null");
+		Assert.notNull(destination, "destination must not be null");
+		this.connectionFactory = connectionFactory;
+		this.destination = destination;
+	}
+
+	/**
+	 * Set the maximum number of messages to buffer locally. Defaults to 100.
+	 * @param prefetchSize the maximum number of buffered messages
+	 */
+	public void setPrefetchSize(int prefetchSize) {
+		Assert.isTrue(prefetchSize > 0, "prefetchSize must be greater than zero");
+		this.prefetchSize = prefetchSize;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for a message when the buffer is empty. When
+	 * no message is received in time, {@link #read()} returns {@code null}. Defaults to
+	 * 1000.
+	 * @param receiveTimeout the receive timeout in milliseconds
+	 */
+	public void setReceiveTimeout(long receiveTimeout) {
+		Assert.isTrue(receiveTimeout > 0, "receiveTimeout must be greater than zero");
+		this.receiveTimeout = receiveTimeout;
+	}
+
+	/**
+	 * Set the converter used to convert messages to items. Defaults to a
+	 * {@link SimpleMessageConverter}.
+	 * @param messageConverter the message converter
+	 */
+	public void setMessageConverter(MessageConverter messageConverter) {
+		Assert.notNull(messageConverter, "messageConverter must not be null");
+		this.messageConverter = messageConverter;
+	}
+
+	/**
+	 * Set the expected type of incoming message payloads. Set this to {@link Message} to
+	 * receive the raw underlying message.
+	 * @param itemType the java class of the items to be delivered
+	 */
+	public void setItemType(Class<? extends T> itemType) {
+		this.itemType = itemType;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		try {
+			this.connection = this.connectionFactory.createConnection();
+			this.session = this.connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+			this.consumer = this.session.createConsumer(this.destination);
+			this.connection.start();
+		}
+		catch (JMSException e) {
+			close();
+			throw new ItemStreamException("Failed to open the JMS consumer", JmsUtils.convertJmsAccessException(e));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public @Nullable T read() throws Exception {
+		Assert.state(this.consumer != null, "Reader must be open before it can be read");
+		if (this.buffer.isEmpty()) {
+			if (this.chunkMessages.isEmpty()) {
+				fill(this.consumer);
+			}
+			else {
+				// do not buffer messages past the end of the current chunk
+				Message message = this.consumer.receive(this.receiveTimeout);
+				if (message != null) {
+					this.buffer.add(message);
+				}
+			}
+		}
+		Message message = this.buffer.poll();
+		if (message == null) {
+			return null;
+		}
+		this.chunkMessages.add(message);
+		registerTransactionSynchronization();
+		if (this.itemType != null && this.itemType.isAssignableFrom(Message.class)) {
+			return (T) message;
+		}
+		Object result = this.messageConverter.fromMessage(message);
+		if (this.itemType != null) {
+			Assert.state(this.itemType.isAssignableFrom(result.getClass()),
+					"Received message payload of wrong type: expected [" + this.itemType + "]");
+		}
+		return (T) result;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			commit();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.lastCommittedMessage != null && this.logger.isWarnEnabled()) {
+			this.logger.warn("Closing the reader with " + this.buffer.size()
+					+ " unread buffered messages: the messages of committed chunks that are not acknowledged yet "
+					+ "will be redelivered. Use a prefetch size that is not greater than the chunk size to avoid this.");
+		}
+		this.buffer.clear();
+		this.chunkMessages.clear();
+		this.lastCommittedMessage = null;
+		JmsUtils.closeMessageConsumer(this.consumer);
+		JmsUtils.closeSession(this.session);
+		JmsUtils.closeConnection(this.connection, true);
+		this.consumer = null;
+		this.session = null;
+		this.connection = null;
+	}
+
+	private void fill(MessageConsumer consumer) throws JMSException {
+		Message message = consumer.receive(this.receiveTimeout);
+		while (message != null) {
+			this.buffer.add(message);
+			message = this.buffer.size() < this.prefetchSize ? consumer.receiveNoWait() : null;
+		}
+	}
+
+	private void registerTransactionSynchronization() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()
+				|| TransactionSynchronizationManager.hasResource(this.transactionKey)) {
+			return;
+		}
+		TransactionSynchronizationManager.bindResource(this.transactionKey, true);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (TransactionSynchronizationManager.hasResource(transactionKey)) {
+					TransactionSynchronizationManager.unbindResource(transactionKey);
+				}
+				if (status == STATUS_COMMITTED) {
+					commit();
+				}
+				else {
+					rollback();
+				}
+			}
+		});
+	}
+
+	private void commit() {
+		if (!this.chunkMessages.isEmpty()) {
+			this.lastCommittedMessage = this.chunkMessages.get(this.chunkMessages.size() - 1);
+			this.chunkMessages.clear();
+		}
+		// acknowledging a message acknowledges all the messages delivered to the session
+		if (this.lastCommittedMessage == null || !this.buffer.isEmpty()) {
+			return;
+		}
+		try {
+			this.lastCommittedMessage.acknowledge();
+			this.lastCommittedMessage = null;
+		}
+		catch (JMSException e) {
+			throw JmsUtils.convertJmsAccessException(e);
+		}
+	}
+
+	private void rollback() {
+		if (this.lastCommittedMessage != null) {
+			// recovering the session would redeliver the messages of committed chunks
+			for (int i = this.chunkMessages.size() - 1; i >= 0; i--) {
+				this.buffer.addFirst(this.chunkMessages.get(i));
+			}
+			this.chunkMessages.clear();
+			return;
+		}
+		this.buffer.clear();
+		this.chunkMessages.clear();
+		if (this.session == null) {
+			return;
+		}
+		try {
+			this.session.recover();
+		}
+		catch (JMSException e) {
+			throw JmsUtils.convertJmsAccessException(e);
+		}
+	}
+
+}
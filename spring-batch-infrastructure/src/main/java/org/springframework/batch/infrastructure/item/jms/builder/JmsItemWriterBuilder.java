@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2025 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -31,6 +31,8 @@ public class JmsItemWriterBuilder<T> {
 
 	private @Nullable JmsOperations jmsTemplate;
 
+	private boolean batchSend;
+
 	/**
 	 * Establish the JMS template that will be used by the {@link JmsItemWriter}.
 	 * @param jmsTemplate a {@link JmsOperations} instance
@@ -43,6 +45,20 @@ public class JmsItemWriterBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Set whether the items of a chunk should be sent with a single session and message
+	 * producer.
+	 * @param batchSend {@code true} to send each chunk in a single session
+	 * @return this instance for method chaining.
+	 * @since 6.0.3
+	 * @see JmsItemWriter#setBatchSend(boolean)
+	 */
+	public JmsItemWriterBuilder<T> batchSend(boolean batchSend) {
+		this.batchSend = batchSend;
+
+		return this;
+	}
+
 	/**
 	 * Returns a fully constructed {@link JmsItemWriter}.
 	 * @return a new {@link JmsItemWriter}
@@ -50,7 +66,9 @@ public class JmsItemWriterBuilder<T> {
 	public JmsItemWriter<T> build() {
 		Assert.notNull(this.jmsTemplate, "jmsTemplate is required.");
 
-		return new JmsItemWriter<>(this.jmsTemplate);
+		JmsItemWriter<T> jmsItemWriter = new JmsItemWriter<>(this.jmsTemplate);
+		jmsItemWriter.setBatchSend(this.batchSend);
+		return jmsItemWriter;
 	}
 
 }
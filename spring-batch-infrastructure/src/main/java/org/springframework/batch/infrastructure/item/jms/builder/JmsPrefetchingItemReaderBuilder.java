@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.jms.builder;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.Message;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.jms.JmsPrefetchingItemReader;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * A builder implementation for the {@link JmsPrefetchingItemReader}.
+ *
+ * @param <T> type of the read items
+ * @since 6.0.3
+ * @see JmsPrefetchingItemReader
+ */
+public class JmsPrefetchingItemReaderBuilder<T> {
+
+	private @Nullable ConnectionFactory connectionFactory;
+
+	private @Nullable Destination destination;
+
+	private @Nullable Integer prefetchSize;
+
+	private @Nullable Long receiveTimeout;
+
+	private @Nullable MessageConverter messageConverter;
+
+	private @Nullable Class<? extends T> itemType;
+
+	private @Nullable String name;
+
+	/**
+	 * Establish the connection factory used to create the consumer.
+	 * @param connectionFactory the connection factory
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#JmsPrefetchingItemReader(ConnectionFactory,
+	 * Destination)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> connectionFactory(ConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+
+		return this;
+	}
+
+	/**
+	 * Establish the destination to receive messages from.
+	 * @param destination the destination
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#JmsPrefetchingItemReader(ConnectionFactory,
+	 * Destination)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> destination(Destination destination) {
+		this.destination = destination;
+
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of messages to buffer locally.
+	 * @param prefetchSize the maximum number of buffered messages
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#setPrefetchSize(int)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> prefetchSize(int prefetchSize) {
+		this.prefetchSize = prefetchSize;
+
+		return this;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for a message when the buffer is empty.
+	 * @param receiveTimeout the receive timeout in milliseconds
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#setReceiveTimeout(long)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> receiveTimeout(long receiveTimeout) {
+		this.receiveTimeout = receiveTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Set the converter used to convert messages to items.
+	 * @param messageConverter the message converter
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#setMessageConverter(MessageConverter)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> messageConverter(MessageConverter messageConverter) {
+		this.messageConverter = messageConverter;
+
+		return this;
+	}
+
+	/**
+	 * Set the expected type of incoming message payloads. Set this to {@link Message} to
+	 * receive the raw underlying message.
+	 * @param itemType the java class of the items to be delivered
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#setItemType(Class)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> itemType(Class<? extends T> itemType) {
+		this.itemType = itemType;
+
+		return this;
+	}
+
+	/**
+	 * The name used to identify the reader.
+	 * @param name name of the reader
+	 * @return this instance for method chaining.
+	 * @see JmsPrefetchingItemReader#setName(String)
+	 */
+	public JmsPrefetchingItemReaderBuilder<T> name(String name) {
+		this.name = name;
+
+		return this;
+	}
+
+	/**
+	 * Validates and builds a {@link JmsPrefetchingItemReader}.
+	 * @return a {@link JmsPrefetchingItemReader}
+	 */
+	public JmsPrefetchingItemReader<T> build() {
+		Assert.notNull(this.connectionFactory, "connectionFactory is required.");
+		Assert.notNull(this.destination, "destination is required.");
+
+		JmsPrefetchingItemReader<T> reader = new JmsPrefetchingItemReader<>(this.connectionFactory, this.destination);
+		if (this.prefetchSize != null) {
+			reader.setPrefetchSize(this.prefetchSize);
+		}
+		if (this.receiveTimeout != null) {
+			reader.setReceiveTimeout(this.receiveTimeout);
+		}
+		if (this.messageConverter != null) {
+			reader.setMessageConverter(this.messageConverter);
+		}
+		if (this.itemType != null) {
+			reader.setItemType(this.itemType);
+		}
+		if (this.name != null) {
+			reader.setName(this.name);
+		}
+		return reader;
+	}
+
+}
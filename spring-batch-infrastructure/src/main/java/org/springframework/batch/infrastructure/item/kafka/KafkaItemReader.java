@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -24,16 +24,31 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
 import org.springframework.batch.infrastructure.item.support.AbstractItemStreamItemReader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -47,6 +62,22 @@ import org.springframework.util.Assert;
  * Since {@link KafkaConsumer} is not thread-safe, this reader is not thread-safe.
  * </p>
  *
+ * <p>
+ * When a {@link #setPrefetchCount(int) prefetch count} is set, the consumer is owned by a
+ * task submitted to the {@link #setPrefetchTaskExecutor(TaskExecutor) prefetch task
+ * executor} that keeps polling ahead of the step and buffers up to that number of polled
+ * batches, so that polling overlaps with the processing of previous batches. In that
+ * mode, the offsets committed to Kafka are those of the records handed out by the reader,
+ * not the position of the consumer, and auto-commit is disabled.
+ * </p>
+ *
+ * <p>
+ * Offsets are saved in the {@link ExecutionContext} per partition of the topic. To read a
+ * topic with several consumers in parallel, assign a subset of its partitions to each
+ * worker step of a partitioned step, in which case each worker saves the offsets of its
+ * own partitions only.
+ * </p>
+ *
  * @author Mathieu Ouellet
  * @author Mahmoud Ben Hassine
  * @author Hyunwoo Jung
@@ -74,6 +105,12 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 
 	private boolean saveState = true;
 
+	private int prefetchCount = 0;
+
+	private @Nullable TaskExecutor prefetchTaskExecutor;
+
+	private @Nullable Prefetcher prefetcher;
+
 	/**
 	 * Create a new {@link KafkaItemReader}.
 	 * <p>
@@ -152,6 +189,33 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 		return this.saveState;
 	}
 
+	/**
+	 * Set the number of polled batches to buffer ahead of the step. Defaults to 0, which
+	 * means that records are polled on the step thread when needed. A positive value
+	 * makes the reader poll records on a task submitted to the
+	 * {@link #setPrefetchTaskExecutor(TaskExecutor) prefetch task executor}.
+	 * @param prefetchCount the maximum number of polled batches to buffer
+	 * @since 6.0.3
+	 */
+	public void setPrefetchCount(int prefetchCount) {
+		Assert.isTrue(prefetchCount >= 0, "prefetchCount must not be negative");
+		this.prefetchCount = prefetchCount;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to poll records ahead of the step when a
+	 * {@link #setPrefetchCount(int) prefetch count} is set. The executor runs one task
+	 * per opened reader, for as long as the reader is open, so it must not queue tasks
+	 * behind each other: reading fails if the task is not started within the poll
+	 * timeout. Defaults to a {@link SimpleAsyncTaskExecutor} creating daemon threads.
+	 * @param prefetchTaskExecutor the task executor to use
+	 * @since 6.0.3
+	 */
+	public void setPrefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		Assert.notNull(prefetchTaskExecutor, "prefetchTaskExecutor must not be null");
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+	}
+
 	/**
 	 * Setter for partition offsets. This mapping tells the reader the offset to start
 	 * reading from in each partition. This is optional, defaults to starting from offset
@@ -171,7 +235,16 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 	@SuppressWarnings({ "unchecked", "DataFlowIssue" })
 	@Override
 	public void open(ExecutionContext executionContext) {
-		this.kafkaConsumer = new KafkaConsumer<>(this.consumerProperties);
+		if (this.prefetchCount > 0) {
+			// offsets of prefetched records must not be committed before they are read
+			Properties properties = new Properties();
+			properties.putAll(this.consumerProperties);
+			properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+			this.kafkaConsumer = new KafkaConsumer<>(properties);
+		}
+		else {
+			this.kafkaConsumer = new KafkaConsumer<>(this.consumerProperties);
+		}
 		if (this.partitionOffsets == null) {
 			this.partitionOffsets = new HashMap<>();
 			for (TopicPartition topicPartition : this.topicPartitions) {
@@ -187,17 +260,27 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 		}
 		this.kafkaConsumer.assign(this.topicPartitions);
 		this.partitionOffsets.forEach(this.kafkaConsumer::seek);
+		if (this.prefetchCount > 0) {
+			Prefetcher prefetcher = new Prefetcher(this.kafkaConsumer);
+			prefetcher.start();
+			this.prefetcher = prefetcher;
+		}
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public @Nullable V read() {
 		if (this.consumerRecords == null || !this.consumerRecords.hasNext()) {
-			this.consumerRecords = this.kafkaConsumer.poll(this.pollTimeout).iterator();
+			this.consumerRecords = this.prefetcher != null ? this.prefetcher.next().iterator()
+					: this.kafkaConsumer.poll(this.pollTimeout).iterator();
 		}
 		if (this.consumerRecords.hasNext()) {
 			ConsumerRecord<K, V> record = this.consumerRecords.next();
-			this.partitionOffsets.put(new TopicPartition(record.topic(), record.partition()), record.offset());
+			TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+			this.partitionOffsets.put(topicPartition, record.offset());
+			if (this.prefetcher != null) {
+				this.prefetcher.consumed(topicPartition, record.offset());
+			}
 			return record.value();
 		}
 		else {
@@ -215,14 +298,224 @@ public class KafkaItemReader<K, V> extends AbstractItemStreamItemReader<V> {
 			}
 			executionContext.put(TOPIC_PARTITION_OFFSETS, offsets);
 		}
-		this.kafkaConsumer.commitSync();
+		if (this.prefetcher != null) {
+			this.prefetcher.commit();
+		}
+		else {
+			this.kafkaConsumer.commitSync();
+		}
 	}
 
 	@Override
 	public void close() {
+		if (this.prefetcher != null) {
+			this.prefetcher.stop();
+			this.prefetcher = null;
+		}
+		this.consumerRecords = null;
 		if (this.kafkaConsumer != null) {
 			this.kafkaConsumer.close();
 		}
 	}
 
+	/**
+	 * Polls the consumer on the prefetch task executor and buffers polled batches in a
+	 * bounded queue. Since the consumer is not thread-safe, offset commits requested by
+	 * the step thread are also performed by the polling task, between two polls.
+	 */
+	private final class Prefetcher implements Runnable {
+
+		private final KafkaConsumer<K, V> consumer;
+
+		private final BlockingQueue<ConsumerRecords<K, V>> batches;
+
+		private final AtomicReference<@Nullable PendingCommit> pendingCommit = new AtomicReference<>();
+
+		// only accessed by the step thread
+		private final Map<TopicPartition, OffsetAndMetadata> consumedOffsets = new HashMap<>();
+
+		private final FutureTask<Void> task;
+
+		// claimed by the polling task when it starts, or by stop() if it never started
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private volatile boolean running = true;
+
+		private volatile @Nullable RuntimeException failure;
+
+		private Prefetcher(KafkaConsumer<K, V> consumer) {
+			this.consumer = consumer;
+			this.batches = new ArrayBlockingQueue<>(prefetchCount);
+			this.task = new FutureTask<>(this, null);
+		}
+
+		private void start() {
+			TaskExecutor taskExecutor = prefetchTaskExecutor;
+			if (taskExecutor == null) {
+				SimpleAsyncTaskExecutor simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor(
+						"kafka-item-reader-" + topicName + "-");
+				simpleAsyncTaskExecutor.setDaemon(true);
+				taskExecutor = simpleAsyncTaskExecutor;
+			}
+			taskExecutor.execute(this.task);
+		}
+
+		@Override
+		public void run() {
+			if (!this.started.compareAndSet(false, true)) {
+				// stopped before being started by the task executor
+				return;
+			}
+			try {
+				ConsumerRecords<K, V> batch = null;
+				while (this.running) {
+					commitIfNecessary();
+					if (batch == null) {
+						try {
+							batch = this.consumer.poll(pollTimeout);
+						}
+						catch (WakeupException e) {
+							// woken up to commit offsets or to stop
+							continue;
+						}
+						if (batch.isEmpty()) {
+							batch = null;
+							continue;
+						}
+					}
+					if (this.batches.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+						batch = null;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (RuntimeException e) {
+				this.failure = e;
+			}
+			finally {
+				PendingCommit commit = this.pendingCommit.getAndSet(null);
+				if (commit != null) {
+					commit.result.completeExceptionally(new IllegalStateException("Kafka polling task stopped"));
+				}
+			}
+		}
+
+		private void commitIfNecessary() {
+			PendingCommit commit = this.pendingCommit.getAndSet(null);
+			if (commit == null) {
+				return;
+			}
+			while (true) {
+				try {
+					this.consumer.commitSync(commit.offsets);
+					commit.result.complete(null);
+					return;
+				}
+				catch (WakeupException e) {
+					// the wakeup that signalled this commit, try again
+				}
+				catch (RuntimeException e) {
+					commit.result.completeExceptionally(e);
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Return the next polled batch, waiting up to the poll timeout. An empty batch is
+		 * returned if no records were polled in time.
+		 */
+		private ConsumerRecords<K, V> next() {
+			try {
+				ConsumerRecords<K, V> batch = this.batches.poll(pollTimeout.toMillis(), TimeUnit.MILLISECONDS);
+				if (batch == null) {
+					RuntimeException exception = this.failure;
+					if (exception != null) {
+						throw exception;
+					}
+					if (!this.started.get()) {
+						throw new IllegalStateException(
+								"The Kafka polling task was not started by the prefetch task executor within the poll timeout");
+					}
+					return ConsumerRecords.empty();
+				}
+				return batch;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return ConsumerRecords.empty();
+			}
+		}
+
+		private void consumed(TopicPartition topicPartition, long offset) {
+			// the committed offset is the one of the next record to read
+			this.consumedOffsets.put(topicPartition, new OffsetAndMetadata(offset + 1));
+		}
+
+		/**
+		 * Commit the offsets of the records read so far and wait for the commit to
+		 * complete.
+		 */
+		private void commit() {
+			if (this.consumedOffsets.isEmpty()) {
+				return;
+			}
+			PendingCommit commit = new PendingCommit(new HashMap<>(this.consumedOffsets));
+			this.pendingCommit.set(commit);
+			this.consumer.wakeup();
+			try {
+				while (true) {
+					try {
+						commit.result.get(100, TimeUnit.MILLISECONDS);
+						return;
+					}
+					catch (TimeoutException e) {
+						// the polling task may have stopped before taking the commit over
+						if (this.task.isDone() && this.pendingCommit.compareAndSet(commit, null)) {
+							throw new ItemStreamException("Unable to commit offsets: Kafka polling task stopped");
+						}
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ItemStreamException("Interrupted while committing offsets", e);
+			}
+			catch (ExecutionException e) {
+				throw new ItemStreamException("Unable to commit offsets", e);
+			}
+		}
+
+		private void stop() {
+			this.running = false;
+			if (this.started.compareAndSet(false, true)) {
+				// never started by the task executor, make sure it never runs
+				this.task.cancel(false);
+				return;
+			}
+			this.consumer.wakeup();
+			try {
+				this.task.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException e) {
+				// failures are handed over to the step thread through the failure field
+			}
+		}
+
+	}
+
+	private record PendingCommit(Map<TopicPartition, OffsetAndMetadata> offsets,
+			CompletableFuture<@Nullable Void> result) {
+
+		private PendingCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+			this(offsets, new CompletableFuture<>());
+		}
+
+	}
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Utility methods to split the partitions of a Kafka topic into groups. Each group can
+ * then be read independently by a {@link KafkaItemReader} created for those partitions.
+ *
+ * @since 6.0.3
+ */
+public abstract class KafkaTopicSplitter {
+
+	// forbids instantiation
+	private KafkaTopicSplitter() {
+	}
+
+	/**
+	 * Discover the partitions of the given topic from the broker.
+	 * @param consumerProperties the properties of the {@link KafkaConsumer} used to
+	 * discover the partitions of the topic
+	 * @param topicName the name of the topic
+	 * @return the partitions of the topic in ascending order
+	 */
+	public static List<Integer> partitionsFor(Properties consumerProperties, String topicName) {
+		Assert.notNull(consumerProperties, "Consumer properties must not be null");
+		Assert.hasLength(topicName, "Topic name must not be null or empty");
+		try (KafkaConsumer<?, ?> consumer = new KafkaConsumer<>(consumerProperties)) {
+			List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+			Assert.state(!CollectionUtils.isEmpty(partitionInfos), "No partitions found for topic " + topicName);
+			return partitionInfos.stream().map(PartitionInfo::partition).sorted().toList();
+		}
+	}
+
+	/**
+	 * Assign the given partitions round-robin to at most {@code count} groups.
+	 * @param partitions the partitions to split
+	 * @param count the maximum number of groups
+	 * @return the non-empty groups of partitions
+	 */
+	public static List<List<Integer>> split(List<Integer> partitions, int count) {
+		Assert.notEmpty(partitions, "At least one partition must be provided");
+		Assert.isTrue(count > 0, "count must be greater than zero");
+		int groups = Math.min(count, partitions.size());
+		List<List<Integer>> assignments = new ArrayList<>(groups);
+		for (int i = 0; i < groups; i++) {
+			assignments.add(new ArrayList<>());
+		}
+		for (int i = 0; i < partitions.size(); i++) {
+			assignments.get(i % groups).add(partitions.get(i));
+		}
+		return assignments;
+	}
+
+}
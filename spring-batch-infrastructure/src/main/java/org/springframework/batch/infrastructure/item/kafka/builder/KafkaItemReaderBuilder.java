@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2020 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemStreamSupport;
 import org.springframework.batch.infrastructure.item.kafka.KafkaItemReader;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -55,6 +56,10 @@ public class KafkaItemReaderBuilder<K, V> {
 
 	private boolean saveState = true;
 
+	private int prefetchCount = 0;
+
+	private @Nullable TaskExecutor prefetchTaskExecutor;
+
 	private @Nullable String name;
 
 	/**
@@ -154,6 +159,32 @@ public class KafkaItemReaderBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Set the number of polled batches to buffer ahead of the step. Defaults to 0 (no
+	 * prefetching).
+	 * @param prefetchCount the maximum number of polled batches to buffer
+	 * @return The current instance of the builder.
+	 * @see KafkaItemReader#setPrefetchCount(int)
+	 * @since 6.0.3
+	 */
+	public KafkaItemReaderBuilder<K, V> prefetchCount(int prefetchCount) {
+		this.prefetchCount = prefetchCount;
+		return this;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to poll records ahead of the step when a prefetch
+	 * count is set.
+	 * @param prefetchTaskExecutor the task executor to use
+	 * @return The current instance of the builder.
+	 * @see KafkaItemReader#setPrefetchTaskExecutor(TaskExecutor)
+	 * @since 6.0.3
+	 */
+	public KafkaItemReaderBuilder<K, V> prefetchTaskExecutor(TaskExecutor prefetchTaskExecutor) {
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+		return this;
+	}
+
 	public KafkaItemReader<K, V> build() {
 		if (this.saveState) {
 			Assert.hasText(this.name, "A name is required when saveState is set to true");
@@ -176,6 +207,10 @@ public class KafkaItemReaderBuilder<K, V> {
 		KafkaItemReader<K, V> reader = new KafkaItemReader<>(this.consumerProperties, this.topic, this.partitions);
 		reader.setPollTimeout(this.pollTimeout);
 		reader.setSaveState(this.saveState);
+		reader.setPrefetchCount(this.prefetchCount);
+		if (this.prefetchTaskExecutor != null) {
+			reader.setPrefetchTaskExecutor(this.prefetchTaskExecutor);
+		}
 		if (this.name != null) {
 			reader.setName(this.name);
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -37,6 +37,8 @@ public class KafkaItemWriterBuilder<K, V> {
 
 	private boolean delete;
 
+	private boolean coalesce;
+
 	private long timeout = -1;
 
 	/**
@@ -88,6 +90,19 @@ public class KafkaItemWriterBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Indicate if the items of a chunk that map to the same key should be collapsed to
+	 * the last one before being written.
+	 * @param coalesce coalescing indicator.
+	 * @return The current instance of the builder.
+	 * @see KafkaItemWriter#setCoalesce(boolean)
+	 * @since 6.0.3
+	 */
+	public KafkaItemWriterBuilder<K, V> coalesce(boolean coalesce) {
+		this.coalesce = coalesce;
+		return this;
+	}
+
 	/**
 	 * Validates and builds a {@link KafkaItemWriter}.
 	 * @return a {@link KafkaItemWriter}
@@ -100,6 +115,7 @@ public class KafkaItemWriterBuilder<K, V> {
 		writer.setKafkaTemplate(this.kafkaTemplate);
 		writer.setItemKeyMapper(this.itemKeyMapper);
 		writer.setDelete(this.delete);
+		writer.setCoalesce(this.coalesce);
 		writer.setTimeout(this.timeout);
 		return writer;
 	}
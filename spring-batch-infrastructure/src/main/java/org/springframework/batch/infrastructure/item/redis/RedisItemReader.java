@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -15,6 +15,11 @@
  */
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
@@ -31,6 +36,14 @@ import org.springframework.util.Assert;
  * query.
  *
  * <p>
+ * By default, values are fetched one key at a time with {@code GET}, and a key that no
+ * longer exists is read as {@code null}. When a {@link #setFetchSize(int) fetchSize}
+ * greater than 1 is set, values are fetched in batches of that many keys with a single
+ * {@code MGET} command, and keys that no longer exist when their batch is fetched are
+ * skipped.
+ * </p>
+ *
+ * <p>
  * The implementation is not thread-safe and not restartable.
  * </p>
  *
@@ -47,6 +60,10 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 
 	private @Nullable Cursor<K> cursor;
 
+	private int fetchSize = 1;
+
+	private final Deque<V> buffer = new ArrayDeque<>();
+
 	public RedisItemReader(RedisTemplate<K, V> redisTemplate, ScanOptions scanOptions) {
 		Assert.notNull(redisTemplate, "redisTemplate must not be null");
 		Assert.notNull(scanOptions, "scanOptions must no be null");
@@ -54,26 +71,62 @@ public class RedisItemReader<K, V> implements ItemStreamReader<V> {
 		this.scanOptions = scanOptions;
 	}
 
+	/**
+	 * Set the number of keys for which values are fetched in a single {@code MGET}
+	 * command. Defaults to 1, in which case values are fetched one key at a time with
+	 * {@code GET}. A value matching the {@code COUNT} of the {@link ScanOptions} makes
+	 * one round trip per scanned page.
+	 * @param fetchSize the number of values to fetch in a single round trip
+	 * @since 6.0.3
+	 */
+	public void setFetchSize(int fetchSize) {
+		Assert.isTrue(fetchSize > 0, "fetchSize must be greater than zero");
+		this.fetchSize = fetchSize;
+	}
+
 	@Override
 	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		this.buffer.clear();
 		this.cursor = this.redisTemplate.scan(this.scanOptions);
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public @Nullable V read() throws Exception {
-		if (this.cursor.hasNext()) {
-			K nextKey = this.cursor.next();
-			return this.redisTemplate.opsForValue().get(nextKey);
+		if (this.fetchSize == 1) {
+			if (this.cursor.hasNext()) {
+				K nextKey = this.cursor.next();
+				return this.redisTemplate.opsForValue().get(nextKey);
+			}
+			else {
+				return null;
+			}
+		}
+		while (this.buffer.isEmpty() && this.cursor.hasNext()) {
+			fetch(this.cursor);
+		}
+		return this.buffer.poll();
+	}
+
+	private void fetch(Cursor<K> cursor) {
+		List<K> keys = new ArrayList<>(this.fetchSize);
+		while (keys.size() < this.fetchSize && cursor.hasNext()) {
+			keys.add(cursor.next());
 		}
-		else {
-			return null;
+		List<V> values = this.redisTemplate.opsForValue().multiGet(keys);
+		if (values != null) {
+			for (V value : values) {
+				if (value != null) {
+					this.buffer.add(value);
+				}
+			}
 		}
 	}
 
 	@SuppressWarnings("DataFlowIssue")
 	@Override
 	public void close() throws ItemStreamException {
+		this.buffer.clear();
 		this.cursor.close();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,18 @@
 
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.batch.infrastructure.item.KeyValueItemWriter;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.util.Assert;
 
 /**
@@ -27,6 +35,14 @@ import org.springframework.util.Assert;
  * An {@link ItemWriter} implementation for Redis using a {@link RedisTemplate} .
  * </p>
  *
+ * <p>
+ * When {@link #setPipelined(boolean) pipelined} is enabled, all the commands of a chunk
+ * are sent in a single pipeline, i.e. in one network round trip, instead of one round
+ * trip per item. {@link #setCoalesce(boolean) Coalescing} is applied before the commands
+ * are pipelined. An optional {@link #setTimeToLive(Duration) time to live} can be set on
+ * written keys.
+ * </p>
+ *
  * @author Santiago Molano
  * @author Mahmoud Ben Hassine
  * @author Stefano Cordio
@@ -36,6 +52,10 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 
 	private RedisTemplate<K, T> redisTemplate;
 
+	private boolean pipelined = false;
+
+	private @Nullable Duration timeToLive;
+
 	/**
 	 * Create a new {@link RedisItemWriter}.
 	 * @param itemKeyMapper the {@link Converter} used to derive a key from an item.
@@ -48,13 +68,39 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 		this.redisTemplate = redisTemplate;
 	}
 
+	@Override
+	public void write(Chunk<? extends T> chunk) throws Exception {
+		if (!this.pipelined) {
+			super.write(chunk);
+			return;
+		}
+		this.redisTemplate.executePipelined(new SessionCallback<@Nullable Object>() {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <KK, VV> @Nullable Object execute(RedisOperations<KK, VV> operations) throws DataAccessException {
+				RedisOperations<K, T> redisOperations = (RedisOperations<K, T>) operations;
+				writeKeyValues(chunk, (key, value) -> writeKeyValue(redisOperations, key, value));
+				return null;
+			}
+
+		});
+	}
+
 	@Override
 	protected void writeKeyValue(K key, T value) {
+		writeKeyValue(this.redisTemplate, key, value);
+	}
+
+	private void writeKeyValue(RedisOperations<K, T> operations, K key, T value) {
 		if (this.delete) {
-			this.redisTemplate.delete(key);
+			operations.delete(key);
+		}
+		else if (this.timeToLive != null) {
+			operations.opsForValue().set(key, value, this.timeToLive);
 		}
 		else {
-			this.redisTemplate.opsForValue().set(key, value);
+			operations.opsForValue().set(key, value);
 		}
 	}
 
@@ -71,4 +117,24 @@ public class RedisItemWriter<K, T> extends KeyValueItemWriter<K, T> {
 		this.redisTemplate = redisTemplate;
 	}
 
+	/**
+	 * Set whether the commands of a chunk should be sent in a single pipeline. Defaults
+	 * to {@code false}.
+	 * @param pipelined true to pipeline the writes of a chunk
+	 * @since 6.0.3
+	 */
+	public void setPipelined(boolean pipelined) {
+		this.pipelined = pipelined;
+	}
+
+	/**
+	 * Set the time to live of written keys. Defaults to {@code null} (no expiration).
+	 * Ignored when deleting items.
+	 * @param timeToLive the expiration of written keys
+	 * @since 6.0.3
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -33,6 +33,8 @@ public class RedisItemReaderBuilder<K, V> {
 
 	private ScanOptions scanOptions;
 
+	private int fetchSize;
+
 	/**
 	 * Set the {@link RedisTemplate} to use in the reader.
 	 * @param redisTemplate the template to use
@@ -53,12 +55,29 @@ public class RedisItemReaderBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Set the number of values to fetch in a single {@code MGET} command. Defaults to 1,
+	 * in which case values are fetched one key at a time with {@code GET}.
+	 * @param fetchSize the number of values to fetch in a single round trip
+	 * @return the current builder instance for fluent chaining
+	 * @see RedisItemReader#setFetchSize(int)
+	 * @since 6.0.3
+	 */
+	public RedisItemReaderBuilder<K, V> fetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
 	/**
 	 * Build a new {@link RedisItemReader}.
 	 * @return a new item reader
 	 */
 	public RedisItemReader<K, V> build() {
-		return new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		RedisItemReader<K, V> reader = new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		if (this.fetchSize > 0) {
+			reader.setFetchSize(this.fetchSize);
+		}
+		return reader;
 	}
 
 }
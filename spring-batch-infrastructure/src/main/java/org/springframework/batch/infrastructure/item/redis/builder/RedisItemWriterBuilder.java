@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.infrastructure.item.redis.builder;
 
+import java.time.Duration;
+
 import org.jspecify.annotations.NonNull;
 
 import org.springframework.batch.infrastructure.item.redis.RedisItemWriter;
@@ -36,6 +38,12 @@ public class RedisItemWriterBuilder<K, V> {
 
 	private boolean delete;
 
+	private boolean coalesce;
+
+	private boolean pipelined;
+
+	private Duration timeToLive;
+
 	/**
 	 * Set the {@link RedisTemplate} to use to write items to Redis.
 	 * @param redisTemplate the template to use.
@@ -69,6 +77,43 @@ public class RedisItemWriterBuilder<K, V> {
 		return this;
 	}
 
+	/**
+	 * Indicate if the writes of a chunk should be sent to Redis in a single pipeline.
+	 * @param pipelined pipelining indicator.
+	 * @return The current instance of the builder.
+	 * @see RedisItemWriter#setPipelined(boolean)
+	 * @since 6.0.3
+	 */
+	public RedisItemWriterBuilder<K, V> pipelined(boolean pipelined) {
+		this.pipelined = pipelined;
+		return this;
+	}
+
+	/**
+	 * Set the time to live of the keys written to Redis.
+	 * @param timeToLive the expiration of written keys.
+	 * @return The current instance of the builder.
+	 * @see RedisItemWriter#setTimeToLive(Duration)
+	 * @since 6.0.3
+	 */
+	public RedisItemWriterBuilder<K, V> timeToLive(Duration timeToLive) {
+		this.timeToLive = timeToLive;
+		return this;
+	}
+
+	/**
+	 * Indicate if the items of a chunk that map to the same key should be collapsed to
+	 * the last one before being written.
+	 * @param coalesce coalescing indicator.
+	 * @return The current instance of the builder.
+	 * @see RedisItemWriter#setCoalesce(boolean)
+	 * @since 6.0.3
+	 */
+	public RedisItemWriterBuilder<K, V> coalesce(boolean coalesce) {
+		this.coalesce = coalesce;
+		return this;
+	}
+
 	/**
 	 * Validates and builds a {@link RedisItemWriter}.
 	 * @return a {@link RedisItemWriter}
@@ -79,6 +124,9 @@ public class RedisItemWriterBuilder<K, V> {
 
 		RedisItemWriter<@NonNull K, @NonNull V> writer = new RedisItemWriter<>(this.itemKeyMapper, this.redisTemplate);
 		writer.setDelete(this.delete);
+		writer.setCoalesce(this.coalesce);
+		writer.setPipelined(this.pipelined);
+		writer.setTimeToLive(this.timeToLive);
 		return writer;
 	}
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.SpELItemKeyMapper;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ItemWriter} decorator that collapses the items of a chunk that map to the
+ * same key to the last one before delegating, so that each key is written at most once
+ * per chunk. The key of an item is derived with a {@link Converter}, for example a
+ * {@link SpELItemKeyMapper}. The written items keep the relative order of the last item
+ * of each key.
+ * <p>
+ * This decorator is useful with writers that upsert items by key (for example a
+ * {@link org.springframework.batch.infrastructure.item.data.MongoItemWriter} or a
+ * {@link org.springframework.batch.infrastructure.item.data.RepositoryItemWriter}) when
+ * only the last value written for a key matters. The number of items that were not
+ * written is available with {@link #getCoalescedItemCount()}.
+ * <p>
+ * State management is honored with a delegate {@link ItemStream} item writer.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the written items
+ * @since 6.0.3
+ * @see org.springframework.batch.infrastructure.item.KeyValueItemWriter#setCoalesce(boolean)
+ */
+public class CoalescingItemWriter<K, V> implements ItemStreamWriter<V> {
+
+	private final ItemWriter<V> delegate;
+
+	private final Converter<V, K> itemKeyMapper;
+
+	private final AtomicLong coalescedItemCount = new AtomicLong();
+
+	/**
+	 * Create a new {@link CoalescingItemWriter}.
+	 * @param delegate the item writer to delegate to
+	 * @param itemKeyMapper the {@link Converter} used to derive a key from an item
+	 */
+	public CoalescingItemWriter(ItemWriter<V> delegate, Converter<V, K> itemKeyMapper) {
+		Assert.notNull(delegate, "The delegate must not be null");
+		Assert.notNull(itemKeyMapper, "The itemKeyMapper must not be null");
+		this.delegate = delegate;
+		this.itemKeyMapper = itemKeyMapper;
+	}
+
+	@Override
+	public void write(Chunk<? extends V> chunk) throws Exception {
+		this.delegate.write(coalesce(chunk));
+	}
+
+	private <W extends V> Chunk<W> coalesce(Chunk<W> chunk) {
+		Map<K, W> items = new LinkedHashMap<>();
+		for (W item : chunk) {
+			K key = this.itemKeyMapper.convert(item);
+			// keep the position of the last write of each key
+			items.remove(key);
+			items.put(key, item);
+		}
+		int coalesced = chunk.size() - items.size();
+		if (coalesced == 0) {
+			return chunk;
+		}
+		this.coalescedItemCount.addAndGet(coalesced);
+		return withState(chunk, new ArrayList<>(items.values()));
+	}
+
+	// keeps the skips, errors and end flag of the original chunk
+	@SuppressWarnings("removal")
+	private static <W> Chunk<W> withState(Chunk<W> chunk, List<W> items) {
+		Chunk<W> result = new Chunk<>(items, chunk.getSkips());
+		chunk.getErrors().forEach(result::skip);
+		if (chunk.isEnd()) {
+			result.setEnd();
+		}
+		Object userData = chunk.getUserData();
+		if (userData != null) {
+			result.setUserData(userData);
+		}
+		return result;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.open(executionContext);
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.update(executionContext);
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.close();
+		}
+	}
+
+	/**
+	 * Return the number of items that were not written because a later item of the same
+	 * chunk mapped to the same key.
+	 * @return the number of coalesced items
+	 */
+	public long getCoalescedItemCount() {
+		return this.coalescedItemCount.get();
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support.builder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.support.CoalescingItemWriter;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
+
+/**
+ * Builder for {@link CoalescingItemWriter}.
+ *
+ * @since 6.0.3
+ */
+public class CoalescingItemWriterBuilder<K, V> {
+
+	private @Nullable ItemWriter<V> delegate;
+
+	private @Nullable Converter<V, K> itemKeyMapper;
+
+	/**
+	 * The item writer to use as a delegate.
+	 * @param delegate the delegate writer to set
+	 * @return this instance for method chaining
+	 */
+	public CoalescingItemWriterBuilder<K, V> delegate(ItemWriter<V> delegate) {
+		this.delegate = delegate;
+
+		return this;
+	}
+
+	/**
+	 * The {@link Converter} used to derive a key from an item.
+	 * @param itemKeyMapper the item key mapper to set
+	 * @return this instance for method chaining
+	 */
+	public CoalescingItemWriterBuilder<K, V> itemKeyMapper(Converter<V, K> itemKeyMapper) {
+		this.itemKeyMapper = itemKeyMapper;
+
+		return this;
+	}
+
+	/**
+	 * Returns a new {@link CoalescingItemWriter}.
+	 * @return a new {@link CoalescingItemWriter}
+	 */
+	public CoalescingItemWriter<K, V> build() {
+		Assert.notNull(this.delegate, "A delegate is required");
+		Assert.notNull(this.itemKeyMapper, "An itemKeyMapper is required");
+
+		return new CoalescingItemWriter<>(this.delegate, this.itemKeyMapper);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import java.util.NoSuchElementException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * An implementation of the {@link ResultQueue} that throttles the number of expected
@@ -42,9 +45,13 @@ public class ResultHolderResultQueue implements ResultQueue<ResultHolder> {
 	// Accumulation of dummy objects flagging expected results in the future.
 	private final Semaphore waits;
 
-	private final Object lock = new Object();
+	// Explicit lock rather than a monitor so that virtual threads are not pinned
+	private final Lock lock = new ReentrantLock();
 
-	private volatile int count = 0;
+	private final Condition resultAvailable = this.lock.newCondition();
+
+	// Guarded by the lock
+	private int count = 0;
 
 	/**
 	 * @param throttleLimit the maximum number of results that can be expected at any
@@ -64,8 +71,14 @@ public class ResultHolderResultQueue implements ResultQueue<ResultHolder> {
 	public boolean isExpecting() {
 		// Base the decision about whether we expect more results on a
 		// counter of the number of expected results actually collected.
-		// Do not synchronize! Otherwise put and expect can deadlock.
-		return count > 0;
+		// The lock is never held while blocking, so put and expect cannot deadlock.
+		lock.lock();
+		try {
+			return count > 0;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -77,10 +90,14 @@ public class ResultHolderResultQueue implements ResultQueue<ResultHolder> {
 	@Override
 	public void expect() throws InterruptedException {
 		waits.acquire();
-		// Don't acquire the lock in a synchronized block - might deadlock
-		synchronized (lock) {
+		// Don't acquire the permit while holding the lock - might deadlock
+		lock.lock();
+		try {
 			count++;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -92,8 +109,12 @@ public class ResultHolderResultQueue implements ResultQueue<ResultHolder> {
 		// Take from the waits queue now to allow another result to
 		// accumulate. But don't decrement the counter.
 		waits.release();
-		synchronized (lock) {
-			lock.notifyAll();
+		lock.lock();
+		try {
+			resultAvailable.signalAll();
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -122,23 +143,31 @@ public class ResultHolderResultQueue implements ResultQueue<ResultHolder> {
 		if (!isExpecting()) {
 			throw new NoSuchElementException("Not expecting a result.  Call expect() before take().");
 		}
-		ResultHolder value;
-		synchronized (lock) {
-			value = results.take();
-			if (isContinuable(value)) {
+		// Don't wait for a result while holding the lock - might deadlock
+		ResultHolder value = results.take();
+		if (isContinuable(value)) {
+			lock.lock();
+			try {
 				// Decrement the counter only when the result is collected.
 				count--;
-				return value;
 			}
+			finally {
+				lock.unlock();
+			}
+			return value;
 		}
 		results.put(value);
-		synchronized (lock) {
+		lock.lock();
+		try {
 			while (count > results.size()) {
-				lock.wait();
+				resultAvailable.await();
 			}
 			value = results.take();
 			count--;
 		}
+		finally {
+			lock.unlock();
+		}
 		return value;
 	}
 
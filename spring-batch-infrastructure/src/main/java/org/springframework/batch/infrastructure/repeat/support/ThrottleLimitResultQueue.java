@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.util.NoSuchElementException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * An implementation of the {@link ResultQueue} that throttles the number of expected
@@ -39,9 +41,11 @@ public class ThrottleLimitResultQueue<T> implements ResultQueue<T> {
 	// Accumulation of dummy objects flagging expected results in the future.
 	private final Semaphore waits;
 
-	private final Object lock = new Object();
+	// Explicit lock rather than a monitor so that virtual threads are not pinned
+	private final Lock lock = new ReentrantLock();
 
-	private volatile int count = 0;
+	// Guarded by the lock
+	private int count = 0;
 
 	/**
 	 * @param throttleLimit the maximum number of results that can be expected at any
@@ -61,8 +65,14 @@ public class ThrottleLimitResultQueue<T> implements ResultQueue<T> {
 	public boolean isExpecting() {
 		// Base the decision about whether we expect more results on a
 		// counter of the number of expected results actually collected.
-		// Do not synchronize! Otherwise put and expect can deadlock.
-		return count > 0;
+		// The lock is never held while blocking, so put and expect cannot deadlock.
+		lock.lock();
+		try {
+			return count > 0;
+		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -73,10 +83,15 @@ public class ThrottleLimitResultQueue<T> implements ResultQueue<T> {
 	 */
 	@Override
 	public void expect() throws InterruptedException {
-		synchronized (lock) {
-			waits.acquire();
+		waits.acquire();
+		// Don't acquire the permit while holding the lock - might deadlock
+		lock.lock();
+		try {
 			count++;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
@@ -96,12 +111,16 @@ public class ThrottleLimitResultQueue<T> implements ResultQueue<T> {
 		if (!isExpecting()) {
 			throw new NoSuchElementException("Not expecting a result.  Call expect() before take().");
 		}
-		T value;
-		synchronized (lock) {
-			value = results.take();
+		// Don't wait for a result while holding the lock - might deadlock
+		T value = results.take();
+		lock.lock();
+		try {
 			// Decrement the counter only when the result is collected.
 			count--;
 		}
+		finally {
+			lock.unlock();
+		}
 		return value;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2022 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,30 @@
 
 package org.springframework.batch.infrastructure.item.amqp;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.amqp.AmqpItemWriter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * <p>
@@ -54,4 +70,76 @@ class AmqpItemWriterTests {
 
 	}
 
+	@Test
+	void testWriteWithPublisherConfirms() throws Exception {
+		RabbitOperations rabbitTemplate = rabbitTemplateWithCorrelatedConfirms();
+		List<CorrelationData> correlations = new ArrayList<>();
+		doAnswer(invocation -> {
+			CorrelationData correlationData = invocation.getArgument(1);
+			correlations.add(correlationData);
+			correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+			return null;
+		}).when(rabbitTemplate).correlationConvertAndSend(any(), any(CorrelationData.class));
+
+		AmqpItemWriter<String> amqpItemWriter = new AmqpItemWriter<>(rabbitTemplate);
+		amqpItemWriter.setConfirmTimeout(Duration.ofSeconds(5));
+		amqpItemWriter.write(Chunk.of("foo", "bar"));
+
+		verify(rabbitTemplate).correlationConvertAndSend(eq("foo"), any(CorrelationData.class));
+		verify(rabbitTemplate).correlationConvertAndSend(eq("bar"), any(CorrelationData.class));
+		verify(rabbitTemplate, never()).convertAndSend(any(Object.class));
+		assertEquals(2, correlations.size());
+	}
+
+	@Test
+	void testWriteWithNegativePublisherConfirm() {
+		RabbitOperations rabbitTemplate = rabbitTemplateWithCorrelatedConfirms();
+		doAnswer(invocation -> {
+			CorrelationData correlationData = invocation.getArgument(1);
+			boolean ack = !"bar".equals(invocation.getArgument(0));
+			correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "rejected"));
+			return null;
+		}).when(rabbitTemplate).correlationConvertAndSend(any(), any(CorrelationData.class));
+
+		AmqpItemWriter<String> amqpItemWriter = new AmqpItemWriter<>(rabbitTemplate);
+		amqpItemWriter.setConfirmTimeout(Duration.ofSeconds(5));
+
+		assertThrows(AmqpException.class, () -> amqpItemWriter.write(Chunk.of("foo", "bar")));
+	}
+
+	@Test
+	void testWriteWithMissingPublisherConfirm() {
+		RabbitOperations rabbitTemplate = rabbitTemplateWithCorrelatedConfirms();
+
+		AmqpItemWriter<String> amqpItemWriter = new AmqpItemWriter<>(rabbitTemplate);
+		amqpItemWriter.setConfirmTimeout(Duration.ofMillis(10));
+
+		assertThrows(AmqpTimeoutException.class, () -> amqpItemWriter.write(Chunk.of("foo")));
+	}
+
+	@Test
+	void testConfirmTimeoutWithoutRabbitOperations() {
+		AmqpItemWriter<String> amqpItemWriter = new AmqpItemWriter<>(mock(AmqpTemplate.class));
+		assertThrows(IllegalArgumentException.class, () -> amqpItemWriter.setConfirmTimeout(Duration.ofSeconds(5)));
+	}
+
+	@Test
+	void testConfirmTimeoutWithoutCorrelatedPublisherConfirms() {
+		ConnectionFactory connectionFactory = mock();
+		when(connectionFactory.isSimplePublisherConfirms()).thenReturn(true);
+		RabbitOperations rabbitTemplate = mock();
+		when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+
+		AmqpItemWriter<String> amqpItemWriter = new AmqpItemWriter<>(rabbitTemplate);
+		assertThrows(IllegalArgumentException.class, () -> amqpItemWriter.setConfirmTimeout(Duration.ofSeconds(5)));
+	}
+
+	private static RabbitOperations rabbitTemplateWithCorrelatedConfirms() {
+		ConnectionFactory connectionFactory = mock();
+		when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+		RabbitOperations rabbitTemplate = mock();
+		when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+		return rabbitTemplate;
+	}
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.amqp;
+
+import java.nio.charset.StandardCharsets;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Consumer;
+import com.rabbitmq.client.Envelope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AmqpPrefetchingItemReaderTests {
+
+	private final Channel channel = mock();
+
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(
+			new ResourcelessTransactionManager());
+
+	private AmqpPrefetchingItemReader<String> reader;
+
+	private Consumer consumer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ConnectionFactory connectionFactory = mock();
+		Connection connection = mock();
+		when(connectionFactory.createConnection()).thenReturn(connection);
+		when(connection.createChannel(false)).thenReturn(channel);
+		this.reader = new AmqpPrefetchingItemReader<>(connectionFactory, "queue");
+		this.reader.setPrefetchCount(10);
+		this.reader.setReceiveTimeout(10);
+		this.reader.open(new ExecutionContext());
+
+		ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+		verify(channel).basicQos(10);
+		verify(channel).basicConsume(eq("queue"), eq(false), captor.capture());
+		this.consumer = captor.getValue();
+	}
+
+	@Test
+	void testReadAndAcknowledgeAfterCommit() throws Exception {
+		deliver(1, "foo");
+		deliver(2, "bar");
+		deliver(3, "baz");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			assertEquals("foo", read());
+			assertEquals("bar", read());
+		});
+
+		// only the messages read in the chunk are acknowledged
+		verify(channel).basicAck(2, true);
+		assertEquals("baz", reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testRejectAfterRollback() throws Exception {
+		deliver(1, "foo");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			assertEquals("foo", read());
+			status.setRollbackOnly();
+		});
+
+		verify(channel, never()).basicAck(anyLong(), anyBoolean());
+		verify(channel).basicNack(1, true, true);
+	}
+
+	@Test
+	void testAcknowledgeOnUpdateWithoutTransaction() throws Exception {
+		deliver(1, "foo");
+
+		assertEquals("foo", reader.read());
+		reader.update(new ExecutionContext());
+
+		verify(channel).basicAck(1, true);
+	}
+
+	private void deliver(long deliveryTag, String body) throws Exception {
+		AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder().contentType("text/plain").build();
+		this.consumer.handleDelivery("tag", new Envelope(deliveryTag, false, "", "queue"), properties,
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String read() {
+		try {
+			return reader.read();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
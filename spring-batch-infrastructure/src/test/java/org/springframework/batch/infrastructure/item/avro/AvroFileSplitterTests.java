@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.avro;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AvroFileSplitterTests {
+
+	@TempDir
+	private File directory;
+
+	private FileSystemResource resource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		File file = new File(this.directory, "numbers.avro");
+		Schema schema = SchemaBuilder.record("Number").fields().requiredInt("value").endRecord();
+		try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(schema))) {
+			writer.create(schema, file);
+			for (int i = 0; i < 100; i++) {
+				GenericRecord record = new GenericData.Record(schema);
+				record.put("value", i);
+				writer.append(record);
+				if (i % 10 == 9) {
+					writer.sync();
+				}
+			}
+		}
+		this.resource = new FileSystemResource(file);
+	}
+
+	@Test
+	void testRangesCoverAllRecordsOnce() throws Exception {
+		List<Long> boundaries = AvroFileSplitter.split(this.resource, 3);
+
+		assertThat(boundaries).hasSize(4).isSorted().startsWith(0L).endsWith(this.resource.contentLength());
+		int count = 0;
+		for (int i = 1; i < boundaries.size(); i++) {
+			int rangeCount = count(boundaries.get(i - 1), boundaries.get(i));
+			assertThat(rangeCount).isPositive();
+			count += rangeCount;
+		}
+		assertThat(count).isEqualTo(100);
+	}
+
+	@Test
+	void testMoreRangesThanBlocks() throws Exception {
+		List<Long> boundaries = AvroFileSplitter.split(this.resource, 1000);
+
+		assertThat(boundaries.size() - 1).isBetween(1, 10);
+	}
+
+	@Test
+	void testInvalidCount() {
+		assertThrows(IllegalArgumentException.class, () -> AvroFileSplitter.split(this.resource, 0));
+	}
+
+	private int count(long startPosition, long endPosition) throws Exception {
+		AvroItemReader<GenericRecord> reader = new AvroItemReader<>(this.resource, GenericRecord.class);
+		reader.setSaveState(false);
+		reader.setStartPosition(startPosition);
+		reader.setEndPosition(endPosition);
+		reader.open(new ExecutionContext());
+		int count = 0;
+		while (reader.read() != null) {
+			count++;
+		}
+		reader.close();
+		return count;
+	}
+
+}
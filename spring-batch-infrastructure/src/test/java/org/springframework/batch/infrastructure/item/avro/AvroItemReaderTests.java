@@ -16,13 +16,27 @@
 
 package org.springframework.batch.infrastructure.item.avro;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.avro.example.User;
 import org.springframework.batch.infrastructure.item.avro.support.AvroItemReaderTestSupport;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -70,6 +84,75 @@ class AvroItemReaderTests extends AvroItemReaderTestSupport {
 		verify(itemReader, plainOldUsers());
 	}
 
+	@Test
+	void restartFromSavedBlockPosition(@TempDir File directory) throws Exception {
+		FileSystemResource resource = writeNumbers(new File(directory, "numbers.avro"), 100);
+		AvroItemReader<GenericRecord> itemReader = new AvroItemReader<>(resource, GenericRecord.class);
+		itemReader.setName("numbers");
+		ExecutionContext executionContext = new ExecutionContext();
+		itemReader.open(executionContext);
+		for (int i = 0; i < 42; i++) {
+			itemReader.read();
+		}
+		itemReader.update(executionContext);
+		itemReader.close();
+
+		assertThat(executionContext.containsKey("numbers.block.position")).isTrue();
+		assertThat(executionContext.getLong("numbers.block.record.count")).isLessThan(42);
+
+		AvroItemReader<GenericRecord> restartedReader = new AvroItemReader<>(resource, GenericRecord.class);
+		restartedReader.setName("numbers");
+		restartedReader.open(executionContext);
+		List<Integer> numbers = readAll(restartedReader);
+
+		assertThat(numbers).hasSize(58).startsWith(42, 43).endsWith(99);
+	}
+
+	@Test
+	void readBlockAlignedRanges(@TempDir File directory) throws Exception {
+		FileSystemResource resource = writeNumbers(new File(directory, "numbers.avro"), 100);
+		long length = resource.contentLength();
+		List<Integer> numbers = new ArrayList<>();
+		for (long start = 0; start < length; start += 200) {
+			AvroItemReader<GenericRecord> itemReader = new AvroItemReader<>(resource, GenericRecord.class);
+			itemReader.setSaveState(false);
+			itemReader.setStartPosition(start);
+			itemReader.setEndPosition(Math.min(start + 200, length));
+			itemReader.open(new ExecutionContext());
+			numbers.addAll(readAll(itemReader));
+		}
+
+		assertThat(numbers).hasSize(100).doesNotHaveDuplicates().isSorted();
+	}
+
+	private static FileSystemResource writeNumbers(File file, int count) throws Exception {
+		Schema schema = SchemaBuilder.record("Number").fields().requiredInt("value").endRecord();
+		try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(schema))) {
+			// small blocks to spread the records over many sync markers
+			writer.setSyncInterval(64);
+			writer.create(schema, file);
+			for (int i = 0; i < count; i++) {
+				GenericRecord record = new GenericData.Record(schema);
+				record.put("value", i);
+				writer.append(record);
+				if (i % 5 == 4) {
+					writer.sync();
+				}
+			}
+		}
+		return new FileSystemResource(file);
+	}
+
+	private static List<Integer> readAll(AvroItemReader<GenericRecord> itemReader) throws Exception {
+		List<Integer> numbers = new ArrayList<>();
+		@Nullable GenericRecord record;
+		while ((record = itemReader.read()) != null) {
+			numbers.add((Integer) record.get("value"));
+		}
+		itemReader.close();
+		return numbers;
+	}
+
 	@Test
 	void dataResourceDoesNotExist() {
 		assertThrows(IllegalStateException.class,
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2025 the original author or authors.
+ * Copyright 2013-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.batch.infrastructure.item.data;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.mongodb.bulk.BulkWriteResult;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import org.springframework.batch.infrastructure.item.data.MongoItemWriter.Mode;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
@@ -41,11 +43,13 @@ import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -437,6 +441,69 @@ class MongoItemWriterTests {
 		verify(bulkOperations, times(2)).remove(any(Query.class));
 	}
 
+	@Test
+	void testWriteWithUnorderedBulkModeAndBatchSize() throws Exception {
+		writer.setBulkMode(BulkMode.UNORDERED);
+		writer.setBatchSize(2);
+		writer.setMode(Mode.INSERT);
+		when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()),
+				BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+		Chunk<Object> items = Chunk.of(new Item(1), new Item(2), new Item(3));
+
+		writer.write(items);
+
+		verify(template, times(2)).bulkOps(eq(BulkMode.UNORDERED), any(Class.class));
+		verify(bulkOperations, times(3)).insert(any(Object.class));
+		verify(bulkOperations, times(2)).execute();
+		assertEquals(3, writer.getInsertedCount());
+	}
+
+	@Test
+	void testWriteBatchesInTransactionFails() {
+		writer.setBatchSize(1);
+		List<Integer> executed = new ArrayList<>();
+		List<Integer> persisted = new ArrayList<>();
+		when(bulkOperations.execute()).thenAnswer(invocation -> {
+			executed.add(executed.size() + 1);
+			if (executed.size() == 2) {
+				throw new RuntimeException("bulk write failure");
+			}
+			// with a MongoDB transaction manager, only the writes executed outside of
+			// the thread bound transaction would be persisted despite the rollback
+			if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+				persisted.add(executed.size());
+			}
+			return BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of());
+		});
+		writer.setMode(Mode.INSERT);
+		Chunk<Object> items = Chunk.of(new Item(1), new Item(2), new Item(3));
+
+		Exception exception = assertThrows(RuntimeException.class,
+				() -> new TransactionTemplate(transactionManager).execute((TransactionCallback<Void>) status -> {
+					assertDoesNotThrow(() -> writer.write(items));
+					return null;
+				}));
+		assertEquals("bulk write failure", exception.getMessage());
+
+		assertEquals(List.of(1, 2), executed);
+		assertTrue(persisted.isEmpty());
+	}
+
+	@Test
+	void testWriteWithCollectionResolver() throws Exception {
+		writer.setCollection("collection");
+		writer.setCollectionResolver(item -> ((Item) item).id % 2 == 0 ? "even" : "odd");
+		Chunk<Object> items = Chunk.of(new Item(1), new Item(2), new Item(3));
+
+		writer.write(items);
+
+		verify(template).bulkOps(any(), eq("odd"));
+		verify(template).bulkOps(any(), eq("even"));
+		verify(template, never()).bulkOps(any(), eq("collection"));
+		verify(bulkOperations, times(3)).replaceOne(any(Query.class), any(Object.class), any());
+		verify(bulkOperations, times(2)).execute();
+	}
+
 	static class Item {
 
 		Integer id;
@@ -30,13 +30,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.adapter.DynamicMethodInvocationException;
 import org.springframework.batch.infrastructure.item.data.RepositoryItemReader;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import static java.util.Collections.singletonList;
@@ -47,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -283,10 +288,53 @@ class RepositoryItemReaderTests {
 		assertEquals("3", reader.read());
 	}
 
+	@Test
+	void testKeysetScrollingRestart() throws Exception {
+		TestRepository testRepository = mock();
+		RepositoryItemReader<Map<String, Object>> keysetReader = new RepositoryItemReader<>(testRepository, sorts);
+		keysetReader.setMethodName("findBy");
+		keysetReader.setPageSize(2);
+		keysetReader.setKeysetScrolling(true);
+		keysetReader.setName("keysetReader");
+		when(testRepository.findBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+			.thenAnswer(invocation -> window(invocation.getArgument(0), invocation.getArgument(2)));
+		ExecutionContext executionContext = new ExecutionContext();
+
+		keysetReader.open(executionContext);
+		assertEquals(1, keysetReader.read().get("id"));
+		assertEquals(2, keysetReader.read().get("id"));
+		assertEquals(3, keysetReader.read().get("id"));
+		keysetReader.update(executionContext);
+		keysetReader.close();
+
+		assertEquals(Map.of("id", 2), executionContext.get("keysetReader.start.after"));
+
+		keysetReader.open(executionContext);
+		assertEquals(4, keysetReader.read().get("id"));
+		assertEquals(5, keysetReader.read().get("id"));
+		assertNull(keysetReader.read());
+
+		ArgumentCaptor<ScrollPosition> positions = ArgumentCaptor.forClass(ScrollPosition.class);
+		verify(testRepository, atLeastOnce()).findBy(positions.capture(), any(Sort.class), any(Limit.class));
+		assertTrue(positions.getAllValues().get(0).isInitial());
+		assertEquals(Map.of("id", 2), ((KeysetScrollPosition) positions.getAllValues().get(1)).getKeys());
+	}
+
+	private static Window<Map<String, Object>> window(KeysetScrollPosition position, Limit limit) {
+		int after = position.isInitial() ? 0 : (Integer) position.getKeys().get("id");
+		List<Map<String, Object>> items = new ArrayList<>();
+		for (int id = after + 1; id <= Math.min(after + limit.max(), 5); id++) {
+			items.add(Map.of("id", id));
+		}
+		return Window.from(items, i -> ScrollPosition.forward(Map.of("id", items.get(i).get("id"))), after < 3);
+	}
+
 	public interface TestRepository extends PagingAndSortingRepository<Map, Long> {
 
 		Slice<String> findFirstNames(Pageable pageable);
 
+		Window<Map<String, Object>> findBy(ScrollPosition position, Sort sort, Limit limit);
+
 	}
 
 	// Simple object for readability
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,8 @@ import org.springframework.batch.infrastructure.item.database.BeanPropertyItemSq
 import org.springframework.batch.infrastructure.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -37,8 +39,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
@@ -116,6 +120,43 @@ public class JdbcBatchItemWriterNamedParameterTests {
 		writer.afterPropertiesSet();
 	}
 
+	@Test
+	void testMultiRowInsertRequiresInsertValuesStatement() {
+		writer.setRowsPerStatement(2);
+
+		assertThrows(IllegalStateException.class, writer::afterPropertiesSet);
+	}
+
+	@Test
+	void testMultiRowInsert() throws Exception {
+		JdbcOperations jdbcOperations = mock();
+		when(namedParameterJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		writer.setSql("insert into foo (id, bar) values (:id, :bar)");
+		writer.setRowsPerStatement(2);
+		writer.afterPropertiesSet();
+		when(jdbcOperations.batchUpdate(eq("insert into foo (id, bar) values (?, ?), (?, ?)"), anyList()))
+			.thenReturn(new int[] { 2 });
+		when(jdbcOperations.update(eq("insert into foo (id, bar) values (?, ?)"), any(Object[].class))).thenReturn(1);
+
+		writer.write(Chunk.of(new Foo("foo"), new Foo("bar"), new Foo("baz")));
+
+		verify(jdbcOperations).update(eq("insert into foo (id, bar) values (?, ?)"), any(Object[].class));
+	}
+
+	@Test
+	void testMultiRowInsertAssertUpdates() throws Exception {
+		JdbcOperations jdbcOperations = mock();
+		when(namedParameterJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		writer.setSql("insert into foo (id, bar) values (:id, :bar)");
+		writer.setRowsPerStatement(3);
+		writer.afterPropertiesSet();
+		when(jdbcOperations.update(eq("insert into foo (id, bar) values (?, ?), (?, ?)"), any(Object[].class)))
+			.thenReturn(1);
+
+		assertThrows(JdbcUpdateAffectedIncorrectNumberOfRowsException.class,
+				() -> writer.write(Chunk.of(new Foo("foo"), new Foo("bar"))));
+	}
+
 	@Test
 	void testWriteAndFlush() throws Exception {
 		when(namedParameterJdbcOperations.batchUpdate(eq(sql),
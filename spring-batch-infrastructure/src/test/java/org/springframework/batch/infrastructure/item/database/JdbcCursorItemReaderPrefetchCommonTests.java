@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.sample.Foo;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcCursorItemReaderPrefetchCommonTests extends JdbcCursorItemReaderCommonTests {
+
+	@Override
+	protected ItemReader<Foo> getItemReader() throws Exception {
+		JdbcCursorItemReader<Foo> result = (JdbcCursorItemReader<Foo>) super.getItemReader();
+		result.setPrefetchSize(3);
+		return result;
+	}
+
+	@Test
+	void testCursorPositionVerifiedOnFetchingThread() throws Exception {
+		JdbcCursorItemReader<Foo> reader = (JdbcCursorItemReader<Foo>) getItemReader();
+		reader.setRowMapper((rs, rowNum) -> {
+			rs.next();
+			return new Foo();
+		});
+		reader.open(new ExecutionContext());
+
+		assertThrows(InvalidDataAccessResourceUsageException.class, reader::read);
+		reader.close();
+	}
+
+	@Test
+	void testPrefetchWithSharedExtendedConnection() throws Exception {
+		JdbcCursorItemReader<Foo> reader = (JdbcCursorItemReader<Foo>) getItemReader();
+		reader.setUseSharedExtendedConnection(true);
+
+		assertThrows(ItemStreamException.class, () -> reader.open(new ExecutionContext()));
+	}
+
+	@Test
+	void testRejectedFetchingTask() throws Exception {
+		JdbcCursorItemReader<Foo> reader = (JdbcCursorItemReader<Foo>) getItemReader();
+		reader.setPrefetchTaskExecutor(task -> {
+			throw new TaskRejectedException("rejected");
+		});
+		reader.open(new ExecutionContext());
+
+		assertThrows(TaskRejectedException.class, reader::read);
+		assertThrows(TaskRejectedException.class, reader::read);
+		reader.close();
+	}
+
+	@Test
+	void testQueuedFetchingTask() throws Exception {
+		JdbcCursorItemReader<Foo> reader = (JdbcCursorItemReader<Foo>) getItemReader();
+		// a task executor that queues the fetching task forever
+		List<Runnable> queuedTasks = new ArrayList<>();
+		reader.setPrefetchTaskExecutor(queuedTasks::add);
+		ReflectionTestUtils.setField(reader, "prefetchStartTimeout", Duration.ofMillis(100));
+		reader.open(new ExecutionContext());
+
+		assertThrows(IllegalStateException.class, reader::read);
+		reader.close();
+
+		// the queued fetching task must not run once the reader is closed
+		assertTrue(((Future<?>) queuedTasks.get(0)).isCancelled());
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.database;
+
+import java.io.Reader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.database.builder.PostgresCopyItemWriterBuilder;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgresCopyItemWriterTests {
+
+	private static final String COPY_SQL = "COPY FOO (ID, NAME) FROM STDIN";
+
+	private final CopyManager copyManager = mock();
+
+	private final StringWriter copied = new StringWriter();
+
+	private DataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		PGConnection pgConnection = mock();
+		when(pgConnection.getCopyAPI()).thenReturn(this.copyManager);
+		Connection connection = mock();
+		when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		this.dataSource = mock();
+		when(this.dataSource.getConnection()).thenReturn(connection);
+	}
+
+	@Test
+	void testWrite() throws Exception {
+		when(this.copyManager.copyIn(eq(COPY_SQL), any(Reader.class))).thenAnswer(invocation -> {
+			invocation.<Reader>getArgument(1).transferTo(this.copied);
+			return 3L;
+		});
+		PostgresCopyItemWriter<Foo> writer = new PostgresCopyItemWriterBuilder<Foo>().dataSource(this.dataSource)
+			.tableName("FOO")
+			.columnNames("ID", "NAME")
+			.fieldExtractor(foo -> new Object[] { foo.id(), foo.name() })
+			.build();
+
+		writer.write(Chunk.of(new Foo(1, "foo"), new Foo(2, "a\tb\\c\nd"), new Foo(3, null)));
+
+		assertEquals("1\tfoo\n2\ta\\tb\\\\c\\nd\n3\t\\N\n", this.copied.toString());
+	}
+
+	@Test
+	void testWriteEmptyChunk() throws Exception {
+		PostgresCopyItemWriter<Foo> writer = new PostgresCopyItemWriter<>(this.dataSource, "FOO", List.of("ID", "NAME"),
+				foo -> new Object[] { foo.id(), foo.name() });
+
+		writer.write(new Chunk<>());
+	}
+
+	@Test
+	void testAssertUpdates() throws Exception {
+		when(this.copyManager.copyIn(eq(COPY_SQL), any(Reader.class))).thenReturn(1L);
+		PostgresCopyItemWriter<Foo> writer = new PostgresCopyItemWriter<>(this.dataSource, "FOO", List.of("ID", "NAME"),
+				foo -> new Object[] { foo.id(), foo.name() });
+
+		assertThrows(JdbcUpdateAffectedIncorrectNumberOfRowsException.class,
+				() -> writer.write(Chunk.of(new Foo(1, "foo"), new Foo(2, "bar"))));
+
+		writer.setAssertUpdates(false);
+		writer.write(Chunk.of(new Foo(1, "foo"), new Foo(2, "bar")));
+	}
+
+	private record Foo(int id, String name) {
+	}
+
+}
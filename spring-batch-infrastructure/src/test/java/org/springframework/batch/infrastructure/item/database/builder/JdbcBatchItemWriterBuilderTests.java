@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -122,6 +122,38 @@ class JdbcBatchItemWriterBuilderTests {
 		verifyWrite();
 	}
 
+	@Test
+	void testMultiRowInsert() throws Exception {
+		JdbcBatchItemWriter<Foo> writer = new JdbcBatchItemWriterBuilder<Foo>().beanMapped()
+			.dataSource(this.dataSource)
+			.sql("INSERT INTO FOO (first, second, third) VALUES (:first, :second, :third)")
+			.rowsPerStatement(2)
+			.build();
+
+		Chunk<Foo> items = new Chunk<>();
+
+		items.add(new Foo(1, "two", "three"));
+		items.add(new Foo(4, "five", "six"));
+		items.add(new Foo(7, "eight", "nine"));
+
+		writer.write(items);
+
+		verifyWrite();
+	}
+
+	@Test
+	void testMultiRowInsertWithMapItems() throws Exception {
+		JdbcBatchItemWriter<Map<String, Object>> writer = new JdbcBatchItemWriterBuilder<Map<String, Object>>()
+			.dataSource(this.dataSource)
+			.sql("INSERT INTO FOO (first, second, third) VALUES (:first, :second, :third)")
+			.rowsPerStatement(3)
+			.build();
+
+		writer.write(buildMapItems());
+
+		verifyWrite();
+	}
+
 	@Test
 	void testAssertUpdates() {
 		JdbcBatchItemWriter<Foo> writer = new JdbcBatchItemWriterBuilder<Foo>().beanMapped()
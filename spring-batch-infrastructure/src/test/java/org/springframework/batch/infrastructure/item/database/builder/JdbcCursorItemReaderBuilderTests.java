@@ -1,5 +1,5 @@
 /*
- * Copyright 2016-2025 the original author or authors.
+ * Copyright 2016-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.springframework.batch.infrastructure.item.database.builder;
 
 import java.sql.Types;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.AfterEach;
@@ -32,6 +33,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.init.DataSourceInitializer;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
@@ -39,6 +41,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -301,6 +304,68 @@ class JdbcCursorItemReaderBuilderTests {
 		assertTrue((boolean) ReflectionTestUtils.getField(reader, "connectionAutoCommit"));
 	}
 
+	@Test
+	void testPrefetchSize() throws Exception {
+		JdbcCursorItemReader<Foo> reader = new JdbcCursorItemReaderBuilder<Foo>().dataSource(this.dataSource)
+			.name("fooReader")
+			.sql("SELECT * FROM FOO ORDER BY FIRST")
+			.prefetchSize(2)
+			.rowMapper((rs, rowNum) -> {
+				Foo foo = new Foo();
+
+				foo.setFirst(rs.getInt("FIRST"));
+				foo.setSecond(rs.getString("SECOND"));
+				foo.setThird(rs.getString("THIRD"));
+
+				return foo;
+			})
+			.build();
+
+		assertEquals(2, ReflectionTestUtils.getField(reader, "prefetchSize"));
+
+		reader.open(new ExecutionContext());
+		validateFoo(reader.read(), 1, "2", "3");
+		validateFoo(reader.read(), 4, "5", "6");
+		validateFoo(reader.read(), 7, "8", "9");
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	void testPrefetchTaskExecutor() throws Exception {
+		AtomicInteger executions = new AtomicInteger();
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor() {
+			@Override
+			public void execute(Runnable task) {
+				executions.incrementAndGet();
+				super.execute(task);
+			}
+		};
+		JdbcCursorItemReader<Foo> reader = new JdbcCursorItemReaderBuilder<Foo>().dataSource(this.dataSource)
+			.name("fooReader")
+			.sql("SELECT * FROM FOO ORDER BY FIRST")
+			.prefetchSize(2)
+			.prefetchTaskExecutor(taskExecutor)
+			.rowMapper((rs, rowNum) -> {
+				Foo foo = new Foo();
+
+				foo.setFirst(rs.getInt("FIRST"));
+				foo.setSecond(rs.getString("SECOND"));
+				foo.setThird(rs.getString("THIRD"));
+
+				return foo;
+			})
+			.build();
+
+		assertSame(taskExecutor, ReflectionTestUtils.getField(reader, "prefetchTaskExecutor"));
+
+		reader.open(new ExecutionContext());
+		validateFoo(reader.read(), 1, "2", "3");
+		validateFoo(reader.read(), 4, "5", "6");
+		reader.close();
+		assertEquals(1, executions.get());
+	}
+
 	@Test
 	void testVerifyCursorPositionDefaultToTrue() {
 		JdbcCursorItemReader<Foo> reader = new JdbcCursorItemReaderBuilder<Foo>().dataSource(this.dataSource)
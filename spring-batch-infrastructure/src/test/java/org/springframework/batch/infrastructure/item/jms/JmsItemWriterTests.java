@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2022 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,13 @@
 
 package org.springframework.batch.infrastructure.item.jms;
 
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.DeliveryMode;
+import jakarta.jms.Destination;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.infrastructure.item.Chunk;
@@ -24,7 +31,14 @@ import org.springframework.jms.core.JmsOperations;
 import org.springframework.jms.core.JmsTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class JmsItemWriterTests {
 
@@ -38,6 +52,71 @@ class JmsItemWriterTests {
 		itemWriter.write(Chunk.of("foo", "bar"));
 	}
 
+	@Test
+	void testBatchSendInTransactedSession() throws Exception {
+		ConnectionFactory connectionFactory = mock();
+		Connection connection = mock();
+		Session session = mock();
+		MessageProducer producer = mock();
+		Destination destination = mock();
+		when(connectionFactory.createConnection()).thenReturn(connection);
+		when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+		when(session.getTransacted()).thenReturn(true);
+		when(session.createProducer(destination)).thenReturn(producer);
+		when(session.createTextMessage(any())).thenReturn(mock(TextMessage.class));
+		JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+		jmsTemplate.setDefaultDestination(destination);
+		jmsTemplate.setSessionTransacted(true);
+
+		JmsItemWriter<String> itemWriter = new JmsItemWriter<>(jmsTemplate);
+		itemWriter.setBatchSend(true);
+		itemWriter.write(Chunk.of("foo", "bar", "baz"));
+
+		verify(connection).createSession(anyBoolean(), anyInt());
+		verify(session).createProducer(destination);
+		verify(producer, times(3)).send(any(TextMessage.class));
+		verify(session).commit();
+		verify(producer).close();
+	}
+
+	@Test
+	void testBatchSendAppliesTemplateQos() throws Exception {
+		ConnectionFactory connectionFactory = mock();
+		Connection connection = mock();
+		Session session = mock();
+		MessageProducer producer = mock();
+		Destination destination = mock();
+		TextMessage message = mock();
+		when(connectionFactory.createConnection()).thenReturn(connection);
+		when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+		when(session.createProducer(destination)).thenReturn(producer);
+		when(session.createTextMessage(any())).thenReturn(message);
+		JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+		jmsTemplate.setDefaultDestination(destination);
+		jmsTemplate.setDeliveryDelay(1000);
+		jmsTemplate.setExplicitQosEnabled(true);
+		jmsTemplate.setPriority(9);
+		jmsTemplate.setTimeToLive(5000);
+		jmsTemplate.setDeliveryPersistent(false);
+		jmsTemplate.setMessageIdEnabled(false);
+
+		JmsItemWriter<String> itemWriter = new JmsItemWriter<>(jmsTemplate);
+		itemWriter.setBatchSend(true);
+		itemWriter.write(Chunk.of("foo", "bar"));
+
+		verify(producer).setDeliveryDelay(1000);
+		verify(producer).setDisableMessageID(true);
+		verify(producer, never()).setDisableMessageTimestamp(anyBoolean());
+		verify(producer, times(2)).send(message, DeliveryMode.NON_PERSISTENT, 9, 5000);
+	}
+
+	@Test
+	void testBatchSendWithoutJmsTemplate() {
+		JmsItemWriter<String> itemWriter = new JmsItemWriter<>(mock(JmsOperations.class));
+		itemWriter.setBatchSend(true);
+		assertThrows(IllegalStateException.class, () -> itemWriter.write(Chunk.of("foo")));
+	}
+
 	@Test
 	void testTemplateWithNoDefaultDestination() {
 		JmsTemplate jmsTemplate = new JmsTemplate();
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.jms;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JmsPrefetchingItemReaderTests {
+
+	private final Session session = mock();
+
+	private final MessageConsumer consumer = mock();
+
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(
+			new ResourcelessTransactionManager());
+
+	private JmsPrefetchingItemReader<String> reader;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ConnectionFactory connectionFactory = mock();
+		Connection connection = mock();
+		Destination destination = mock();
+		when(connectionFactory.createConnection()).thenReturn(connection);
+		when(connection.createSession(false, Session.CLIENT_ACKNOWLEDGE)).thenReturn(session);
+		when(session.createConsumer(destination)).thenReturn(consumer);
+		this.reader = new JmsPrefetchingItemReader<>(connectionFactory, destination);
+		this.reader.setPrefetchSize(2);
+		this.reader.open(new ExecutionContext());
+	}
+
+	@Test
+	void testReadAndAcknowledgeAfterCommit() throws Exception {
+		TextMessage foo = message("foo");
+		TextMessage bar = message("bar");
+		when(consumer.receive(1000L)).thenReturn(foo, (TextMessage) null);
+		when(consumer.receiveNoWait()).thenReturn(bar);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			try {
+				assertEquals("foo", reader.read());
+				assertEquals("bar", reader.read());
+				verify(bar, never()).acknowledge();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		// a single acknowledgement for the chunk, after the commit
+		verify(consumer, times(1)).receive(1000L);
+		verify(bar).acknowledge();
+		verify(foo, never()).acknowledge();
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testAcknowledgementDeferredUntilBufferIsEmpty() throws Exception {
+		TextMessage foo = message("foo");
+		TextMessage bar = message("bar");
+		when(consumer.receive(1000L)).thenReturn(foo);
+		when(consumer.receiveNoWait()).thenReturn(bar);
+
+		transactionTemplate.executeWithoutResult(status -> read());
+		// bar is buffered, acknowledging foo would also acknowledge bar
+		verify(foo, never()).acknowledge();
+
+		transactionTemplate.executeWithoutResult(status -> read());
+		verify(bar).acknowledge();
+	}
+
+	@Test
+	void testRecoverAfterRollback() throws Exception {
+		TextMessage foo = message("foo");
+		when(consumer.receive(1000L)).thenReturn(foo);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			read();
+			status.setRollbackOnly();
+		});
+
+		verify(foo, never()).acknowledge();
+		verify(session).recover();
+	}
+
+	@Test
+	void testRollbackAfterCommitReadsChunkAgainWithoutRedelivery() throws Exception {
+		TextMessage foo = message("foo");
+		TextMessage bar = message("bar");
+		when(consumer.receive(1000L)).thenReturn(foo, (TextMessage) null);
+		when(consumer.receiveNoWait()).thenReturn(bar);
+
+		// foo is committed but cannot be acknowledged while bar is buffered
+		transactionTemplate.executeWithoutResult(status -> assertEquals("foo", read()));
+		verify(foo, never()).acknowledge();
+
+		// recovering the session would redeliver foo
+		transactionTemplate.executeWithoutResult(status -> {
+			assertEquals("bar", read());
+			status.setRollbackOnly();
+		});
+		verify(session, never()).recover();
+
+		transactionTemplate.executeWithoutResult(status -> assertEquals("bar", read()));
+		verify(bar).acknowledge();
+		assertNull(reader.read());
+		verify(foo, never()).acknowledge();
+	}
+
+	@Test
+	void testNoMessageBufferedPastEndOfChunk() throws Exception {
+		TextMessage foo = message("foo");
+		TextMessage bar = message("bar");
+		TextMessage baz = message("baz");
+		when(consumer.receive(1000L)).thenReturn(foo, baz);
+		when(consumer.receiveNoWait()).thenReturn(bar);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			assertEquals("foo", read());
+			assertEquals("bar", read());
+			assertEquals("baz", read());
+		});
+
+		// baz is received alone, so the buffer is empty at the end of the chunk
+		verify(consumer, times(1)).receiveNoWait();
+		verify(baz).acknowledge();
+	}
+
+	@Test
+	void testCloseDoesNotAcknowledgeBufferedMessages() throws Exception {
+		TextMessage foo = message("foo");
+		TextMessage bar = message("bar");
+		when(consumer.receive(1000L)).thenReturn(foo);
+		when(consumer.receiveNoWait()).thenReturn(bar);
+
+		transactionTemplate.executeWithoutResult(status -> assertEquals("foo", read()));
+		reader.close();
+
+		// acknowledging foo would also acknowledge bar, which was never read
+		verify(foo, never()).acknowledge();
+		verify(bar, never()).acknowledge();
+	}
+
+	@Test
+	void testAcknowledgeOnUpdateWithoutTransaction() throws Exception {
+		TextMessage foo = message("foo");
+		when(consumer.receive(1000L)).thenReturn(foo);
+
+		assertEquals("foo", reader.read());
+		reader.update(new ExecutionContext());
+
+		verify(foo).acknowledge();
+	}
+
+	private String read() {
+		try {
+			return reader.read();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static TextMessage message(String text) throws Exception {
+		TextMessage message = mock();
+		when(message.getText()).thenReturn(text);
+		return message;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.jms.builder;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.Message;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.jms.JmsPrefetchingItemReader;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class JmsPrefetchingItemReaderBuilderTests {
+
+	@Test
+	void testConfiguration() {
+		MessageConverter messageConverter = mock();
+		JmsPrefetchingItemReader<Message> reader = new JmsPrefetchingItemReaderBuilder<Message>()
+			.connectionFactory(mock(ConnectionFactory.class))
+			.destination(mock(Destination.class))
+			.prefetchSize(50)
+			.receiveTimeout(200)
+			.messageConverter(messageConverter)
+			.itemType(Message.class)
+			.name("reader")
+			.build();
+
+		assertEquals(50, ReflectionTestUtils.getField(reader, "prefetchSize"));
+		assertEquals(200L, ReflectionTestUtils.getField(reader, "receiveTimeout"));
+		assertEquals(messageConverter, ReflectionTestUtils.getField(reader, "messageConverter"));
+		assertEquals(Message.class, ReflectionTestUtils.getField(reader, "itemType"));
+		assertEquals("reader", reader.getName());
+	}
+
+	@Test
+	void testNullDestination() {
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> new JmsPrefetchingItemReaderBuilder<String>().connectionFactory(mock(ConnectionFactory.class))
+					.build());
+		assertEquals("destination is required.", exception.getMessage());
+	}
+
+}
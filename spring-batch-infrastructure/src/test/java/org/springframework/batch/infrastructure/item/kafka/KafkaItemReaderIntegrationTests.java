@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -84,7 +84,8 @@ class KafkaItemReaderIntegrationTests {
 		try (AdminClient adminClient = AdminClient.create(properties)) {
 			adminClient.createTopics(List.of(new NewTopic("topic1", 1, (short) 1), new NewTopic("topic2", 2, (short) 1),
 					new NewTopic("topic3", 1, (short) 1), new NewTopic("topic4", 2, (short) 1),
-					new NewTopic("topic5", 1, (short) 1), new NewTopic("topic6", 1, (short) 1)));
+					new NewTopic("topic5", 1, (short) 1), new NewTopic("topic6", 1, (short) 1),
+					new NewTopic("topic7", 2, (short) 1)));
 		}
 	}
 
@@ -255,6 +256,50 @@ class KafkaItemReaderIntegrationTests {
 		this.reader.close();
 	}
 
+	@Test
+	void testReadFromMultiplePartitionsWithPrefetchAndRestart() throws Exception {
+		var futures = new ArrayList<CompletableFuture<?>>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(this.template.send("topic7", i % 2, null, "val" + i));
+		}
+		for (var future : futures) {
+			future.get();
+		}
+		this.consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "2");
+
+		// first run: read 6 items with prefetching
+		this.reader = new KafkaItemReader<>(this.consumerProperties, "topic7", 0, 1);
+		this.reader.setName("prefetchingReader");
+		this.reader.setPollTimeout(Duration.ofSeconds(1));
+		this.reader.setPrefetchCount(2);
+		ExecutionContext executionContext = new ExecutionContext();
+		this.reader.open(executionContext);
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			items.add(this.reader.read());
+		}
+		this.reader.update(executionContext);
+		this.reader.close();
+
+		// second run: restart from the offsets saved in the execution context
+		this.reader = new KafkaItemReader<>(this.consumerProperties, "topic7", 0, 1);
+		this.reader.setName("prefetchingReader");
+		this.reader.setPollTimeout(Duration.ofSeconds(1));
+		this.reader.setPrefetchCount(2);
+		this.reader.open(executionContext);
+		String item;
+		while ((item = this.reader.read()) != null) {
+			items.add(item);
+		}
+		this.reader.update(executionContext);
+		this.reader.close();
+
+		assertThat(items,
+				containsInAnyOrder("val0", "val1", "val2", "val3", "val4", "val5", "val6", "val7", "val8", "val9"));
+		assertEquals(5, KafkaTestUtils.getCurrentOffset(kafka.getBootstrapServers(), "1", "topic7", 0).offset());
+		assertEquals(5, KafkaTestUtils.getCurrentOffset(kafka.getBootstrapServers(), "1", "topic7", 1).offset());
+	}
+
 	@Test
 	void testReadFromSinglePartitionAfterRestart() throws ExecutionException, InterruptedException {
 		this.template.setDefaultTopic("topic3");
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2023 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -17,15 +17,20 @@
 package org.springframework.batch.infrastructure.item.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Future;
 
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.kafka.KafkaItemReader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Mathieu Ouellet
@@ -77,6 +82,37 @@ class KafkaItemReaderTests {
 
 		exception = assertThrows(IllegalArgumentException.class, () -> reader.setPollTimeout(Duration.ofSeconds(-1)));
 		assertEquals("pollTimeout must not be negative", exception.getMessage());
+
+		exception = assertThrows(IllegalArgumentException.class, () -> reader.setPrefetchCount(-1));
+		assertEquals("prefetchCount must not be negative", exception.getMessage());
+
+		exception = assertThrows(IllegalArgumentException.class, () -> reader.setPrefetchTaskExecutor(null));
+		assertEquals("prefetchTaskExecutor must not be null", exception.getMessage());
+	}
+
+	@Test
+	void testReadFailsWhenPollingTaskIsNotStarted() {
+		Properties consumerProperties = new Properties();
+		consumerProperties.put("bootstrap.servers", "localhost:9092");
+		consumerProperties.put("group.id", "1");
+		consumerProperties.put("key.deserializer", StringDeserializer.class.getName());
+		consumerProperties.put("value.deserializer", StringDeserializer.class.getName());
+		KafkaItemReader<String, String> reader = new KafkaItemReader<>(consumerProperties, "topic", 0);
+		reader.setSaveState(false);
+		reader.setPollTimeout(Duration.ofMillis(100));
+		reader.setPrefetchCount(1);
+		// a task executor that queues the polling task forever
+		List<Runnable> queuedTasks = new ArrayList<>();
+		reader.setPrefetchTaskExecutor(queuedTasks::add);
+		reader.open(new ExecutionContext());
+
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+		assertEquals("The Kafka polling task was not started by the prefetch task executor within the poll timeout",
+				exception.getMessage());
+
+		reader.close();
+		// the queued polling task must not run once the reader is closed
+		assertTrue(((Future<?>) queuedTasks.get(0)).isCancelled());
 	}
 
 }
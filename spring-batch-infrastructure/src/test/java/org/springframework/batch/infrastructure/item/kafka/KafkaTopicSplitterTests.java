@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.batch.infrastructure.item.kafka;
+
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaTopicSplitterTests {
+
+	@Test
+	void testSplit() {
+		List<List<Integer>> groups = KafkaTopicSplitter.split(List.of(0, 1, 2, 3, 4), 2);
+
+		assertEquals(List.of(List.of(0, 2, 4), List.of(1, 3)), groups);
+	}
+
+	@Test
+	void testSplitWithCountGreaterThanPartitionCount() {
+		List<List<Integer>> groups = KafkaTopicSplitter.split(List.of(0, 1), 4);
+
+		assertEquals(List.of(List.of(0), List.of(1)), groups);
+	}
+
+	@Test
+	void testValidation() {
+		assertThrows(IllegalArgumentException.class, () -> KafkaTopicSplitter.split(List.of(), 1));
+		assertThrows(IllegalArgumentException.class, () -> KafkaTopicSplitter.split(List.of(0), 0));
+		assertThrows(IllegalArgumentException.class, () -> KafkaTopicSplitter.partitionsFor(null, "topic"));
+		assertThrows(IllegalArgumentException.class, () -> KafkaTopicSplitter.partitionsFor(new Properties(), ""));
+	}
+
+}
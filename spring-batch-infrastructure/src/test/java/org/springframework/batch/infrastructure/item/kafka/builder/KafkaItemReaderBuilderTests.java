@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -31,6 +31,8 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.infrastructure.item.kafka.KafkaItemReader;
 import org.springframework.batch.infrastructure.item.kafka.builder.KafkaItemReaderBuilder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -200,6 +202,7 @@ class KafkaItemReaderBuilderTests {
 		Map<TopicPartition, Long> partitionOffsets = new HashMap<>();
 		partitionOffsets.put(new TopicPartition(topic, partitions.get(0)), 10L);
 		partitionOffsets.put(new TopicPartition(topic, partitions.get(1)), 15L);
+		TaskExecutor taskExecutor = new SyncTaskExecutor();
 
 		// when
 		KafkaItemReader<String, String> reader = new KafkaItemReaderBuilder<String, String>().name("kafkaItemReader")
@@ -209,10 +212,14 @@ class KafkaItemReaderBuilderTests {
 			.partitionOffsets(partitionOffsets)
 			.pollTimeout(pollTimeout)
 			.saveState(saveState)
+			.prefetchCount(3)
+			.prefetchTaskExecutor(taskExecutor)
 			.build();
 
 		// then
 		assertNotNull(reader);
+		assertEquals(3, ReflectionTestUtils.getField(reader, "prefetchCount"));
+		assertEquals(taskExecutor, ReflectionTestUtils.getField(reader, "prefetchTaskExecutor"));
 		assertFalse((Boolean) ReflectionTestUtils.getField(reader, "saveState"));
 		assertEquals(pollTimeout, ReflectionTestUtils.getField(reader, "pollTimeout"));
 		List<TopicPartition> topicPartitions = (List<TopicPartition>) ReflectionTestUtils.getField(reader,
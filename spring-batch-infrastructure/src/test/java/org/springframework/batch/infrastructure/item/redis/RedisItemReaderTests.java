@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  *  Licensed under the Apache License, Version 2.0 (the "License");
  *  you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.util.Arrays;
+import java.util.Iterator;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,4 +66,53 @@ public class RedisItemReaderTests {
 		Assertions.assertNull(item3);
 	}
 
+	@Test
+	void testReadWithScanCountFetchesOneKeyAtATime() throws Exception {
+		// given
+		ScanOptions scanOptions = ScanOptions.scanOptions().count(10).build();
+		Mockito.when(this.redisTemplate.scan(scanOptions)).thenReturn(this.cursor);
+		Mockito.when(this.cursor.hasNext()).thenReturn(true, true, false);
+		Mockito.when(this.cursor.next()).thenReturn("person:1", "person:2");
+		Mockito.when(this.redisTemplate.opsForValue().get("person:1")).thenReturn(null);
+		Mockito.when(this.redisTemplate.opsForValue().get("person:2")).thenReturn("bar");
+		RedisItemReader<String, String> redisItemReader = new RedisItemReader<>(this.redisTemplate, scanOptions);
+		redisItemReader.open(new ExecutionContext());
+
+		// when
+		String item1 = redisItemReader.read();
+		String item2 = redisItemReader.read();
+
+		// then
+		Assertions.assertNull(item1);
+		Assertions.assertEquals("bar", item2);
+		Mockito.verify(this.redisTemplate.opsForValue(), Mockito.never()).multiGet(Mockito.any());
+	}
+
+	@Test
+	void testReadWithFetchSize() throws Exception {
+		// given
+		Mockito.when(this.redisTemplate.scan(this.scanOptions)).thenReturn(this.cursor);
+		Iterator<String> keys = Arrays.asList("person:1", "person:2", "person:3").iterator();
+		Mockito.when(this.cursor.hasNext()).thenAnswer(invocation -> keys.hasNext());
+		Mockito.when(this.cursor.next()).thenAnswer(invocation -> keys.next());
+		Mockito.when(this.redisTemplate.opsForValue().multiGet(Arrays.asList("person:1", "person:2")))
+			.thenReturn(Arrays.asList("foo", null));
+		Mockito.when(this.redisTemplate.opsForValue().multiGet(Arrays.asList("person:3")))
+			.thenReturn(Arrays.asList("bar"));
+		RedisItemReader<String, String> redisItemReader = new RedisItemReader<>(this.redisTemplate, this.scanOptions);
+		redisItemReader.setFetchSize(2);
+		redisItemReader.open(new ExecutionContext());
+
+		// when
+		String item1 = redisItemReader.read();
+		String item2 = redisItemReader.read();
+		String item3 = redisItemReader.read();
+
+		// then
+		Assertions.assertEquals("foo", item1);
+		Assertions.assertEquals("bar", item2);
+		Assertions.assertNull(item3);
+		Mockito.verify(this.redisTemplate.opsForValue(), Mockito.never()).get(Mockito.any());
+	}
+
 }
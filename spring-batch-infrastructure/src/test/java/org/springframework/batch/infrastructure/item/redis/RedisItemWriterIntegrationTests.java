@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 the original author or authors.
+ * Copyright 2025-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.Duration;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,6 +86,23 @@ class RedisItemWriterIntegrationTests {
 		assertEquals(new Person(5, "quux"), this.template.opsForValue().get("person:5"));
 	}
 
+	@ParameterizedTest
+	@MethodSource("connectionFactories")
+	void testPipelinedWrite(RedisConnectionFactory connectionFactory) throws Exception {
+		RedisTemplate<String, Person> redisTemplate = setUpRedisTemplate(connectionFactory);
+		this.writer = new RedisItemWriter<>(p -> "person:" + p.getId(), redisTemplate);
+		this.writer.setPipelined(true);
+		this.writer.setTimeToLive(Duration.ofMinutes(5));
+
+		Chunk<Person> items = new Chunk<>(new Person(1, "foo"), new Person(2, "bar"), new Person(3, "baz"));
+		this.writer.write(items);
+
+		assertEquals(new Person(1, "foo"), this.template.opsForValue().get("person:1"));
+		assertEquals(new Person(2, "bar"), this.template.opsForValue().get("person:2"));
+		assertEquals(new Person(3, "baz"), this.template.opsForValue().get("person:3"));
+		assertTrue(this.template.getExpire("person:1") > 0);
+	}
+
 	@ParameterizedTest
 	@MethodSource("connectionFactories")
 	void testDelete(RedisConnectionFactory connectionFactory) throws Exception {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.infrastructure.item.redis;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,9 +28,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.redis.RedisItemWriter;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class RedisItemWriterTests {
@@ -57,6 +66,88 @@ public class RedisItemWriterTests {
 		verify(this.redisTemplate.opsForValue()).set(items.getItems().get(1), items.getItems().get(1));
 	}
 
+	@Test
+	void shouldWriteWithTimeToLive() throws Exception {
+		this.redisItemWriter.setTimeToLive(Duration.ofMinutes(5));
+		this.redisItemWriter.write(new Chunk<>("val1"));
+		verify(this.redisTemplate.opsForValue()).set("val1", "val1", Duration.ofMinutes(5));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldPipelineAllItemsOfTheChunk() throws Exception {
+		RedisOperations<String, String> operations = mock(Answers.RETURNS_DEEP_STUBS);
+		when(this.redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+			SessionCallback<?> callback = invocation.getArgument(0);
+			callback.execute(operations);
+			return null;
+		});
+		this.redisItemWriter.setPipelined(true);
+
+		this.redisItemWriter.write(new Chunk<>("val1", "val2"));
+
+		verify(operations.opsForValue()).set("val1", "val1");
+		verify(operations.opsForValue()).set("val2", "val2");
+		verify(this.redisTemplate, never()).opsForValue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldPipelineDeletes() throws Exception {
+		RedisOperations<String, String> operations = mock();
+		when(this.redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+			SessionCallback<?> callback = invocation.getArgument(0);
+			callback.execute(operations);
+			return null;
+		});
+		this.redisItemWriter.setPipelined(true);
+		this.redisItemWriter.setDelete(true);
+
+		this.redisItemWriter.write(new Chunk<>("val1", "val2"));
+
+		verify(operations).delete("val1");
+		verify(operations).delete("val2");
+	}
+
+	@Test
+	void shouldCoalesceItemsWithTheSameKey() throws Exception {
+		RedisItemWriter<String, String> writer = new RedisItemWriter<>(item -> item.substring(0, 1),
+				this.redisTemplate);
+		writer.setCoalesce(true);
+
+		writer.write(new Chunk<>("a1", "b1", "a2", "a3"));
+
+		verify(this.redisTemplate.opsForValue()).set("a", "a3");
+		verify(this.redisTemplate.opsForValue()).set("b", "b1");
+		verify(this.redisTemplate.opsForValue(), never()).set("a", "a1");
+		verify(this.redisTemplate.opsForValue(), never()).set("a", "a2");
+		assertEquals(2, writer.getCoalescedItemCount());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldCoalesceItemsBeforePipelining() throws Exception {
+		RedisOperations<String, String> operations = mock(Answers.RETURNS_DEEP_STUBS);
+		when(this.redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+			SessionCallback<?> callback = invocation.getArgument(0);
+			callback.execute(operations);
+			return null;
+		});
+		RedisItemWriter<String, String> writer = new RedisItemWriter<>(item -> item.substring(0, 1),
+				this.redisTemplate);
+		writer.setCoalesce(true);
+		writer.setPipelined(true);
+
+		writer.write(new Chunk<>("a1", "b1", "a2", "a3"));
+
+		verify(operations.opsForValue()).set("a", "a3");
+		verify(operations.opsForValue()).set("b", "b1");
+		verify(operations.opsForValue(), never()).set("a", "a1");
+		verify(operations.opsForValue(), never()).set("a", "a2");
+		verify(this.redisTemplate, never()).opsForValue();
+		assertEquals(2, writer.getCoalescedItemCount());
+	}
+
 	static class RedisItemKeyMapper implements Converter<String, String> {
 
 		@Override
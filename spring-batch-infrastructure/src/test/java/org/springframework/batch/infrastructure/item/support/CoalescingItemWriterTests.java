@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+import org.springframework.batch.infrastructure.item.SkipWrapper;
+import org.springframework.batch.infrastructure.item.SpELItemKeyMapper;
+import org.springframework.batch.infrastructure.item.support.builder.CoalescingItemWriterBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link CoalescingItemWriter}.
+ */
+class CoalescingItemWriterTests {
+
+	@Test
+	void testCoalesceItemsWithTheSameKey() throws Exception {
+		ListItemWriter<Item> delegate = new ListItemWriter<>();
+		CoalescingItemWriter<String, Item> writer = new CoalescingItemWriterBuilder<String, Item>().delegate(delegate)
+			.itemKeyMapper(new SpELItemKeyMapper<>("key"))
+			.build();
+		Item a1 = new Item("a", 1);
+		Item b1 = new Item("b", 1);
+		Item a2 = new Item("a", 2);
+		Item c1 = new Item("c", 1);
+		Item b2 = new Item("b", 2);
+
+		writer.write(Chunk.of(a1, b1, a2, c1, b2));
+
+		assertEquals(List.of(a2, c1, b2), delegate.getWrittenItems());
+		assertEquals(2, writer.getCoalescedItemCount());
+	}
+
+	@Test
+	void testChunkWithoutDuplicateKeysIsWrittenAsIs() throws Exception {
+		List<Chunk<? extends Item>> written = new ArrayList<>();
+		CoalescingItemWriter<String, Item> writer = new CoalescingItemWriter<>(written::add, Item::key);
+		Chunk<Item> chunk = Chunk.of(new Item("a", 1), new Item("b", 1));
+
+		writer.write(chunk);
+
+		assertSame(chunk, written.get(0));
+		assertEquals(0, writer.getCoalescedItemCount());
+	}
+
+	@Test
+	@SuppressWarnings("removal")
+	void testCoalescedChunkKeepsChunkState() throws Exception {
+		List<Chunk<? extends Item>> written = new ArrayList<>();
+		CoalescingItemWriter<String, Item> writer = new CoalescingItemWriter<>(written::add, Item::key);
+		Item a1 = new Item("a", 1);
+		Item a2 = new Item("a", 2);
+		SkipWrapper<Item> skip = new SkipWrapper<>(new Item("b", 1), new IllegalStateException());
+		Chunk<Item> chunk = new Chunk<>(List.of(a1, a2), List.of(skip));
+		Exception error = new IllegalArgumentException();
+		chunk.skip(error);
+		chunk.setEnd();
+		chunk.setUserData(2);
+
+		writer.write(chunk);
+
+		Chunk<? extends Item> coalesced = written.get(0);
+		assertEquals(List.of(a2), coalesced.getItems());
+		assertEquals(List.of(skip), coalesced.getSkips());
+		assertEquals(List.of(error), coalesced.getErrors());
+		assertTrue(coalesced.isEnd());
+		assertEquals(2, coalesced.getUserData());
+	}
+
+	@Test
+	void testStreamDelegate() {
+		ItemStreamWriter<Item> delegate = mock();
+		CoalescingItemWriter<String, Item> writer = new CoalescingItemWriter<>(delegate, Item::key);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		writer.open(executionContext);
+		writer.update(executionContext);
+		writer.close();
+
+		verify(delegate).open(executionContext);
+		verify(delegate).update(executionContext);
+		verify(delegate).close();
+	}
+
+	@Test
+	void testMandatoryProperties() {
+		assertThrows(IllegalArgumentException.class, () -> new CoalescingItemWriterBuilder<String, Item>().build());
+		assertThrows(IllegalArgumentException.class,
+				() -> new CoalescingItemWriterBuilder<String, Item>().delegate(new ListItemWriter<>()).build());
+	}
+
+	public record Item(String key, int value) {
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.batch.integration.chunk.ChunkRequest;
 import org.springframework.batch.integration.chunk.ChunkResponse;
 import org.springframework.batch.integration.partition.MessageChannelPartitionHandler;
+import org.springframework.batch.integration.partition.SelfContainedStepExecutionRequest;
 import org.springframework.batch.integration.partition.StepExecutionRequest;
 import org.springframework.batch.integration.partition.StepExecutionRequestHandler;
 
@@ -44,6 +45,7 @@ public class IntegrationRuntimeHints implements RuntimeHintsRegistrar {
 		hints.serialization().registerType(ChunkRequest.class);
 		hints.serialization().registerType(ChunkResponse.class);
 		hints.serialization().registerType(StepExecutionRequest.class);
+		hints.serialization().registerType(SelfContainedStepExecutionRequest.class);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2010 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,13 @@
 
 package org.springframework.batch.integration.launch;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobExecutionException;
+import org.springframework.batch.core.launch.JobStartRequest;
+import org.springframework.batch.core.launch.JobStartResult;
 
 /**
  * Interface for handling a {@link JobLaunchRequest} and returning a {@link JobExecution}.
@@ -29,4 +34,26 @@ public interface JobLaunchRequestHandler {
 
 	JobExecution launch(JobLaunchRequest request) throws JobExecutionException;
 
+	/**
+	 * Launch several jobs at once. A request that cannot be launched does not prevent the
+	 * other requests from being launched. The default implementation launches the jobs
+	 * one at a time.
+	 * @param requests the requests to launch
+	 * @return the result of each request, in the order of the requests
+	 * @since 6.0.3
+	 */
+	default List<JobStartResult> launchAll(List<JobLaunchRequest> requests) {
+		List<JobStartResult> results = new ArrayList<>(requests.size());
+		for (JobLaunchRequest request : requests) {
+			JobStartRequest startRequest = new JobStartRequest(request.getJob(), request.getJobParameters());
+			try {
+				results.add(JobStartResult.started(startRequest, launch(request)));
+			}
+			catch (JobExecutionException | RuntimeException e) {
+				results.add(JobStartResult.failed(startRequest, e));
+			}
+		}
+		return results;
+	}
+
 }
\ No newline at end of file
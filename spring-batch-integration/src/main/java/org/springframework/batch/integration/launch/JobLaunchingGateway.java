@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,14 @@
 
 package org.springframework.batch.integration.launch;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobExecutionException;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.JobStartResult;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandlingException;
@@ -48,11 +53,15 @@ public class JobLaunchingGateway extends AbstractReplyProducingMessageHandler {
 
 	/**
 	 * Launches a Batch Job using the provided request {@link Message}. The payload of the
-	 * {@link Message} <em>must</em> be an instance of {@link JobLaunchRequest}.
+	 * {@link Message} <em>must</em> be an instance of {@link JobLaunchRequest}, or a
+	 * collection of {@link JobLaunchRequest}s to launch several jobs at once with
+	 * {@link JobOperator#startAll(List)}.
 	 * @param requestMessage must not be null.
 	 * @return Generally a {@link JobExecution} will always be returned. An exception
 	 * ({@link MessageHandlingException}) will only be thrown if there is a failure to
 	 * start the job. The cause of the exception will be a {@link JobExecutionException}.
+	 * For a collection of requests, a list of {@link JobStartResult}s is returned in the
+	 * order of the requests, and failures to start a job are reported in the results.
 	 * @throws MessageHandlingException when a job cannot be launched
 	 */
 	@Override
@@ -62,6 +71,16 @@ public class JobLaunchingGateway extends AbstractReplyProducingMessageHandler {
 
 		final Object payload = requestMessage.getPayload();
 
+		if (payload instanceof Collection<?> collection) {
+			List<JobLaunchRequest> jobLaunchRequests = new ArrayList<>(collection.size());
+			for (Object request : collection) {
+				Assert.isInstanceOf(JobLaunchRequest.class, request,
+						"The elements of the payload must be of type JobLaunchRequest.");
+				jobLaunchRequests.add((JobLaunchRequest) request);
+			}
+			return this.jobLaunchingMessageHandler.launchAll(jobLaunchRequests);
+		}
+
 		Assert.isInstanceOf(JobLaunchRequest.class, payload, "The payload must be of type JobLaunchRequest.");
 
 		final JobLaunchRequest jobLaunchRequest = (JobLaunchRequest) payload;
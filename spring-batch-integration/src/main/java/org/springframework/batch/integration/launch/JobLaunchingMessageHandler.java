@@ -1,5 +1,5 @@
 /*
- * Copyright 2006-2025 the original author or authors.
+ * Copyright 2006-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,15 @@
 
 package org.springframework.batch.integration.launch;
 
+import java.util.List;
+
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobExecutionException;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.JobStartRequest;
+import org.springframework.batch.core.launch.JobStartResult;
 import org.springframework.integration.annotation.ServiceActivator;
 
 /**
@@ -55,4 +59,18 @@ public class JobLaunchingMessageHandler implements JobLaunchRequestHandler {
 		return jobOperator.start(job, jobParameters);
 	}
 
+	/**
+	 * Launch several jobs at once with {@link JobOperator#startAll(List)}.
+	 * @param requests the requests to launch
+	 * @return the result of each request, in the order of the requests
+	 * @since 6.0.3
+	 */
+	@Override
+	public List<JobStartResult> launchAll(List<JobLaunchRequest> requests) {
+		List<JobStartRequest> startRequests = requests.stream()
+			.map(request -> new JobStartRequest(request.getJob(), request.getJobParameters()))
+			.toList();
+		return jobOperator.startAll(startRequests);
+	}
+
 }
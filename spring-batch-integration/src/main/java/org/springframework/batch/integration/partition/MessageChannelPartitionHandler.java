@@ -1,5 +1,5 @@
 /*
- * Copyright 2009-2025 the original author or authors.
+ * Copyright 2009-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -100,6 +100,8 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 
 	private long timeout = -1;
 
+	private boolean selfContainedRequests = false;
+
 	/**
 	 * pollable channel for the replies
 	 */
@@ -133,6 +135,19 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 		this.timeout = timeout;
 	}
 
+	/**
+	 * Whether to send self-contained requests to the workers, carrying the name, version
+	 * and execution context of the partition step executions, so that the workers do not
+	 * need to read them from the job repository. The additional data is only carried if
+	 * the requests are sent with Java serialization. Defaults to {@code false}.
+	 * @param selfContainedRequests true to send self-contained requests
+	 * @since 6.0.3
+	 * @see SelfContainedStepExecutionRequest
+	 */
+	public void setSelfContainedRequests(boolean selfContainedRequests) {
+		this.selfContainedRequests = selfContainedRequests;
+	}
+
 	/**
 	 * {@link JobRepository} to use to query the job repository. This is required when
 	 * using job repository polling.
@@ -214,8 +229,11 @@ public class MessageChannelPartitionHandler extends AbstractPartitionHandler imp
 
 		long jobExecutionId = managerStepExecution.getJobExecution().getId();
 		for (StepExecution stepExecution : partitionStepExecutions) {
+			StepExecutionRequest stepExecutionRequest = this.selfContainedRequests
+					? new SelfContainedStepExecutionRequest(stepName, stepExecution, managerStepExecution.getId())
+					: new StepExecutionRequest(stepName, stepExecution.getId());
 			Message<StepExecutionRequest> request = createMessage(count++, partitionStepExecutions.size(),
-					new StepExecutionRequest(stepName, stepExecution.getId()), jobExecutionId, replyChannel);
+					stepExecutionRequest, jobExecutionId, replyChannel);
 			if (logger.isDebugEnabled()) {
 				logger.debug("Sending request: " + request);
 			}
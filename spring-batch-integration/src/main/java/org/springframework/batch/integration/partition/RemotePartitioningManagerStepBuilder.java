@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2025 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -75,6 +75,8 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 
 	private long timeout = DEFAULT_TIMEOUT;
 
+	private boolean selfContainedRequests = false;
+
 	/**
 	 * Create a new {@link RemotePartitioningManagerStepBuilder}.
 	 * @param stepName name of the manager step
@@ -157,6 +159,20 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 		return this;
 	}
 
+	/**
+	 * Whether to send self-contained requests to the workers, so that they do not need to
+	 * read the partition step executions from the job repository. Defaults to
+	 * {@code false}.
+	 * @param selfContainedRequests true to send self-contained requests
+	 * @return this builder instance for fluent chaining
+	 * @since 6.0.3
+	 * @see MessageChannelPartitionHandler#setSelfContainedRequests(boolean)
+	 */
+	public RemotePartitioningManagerStepBuilder selfContainedRequests(boolean selfContainedRequests) {
+		this.selfContainedRequests = selfContainedRequests;
+		return this;
+	}
+
 	/**
 	 * Set the bean factory.
 	 * @param beanFactory the bean factory to use
@@ -186,6 +202,7 @@ public class RemotePartitioningManagerStepBuilder extends PartitionStepBuilder {
 		partitionHandler.setStepName(getStepName());
 		partitionHandler.setGridSize(getGridSize());
 		partitionHandler.setMessagingOperations(this.messagingTemplate);
+		partitionHandler.setSelfContainedRequests(this.selfContainedRequests);
 
 		if (isPolling()) {
 			partitionHandler.setJobRepository(getJobRepository());
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.partition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.step.StepExecution;
+
+/**
+ * A {@link StepExecutionRequest} that is self-contained: in addition to the identifier of
+ * the step execution, it carries the identifier of the manager step execution, the name
+ * and version of the step execution and the content of its execution context, so that a
+ * worker does not need to read the step execution from the job repository before
+ * executing it.
+ * <p>
+ * Self-contained requests are meant to be sent with Java serialization, which preserves
+ * the types of the values of the execution context. With a JSON message converter,
+ * regular {@link StepExecutionRequest}s should be sent instead.
+ *
+ * @since 6.0.3
+ */
+public class SelfContainedStepExecutionRequest extends StepExecutionRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long managerStepExecutionId;
+
+	private final String stepExecutionName;
+
+	private final Integer stepExecutionVersion;
+
+	private final HashMap<String, Object> executionContext;
+
+	/**
+	 * Create a new {@link SelfContainedStepExecutionRequest} instance for the given step
+	 * execution.
+	 * @param stepName the name of the step to execute
+	 * @param stepExecution the step execution to execute
+	 * @param managerStepExecutionId the id of the step execution of the manager step
+	 */
+	public SelfContainedStepExecutionRequest(String stepName, StepExecution stepExecution,
+			long managerStepExecutionId) {
+		super(stepName, stepExecution.getId());
+		this.managerStepExecutionId = managerStepExecutionId;
+		this.stepExecutionName = stepExecution.getStepName();
+		this.stepExecutionVersion = stepExecution.getVersion();
+		this.executionContext = new HashMap<>(stepExecution.getExecutionContext().toMap());
+	}
+
+	public long getManagerStepExecutionId() {
+		return managerStepExecutionId;
+	}
+
+	public String getStepExecutionName() {
+		return stepExecutionName;
+	}
+
+	public Integer getStepExecutionVersion() {
+		return stepExecutionVersion;
+	}
+
+	public Map<String, Object> getExecutionContext() {
+		return executionContext;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"SelfContainedStepExecutionRequest: [stepExecutionId=%d, stepName=%s, managerStepExecutionId=%d]",
+				getStepExecutionId(), getStepName(), managerStepExecutionId);
+	}
+
+}
@@ -1,18 +1,32 @@
 package org.springframework.batch.integration.partition;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInterruptedException;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.step.StepLocator;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.integration.annotation.MessageEndpoint;
 import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.util.Assert;
 
 /**
  * A {@link MessageEndpoint} that can handle a {@link StepExecutionRequest} and return a
  * {@link StepExecution} as the result. Typically these need to be aggregated into a
  * response to a partition handler.
+ * <p>
+ * Steps are resolved once per name through the {@link StepLocator} and then reused. For
+ * {@link SelfContainedStepExecutionRequest self-contained requests}, the step execution
+ * is rebuilt from the request and attached to the job execution read from the job
+ * repository for a previous request of the same manager step execution, if any. In that
+ * case, the job repository is only accessed by the step itself, when it updates its
+ * execution.
  *
  * @author Dave Syer
  *
@@ -24,6 +38,17 @@ public class StepExecutionRequestHandler {
 
 	private StepLocator stepLocator;
 
+	private final Map<String, Step> steps = new ConcurrentHashMap<>();
+
+	private int jobExecutionCacheSize = 16;
+
+	private final Map<Long, JobExecution> jobExecutions = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, JobExecution> eldest) {
+			return size() > jobExecutionCacheSize;
+		}
+	};
+
 	/**
 	 * Used to locate a {@link Step} to execute for each request.
 	 * @param stepLocator a {@link StepLocator}
@@ -41,17 +66,28 @@ public class StepExecutionRequestHandler {
 		this.jobRepository = jobRepository;
 	}
 
+	/**
+	 * The maximum number of job executions kept in memory to handle self-contained
+	 * requests without reading the job repository. One job execution is kept per manager
+	 * step execution. Defaults to 16.
+	 * @param jobExecutionCacheSize the maximum number of cached job executions
+	 * @since 6.0.3
+	 */
+	public void setJobExecutionCacheSize(int jobExecutionCacheSize) {
+		Assert.isTrue(jobExecutionCacheSize > 0, "jobExecutionCacheSize must be greater than zero");
+		this.jobExecutionCacheSize = jobExecutionCacheSize;
+	}
+
 	@ServiceActivator
 	public StepExecution handle(StepExecutionRequest request) {
 
-		Long stepExecutionId = request.getStepExecutionId();
-		StepExecution stepExecution = jobRepository.getStepExecution(stepExecutionId);
+		StepExecution stepExecution = getStepExecution(request);
 		if (stepExecution == null) {
 			throw new RuntimeException("No StepExecution could be located for this request: " + request);
 		}
 
 		String stepName = request.getStepName();
-		Step step = stepLocator.getStep(stepName);
+		Step step = steps.computeIfAbsent(stepName, stepLocator::getStep);
 		if (step == null) {
 			throw new RuntimeException(String.format("No Step with name [%s] could be located.", stepName));
 		}
@@ -73,4 +109,29 @@ public class StepExecutionRequestHandler {
 
 	}
 
+	private StepExecution getStepExecution(StepExecutionRequest request) {
+		if (!(request instanceof SelfContainedStepExecutionRequest selfContainedRequest)) {
+			return jobRepository.getStepExecution(request.getStepExecutionId());
+		}
+		long managerStepExecutionId = selfContainedRequest.getManagerStepExecutionId();
+		JobExecution jobExecution;
+		synchronized (jobExecutions) {
+			jobExecution = jobExecutions.get(managerStepExecutionId);
+		}
+		if (jobExecution == null) {
+			StepExecution stepExecution = jobRepository.getStepExecution(request.getStepExecutionId());
+			if (stepExecution != null) {
+				synchronized (jobExecutions) {
+					jobExecutions.putIfAbsent(managerStepExecutionId, stepExecution.getJobExecution());
+				}
+			}
+			return stepExecution;
+		}
+		StepExecution stepExecution = new StepExecution(request.getStepExecutionId(),
+				selfContainedRequest.getStepExecutionName(), jobExecution);
+		stepExecution.setVersion(selfContainedRequest.getStepExecutionVersion());
+		stepExecution.setExecutionContext(new ExecutionContext(selfContainedRequest.getExecutionContext()));
+		return stepExecution;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2025 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,20 +15,31 @@
  */
 package org.springframework.batch.integration.launch;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.InvalidJobParametersException;
+import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.JobStartRequest;
+import org.springframework.batch.core.launch.JobStartResult;
 import org.springframework.batch.integration.JobSupport;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandlingException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -56,4 +67,30 @@ class JobLaunchingGatewayTests {
 		assertEquals("This is a JobExecutionException.", exception.getCause().getMessage());
 	}
 
+	@Test
+	void testLaunchAll() {
+		Job job = new JobSupport("testJob");
+		JobParameters firstParameters = new JobParametersBuilder().addString("file", "first.csv").toJobParameters();
+		JobParameters secondParameters = new JobParametersBuilder().addString("file", "second.csv").toJobParameters();
+		Message<List<JobLaunchRequest>> message = MessageBuilder
+			.withPayload(
+					List.of(new JobLaunchRequest(job, firstParameters), new JobLaunchRequest(job, secondParameters)))
+			.build();
+		List<JobStartRequest> startRequests = List.of(new JobStartRequest(job, firstParameters),
+				new JobStartRequest(job, secondParameters));
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "testJob"), firstParameters);
+		List<JobStartResult> results = List.of(JobStartResult.started(startRequests.get(0), jobExecution),
+				JobStartResult.failed(startRequests.get(1), new JobInstanceAlreadyCompleteException("Complete")));
+		JobOperator jobOperator = mock();
+		when(jobOperator.startAll(startRequests)).thenReturn(results);
+		QueueChannel replyChannel = new QueueChannel();
+		JobLaunchingGateway jobLaunchingGateway = new JobLaunchingGateway(jobOperator);
+		jobLaunchingGateway.setOutputChannel(replyChannel);
+
+		jobLaunchingGateway.handleMessage(message);
+
+		verify(jobOperator).startAll(startRequests);
+		assertSame(results, replyChannel.receive(1000).getPayload());
+	}
+
 }
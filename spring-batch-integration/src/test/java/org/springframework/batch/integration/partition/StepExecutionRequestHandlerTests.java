@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.integration.partition;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.core.step.StepLocator;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StepExecutionRequestHandlerTests {
+
+	private final JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+
+	private final StepExecution managerStepExecution = new StepExecution(1L, "step", this.jobExecution);
+
+	private final JobRepository jobRepository = mock();
+
+	private final StepLocator stepLocator = mock();
+
+	private final Step step = mock();
+
+	private final StepExecutionRequestHandler handler = new StepExecutionRequestHandler();
+
+	@BeforeEach
+	void setUp() {
+		when(this.stepLocator.getStep("worker")).thenReturn(this.step);
+		this.handler.setJobRepository(this.jobRepository);
+		this.handler.setStepLocator(this.stepLocator);
+	}
+
+	@Test
+	void testHandleRequest() throws Exception {
+		StepExecution partition = createPartition(2L, "step:partition0");
+		when(this.jobRepository.getStepExecution(2L)).thenReturn(partition);
+
+		StepExecution result = this.handler.handle(new StepExecutionRequest("worker", 2L));
+
+		assertSame(partition, result);
+		verify(this.step).execute(partition);
+	}
+
+	@Test
+	void testHandleSelfContainedRequests() throws Exception {
+		StepExecution partition0 = createPartition(2L, "step:partition0");
+		StepExecution partition1 = createPartition(3L, "step:partition1");
+		when(this.jobRepository.getStepExecution(2L)).thenReturn(partition0);
+
+		StepExecution result0 = this.handler
+			.handle(new SelfContainedStepExecutionRequest("worker", partition0, this.managerStepExecution.getId()));
+		StepExecution result1 = this.handler
+			.handle(new SelfContainedStepExecutionRequest("worker", partition1, this.managerStepExecution.getId()));
+
+		assertSame(partition0, result0);
+		assertEquals(partition1, result1);
+		assertSame(partition0.getJobExecution(), result1.getJobExecution());
+		assertEquals(partition1.getVersion(), result1.getVersion());
+		assertEquals(partition1.getExecutionContext(), result1.getExecutionContext());
+		verify(this.jobRepository, times(1)).getStepExecution(2L);
+		verify(this.jobRepository, times(0)).getStepExecution(3L);
+		verify(this.stepLocator, times(1)).getStep("worker");
+		verify(this.step).execute(result1);
+	}
+
+	private StepExecution createPartition(long id, String name) {
+		StepExecution partition = new StepExecution(id, name, this.jobExecution);
+		partition.setVersion(0);
+		partition.setExecutionContext(new ExecutionContext(Map.of("partition", name)));
+		return partition;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018-2025 the original author or authors.
+ * Copyright 2018-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,18 @@
 package org.springframework.batch.integration.partition;
 
 import java.io.IOException;
+import java.util.Map;
 
 import tools.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.SerializationUtils;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -58,4 +66,25 @@ class StepExecutionRequestTests {
 		assertEquals(1L, deserializedRequest.getStepExecutionId().longValue());
 	}
 
+	@Test
+	void selfContainedStepExecutionRequestShouldBeSerializable() {
+		// given
+		JobExecution jobExecution = new JobExecution(2L, new JobInstance(3L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step:partition0", jobExecution);
+		stepExecution.setVersion(0);
+		stepExecution.setExecutionContext(new ExecutionContext(Map.of("minValue", 10L)));
+		SelfContainedStepExecutionRequest request = new SelfContainedStepExecutionRequest("step", stepExecution, 4L);
+
+		// when
+		SelfContainedStepExecutionRequest deserializedRequest = SerializationUtils.clone(request);
+
+		// then
+		assertEquals(1L, deserializedRequest.getStepExecutionId().longValue());
+		assertEquals("step", deserializedRequest.getStepName());
+		assertEquals(4L, deserializedRequest.getManagerStepExecutionId());
+		assertEquals("step:partition0", deserializedRequest.getStepExecutionName());
+		assertEquals(0, deserializedRequest.getStepExecutionVersion().intValue());
+		assertEquals(Map.of("minValue", 10L), deserializedRequest.getExecutionContext());
+	}
+
 }
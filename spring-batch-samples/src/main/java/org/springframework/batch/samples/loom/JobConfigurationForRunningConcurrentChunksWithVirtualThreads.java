@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.samples.loom;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.EnableJdbcJobRepository;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.batch.samples.common.DataSourceConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+/**
+ * Configuration class that defines a multi-threaded tasklet step running I/O-bound chunks
+ * concurrently on a {@link VirtualThreadTaskExecutor}. The chunks commit concurrently
+ * while the step execution is updated in batches.
+ */
+@Configuration
+@EnableBatchProcessing
+@EnableJdbcJobRepository
+@Import(DataSourceConfiguration.class)
+public class JobConfigurationForRunningConcurrentChunksWithVirtualThreads {
+
+	static final int CHUNKS = 100;
+
+	@Bean
+	public Tasklet tasklet() {
+		AtomicInteger chunks = new AtomicInteger();
+		return (contribution, chunkContext) -> {
+			if (chunks.incrementAndGet() > CHUNKS) {
+				return RepeatStatus.FINISHED;
+			}
+			// simulate a call to a remote service
+			Thread.sleep(100);
+			contribution.incrementReadCount();
+			contribution.incrementWriteCount(1);
+			return RepeatStatus.CONTINUABLE;
+		};
+	}
+
+	@SuppressWarnings("removal")
+	@Bean
+	public Job job(JobRepository jobRepository, JdbcTransactionManager transactionManager, Tasklet tasklet) {
+		TaskletStep step = new StepBuilder("step", jobRepository).tasklet(tasklet, transactionManager)
+			.taskExecutor(new VirtualThreadTaskExecutor("spring-batch-"))
+			.build();
+		step.setConcurrentCommits(true);
+		return new JobBuilder("job", jobRepository).start(step).build();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 the original author or authors.
+ * Copyright 2023-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -114,6 +114,24 @@ public class VirtualThreadsSupportFunctionalTests {
 
 	}
 
+	@Test
+	public void testConcurrentChunksWithVirtualThreads() throws Exception {
+		// given
+		ApplicationContext context = new AnnotationConfigApplicationContext(
+				JobConfigurationForRunningConcurrentChunksWithVirtualThreads.class);
+		Job job = context.getBean(Job.class);
+		JobOperator jobOperator = context.getBean(JobOperator.class);
+
+		// when
+		JobExecution jobExecution = jobOperator.start(job, new JobParameters());
+
+		// then
+		Assertions.assertEquals(ExitStatus.COMPLETED, jobExecution.getExitStatus());
+		StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+		Assertions.assertEquals(JobConfigurationForRunningConcurrentChunksWithVirtualThreads.CHUNKS,
+				stepExecution.getWriteCount());
+	}
+
 	@Disabled("This test is flaky on CI")
 	@Test
 	public void testParallelStepsWithVirtualThreads() throws Exception {